@@ -0,0 +1,76 @@
+package org.nem.core.math;
+
+import com.googlecode.javaewah.EWAHCompressedBitmap;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+public class SparseBitmapPerfITCase {
+	private static final Logger LOGGER = Logger.getLogger(SparseBitmapPerfITCase.class.getName());
+
+	@Test
+	public void timeBatchOr() {
+		// Arrange: many small neighborhoods of a large graph
+		LOGGER.info("timeBatchOr");
+		final int numBitmaps = 2000;
+		final int numBitsPerBitmap = 200;
+		final int maxBit = 1000000;
+		final SecureRandom random = new SecureRandom();
+		final SparseBitmap[] bitmaps = new SparseBitmap[numBitmaps];
+		final EWAHCompressedBitmap[] ewahBitmaps = new EWAHCompressedBitmap[numBitmaps];
+		for (int i = 0; i < numBitmaps; ++i) {
+			final int[] bits = new int[numBitsPerBitmap];
+			for (int j = 0; j < numBitsPerBitmap; ++j) {
+				bits[j] = random.nextInt(maxBit);
+			}
+
+			bitmaps[i] = SparseBitmap.createFromUnsortedData(bits);
+			Arrays.sort(bits);
+			ewahBitmaps[i] = EWAHCompressedBitmap.bitmapOf(Arrays.stream(bits).distinct().toArray());
+		}
+
+		// Act: warm up and then time both variants
+		final int numTries = 20;
+		timeBatchOr(bitmaps, 2);
+		timeEwahOr(ewahBitmaps, 2);
+		final long batchOrTime = timeBatchOr(bitmaps, numTries);
+		final long ewahOrTime = timeEwahOr(ewahBitmaps, numTries);
+
+		LOGGER.info(String.format("SparseBitmap batchOr needed %d ms", batchOrTime / numTries));
+		LOGGER.info(String.format("EWAHCompressedBitmap pairwise or needed %d ms", ewahOrTime / numTries));
+
+		// Assert: only the results are checked, the timings are informational
+		Assert.assertThat(SparseBitmap.batchOr(bitmaps).toList(), IsEqual.equalTo(ewahOr(ewahBitmaps).toList()));
+	}
+
+	private static long timeBatchOr(final SparseBitmap[] bitmaps, final int numTries) {
+		final long start = System.currentTimeMillis();
+		for (int i = 0; i < numTries; ++i) {
+			SparseBitmap.batchOr(bitmaps);
+		}
+
+		return System.currentTimeMillis() - start;
+	}
+
+	private static long timeEwahOr(final EWAHCompressedBitmap[] bitmaps, final int numTries) {
+		final long start = System.currentTimeMillis();
+		for (int i = 0; i < numTries; ++i) {
+			ewahOr(bitmaps);
+		}
+
+		return System.currentTimeMillis() - start;
+	}
+
+	private static EWAHCompressedBitmap ewahOr(final EWAHCompressedBitmap[] bitmaps) {
+		// this is how SparseBitmap.batchOr was implemented on top of EWAH
+		EWAHCompressedBitmap result = bitmaps[0];
+		for (int i = 1; i < bitmaps.length; ++i) {
+			result = result.or(bitmaps[i]);
+		}
+
+		return result;
+	}
+}
@@ -2,9 +2,11 @@ package org.nem.core.math;
 
 import no.uib.cipr.matrix.DenseVector;
 import no.uib.cipr.matrix.sparse.CompRowMatrix;
-import org.junit.Test;
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
 
 import java.security.SecureRandom;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -41,6 +43,56 @@ public class SparseMatrixPerfITCase {
 
 	//endregion
 
+	//region timeCompressedSparseRowMatrixVectorMultiply
+
+	@Test
+	public void timeCompressedSparseRowMatrixVectorMultiply() {
+		// Arrange:
+		LOGGER.info("timeCompressedSparseRowMatrixVectorMultiply");
+		final int numRows = 1000000;
+		final int numEntriesPerRow = 4;
+		final SecureRandom sr = new SecureRandom();
+		final byte[] bytes = new byte[3 * numEntriesPerRow * numRows];
+		sr.nextBytes(bytes);
+
+		final SparseMatrix matrix = new SparseMatrix(numRows, numRows, numEntriesPerRow);
+		final NemMatrixTestAdapter sparseAdapter = new NemMatrixTestAdapter(matrix, numEntriesPerRow, bytes, "SparseMatrix");
+		final ColumnVector vector = sparseAdapter.getColumnVector();
+		final Matrix csrMatrix = CompressedSparseRowMatrix.create(matrix);
+		final Matrix parallelCsrMatrix = CompressedSparseRowMatrix.create(matrix, ForkJoinPool.commonPool());
+
+		// Act: warm up and then time all variants
+		final int numTries = 20;
+		timeMultiply(matrix, vector, 2);
+		timeMultiply(csrMatrix, vector, 2);
+		timeMultiply(parallelCsrMatrix, vector, 2);
+		final long sparseTime = timeMultiply(matrix, vector, numTries);
+		final long csrTime = timeMultiply(csrMatrix, vector, numTries);
+		final long parallelCsrTime = timeMultiply(parallelCsrMatrix, vector, numTries);
+
+		LOGGER.info(String.format("SparseMatrix multiply needed %d ms", sparseTime / numTries));
+		LOGGER.info(String.format("CompressedSparseRowMatrix multiply needed %d ms", csrTime / numTries));
+		LOGGER.info(String.format(
+				"CompressedSparseRowMatrix (%d threads) multiply needed %d ms",
+				ForkJoinPool.commonPool().getParallelism(),
+				parallelCsrTime / numTries));
+
+		// Assert: wall-clock timings are too noisy on shared build machines, so they are only logged
+		Assert.assertThat(csrMatrix.multiply(vector), IsEqual.equalTo(matrix.multiply(vector)));
+		Assert.assertThat(parallelCsrMatrix.multiply(vector), IsEqual.equalTo(matrix.multiply(vector)));
+	}
+
+	private static long timeMultiply(final Matrix matrix, final ColumnVector vector, final int numTries) {
+		final long start = System.currentTimeMillis();
+		for (int i = 0; i < numTries; ++i) {
+			matrix.multiply(vector);
+		}
+
+		return System.currentTimeMillis() - start;
+	}
+
+	//endregion
+
 	public static void timeAction(
 			final String actionName,
 			final int numRows,
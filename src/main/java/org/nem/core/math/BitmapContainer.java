@@ -0,0 +1,570 @@
+package org.nem.core.math;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * A container for the low 16 bits of all bits of a SparseBitmap that share the same high 16 bits.
+ * <br>
+ * Sparse containers (with at most MAX_ARRAY_SIZE values) store their values in a sorted array and
+ * dense containers store their values in a fixed size bitset. All operations return normalized containers,
+ * so two containers with the same values always have the same representation.
+ * Operations never modify their arguments and (except for add) never return or share the storage of an argument.
+ */
+abstract class BitmapContainer {
+	/**
+	 * The maximum number of values in a sparse (array) container.
+	 */
+	static final int MAX_ARRAY_SIZE = 4096;
+
+	/**
+	 * The number of 64-bit words in a dense (bitset) container.
+	 */
+	static final int NUM_WORDS = 1024;
+
+	private static final int INITIAL_ARRAY_CAPACITY = 4;
+
+	/**
+	 * Creates a container that contains a single value.
+	 *
+	 * @param value The value (between 0 and 65535).
+	 * @return The container.
+	 */
+	static BitmapContainer create(final int value) {
+		final char[] values = new char[INITIAL_ARRAY_CAPACITY];
+		values[0] = (char)value;
+		return new ArrayContainer(values, 1);
+	}
+
+	/**
+	 * Creates a normalized container from a bitset.
+	 * The words are copied, so the caller is free to reuse them.
+	 *
+	 * @param words The bitset words.
+	 * @return The container.
+	 */
+	static BitmapContainer createFromWords(final long[] words) {
+		return normalize(words, bitCount(words), true);
+	}
+
+	private static BitmapContainer normalize(final long[] words, final int cardinality, final boolean copy) {
+		if (cardinality > MAX_ARRAY_SIZE) {
+			return new BitSetContainer(copy ? words.clone() : words, cardinality);
+		}
+
+		final char[] values = new char[cardinality];
+		final int[] index = new int[1];
+		forEachBit(words, 0, value -> values[index[0]++] = (char)value);
+		return new ArrayContainer(values, cardinality);
+	}
+
+	private static void forEachBit(final long[] words, final int high, final IntConsumer consumer) {
+		for (int i = 0; i < words.length; ++i) {
+			long word = words[i];
+			while (0 != word) {
+				consumer.accept(high | (i << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of values in this container.
+	 *
+	 * @return The number of values.
+	 */
+	abstract int cardinality();
+
+	/**
+	 * Gets a value indicating whether or not this container contains the specified value.
+	 *
+	 * @param value The value (between 0 and 65535).
+	 * @return true if the value is contained.
+	 */
+	abstract boolean contains(final int value);
+
+	/**
+	 * Adds a value to this container.
+	 *
+	 * @param value The value (between 0 and 65535).
+	 * @return The container containing the value (this container or a new dense container).
+	 */
+	abstract BitmapContainer add(final int value);
+
+	/**
+	 * Gets the largest value in this container.
+	 *
+	 * @return The largest value.
+	 */
+	abstract int last();
+
+	/**
+	 * Creates a copy of this container.
+	 *
+	 * @return The copy.
+	 */
+	abstract BitmapContainer copy();
+
+	/**
+	 * Creates a container that is the logical or of this container and another container.
+	 *
+	 * @param rhs The other container.
+	 * @return The new container.
+	 */
+	abstract BitmapContainer or(final BitmapContainer rhs);
+
+	/**
+	 * Creates a container that is the logical and of this container and another container.
+	 *
+	 * @param rhs The other container.
+	 * @return The new (possibly empty) container.
+	 */
+	abstract BitmapContainer and(final BitmapContainer rhs);
+
+	/**
+	 * Creates a container that is the logical and not of this container and another container.
+	 *
+	 * @param rhs The other container.
+	 * @return The new (possibly empty) container.
+	 */
+	abstract BitmapContainer andNot(final BitmapContainer rhs);
+
+	/**
+	 * Gets the number of values in both this container and another container (without creating a new container).
+	 *
+	 * @param rhs The other container.
+	 * @return The size of the intersection.
+	 */
+	abstract int andCardinality(final BitmapContainer rhs);
+
+	/**
+	 * Sets the bits of all values in this container in a bitset.
+	 *
+	 * @param words The bitset words.
+	 */
+	abstract void orInto(final long[] words);
+
+	/**
+	 * Calls the consumer for each value (combined with the high bits) in ascending order.
+	 *
+	 * @param high The high bits.
+	 * @param consumer The consumer.
+	 */
+	abstract void forEach(final int high, final IntConsumer consumer);
+
+	/**
+	 * Creates an iterator over all values (combined with the high bits) in ascending order.
+	 *
+	 * @param high The high bits.
+	 * @return The iterator.
+	 */
+	abstract PrimitiveIterator.OfInt iterator(final int high);
+
+	//region ArrayContainer
+
+	private static final class ArrayContainer extends BitmapContainer {
+		private char[] values;
+		private int size;
+
+		public ArrayContainer(final char[] values, final int size) {
+			this.values = values;
+			this.size = size;
+		}
+
+		@Override
+		int cardinality() {
+			return this.size;
+		}
+
+		@Override
+		boolean contains(final int value) {
+			return Arrays.binarySearch(this.values, 0, this.size, (char)value) >= 0;
+		}
+
+		@Override
+		BitmapContainer add(final int value) {
+			int i = this.size;
+			if (0 != this.size && value <= this.values[this.size - 1]) {
+				i = Arrays.binarySearch(this.values, 0, this.size, (char)value);
+				if (i >= 0) {
+					return this;
+				}
+
+				i = -i - 1;
+			}
+
+			if (MAX_ARRAY_SIZE == this.size) {
+				final long[] words = new long[NUM_WORDS];
+				this.orInto(words);
+				return new BitSetContainer(words, this.size).add(value);
+			}
+
+			if (this.values.length == this.size) {
+				this.values = Arrays.copyOf(this.values, Math.min(MAX_ARRAY_SIZE, Math.max(INITIAL_ARRAY_CAPACITY, 2 * this.size)));
+			}
+
+			System.arraycopy(this.values, i, this.values, i + 1, this.size - i);
+			this.values[i] = (char)value;
+			++this.size;
+			return this;
+		}
+
+		@Override
+		int last() {
+			return this.values[this.size - 1];
+		}
+
+		@Override
+		BitmapContainer copy() {
+			return new ArrayContainer(Arrays.copyOf(this.values, this.size), this.size);
+		}
+
+		@Override
+		BitmapContainer or(final BitmapContainer rhs) {
+			if (!(rhs instanceof ArrayContainer)) {
+				return rhs.or(this);
+			}
+
+			final ArrayContainer other = (ArrayContainer)rhs;
+			if (this.size + other.size > MAX_ARRAY_SIZE) {
+				final long[] words = new long[NUM_WORDS];
+				this.orInto(words);
+				other.orInto(words);
+				return normalize(words, bitCount(words), false);
+			}
+
+			final char[] values = new char[this.size + other.size];
+			int i = 0;
+			int j = 0;
+			int k = 0;
+			while (i < this.size && j < other.size) {
+				final char lhsValue = this.values[i];
+				final char rhsValue = other.values[j];
+				if (lhsValue <= rhsValue) {
+					++i;
+					if (lhsValue == rhsValue) {
+						++j;
+					}
+
+					values[k++] = lhsValue;
+				} else {
+					++j;
+					values[k++] = rhsValue;
+				}
+			}
+
+			System.arraycopy(this.values, i, values, k, this.size - i);
+			k += this.size - i;
+			System.arraycopy(other.values, j, values, k, other.size - j);
+			k += other.size - j;
+			return new ArrayContainer(values, k);
+		}
+
+		@Override
+		BitmapContainer and(final BitmapContainer rhs) {
+			final char[] values = new char[Math.min(this.size, rhs.cardinality())];
+			int k = 0;
+			if (rhs instanceof ArrayContainer) {
+				final ArrayContainer other = (ArrayContainer)rhs;
+				int i = 0;
+				int j = 0;
+				while (i < this.size && j < other.size) {
+					final char lhsValue = this.values[i];
+					final char rhsValue = other.values[j];
+					if (lhsValue < rhsValue) {
+						++i;
+					} else if (lhsValue > rhsValue) {
+						++j;
+					} else {
+						values[k++] = lhsValue;
+						++i;
+						++j;
+					}
+				}
+			} else {
+				for (int i = 0; i < this.size; ++i) {
+					if (rhs.contains(this.values[i])) {
+						values[k++] = this.values[i];
+					}
+				}
+			}
+
+			return new ArrayContainer(values, k);
+		}
+
+		@Override
+		BitmapContainer andNot(final BitmapContainer rhs) {
+			final char[] values = new char[this.size];
+			int k = 0;
+			for (int i = 0; i < this.size; ++i) {
+				if (!rhs.contains(this.values[i])) {
+					values[k++] = this.values[i];
+				}
+			}
+
+			return new ArrayContainer(values, k);
+		}
+
+		@Override
+		int andCardinality(final BitmapContainer rhs) {
+			int cardinality = 0;
+			if (rhs instanceof ArrayContainer) {
+				final ArrayContainer other = (ArrayContainer)rhs;
+				int i = 0;
+				int j = 0;
+				while (i < this.size && j < other.size) {
+					final char lhsValue = this.values[i];
+					final char rhsValue = other.values[j];
+					if (lhsValue < rhsValue) {
+						++i;
+					} else if (lhsValue > rhsValue) {
+						++j;
+					} else {
+						++cardinality;
+						++i;
+						++j;
+					}
+				}
+			} else {
+				for (int i = 0; i < this.size; ++i) {
+					if (rhs.contains(this.values[i])) {
+						++cardinality;
+					}
+				}
+			}
+
+			return cardinality;
+		}
+
+		@Override
+		void orInto(final long[] words) {
+			for (int i = 0; i < this.size; ++i) {
+				final char value = this.values[i];
+				words[value >>> 6] |= 1L << value;
+			}
+		}
+
+		@Override
+		void forEach(final int high, final IntConsumer consumer) {
+			for (int i = 0; i < this.size; ++i) {
+				consumer.accept(high | this.values[i]);
+			}
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator(final int high) {
+			return new PrimitiveIterator.OfInt() {
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < ArrayContainer.this.size;
+				}
+
+				@Override
+				public int nextInt() {
+					if (!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					return high | ArrayContainer.this.values[this.index++];
+				}
+			};
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = 1;
+			for (int i = 0; i < this.size; ++i) {
+				hashCode = 31 * hashCode + this.values[i];
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof ArrayContainer)) {
+				return false;
+			}
+
+			final ArrayContainer rhs = (ArrayContainer)obj;
+			if (this.size != rhs.size) {
+				return false;
+			}
+
+			for (int i = 0; i < this.size; ++i) {
+				if (this.values[i] != rhs.values[i]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+
+	//endregion
+
+	//region BitSetContainer
+
+	private static final class BitSetContainer extends BitmapContainer {
+		private final long[] words;
+		private int cardinality;
+
+		public BitSetContainer(final long[] words, final int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		int cardinality() {
+			return this.cardinality;
+		}
+
+		@Override
+		boolean contains(final int value) {
+			return 0 != (this.words[value >>> 6] & (1L << value));
+		}
+
+		@Override
+		BitmapContainer add(final int value) {
+			final long word = this.words[value >>> 6];
+			final long newWord = word | (1L << value);
+			this.words[value >>> 6] = newWord;
+			this.cardinality += word == newWord ? 0 : 1;
+			return this;
+		}
+
+		@Override
+		int last() {
+			int i = NUM_WORDS - 1;
+			while (0 == this.words[i]) {
+				--i;
+			}
+
+			return (i << 6) + 63 - Long.numberOfLeadingZeros(this.words[i]);
+		}
+
+		@Override
+		BitmapContainer copy() {
+			return new BitSetContainer(this.words.clone(), this.cardinality);
+		}
+
+		@Override
+		BitmapContainer or(final BitmapContainer rhs) {
+			final long[] words = this.words.clone();
+			rhs.orInto(words);
+			return new BitSetContainer(words, bitCount(words));
+		}
+
+		@Override
+		BitmapContainer and(final BitmapContainer rhs) {
+			if (rhs instanceof ArrayContainer) {
+				return rhs.and(this);
+			}
+
+			final long[] rhsWords = ((BitSetContainer)rhs).words;
+			final long[] words = new long[NUM_WORDS];
+			for (int i = 0; i < NUM_WORDS; ++i) {
+				words[i] = this.words[i] & rhsWords[i];
+			}
+
+			return normalize(words, bitCount(words), false);
+		}
+
+		@Override
+		BitmapContainer andNot(final BitmapContainer rhs) {
+			final long[] words = this.words.clone();
+			if (rhs instanceof ArrayContainer) {
+				rhs.forEach(0, value -> words[value >>> 6] &= ~(1L << value));
+			} else {
+				final long[] rhsWords = ((BitSetContainer)rhs).words;
+				for (int i = 0; i < NUM_WORDS; ++i) {
+					words[i] &= ~rhsWords[i];
+				}
+			}
+
+			return normalize(words, bitCount(words), false);
+		}
+
+		@Override
+		int andCardinality(final BitmapContainer rhs) {
+			if (rhs instanceof ArrayContainer) {
+				return rhs.andCardinality(this);
+			}
+
+			final long[] rhsWords = ((BitSetContainer)rhs).words;
+			int cardinality = 0;
+			for (int i = 0; i < NUM_WORDS; ++i) {
+				cardinality += Long.bitCount(this.words[i] & rhsWords[i]);
+			}
+
+			return cardinality;
+		}
+
+		@Override
+		void orInto(final long[] words) {
+			for (int i = 0; i < NUM_WORDS; ++i) {
+				words[i] |= this.words[i];
+			}
+		}
+
+		@Override
+		void forEach(final int high, final IntConsumer consumer) {
+			forEachBit(this.words, high, consumer);
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator(final int high) {
+			return new PrimitiveIterator.OfInt() {
+				private int wordIndex;
+				private long word = BitSetContainer.this.words[0];
+
+				@Override
+				public boolean hasNext() {
+					while (0 == this.word) {
+						if (NUM_WORDS - 1 == this.wordIndex) {
+							return false;
+						}
+
+						this.word = BitSetContainer.this.words[++this.wordIndex];
+					}
+
+					return true;
+				}
+
+				@Override
+				public int nextInt() {
+					if (!this.hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					final int value = (this.wordIndex << 6) + Long.numberOfTrailingZeros(this.word);
+					this.word &= this.word - 1;
+					return high | value;
+				}
+			};
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.words);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof BitSetContainer && Arrays.equals(this.words, ((BitSetContainer)obj).words);
+		}
+	}
+
+	//endregion
+
+	private static int bitCount(final long[] words) {
+		int cardinality = 0;
+		for (final long word : words) {
+			cardinality += Long.bitCount(word);
+		}
+
+		return cardinality;
+	}
+}
@@ -5,7 +5,6 @@ import org.nem.core.utils.FormatUtils;
 
 import java.text.DecimalFormat;
 import java.util.Arrays;
-import java.util.function.*;
 
 /**
  * Represents a linear algebra vector.
@@ -46,13 +45,6 @@ public class ColumnVector {
 		this.matrix = new DenseMatrix(this.size, 1, this.vector);
 	}
 
-	private ColumnVector(final Matrix matrix) {
-		// since this is only being called internally, matrix should be a DenseMatrix
-		this.matrix = (DenseMatrix)matrix;
-		this.vector = this.matrix.getRaw();
-		this.size = this.vector.length;
-	}
-
 	//region matrix delegation
 
 	//region size / {get|set|increment}At
@@ -132,7 +124,32 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector multiplyElementWise(final ColumnVector vector) {
-		return this.transform(() -> ColumnVector.this.matrix.multiplyElementWise(vector.matrix));
+		final ColumnVector result = new ColumnVector(this.size);
+		this.multiplyElementWiseInto(vector, result);
+		return result;
+	}
+
+	/**
+	 * Multiplies this vector element-wise with another vector in place.
+	 *
+	 * @param vector The vector.
+	 */
+	public void multiplyElementWiseInPlace(final ColumnVector vector) {
+		this.multiplyElementWiseInto(vector, this);
+	}
+
+	/**
+	 * Multiplies this vector element-wise with another vector and stores the result in a preallocated vector.
+	 *
+	 * @param vector The vector.
+	 * @param result The result vector (this vector and the other vector are allowed).
+	 */
+	public void multiplyElementWiseInto(final ColumnVector vector, final ColumnVector result) {
+		this.checkSameSize(vector);
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = this.vector[i] * vector.vector[i];
+		}
 	}
 
 	/**
@@ -142,7 +159,32 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector addElementWise(final ColumnVector vector) {
-		return this.transform(() -> ColumnVector.this.matrix.addElementWise(vector.matrix));
+		final ColumnVector result = new ColumnVector(this.size);
+		this.addElementWiseInto(vector, result);
+		return result;
+	}
+
+	/**
+	 * Adds the specified vector to this vector in place.
+	 *
+	 * @param vector The specified vector.
+	 */
+	public void addElementWiseInPlace(final ColumnVector vector) {
+		this.addElementWiseInto(vector, this);
+	}
+
+	/**
+	 * Adds the specified vector to this vector and stores the result in a preallocated vector.
+	 *
+	 * @param vector The specified vector.
+	 * @param result The result vector (this vector and the specified vector are allowed).
+	 */
+	public void addElementWiseInto(final ColumnVector vector, final ColumnVector result) {
+		this.checkSameSize(vector);
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = this.vector[i] + vector.vector[i];
+		}
 	}
 
 	//endregion
@@ -178,7 +220,32 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector roundTo(final int numPlaces) {
-		return this.transform(() -> ColumnVector.this.matrix.roundTo(numPlaces));
+		final ColumnVector result = new ColumnVector(this.size);
+		this.roundToInto(numPlaces, result);
+		return result;
+	}
+
+	/**
+	 * Rounds this vector to the specified number of decimal places in place.
+	 *
+	 * @param numPlaces The number of decimal places.
+	 */
+	public void roundToInPlace(final int numPlaces) {
+		this.roundToInto(numPlaces, this);
+	}
+
+	/**
+	 * Rounds this vector to the specified number of decimal places and stores the result in a preallocated vector.
+	 *
+	 * @param numPlaces The number of decimal places.
+	 * @param result The result vector (this vector is allowed).
+	 */
+	public void roundToInto(final int numPlaces, final ColumnVector result) {
+		final double multiplier = Math.pow(10, numPlaces);
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = Math.round(this.vector[i] * multiplier) / multiplier;
+		}
 	}
 
 	/**
@@ -188,7 +255,31 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector add(final double scalar) {
-		return this.transform(() -> ColumnVector.this.matrix.add(scalar));
+		final ColumnVector result = new ColumnVector(this.size);
+		this.addInto(scalar, result);
+		return result;
+	}
+
+	/**
+	 * Adds a scalar to each element of this vector in place.
+	 *
+	 * @param scalar The scalar.
+	 */
+	public void addInPlace(final double scalar) {
+		this.addInto(scalar, this);
+	}
+
+	/**
+	 * Adds a scalar to each element of this vector and stores the result in a preallocated vector.
+	 *
+	 * @param scalar The scalar.
+	 * @param result The result vector (this vector is allowed).
+	 */
+	public void addInto(final double scalar, final ColumnVector result) {
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = this.vector[i] + scalar;
+		}
 	}
 
 	/**
@@ -198,7 +289,31 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector multiply(final double scalar) {
-		return this.transform(() -> ColumnVector.this.matrix.multiply(scalar));
+		final ColumnVector result = new ColumnVector(this.size);
+		this.multiplyInto(scalar, result);
+		return result;
+	}
+
+	/**
+	 * Multiplies this vector by a scalar in place.
+	 *
+	 * @param scalar The scalar.
+	 */
+	public void multiplyInPlace(final double scalar) {
+		this.multiplyInto(scalar, this);
+	}
+
+	/**
+	 * Multiplies this vector by a scalar and stores the result in a preallocated vector.
+	 *
+	 * @param scalar The scalar.
+	 * @param result The result vector (this vector is allowed).
+	 */
+	public void multiplyInto(final double scalar, final ColumnVector result) {
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = this.vector[i] * scalar;
+		}
 	}
 
 	/**
@@ -207,7 +322,28 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector sqrt() {
-		return this.transform(ColumnVector.this.matrix::sqrt);
+		final ColumnVector result = new ColumnVector(this.size);
+		this.sqrtInto(result);
+		return result;
+	}
+
+	/**
+	 * Takes the square root of each element in this vector in place.
+	 */
+	public void sqrtInPlace() {
+		this.sqrtInto(this);
+	}
+
+	/**
+	 * Takes the square root of each element in this vector and stores the result in a preallocated vector.
+	 *
+	 * @param result The result vector (this vector is allowed).
+	 */
+	public void sqrtInto(final ColumnVector result) {
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = Math.sqrt(this.vector[i]);
+		}
 	}
 
 	/**
@@ -216,12 +352,42 @@ public class ColumnVector {
 	 * @return The new vector.
 	 */
 	public ColumnVector abs() {
-		return this.transform(ColumnVector.this.matrix::abs);
+		final ColumnVector result = new ColumnVector(this.size);
+		this.absInto(result);
+		return result;
+	}
+
+	/**
+	 * Takes the absolute value of each element in this vector in place.
+	 */
+	public void absInPlace() {
+		this.absInto(this);
+	}
+
+	/**
+	 * Takes the absolute value of each element in this vector and stores the result in a preallocated vector.
+	 *
+	 * @param result The result vector (this vector is allowed).
+	 */
+	public void absInto(final ColumnVector result) {
+		final double[] rawResult = this.getRawResult(result);
+		for (int i = 0; i < this.size; ++i) {
+			rawResult[i] = Math.abs(this.vector[i]);
+		}
 	}
 
-	private ColumnVector transform(final Supplier<Matrix> supplier) {
-		final Matrix matrix = supplier.get();
-		return new ColumnVector(matrix);
+	private void checkSameSize(final ColumnVector vector) {
+		if (this.size != vector.size) {
+			throw new IllegalArgumentException("vector sizes must be equal");
+		}
+	}
+
+	private double[] getRawResult(final ColumnVector result) {
+		if (this.size != result.size) {
+			throw new IllegalArgumentException("result vector size must be equal to vector size");
+		}
+
+		return result.vector;
 	}
 
 	//endregion
@@ -321,8 +487,7 @@ public class ColumnVector {
 	 * @return The magnitude of this vector.
 	 */
 	public double getMagnitude() {
-		final ColumnVector nullVector = new ColumnVector(this.size);
-		return this.l2Distance(nullVector);
+		return Math.sqrt(DoubleReductions.deviationProductSum(this.vector, 0.0, this.vector, 0.0));
 	}
 
 	/**
@@ -332,7 +497,8 @@ public class ColumnVector {
 	 * @return The Manhattan distance (L1-norm).
 	 */
 	public double l1Distance(final ColumnVector vector) {
-		return this.distance(vector, Math::abs);
+		this.checkDistanceSize(vector);
+		return DoubleReductions.absDifferenceSum(this.vector, vector.vector);
 	}
 
 	/**
@@ -342,22 +508,14 @@ public class ColumnVector {
 	 * @return The Euclidean distance.
 	 */
 	public double l2Distance(final ColumnVector vector) {
-		final double distance = this.distance(vector, d -> d * d);
-		return Math.sqrt(distance);
+		this.checkDistanceSize(vector);
+		return Math.sqrt(DoubleReductions.squaredDifferenceSum(this.vector, vector.vector));
 	}
 
-	private double distance(final ColumnVector vector, final DoubleFunction<Double> aggregate) {
+	private void checkDistanceSize(final ColumnVector vector) {
 		if (this.size != vector.size) {
 			throw new IllegalArgumentException("cannot determine the distance between vectors with different sizes");
 		}
-
-		double distance = 0;
-		for (int i = 0; i < this.size; ++i) {
-			final double difference = this.vector[i] - vector.vector[i];
-			distance += aggregate.apply(difference);
-		}
-
-		return distance;
 	}
 
 	/**
@@ -371,20 +529,15 @@ public class ColumnVector {
 			throw new IllegalArgumentException("cannot determine the correlation between vectors with different sizes");
 		}
 
-		final ColumnVector meanAdjustedX = this.meanAdjust();
-		final ColumnVector meanAdjustedY = vector.meanAdjust();
+		final double meanX = this.sum() / this.size;
+		final double meanY = vector.sum() / this.size;
 
-		final double squaredDeviationX = meanAdjustedX.multiplyElementWise(meanAdjustedX).sum();
-		final double squaredDeviationY = meanAdjustedY.multiplyElementWise(meanAdjustedY).sum();
-		final double deviationProduct = meanAdjustedX.multiplyElementWise(meanAdjustedY).sum();
+		final double squaredDeviationX = DoubleReductions.deviationProductSum(this.vector, meanX, this.vector, meanX);
+		final double squaredDeviationY = DoubleReductions.deviationProductSum(vector.vector, meanY, vector.vector, meanY);
+		final double deviationProduct = DoubleReductions.deviationProductSum(this.vector, meanX, vector.vector, meanY);
 		return deviationProduct / Math.sqrt(squaredDeviationX * squaredDeviationY);
 	}
 
-	private ColumnVector meanAdjust() {
-		final double mean = this.sum() / this.size;
-		return this.add(-mean);
-	}
-
 	//endregion
 
 	//region toString
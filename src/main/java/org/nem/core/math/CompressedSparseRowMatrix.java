@@ -0,0 +1,550 @@
+package org.nem.core.math;
+
+import java.nio.*;
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+/**
+ * Represents an immutable sparse matrix in compressed sparse row (CSR) format.
+ * <br>
+ * All non-zero values are stored in a single array in row-major order, so matrix-vector multiplication
+ * is a tight loop over contiguous memory. When a fork-join pool is supplied, multiplication is partitioned
+ * into row blocks that contain (roughly) the same number of non-zero values.
+ * <br>
+ * Since the compressed sparse column (CSC) format of a matrix is the CSR format of its transpose,
+ * createTransposed can be used to multiply by the transpose of a sparse matrix.
+ * <br>
+ * The values and column indexes can optionally be stored off-heap (in direct buffers), so that large, long-lived
+ * matrices do not add to the pressure on the garbage collected heap (only the row offsets are kept on the heap).
+ */
+public abstract class CompressedSparseRowMatrix extends Matrix {
+	private static final int MIN_NON_ZEROS_PER_TASK = 16 * 1024;
+
+	private final int[] rowOffsets;
+	private final ForkJoinPool pool;
+
+	private CompressedSparseRowMatrix(final int numRows, final int numCols, final int[] rowOffsets, final ForkJoinPool pool) {
+		super(numRows, numCols);
+		this.rowOffsets = rowOffsets;
+		this.pool = pool;
+	}
+
+	//region factories
+
+	/**
+	 * Creates a CSR matrix containing the same values as a sparse matrix.
+	 *
+	 * @param matrix The sparse matrix.
+	 * @return The CSR matrix.
+	 */
+	public static CompressedSparseRowMatrix create(final SparseMatrix matrix) {
+		return create(matrix, null);
+	}
+
+	/**
+	 * Creates a CSR matrix containing the same values as a sparse matrix.
+	 *
+	 * @param matrix The sparse matrix.
+	 * @param pool The pool to use for multiplication (or null to multiply sequentially).
+	 * @return The CSR matrix.
+	 */
+	public static CompressedSparseRowMatrix create(final SparseMatrix matrix, final ForkJoinPool pool) {
+		return create(matrix, pool, false);
+	}
+
+	/**
+	 * Creates a CSR matrix containing the same values as a sparse matrix that stores its values off-heap.
+	 *
+	 * @param matrix The sparse matrix.
+	 * @param pool The pool to use for multiplication (or null to multiply sequentially).
+	 * @return The CSR matrix.
+	 */
+	public static CompressedSparseRowMatrix createOffHeap(final SparseMatrix matrix, final ForkJoinPool pool) {
+		return create(matrix, pool, true);
+	}
+
+	private static CompressedSparseRowMatrix create(final SparseMatrix matrix, final ForkJoinPool pool, final boolean isOffHeap) {
+		final int numRows = matrix.getRowCount();
+		final int[] rowOffsets = new int[numRows + 1];
+		for (int i = 0; i < numRows; ++i) {
+			rowOffsets[i + 1] = rowOffsets[i] + matrix.getNonZeroColumnCount(i);
+		}
+
+		// SparseMatrix visits rows in order and the columns of each row in ascending order
+		final Storage storage = Storage.allocate(rowOffsets[numRows], isOffHeap);
+		final int[] index = new int[1];
+		matrix.forEach((r, c, v) -> storage.set(index[0]++, c, v));
+		return storage.createMatrix(numRows, matrix.getColumnCount(), rowOffsets, pool);
+	}
+
+	/**
+	 * Creates a CSR matrix containing the transpose of a sparse matrix (this is equivalent to the CSC format of the sparse matrix).
+	 *
+	 * @param matrix The sparse matrix.
+	 * @return The transposed CSR matrix.
+	 */
+	public static CompressedSparseRowMatrix createTransposed(final SparseMatrix matrix) {
+		return createTransposed(matrix, null);
+	}
+
+	/**
+	 * Creates a CSR matrix containing the transpose of a sparse matrix (this is equivalent to the CSC format of the sparse matrix).
+	 *
+	 * @param matrix The sparse matrix.
+	 * @param pool The pool to use for multiplication (or null to multiply sequentially).
+	 * @return The transposed CSR matrix.
+	 */
+	public static CompressedSparseRowMatrix createTransposed(final SparseMatrix matrix, final ForkJoinPool pool) {
+		return createTransposed(matrix, pool, false);
+	}
+
+	/**
+	 * Creates a CSR matrix containing the transpose of a sparse matrix that stores its values off-heap.
+	 *
+	 * @param matrix The sparse matrix.
+	 * @param pool The pool to use for multiplication (or null to multiply sequentially).
+	 * @return The transposed CSR matrix.
+	 */
+	public static CompressedSparseRowMatrix createTransposedOffHeap(final SparseMatrix matrix, final ForkJoinPool pool) {
+		return createTransposed(matrix, pool, true);
+	}
+
+	private static CompressedSparseRowMatrix createTransposed(final SparseMatrix matrix, final ForkJoinPool pool, final boolean isOffHeap) {
+		final int numRows = matrix.getColumnCount();
+		final int[] rowOffsets = new int[numRows + 1];
+		matrix.forEach((r, c, v) -> ++rowOffsets[c + 1]);
+		for (int i = 0; i < numRows; ++i) {
+			rowOffsets[i + 1] += rowOffsets[i];
+		}
+
+		// the source rows are visited in ascending order, so the columns of each transposed row are sorted
+		final Storage storage = Storage.allocate(rowOffsets[numRows], isOffHeap);
+		final int[] nextIndices = Arrays.copyOf(rowOffsets, numRows);
+		matrix.forEach((r, c, v) -> storage.set(nextIndices[c]++, r, v));
+		return storage.createMatrix(numRows, matrix.getRowCount(), rowOffsets, pool);
+	}
+
+	/**
+	 * Creates a CSR matrix around raw CSR arrays (that are not copied for heap matrices).
+	 *
+	 * @param numRows The number of rows.
+	 * @param numCols The number of columns.
+	 * @param rowOffsets The row offsets (with one more element than rows).
+	 * @param cols The (sorted in each row) columns of the non-zero values.
+	 * @param values The non-zero values.
+	 * @param pool The pool to use for multiplication (or null to multiply sequentially).
+	 * @param isOffHeap true if the values should be stored off-heap.
+	 * @return The CSR matrix.
+	 */
+	static CompressedSparseRowMatrix create(
+			final int numRows,
+			final int numCols,
+			final int[] rowOffsets,
+			final int[] cols,
+			final double[] values,
+			final ForkJoinPool pool,
+			final boolean isOffHeap) {
+		if (!isOffHeap) {
+			return new HeapMatrix(numRows, numCols, rowOffsets, cols, values, pool);
+		}
+
+		final Storage storage = Storage.allocate(cols.length, true);
+		for (int i = 0; i < cols.length; ++i) {
+			storage.set(i, cols[i], values[i]);
+		}
+
+		return storage.createMatrix(numRows, numCols, rowOffsets, pool);
+	}
+
+	//endregion
+
+	/**
+	 * Gets the number of non-zero values in this matrix.
+	 *
+	 * @return The number of non-zero values.
+	 */
+	public final int getNonZeroCount() {
+		return this.rowOffsets[this.getRowCount()];
+	}
+
+	/**
+	 * Gets a value indicating whether or not the values of this matrix are stored off-heap.
+	 *
+	 * @return true if the values are stored off-heap.
+	 */
+	public abstract boolean isOffHeap();
+
+	/**
+	 * Gets the number of non-zero values in a row.
+	 *
+	 * @param row The row.
+	 * @return The number of non-zero values.
+	 */
+	public final int getNonZeroColumnCount(final int row) {
+		return this.rowOffsets[row + 1] - this.rowOffsets[row];
+	}
+
+	//region storage
+
+	/**
+	 * Gets the column of the non-zero value at the specified storage index.
+	 *
+	 * @param index The storage index.
+	 * @return The column.
+	 */
+	abstract int getColumnAt(final int index);
+
+	/**
+	 * Gets the non-zero value at the specified storage index.
+	 *
+	 * @param index The storage index.
+	 * @return The value.
+	 */
+	abstract double getValueAt(final int index);
+
+	/**
+	 * Multiplies a range of rows by a raw vector.
+	 *
+	 * @param rowOffsets The row offsets.
+	 * @param vector The raw vector.
+	 * @param result The raw result vector.
+	 * @param startRow The first row (inclusive).
+	 * @param endRow The last row (exclusive).
+	 */
+	abstract void multiplyRows(final int[] rowOffsets, final double[] vector, final double[] result, final int startRow, final int endRow);
+
+	//endregion
+
+	//region Matrix abstract functions
+
+	@Override
+	protected final Matrix create(final int numRows, final int numCols) {
+		// derived matrices are mutable
+		return new SparseMatrix(numRows, numCols, Math.max(1, this.getNonZeroCount() / Math.max(1, this.getRowCount())));
+	}
+
+	@Override
+	protected final double getAtUnchecked(final int row, final int col) {
+		int low = this.rowOffsets[row];
+		int high = this.rowOffsets[row + 1] - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int middleCol = this.getColumnAt(middle);
+			if (middleCol < col) {
+				low = middle + 1;
+			} else if (middleCol > col) {
+				high = middle - 1;
+			} else {
+				return this.getValueAt(middle);
+			}
+		}
+
+		return 0.0;
+	}
+
+	@Override
+	protected final void setAtUnchecked(final int row, final int col, final double val) {
+		throw new UnsupportedOperationException("a compressed sparse row matrix is immutable");
+	}
+
+	@Override
+	protected final void forEach(final ElementVisitorFunction func) {
+		this.forEach((r, c, v) -> func.visit(r, c, v, value -> {
+			throw new UnsupportedOperationException("a compressed sparse row matrix is immutable");
+		}));
+	}
+
+	@Override
+	public final void forEach(final ReadOnlyElementVisitorFunction func) {
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			for (int j = this.rowOffsets[i]; j < this.rowOffsets[i + 1]; ++j) {
+				func.visit(i, this.getColumnAt(j), this.getValueAt(j));
+			}
+		}
+	}
+
+	@Override
+	public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
+		final int endIndex = this.rowOffsets[row + 1];
+		return new MatrixNonZeroElementRowIterator() {
+			private int index = CompressedSparseRowMatrix.this.rowOffsets[row];
+
+			@Override
+			public boolean hasNext() {
+				return this.index < endIndex;
+			}
+
+			@Override
+			public MatrixElement next() {
+				if (!this.hasNext()) {
+					throw new IndexOutOfBoundsException("index out of range");
+				}
+
+				final int i = this.index++;
+				return new MatrixElement(row, CompressedSparseRowMatrix.this.getColumnAt(i), CompressedSparseRowMatrix.this.getValueAt(i));
+			}
+		};
+	}
+
+	//endregion
+
+	//region aggregation functions
+
+	@Override
+	final double[] getColumnSums(final boolean isAbsolute) {
+		final double[] sums = new double[this.getColumnCount()];
+		for (int i = 0; i < this.getNonZeroCount(); ++i) {
+			final double value = this.getValueAt(i);
+			sums[this.getColumnAt(i)] += isAbsolute ? Math.abs(value) : value;
+		}
+
+		return sums;
+	}
+
+	//endregion
+
+	//region multiply
+
+	@Override
+	final void multiply(final double[] vector, final double[] result) {
+		if (null == this.pool || this.getNonZeroCount() < 2 * MIN_NON_ZEROS_PER_TASK) {
+			this.multiplyRows(this.rowOffsets, vector, result, 0, this.getRowCount());
+		} else {
+			this.pool.invoke(new MultiplyAction(vector, result, 0, this.getRowCount()));
+		}
+	}
+
+	private class MultiplyAction extends RecursiveAction {
+		private final double[] vector;
+		private final double[] result;
+		private final int startRow;
+		private final int endRow;
+
+		public MultiplyAction(final double[] vector, final double[] result, final int startRow, final int endRow) {
+			this.vector = vector;
+			this.result = result;
+			this.startRow = startRow;
+			this.endRow = endRow;
+		}
+
+		@Override
+		protected void compute() {
+			final int[] rowOffsets = CompressedSparseRowMatrix.this.rowOffsets;
+			final int numNonZeros = rowOffsets[this.endRow] - rowOffsets[this.startRow];
+			if (1 == this.endRow - this.startRow || numNonZeros < 2 * MIN_NON_ZEROS_PER_TASK) {
+				CompressedSparseRowMatrix.this.multiplyRows(rowOffsets, this.vector, this.result, this.startRow, this.endRow);
+				return;
+			}
+
+			// split the rows so that both halves contain (roughly) the same number of non-zero values
+			final int middleRow = findSplitRow(rowOffsets, this.startRow, this.endRow);
+			invokeAll(
+					new MultiplyAction(this.vector, this.result, this.startRow, middleRow),
+					new MultiplyAction(this.vector, this.result, middleRow, this.endRow));
+		}
+	}
+
+	private static int findSplitRow(final int[] rowOffsets, final int startRow, final int endRow) {
+		final int middleOffset = (rowOffsets[startRow] + rowOffsets[endRow]) >>> 1;
+		int index = Arrays.binarySearch(rowOffsets, startRow, endRow + 1, middleOffset);
+		if (index < 0) {
+			index = -index - 1;
+		}
+
+		// both halves must contain at least one row
+		return Math.min(Math.max(index, startRow + 1), endRow - 1);
+	}
+
+	//endregion
+
+	//region Storage
+
+	/**
+	 * Storage for the column indexes and values of a CSR matrix that is filled while walking the source matrix.
+	 */
+	private static abstract class Storage {
+
+		public static Storage allocate(final int numNonZeros, final boolean isOffHeap) {
+			return isOffHeap ? new OffHeapStorage(numNonZeros) : new HeapStorage(numNonZeros);
+		}
+
+		public abstract void set(final int index, final int col, final double value);
+
+		public abstract CompressedSparseRowMatrix createMatrix(
+				final int numRows,
+				final int numCols,
+				final int[] rowOffsets,
+				final ForkJoinPool pool);
+	}
+
+	private static final class HeapStorage extends Storage {
+		private final int[] cols;
+		private final double[] values;
+
+		public HeapStorage(final int numNonZeros) {
+			this.cols = new int[numNonZeros];
+			this.values = new double[numNonZeros];
+		}
+
+		@Override
+		public void set(final int index, final int col, final double value) {
+			this.cols[index] = col;
+			this.values[index] = value;
+		}
+
+		@Override
+		public CompressedSparseRowMatrix createMatrix(final int numRows, final int numCols, final int[] rowOffsets, final ForkJoinPool pool) {
+			return new HeapMatrix(numRows, numCols, rowOffsets, this.cols, this.values, pool);
+		}
+	}
+
+	private static final class OffHeapStorage extends Storage {
+		private final IntBuffer cols;
+		private final DoubleBuffer values;
+
+		public OffHeapStorage(final int numNonZeros) {
+			this.cols = OffHeapDenseMatrix.allocateInts(numNonZeros);
+			this.values = OffHeapDenseMatrix.allocateDoubles(numNonZeros);
+		}
+
+		@Override
+		public void set(final int index, final int col, final double value) {
+			// absolute puts leave the buffer positions untouched
+			this.cols.put(index, col);
+			this.values.put(index, value);
+		}
+
+		@Override
+		public CompressedSparseRowMatrix createMatrix(final int numRows, final int numCols, final int[] rowOffsets, final ForkJoinPool pool) {
+			return new OffHeapMatrix(numRows, numCols, rowOffsets, this.cols, this.values, pool);
+		}
+	}
+
+	//endregion
+
+	//region HeapMatrix
+
+	/**
+	 * A CSR matrix that stores its values and column indexes in heap arrays.
+	 */
+	private static final class HeapMatrix extends CompressedSparseRowMatrix {
+		private final int[] cols;
+		private final double[] values;
+
+		public HeapMatrix(
+				final int numRows,
+				final int numCols,
+				final int[] rowOffsets,
+				final int[] cols,
+				final double[] values,
+				final ForkJoinPool pool) {
+			super(numRows, numCols, rowOffsets, pool);
+			this.cols = cols;
+			this.values = values;
+		}
+
+		@Override
+		public boolean isOffHeap() {
+			return false;
+		}
+
+		@Override
+		int getColumnAt(final int index) {
+			return this.cols[index];
+		}
+
+		@Override
+		double getValueAt(final int index) {
+			return this.values[index];
+		}
+
+		@Override
+		public double absSum() {
+			return DoubleReductions.absSum(this.values);
+		}
+
+		@Override
+		public double sum() {
+			return DoubleReductions.sum(this.values);
+		}
+
+		@Override
+		void multiplyRows(final int[] rowOffsets, final double[] vector, final double[] result, final int startRow, final int endRow) {
+			final int[] cols = this.cols;
+			final double[] values = this.values;
+			for (int i = startRow; i < endRow; ++i) {
+				double sum = 0.0;
+				for (int j = rowOffsets[i]; j < rowOffsets[i + 1]; ++j) {
+					sum += values[j] * vector[cols[j]];
+				}
+
+				result[i] = sum;
+			}
+		}
+	}
+
+	//endregion
+
+	//region OffHeapMatrix
+
+	/**
+	 * A CSR matrix that stores its values and column indexes in direct buffers.
+	 */
+	private static final class OffHeapMatrix extends CompressedSparseRowMatrix {
+		private final IntBuffer cols;
+		private final DoubleBuffer values;
+
+		public OffHeapMatrix(
+				final int numRows,
+				final int numCols,
+				final int[] rowOffsets,
+				final IntBuffer cols,
+				final DoubleBuffer values,
+				final ForkJoinPool pool) {
+			super(numRows, numCols, rowOffsets, pool);
+			this.cols = cols;
+			this.values = values;
+		}
+
+		@Override
+		public boolean isOffHeap() {
+			return true;
+		}
+
+		@Override
+		int getColumnAt(final int index) {
+			return this.cols.get(index);
+		}
+
+		@Override
+		double getValueAt(final int index) {
+			return this.values.get(index);
+		}
+
+		@Override
+		public double absSum() {
+			return DoubleReductions.absSum(this.values);
+		}
+
+		@Override
+		public double sum() {
+			return DoubleReductions.sum(this.values);
+		}
+
+		@Override
+		void multiplyRows(final int[] rowOffsets, final double[] vector, final double[] result, final int startRow, final int endRow) {
+			final IntBuffer cols = this.cols;
+			final DoubleBuffer values = this.values;
+			for (int i = startRow; i < endRow; ++i) {
+				double sum = 0.0;
+				for (int j = rowOffsets[i]; j < rowOffsets[i + 1]; ++j) {
+					sum += values.get(j) * vector[cols.get(j)];
+				}
+
+				result[i] = sum;
+			}
+		}
+	}
+
+	//endregion
+}
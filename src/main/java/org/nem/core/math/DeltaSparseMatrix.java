@@ -0,0 +1,317 @@
+package org.nem.core.math;
+
+import java.util.*;
+
+/**
+ * Represents a sparse matrix that overlays a (read-only) base matrix with a sparse set of changes.
+ * <br>
+ * All changes (added, updated and removed entries) are stored in the overlay, so the base matrix is never modified
+ * and must not be modified while it is overlaid. Removed entries are stored as zero-valued entries in the overlay.
+ * Each overlay entry remembers the base value it replaces, so multiplying by a vector costs one multiplication of the
+ * base matrix (which can be a parallel CompressedSparseRowMatrix) plus work that is proportional to the number of changes.
+ * <br>
+ * normalizeColumns does not touch any values. Instead, it updates one divisor per column that is applied whenever
+ * a value is read. The column sums are derived from (cached) base column sums and the overlay entries.
+ */
+public class DeltaSparseMatrix extends Matrix {
+	private static final int INITIAL_DELTA_CAPACITY = 4;
+	private static final double REALLOC_MULTIPLIER = 1.6;
+
+	private final Matrix base;
+	private final int[][] deltaCols;
+	private final double[][] deltaValues;
+	private final double[][] deltaBaseValues;
+	private final int[] deltaSizes;
+	private int deltaCount;
+
+	private final double[] columnDivisors;
+	private boolean hasColumnDivisors;
+	private double[] baseColumnAbsSums;
+	private int[] baseColumnNonZeroCounts;
+
+	// scratch buffer for the column scaled multiplication vector (reused across multiplications)
+	private double[] scaledVector;
+
+	/**
+	 * Creates a new matrix without any changes.
+	 *
+	 * @param base The base matrix.
+	 */
+	public DeltaSparseMatrix(final Matrix base) {
+		super(base.getRowCount(), base.getColumnCount());
+		this.base = base;
+		this.deltaCols = new int[base.getRowCount()][];
+		this.deltaValues = new double[base.getRowCount()][];
+		this.deltaBaseValues = new double[base.getRowCount()][];
+		this.deltaSizes = new int[base.getRowCount()];
+		this.columnDivisors = new double[base.getColumnCount()];
+		Arrays.fill(this.columnDivisors, 1.0);
+	}
+
+	/**
+	 * Gets the number of changed entries (including removed entries).
+	 *
+	 * @return The number of changed entries.
+	 */
+	public int getDeltaCount() {
+		return this.deltaCount;
+	}
+
+	/**
+	 * Copies all (effective) values into a new sparse matrix.
+	 * This can be used to create a new base matrix once the number of changes becomes large.
+	 *
+	 * @return The sparse matrix.
+	 */
+	public SparseMatrix toSparseMatrix() {
+		final SparseMatrix matrix = this.createSparseMatrix(this.getRowCount(), this.getColumnCount());
+		this.forEach((r, c, v) -> {
+			if (0.0 != v) {
+				matrix.setAtUnchecked(r, c, v);
+			}
+		});
+
+		return matrix;
+	}
+
+	private SparseMatrix createSparseMatrix(final int numRows, final int numCols) {
+		final int numNonZeros = this.base.getRowCount() > 0 ? (int)Math.ceil((double)this.deltaCount / this.base.getRowCount()) : 0;
+		return new SparseMatrix(numRows, numCols, Math.max(INITIAL_DELTA_CAPACITY, numNonZeros));
+	}
+
+	//region Matrix abstract functions
+
+	@Override
+	protected final Matrix create(final int numRows, final int numCols) {
+		// derived matrices do not need an overlay
+		return this.createSparseMatrix(numRows, numCols);
+	}
+
+	@Override
+	protected final double getAtUnchecked(final int row, final int col) {
+		final int i = this.findDelta(row, col);
+		final double rawValue = i >= 0 ? this.deltaValues[row][i] : this.base.getAtUnchecked(row, col);
+		return rawValue / this.columnDivisors[col];
+	}
+
+	@Override
+	protected final void setAtUnchecked(final int row, final int col, final double val) {
+		final double rawValue = val * this.columnDivisors[col];
+		final int i = this.findDelta(row, col);
+		if (i >= 0) {
+			this.deltaValues[row][i] = rawValue;
+			return;
+		}
+
+		final double baseValue = this.base.getAtUnchecked(row, col);
+		if (baseValue != rawValue) {
+			this.insertDelta(row, col, rawValue, baseValue, -i - 1);
+		}
+	}
+
+	private int findDelta(final int row, final int col) {
+		return null == this.deltaCols[row] ? -1 : Arrays.binarySearch(this.deltaCols[row], 0, this.deltaSizes[row], col);
+	}
+
+	private void insertDelta(final int row, final int col, final double val, final double baseVal, final int i) {
+		if (null == this.deltaCols[row]) {
+			this.deltaCols[row] = new int[INITIAL_DELTA_CAPACITY];
+			this.deltaValues[row] = new double[INITIAL_DELTA_CAPACITY];
+			this.deltaBaseValues[row] = new double[INITIAL_DELTA_CAPACITY];
+		} else if (this.deltaSizes[row] == this.deltaCols[row].length) {
+			this.reallocate(row);
+		}
+
+		final int size = this.deltaSizes[row];
+		System.arraycopy(this.deltaCols[row], i, this.deltaCols[row], i + 1, size - i);
+		System.arraycopy(this.deltaValues[row], i, this.deltaValues[row], i + 1, size - i);
+		System.arraycopy(this.deltaBaseValues[row], i, this.deltaBaseValues[row], i + 1, size - i);
+		this.deltaCols[row][i] = col;
+		this.deltaValues[row][i] = val;
+		this.deltaBaseValues[row][i] = baseVal;
+		this.deltaSizes[row] += 1;
+		++this.deltaCount;
+	}
+
+	private void reallocate(final int row) {
+		final int newSize = (int)Math.ceil(REALLOC_MULTIPLIER * this.deltaCols[row].length);
+		this.deltaCols[row] = Arrays.copyOf(this.deltaCols[row], newSize);
+		this.deltaValues[row] = Arrays.copyOf(this.deltaValues[row], newSize);
+		this.deltaBaseValues[row] = Arrays.copyOf(this.deltaBaseValues[row], newSize);
+	}
+
+	@Override
+	protected final void forEach(final ElementVisitorFunction func) {
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			final int row = i;
+			final MatrixNonZeroElementRowIterator baseIterator = this.base.getNonZeroElementRowIterator(i);
+			MatrixElement baseElement = baseIterator.hasNext() ? baseIterator.next() : null;
+			int j = 0;
+			while (null != baseElement || j < this.deltaSizes[i]) {
+				final int deltaCol = j < this.deltaSizes[i] ? this.deltaCols[i][j] : Integer.MAX_VALUE;
+				final int baseCol = null != baseElement ? baseElement.getColumn() : Integer.MAX_VALUE;
+				if (deltaCol <= baseCol) {
+					if (deltaCol == baseCol) {
+						baseElement = baseIterator.hasNext() ? baseIterator.next() : null;
+					}
+
+					// updating an existing change never changes the structure of the overlay
+					final int index = j++;
+					final double rawValue = this.deltaValues[i][index];
+					if (0.0 != rawValue) {
+						func.visit(i, deltaCol, rawValue / this.columnDivisors[deltaCol],
+								v -> this.deltaValues[row][index] = v * this.columnDivisors[deltaCol]);
+					}
+				} else {
+					// changing a base value inserts a change at the current overlay position
+					final int size = this.deltaSizes[i];
+					func.visit(i, baseCol, baseElement.getValue() / this.columnDivisors[baseCol], v -> this.setAtUnchecked(row, baseCol, v));
+					if (this.deltaSizes[i] > size) {
+						++j;
+					}
+
+					baseElement = baseIterator.hasNext() ? baseIterator.next() : null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
+		final MatrixNonZeroElementRowIterator baseIterator = this.base.getNonZeroElementRowIterator(row);
+		return new MatrixNonZeroElementRowIterator() {
+			private MatrixElement baseElement = this.nextBaseElement();
+			private int index;
+			private MatrixElement element = this.findNextElement();
+
+			@Override
+			public boolean hasNext() {
+				return null != this.element;
+			}
+
+			@Override
+			public MatrixElement next() {
+				if (!this.hasNext()) {
+					throw new IndexOutOfBoundsException("index out of range");
+				}
+
+				final MatrixElement element = this.element;
+				this.element = this.findNextElement();
+				return element;
+			}
+
+			private MatrixElement nextBaseElement() {
+				return baseIterator.hasNext() ? baseIterator.next() : null;
+			}
+
+			private MatrixElement findNextElement() {
+				final DeltaSparseMatrix matrix = DeltaSparseMatrix.this;
+				while (null != this.baseElement || this.index < matrix.deltaSizes[row]) {
+					final int deltaCol = this.index < matrix.deltaSizes[row] ? matrix.deltaCols[row][this.index] : Integer.MAX_VALUE;
+					final int baseCol = null != this.baseElement ? this.baseElement.getColumn() : Integer.MAX_VALUE;
+					if (deltaCol > baseCol) {
+						final double value = this.baseElement.getValue();
+						this.baseElement = this.nextBaseElement();
+						return new MatrixElement(row, baseCol, value / matrix.columnDivisors[baseCol]);
+					}
+
+					if (deltaCol == baseCol) {
+						this.baseElement = this.nextBaseElement();
+					}
+
+					final double rawValue = matrix.deltaValues[row][this.index++];
+					if (0.0 != rawValue) {
+						return new MatrixElement(row, deltaCol, rawValue / matrix.columnDivisors[deltaCol]);
+					}
+				}
+
+				return null;
+			}
+		};
+	}
+
+	//endregion
+
+	//region normalizeColumns
+
+	@Override
+	public Collection<Integer> normalizeColumns() {
+		this.ensureBaseColumnSums();
+
+		final double[] columnAbsSums = this.baseColumnAbsSums.clone();
+		final int[] columnNonZeroCounts = this.baseColumnNonZeroCounts.clone();
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			for (int j = 0; j < this.deltaSizes[i]; ++j) {
+				final int col = this.deltaCols[i][j];
+				final double rawValue = this.deltaValues[i][j];
+				final double baseValue = this.deltaBaseValues[i][j];
+				columnAbsSums[col] += Math.abs(rawValue) - Math.abs(baseValue);
+				columnNonZeroCounts[col] += (0.0 != rawValue ? 1 : 0) - (0.0 != baseValue ? 1 : 0);
+			}
+		}
+
+		// use the non-zero counts to detect zero columns because the incremental sums are subject to rounding
+		final List<Integer> zeroColumns = new ArrayList<>();
+		for (int i = 0; i < this.getColumnCount(); ++i) {
+			if (0 == columnNonZeroCounts[i]) {
+				zeroColumns.add(i);
+			} else {
+				this.columnDivisors[i] = columnAbsSums[i];
+				this.hasColumnDivisors = true;
+			}
+		}
+
+		return zeroColumns;
+	}
+
+	private void ensureBaseColumnSums() {
+		if (null != this.baseColumnAbsSums) {
+			return;
+		}
+
+		this.baseColumnAbsSums = this.base.getColumnSums(true);
+		this.baseColumnNonZeroCounts = new int[this.getColumnCount()];
+		this.base.forEach((r, c, v) -> {
+			if (0.0 != v) {
+				++this.baseColumnNonZeroCounts[c];
+			}
+		});
+	}
+
+	//endregion
+
+	//region multiply
+
+	@Override
+	void multiply(final double[] vector, final double[] result) {
+		final double[] scaledVector = this.hasColumnDivisors ? this.getScaledVector(vector) : vector;
+
+		this.base.multiply(scaledVector, result);
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			final int[] cols = this.deltaCols[i];
+			final double[] values = this.deltaValues[i];
+			final double[] baseValues = this.deltaBaseValues[i];
+			double correction = 0.0;
+			for (int j = 0; j < this.deltaSizes[i]; ++j) {
+				correction += (values[j] - baseValues[j]) * scaledVector[cols[j]];
+			}
+
+			result[i] += correction;
+		}
+	}
+
+	private double[] getScaledVector(final double[] vector) {
+		if (null == this.scaledVector) {
+			this.scaledVector = new double[vector.length];
+		}
+
+		final double[] scaledVector = this.scaledVector;
+		for (int i = 0; i < vector.length; ++i) {
+			scaledVector[i] = vector[i] / this.columnDivisors[i];
+		}
+
+		return scaledVector;
+	}
+
+	//endregion
+}
@@ -93,6 +93,16 @@ public final class DenseMatrix extends Matrix {
 		}
 	}
 
+	@Override
+	public final void forEach(final ReadOnlyElementVisitorFunction func) {
+		int index = 0;
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			for (int j = 0; j < this.numCols; ++j) {
+				func.visit(i, j, this.values[index++]);
+			}
+		}
+	}
+
 	@Override
 	public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
 		return new MatrixNonZeroElementRowIterator() {
@@ -123,6 +133,110 @@ public final class DenseMatrix extends Matrix {
 
 	// endregion
 
+	//region aggregation functions
+
+	@Override
+	public double absSum() {
+		return DoubleReductions.absSum(this.values);
+	}
+
+	@Override
+	public double sum() {
+		return DoubleReductions.sum(this.values);
+	}
+
+	@Override
+	double[] getColumnSums(final boolean isAbsolute) {
+		final double[] sums = new double[this.numCols];
+		for (int i = 0; i < this.values.length; i += this.numCols) {
+			if (isAbsolute) {
+				for (int j = 0; j < this.numCols; ++j) {
+					sums[j] += Math.abs(this.values[i + j]);
+				}
+			} else {
+				for (int j = 0; j < this.numCols; ++j) {
+					sums[j] += this.values[i + j];
+				}
+			}
+		}
+
+		return sums;
+	}
+
+	//endregion
+
+	//region vector operations
+
+	@Override
+	void multiply(final double[] vector, final double[] result) {
+		int index = 0;
+		for (int i = 0; i < result.length; ++i) {
+			double sum = 0.0;
+			for (int j = 0; j < this.numCols; ++j) {
+				sum += this.values[index++] * vector[j];
+			}
+
+			result[i] = sum;
+		}
+	}
+
+	//endregion
+
+	//region transforms
+
+	@Override
+	public Matrix roundTo(final int numPlaces) {
+		final double multiplier = Math.pow(10, numPlaces);
+		final double[] result = new double[this.values.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = Math.round(this.values[i] * multiplier) / multiplier;
+		}
+
+		return new DenseMatrix(this.getRowCount(), this.numCols, result);
+	}
+
+	@Override
+	public Matrix multiply(final double scalar) {
+		final double[] result = new double[this.values.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = this.values[i] * scalar;
+		}
+
+		return new DenseMatrix(this.getRowCount(), this.numCols, result);
+	}
+
+	@Override
+	public Matrix add(final double scalar) {
+		final double[] result = new double[this.values.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = this.values[i] + scalar;
+		}
+
+		return new DenseMatrix(this.getRowCount(), this.numCols, result);
+	}
+
+	@Override
+	public Matrix abs() {
+		final double[] result = new double[this.values.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = Math.abs(this.values[i]);
+		}
+
+		return new DenseMatrix(this.getRowCount(), this.numCols, result);
+	}
+
+	@Override
+	public Matrix sqrt() {
+		final double[] result = new double[this.values.length];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = Math.sqrt(this.values[i]);
+		}
+
+		return new DenseMatrix(this.getRowCount(), this.numCols, result);
+	}
+
+	//endregion
+
 	@Override
 	public String toString() {
 		final DecimalFormat format = FormatUtils.getDefaultDecimalFormat();
@@ -0,0 +1,203 @@
+package org.nem.core.math;
+
+import java.nio.DoubleBuffer;
+import java.util.concurrent.*;
+
+/**
+ * Deterministic reductions over raw double arrays (and buffers).
+ * <br>
+ * Values are summed in fixed size blocks using tight indexed loops (so that they can be vectorized by the JIT)
+ * and the block sums are combined pairwise along a tree that only depends on the number of values.
+ * Large arrays are reduced in parallel, but since the summation tree is the same, the result is bit-for-bit
+ * identical to a sequential reduction and does not depend on the number of available cores.
+ */
+final class DoubleReductions {
+	private static final int BLOCK_SIZE = 512;
+	private static final int PARALLEL_THRESHOLD = 64 * 1024;
+	private static final int MIN_VALUES_PER_TASK = 16 * 1024;
+
+	private DoubleReductions() {
+	}
+
+	/**
+	 * Calculates the sum of all values.
+	 *
+	 * @param values The values.
+	 * @return The sum.
+	 */
+	public static double sum(final double[] values) {
+		return reduce(values.length, (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				sum += values[i];
+			}
+
+			return sum;
+		});
+	}
+
+	/**
+	 * Calculates the sum of the absolute values of all values.
+	 *
+	 * @param values The values.
+	 * @return The sum of absolute values.
+	 */
+	public static double absSum(final double[] values) {
+		return reduce(values.length, (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				sum += Math.abs(values[i]);
+			}
+
+			return sum;
+		});
+	}
+
+	/**
+	 * Calculates the sum of all values in a buffer (from index zero up to its limit).
+	 *
+	 * @param values The values.
+	 * @return The sum.
+	 */
+	public static double sum(final DoubleBuffer values) {
+		return reduce(values.limit(), (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				sum += values.get(i);
+			}
+
+			return sum;
+		});
+	}
+
+	/**
+	 * Calculates the sum of the absolute values of all values in a buffer (from index zero up to its limit).
+	 *
+	 * @param values The values.
+	 * @return The sum of absolute values.
+	 */
+	public static double absSum(final DoubleBuffer values) {
+		return reduce(values.limit(), (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				sum += Math.abs(values.get(i));
+			}
+
+			return sum;
+		});
+	}
+
+	/**
+	 * Calculates the sum of the absolute differences between two arrays (the Manhattan distance).
+	 *
+	 * @param lhs The first array.
+	 * @param rhs The second array.
+	 * @return The sum of absolute differences.
+	 */
+	public static double absDifferenceSum(final double[] lhs, final double[] rhs) {
+		return reduce(lhs.length, (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				sum += Math.abs(lhs[i] - rhs[i]);
+			}
+
+			return sum;
+		});
+	}
+
+	/**
+	 * Calculates the sum of the squared differences between two arrays (the squared Euclidean distance).
+	 *
+	 * @param lhs The first array.
+	 * @param rhs The second array.
+	 * @return The sum of squared differences.
+	 */
+	public static double squaredDifferenceSum(final double[] lhs, final double[] rhs) {
+		return reduce(lhs.length, (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				final double difference = lhs[i] - rhs[i];
+				sum += difference * difference;
+			}
+
+			return sum;
+		});
+	}
+
+	/**
+	 * Calculates the sum of the products of the deviations of two arrays from the specified means.
+	 *
+	 * @param lhs The first array.
+	 * @param lhsMean The mean of the first array.
+	 * @param rhs The second array.
+	 * @param rhsMean The mean of the second array.
+	 * @return The sum of the deviation products.
+	 */
+	public static double deviationProductSum(final double[] lhs, final double lhsMean, final double[] rhs, final double rhsMean) {
+		return reduce(lhs.length, (start, end) -> {
+			double sum = 0.0;
+			for (int i = start; i < end; ++i) {
+				sum += (lhs[i] - lhsMean) * (rhs[i] - rhsMean);
+			}
+
+			return sum;
+		});
+	}
+
+	//region reduce
+
+	@FunctionalInterface
+	private interface BlockReducer {
+		double reduce(final int start, final int end);
+	}
+
+	private static double reduce(final int size, final BlockReducer reducer) {
+		return size < PARALLEL_THRESHOLD
+				? reduce(reducer, 0, size)
+				: ForkJoinPool.commonPool().invoke(new ReduceTask(reducer, 0, size));
+	}
+
+	private static double reduce(final BlockReducer reducer, final int start, final int end) {
+		if (end - start <= BLOCK_SIZE) {
+			return reducer.reduce(start, end);
+		}
+
+		final int middle = split(start, end);
+		return reduce(reducer, start, middle) + reduce(reducer, middle, end);
+	}
+
+	private static int split(final int start, final int end) {
+		// split at a block boundary so that all leaves (except the last one) are full blocks
+		final int numBlocks = (end - start + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		return start + (numBlocks / 2) * BLOCK_SIZE;
+	}
+
+	private static class ReduceTask extends RecursiveTask<Double> {
+		private final BlockReducer reducer;
+		private final int start;
+		private final int end;
+
+		public ReduceTask(final BlockReducer reducer, final int start, final int end) {
+			this.reducer = reducer;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected Double compute() {
+			if (this.end - this.start <= MIN_VALUES_PER_TASK) {
+				return reduce(this.reducer, this.start, this.end);
+			}
+
+			// use the same split as the sequential reduction so that the summation order is the same
+			final int middle = split(this.start, this.end);
+			final ReduceTask left = new ReduceTask(this.reducer, this.start, middle);
+			final ReduceTask right = new ReduceTask(this.reducer, middle, this.end);
+			right.fork();
+			final double leftSum = left.compute();
+			return leftSum + right.join();
+		}
+	}
+
+	//endregion
+}
@@ -111,12 +111,23 @@ public abstract class Matrix {
 	 * @return A vector containing the sums of each matrix column.
 	 */
 	public final ColumnVector getColumnSumVector() {
-		return new ColumnVector(this.getColumnSums(v -> v));
+		return new ColumnVector(this.getColumnSums(false));
 	}
 
-	private double[] getColumnSums(final DoubleUnaryOperator op) {
+	/**
+	 * Gets the sums of each matrix column.
+	 *
+	 * @param isAbsolute true if the absolute values should be summed.
+	 * @return The column sums.
+	 */
+	double[] getColumnSums(final boolean isAbsolute) {
 		final double[] sums = new double[this.numCols];
-		this.forEach((r, c, v) -> sums[c] += op.applyAsDouble(v));
+		if (isAbsolute) {
+			this.forEach((r, c, v) -> sums[c] += Math.abs(v));
+		} else {
+			this.forEach((r, c, v) -> sums[c] += v);
+		}
+
 		return sums;
 	}
 
@@ -130,7 +141,7 @@ public abstract class Matrix {
 	 * @return The indexes of zero columns.
 	 */
 	public Collection<Integer> normalizeColumns() {
-		final double[] columnSums = this.getColumnSums(Math::abs);
+		final double[] columnSums = this.getColumnSums(true);
 		final List<Integer> zeroColumns = new ArrayList<>();
 		for (int i = 0; i < this.numCols; i++) {
 			if (0 == columnSums[i]) {
@@ -229,7 +240,7 @@ public abstract class Matrix {
 	 *
 	 * @return The sum of the absolute value of all the matrix's elements.
 	 */
-	public final double absSum() {
+	public double absSum() {
 		return this.aggregate(Math::abs);
 	}
 
@@ -238,7 +249,7 @@ public abstract class Matrix {
 	 *
 	 * @return The sum of all the matrix's elements.
 	 */
-	public final double sum() {
+	public double sum() {
 		return this.aggregate(v -> v);
 	}
 
@@ -265,12 +276,22 @@ public abstract class Matrix {
 		}
 
 		final double[] rawResult = new double[this.numRows];
-		final double[] rawVector = vector.getRaw();
-
-		this.forEach((r, c, v) -> rawResult[r] += v * rawVector[c]);
+		this.multiply(vector.getRaw(), rawResult);
 		return new ColumnVector(rawResult);
 	}
 
+	/**
+	 * Multiplies this matrix by a raw vector and stores the result in a preallocated raw vector.
+	 * The result vector is overwritten and must not be the same array as the input vector.
+	 *
+	 * @param vector The raw vector (with column count elements).
+	 * @param result The raw result vector (with row count elements).
+	 */
+	void multiply(final double[] vector, final double[] result) {
+		Arrays.fill(result, 0.0);
+		this.forEach((r, c, v) -> result[r] += v * vector[c]);
+	}
+
 	//endregion
 
 	//region transforms
@@ -0,0 +1,36 @@
+package org.nem.core.math;
+
+/**
+ * Cursor for iterating through the nonzero elements of a matrix row without allocating an element per step.
+ */
+public interface MatrixRowCursor {
+
+	/**
+	 * Moves the cursor to the next non-zero element of the row.
+	 *
+	 * @return true if the cursor is positioned on a non-zero element, false if the row is exhausted.
+	 */
+	boolean advance();
+
+	/**
+	 * Gets the column of the current element.
+	 *
+	 * @return The column.
+	 */
+	int col();
+
+	/**
+	 * Gets the value of the current element.
+	 *
+	 * @return The value.
+	 */
+	double value();
+
+	/**
+	 * Sets the value of the current element.
+	 * Setting a value of zero removes the element; the cursor must be advanced before it is read again.
+	 *
+	 * @param value The new value.
+	 */
+	void setValue(final double value);
+}
@@ -0,0 +1,206 @@
+package org.nem.core.math;
+
+import org.nem.core.utils.FormatUtils;
+
+import java.nio.*;
+import java.text.DecimalFormat;
+
+/**
+ * Represents a dense matrix that stores its values off-heap (in a direct buffer).
+ * <br>
+ * This behaves exactly like a DenseMatrix (all elements, including zeros, are visited by forEach),
+ * but large, long-lived matrices do not add to the pressure on the garbage collected heap.
+ * Matrices derived from this matrix (e.g. by transforms) are also stored off-heap.
+ */
+public final class OffHeapDenseMatrix extends Matrix {
+	private final int numCols;
+	private final DoubleBuffer values;
+
+	/**
+	 * Creates a new matrix of the specified size.
+	 *
+	 * @param rows The desired number of rows.
+	 * @param cols The desired number of columns.
+	 */
+	public OffHeapDenseMatrix(final int rows, final int cols) {
+		super(rows, cols);
+		this.numCols = cols;
+		this.values = allocateDoubles(this.getElementCount());
+	}
+
+	/**
+	 * Creates a new off-heap matrix containing the same values as a dense matrix.
+	 *
+	 * @param matrix The dense matrix.
+	 * @return The off-heap matrix.
+	 */
+	public static OffHeapDenseMatrix create(final DenseMatrix matrix) {
+		final OffHeapDenseMatrix offHeapMatrix = new OffHeapDenseMatrix(matrix.getRowCount(), matrix.getColumnCount());
+		offHeapMatrix.values.duplicate().put(matrix.getRaw());
+		return offHeapMatrix;
+	}
+
+	/**
+	 * Allocates a zero-initialized direct buffer that can hold the specified number of doubles.
+	 *
+	 * @param size The number of doubles.
+	 * @return The buffer.
+	 */
+	static DoubleBuffer allocateDoubles(final int size) {
+		if (size > Integer.MAX_VALUE / Double.BYTES) {
+			throw new IllegalArgumentException("too many values for an off-heap buffer");
+		}
+
+		return ByteBuffer.allocateDirect(size * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+	}
+
+	/**
+	 * Allocates a zero-initialized direct buffer that can hold the specified number of ints.
+	 *
+	 * @param size The number of ints.
+	 * @return The buffer.
+	 */
+	static IntBuffer allocateInts(final int size) {
+		if (size > Integer.MAX_VALUE / Integer.BYTES) {
+			throw new IllegalArgumentException("too many values for an off-heap buffer");
+		}
+
+		return ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+	}
+
+	/**
+	 * Copies all values into a (heap) dense matrix.
+	 *
+	 * @return The dense matrix.
+	 */
+	public DenseMatrix toDenseMatrix() {
+		// bulk transfers use a duplicate so that the position of the shared buffer is never changed
+		final double[] rawValues = new double[this.getElementCount()];
+		this.values.duplicate().get(rawValues);
+		return new DenseMatrix(this.getRowCount(), this.numCols, rawValues);
+	}
+
+	//region Matrix abstract functions
+
+	@Override
+	protected final Matrix create(final int numRows, final int numCols) {
+		return new OffHeapDenseMatrix(numRows, numCols);
+	}
+
+	@Override
+	protected final double getAtUnchecked(final int row, final int col) {
+		return this.values.get(row * this.numCols + col);
+	}
+
+	@Override
+	protected final void setAtUnchecked(final int row, final int col, final double val) {
+		this.values.put(row * this.numCols + col, val);
+	}
+
+	@Override
+	protected final void forEach(final ElementVisitorFunction func) {
+		int index = 0;
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			for (int j = 0; j < this.numCols; ++j) {
+				final int valueIndex = index++;
+				func.visit(i, j, this.values.get(valueIndex), v -> this.values.put(valueIndex, v));
+			}
+		}
+	}
+
+	@Override
+	public final void forEach(final ReadOnlyElementVisitorFunction func) {
+		int index = 0;
+		for (int i = 0; i < this.getRowCount(); ++i) {
+			for (int j = 0; j < this.numCols; ++j) {
+				func.visit(i, j, this.values.get(index++));
+			}
+		}
+	}
+
+	@Override
+	public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
+		final int startIndex = row * this.numCols;
+		return new MatrixNonZeroElementRowIterator() {
+			private int col = this.findNextNonZeroColumn(0);
+
+			@Override
+			public boolean hasNext() {
+				return this.col < OffHeapDenseMatrix.this.numCols;
+			}
+
+			@Override
+			public MatrixElement next() {
+				if (!this.hasNext()) {
+					throw new IndexOutOfBoundsException("index out of range");
+				}
+
+				final MatrixElement element = new MatrixElement(row, this.col, OffHeapDenseMatrix.this.values.get(startIndex + this.col));
+				this.col = this.findNextNonZeroColumn(this.col + 1);
+				return element;
+			}
+
+			private int findNextNonZeroColumn(final int col) {
+				int nextCol = col;
+				while (nextCol < OffHeapDenseMatrix.this.numCols && 0.0 == OffHeapDenseMatrix.this.values.get(startIndex + nextCol)) {
+					++nextCol;
+				}
+
+				return nextCol;
+			}
+		};
+	}
+
+	//endregion
+
+	//region aggregation functions
+
+	@Override
+	public double absSum() {
+		return DoubleReductions.absSum(this.values);
+	}
+
+	@Override
+	public double sum() {
+		return DoubleReductions.sum(this.values);
+	}
+
+	//endregion
+
+	//region vector operations
+
+	@Override
+	void multiply(final double[] vector, final double[] result) {
+		int index = 0;
+		for (int i = 0; i < result.length; ++i) {
+			double sum = 0.0;
+			for (int j = 0; j < this.numCols; ++j) {
+				sum += this.values.get(index++) * vector[j];
+			}
+
+			result[i] = sum;
+		}
+	}
+
+	//endregion
+
+	@Override
+	public String toString() {
+		final DecimalFormat format = FormatUtils.getDefaultDecimalFormat();
+		final StringBuilder builder = new StringBuilder();
+
+		this.forEach((r, c, v) -> {
+			if (0 != r && 0 == c) {
+				builder.append(System.lineSeparator());
+			}
+
+			if (0 != c) {
+				builder.append(" ");
+			}
+
+			builder.append(format.format(v));
+		});
+
+		return builder.toString();
+	}
+}
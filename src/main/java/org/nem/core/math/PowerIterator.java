@@ -0,0 +1,166 @@
+package org.nem.core.math;
+
+/**
+ * Solves x = d * M * x + (1 - d) * t for a square matrix M, a teleport vector t and a damping factor d
+ * using power iteration (e.g. for PageRank-style rankings).
+ * <br>
+ * All iterations work on two preallocated buffers that are swapped after each step, so no vectors are allocated
+ * while iterating. After the matrix multiplication, the teleport addition and the normalization sum are fused into
+ * one pass and the normalization and the residual (Manhattan distance to the previous vector) are fused into another.
+ */
+public class PowerIterator {
+	private final Matrix matrix;
+	private final double[] teleportVector;
+	private final double dampingFactor;
+	private double[] vector;
+	private double[] nextVector;
+	private int numIterations;
+	private double residual = Double.POSITIVE_INFINITY;
+	private boolean hasConverged;
+
+	/**
+	 * Creates a new power iterator that starts with the (normalized) teleport vector.
+	 *
+	 * @param matrix The (square) matrix.
+	 * @param teleportVector The teleport vector.
+	 * @param dampingFactor The damping factor (between 0 and 1).
+	 */
+	public PowerIterator(final Matrix matrix, final ColumnVector teleportVector, final double dampingFactor) {
+		this(matrix, teleportVector, dampingFactor, teleportVector);
+	}
+
+	/**
+	 * Creates a new power iterator.
+	 * When the matrix only changed slightly since a previous iteration (e.g. a DeltaSparseMatrix over the previous matrix),
+	 * passing the previous result as start vector (warm start) usually needs far fewer iterations to converge.
+	 *
+	 * @param matrix The (square) matrix.
+	 * @param teleportVector The teleport vector.
+	 * @param dampingFactor The damping factor (between 0 and 1).
+	 * @param startVector The start vector (it will be normalized).
+	 */
+	public PowerIterator(
+			final Matrix matrix,
+			final ColumnVector teleportVector,
+			final double dampingFactor,
+			final ColumnVector startVector) {
+		if (matrix.getRowCount() != matrix.getColumnCount()) {
+			throw new IllegalArgumentException("matrix must be square");
+		}
+
+		if (matrix.getRowCount() != teleportVector.size() || matrix.getRowCount() != startVector.size()) {
+			throw new IllegalArgumentException("vector sizes and matrix row count must be equal");
+		}
+
+		if (dampingFactor < 0.0 || dampingFactor > 1.0) {
+			throw new IllegalArgumentException("damping factor must be between 0 and 1");
+		}
+
+		this.matrix = matrix;
+		this.teleportVector = teleportVector.getRaw().clone();
+		this.dampingFactor = dampingFactor;
+		this.vector = startVector.getRaw().clone();
+		this.nextVector = new double[this.vector.length];
+		normalize(this.vector);
+	}
+
+	/**
+	 * Performs a single iteration.
+	 *
+	 * @return The residual (Manhattan distance between the new and the previous vector).
+	 */
+	public double step() {
+		this.matrix.multiply(this.vector, this.nextVector);
+
+		final double teleportFactor = 1.0 - this.dampingFactor;
+		double sum = 0.0;
+		for (int i = 0; i < this.nextVector.length; ++i) {
+			final double value = this.dampingFactor * this.nextVector[i] + teleportFactor * this.teleportVector[i];
+			this.nextVector[i] = value;
+			sum += Math.abs(value);
+		}
+
+		final double scale = sum > 0.0 ? 1.0 / sum : 1.0;
+		double residual = 0.0;
+		for (int i = 0; i < this.nextVector.length; ++i) {
+			final double value = this.nextVector[i] * scale;
+			this.nextVector[i] = value;
+			residual += Math.abs(value - this.vector[i]);
+		}
+
+		final double[] previousVector = this.vector;
+		this.vector = this.nextVector;
+		this.nextVector = previousVector;
+
+		++this.numIterations;
+		this.residual = residual;
+		return residual;
+	}
+
+	/**
+	 * Iterates until the residual is less than epsilon or the maximum number of iterations has been reached.
+	 *
+	 * @param maxIterations The maximum number of iterations.
+	 * @param epsilon The convergence threshold.
+	 * @return true if the iteration converged.
+	 */
+	public boolean run(final int maxIterations, final double epsilon) {
+		for (int i = 0; i < maxIterations; ++i) {
+			if (this.step() < epsilon) {
+				this.hasConverged = true;
+				break;
+			}
+		}
+
+		return this.hasConverged;
+	}
+
+	/**
+	 * Gets a value indicating whether or not the iteration has converged.
+	 *
+	 * @return true if the iteration has converged.
+	 */
+	public boolean hasConverged() {
+		return this.hasConverged;
+	}
+
+	/**
+	 * Gets the number of performed iterations.
+	 *
+	 * @return The number of iterations.
+	 */
+	public int getNumIterations() {
+		return this.numIterations;
+	}
+
+	/**
+	 * Gets the residual of the last iteration (or positive infinity if no iteration has been performed).
+	 *
+	 * @return The residual.
+	 */
+	public double getResidual() {
+		return this.residual;
+	}
+
+	/**
+	 * Gets (a copy of) the current vector.
+	 *
+	 * @return The current vector.
+	 */
+	public ColumnVector getResult() {
+		return new ColumnVector(this.vector.clone());
+	}
+
+	private static void normalize(final double[] vector) {
+		double sum = 0.0;
+		for (final double value : vector) {
+			sum += Math.abs(value);
+		}
+
+		if (sum > 0.0) {
+			for (int i = 0; i < vector.length; ++i) {
+				vector[i] /= sum;
+			}
+		}
+	}
+}
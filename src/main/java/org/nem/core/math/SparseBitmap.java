@@ -1,18 +1,26 @@
 package org.nem.core.math;
 
-import com.googlecode.javaewah.EWAHCompressedBitmap;
-
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
- * This is a wrapper for the EWAHCompressedBitmap.
+ * A compressed bitmap of non-negative bits.
+ * <br>
+ * Bits are partitioned by their high 16 bits into containers (in ascending order) that store the low 16 bits
+ * either in a sorted array (sparse containers) or in a bitset (dense containers). Logical operations work container
+ * by container, so only containers that exist in both operands need to be combined.
  */
 public class SparseBitmap implements java.lang.Iterable<Integer> {
-	private final EWAHCompressedBitmap bitmap;
+	private static final int INITIAL_CAPACITY = 4;
+
+	private char[] keys;
+	private BitmapContainer[] containers;
+	private int size;
 
 	// Private constructor
-	private SparseBitmap(final EWAHCompressedBitmap bitmap) {
-		this.bitmap = bitmap;
+	private SparseBitmap(final int capacity) {
+		this.keys = new char[capacity];
+		this.containers = new BitmapContainer[capacity];
 	}
 
 	//region factories
@@ -23,7 +31,7 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return A new <code>SparseBitmap</code> that is empty (no bits set).
 	 */
 	public static SparseBitmap createEmpty() {
-		return new SparseBitmap(EWAHCompressedBitmap.bitmapOf());
+		return new SparseBitmap(INITIAL_CAPACITY);
 	}
 
 	/**
@@ -34,7 +42,12 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return A new <code>SparseBitmap</code> with the given bits set.
 	 */
 	public static SparseBitmap createFromSortedData(final int... bitsToSet) {
-		return new SparseBitmap(EWAHCompressedBitmap.bitmapOf(bitsToSet));
+		final SparseBitmap bitmap = createEmpty();
+		for (final int bitToSet : bitsToSet) {
+			bitmap.setWithoutAscendingCheck(bitToSet);
+		}
+
+		return bitmap;
 	}
 
 	/**
@@ -44,8 +57,10 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return A new <code>SparseBitmap</code> with the given bits set.
 	 */
 	public static SparseBitmap createFromUnsortedData(final int... bitsToSet) {
-		Arrays.sort(bitsToSet);
-		return new SparseBitmap(EWAHCompressedBitmap.bitmapOf(bitsToSet));
+		// sort a copy so that the caller's array is not modified
+		final int[] sortedBitsToSet = bitsToSet.clone();
+		Arrays.sort(sortedBitsToSet);
+		return createFromSortedData(sortedBitsToSet);
 	}
 
 	//endregion
@@ -59,7 +74,12 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return true if the bit is set, false if the bit is not set at the given <code>bitToGet</code> index.
 	 */
 	public boolean get(final int bitToGet) {
-		return this.bitmap.get(bitToGet);
+		if (bitToGet < 0) {
+			return false;
+		}
+
+		final int i = this.findContainer(bitToGet >>> 16);
+		return i >= 0 && this.containers[i].contains(bitToGet & 0xFFFF);
 	}
 
 	/**
@@ -69,7 +89,16 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @param bitToSet index of the bit to set
 	 */
 	public void setWithoutAscendingCheck(final int bitToSet) {
-		this.bitmap.set(bitToSet);
+		if (bitToSet < 0) {
+			throw new IllegalArgumentException("Cannot set negative bits.");
+		}
+
+		final int i = this.findContainer(bitToSet >>> 16);
+		if (i >= 0) {
+			this.containers[i] = this.containers[i].add(bitToSet & 0xFFFF);
+		} else {
+			this.insertContainer(-i - 1, (char)(bitToSet >>> 16), BitmapContainer.create(bitToSet & 0xFFFF));
+		}
 	}
 
 	/**
@@ -80,11 +109,40 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 */
 	public void set(final int bitToSet) {
 		// Check that we are setting bits in ascending order (equality with the last value is OK).
-		if (this.bitmap.cardinality() > 0 && bitToSet < this.bitmap.toArray()[this.bitmap.cardinality() - 1]) {
+		if (0 != this.size && bitToSet < this.getHighestBit()) {
 			throw new IllegalArgumentException("Must set bits in strictly ascending order.");
 		}
 
-		this.bitmap.set(bitToSet);
+		this.setWithoutAscendingCheck(bitToSet);
+	}
+
+	private int findContainer(final int key) {
+		// bits are usually set in ascending order, so check the last container first
+		if (0 != this.size && key == this.keys[this.size - 1]) {
+			return this.size - 1;
+		}
+
+		return Arrays.binarySearch(this.keys, 0, this.size, (char)key);
+	}
+
+	private void insertContainer(final int i, final char key, final BitmapContainer container) {
+		if (this.keys.length == this.size) {
+			final int newCapacity = Math.max(INITIAL_CAPACITY, 2 * this.size);
+			this.keys = Arrays.copyOf(this.keys, newCapacity);
+			this.containers = Arrays.copyOf(this.containers, newCapacity);
+		}
+
+		System.arraycopy(this.keys, i, this.keys, i + 1, this.size - i);
+		System.arraycopy(this.containers, i, this.containers, i + 1, this.size - i);
+		this.keys[i] = key;
+		this.containers[i] = container;
+		++this.size;
+	}
+
+	private void appendContainer(final char key, final BitmapContainer container) {
+		if (0 != container.cardinality()) {
+			this.insertContainer(this.size, key, container);
+		}
 	}
 
 	//endregion
@@ -95,7 +153,8 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * Clears all the bits in this sparse bitmap.
 	 */
 	public void clear() {
-		this.bitmap.clear();
+		Arrays.fill(this.containers, 0, this.size, null);
+		this.size = 0;
 	}
 
 	//endregion
@@ -104,26 +163,82 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 
 	/**
 	 * Creates a new SparseBitmap that is the logical <code>or</code> of all the given bitmaps.
+	 * <br>
+	 * All bitmaps are merged at once: the next containers of all bitmaps are kept in a heap ordered by key and
+	 * all containers with the same key are combined into a single (reused) bitset, so no intermediate bitmaps are created.
 	 *
 	 * @param bitmaps Bitmaps to compute the logical <code>or</code> for
 	 * @return SparseBitmap that has the values set according to the <code>or</code> of the given bitmaps.
 	 */
 	public static SparseBitmap batchOr(final SparseBitmap... bitmaps) {
 		if (bitmaps.length < 1) {
-			return SparseBitmap.createFromUnsortedData();
+			return SparseBitmap.createEmpty();
 		}
 
 		if (bitmaps.length < 2) {
 			return bitmaps[0];
 		}
 
-		EWAHCompressedBitmap firstMap = bitmaps[0].bitmap;
+		final PriorityQueue<ContainerCursor> cursors = new PriorityQueue<>(bitmaps.length, Comparator.comparingInt(ContainerCursor::getKey));
+		for (final SparseBitmap bitmap : bitmaps) {
+			if (0 != bitmap.size) {
+				cursors.add(new ContainerCursor(bitmap));
+			}
+		}
 
-		for (int index = 1; index < bitmaps.length; ++index) {
-			firstMap = firstMap.or(bitmaps[index].bitmap);
+		final SparseBitmap result = createEmpty();
+		final long[] words = new long[BitmapContainer.NUM_WORDS];
+		while (!cursors.isEmpty()) {
+			final ContainerCursor cursor = cursors.poll();
+			final char key = cursor.getKey();
+			final BitmapContainer container = cursor.getContainer();
+			advance(cursors, cursor);
+
+			if (cursors.isEmpty() || key != cursors.peek().getKey()) {
+				// the key only exists in a single bitmap
+				result.appendContainer(key, container.copy());
+				continue;
+			}
+
+			Arrays.fill(words, 0);
+			container.orInto(words);
+			while (!cursors.isEmpty() && key == cursors.peek().getKey()) {
+				final ContainerCursor otherCursor = cursors.poll();
+				otherCursor.getContainer().orInto(words);
+				advance(cursors, otherCursor);
+			}
+
+			result.appendContainer(key, BitmapContainer.createFromWords(words));
 		}
 
-		return new SparseBitmap(firstMap);
+		return result;
+	}
+
+	private static void advance(final PriorityQueue<ContainerCursor> cursors, final ContainerCursor cursor) {
+		if (cursor.advance()) {
+			cursors.add(cursor);
+		}
+	}
+
+	private static class ContainerCursor {
+		private final SparseBitmap bitmap;
+		private int index;
+
+		public ContainerCursor(final SparseBitmap bitmap) {
+			this.bitmap = bitmap;
+		}
+
+		public char getKey() {
+			return this.bitmap.keys[this.index];
+		}
+
+		public BitmapContainer getContainer() {
+			return this.bitmap.containers[this.index];
+		}
+
+		public boolean advance() {
+			return ++this.index < this.bitmap.size;
+		}
 	}
 
 	/**
@@ -135,7 +250,30 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * (context object) and the given bitmap.
 	 */
 	public SparseBitmap or(final SparseBitmap rhs) {
-		return new SparseBitmap(this.bitmap.or(rhs.bitmap));
+		final SparseBitmap result = new SparseBitmap(Math.max(INITIAL_CAPACITY, this.size + rhs.size));
+		int i = 0;
+		int j = 0;
+		while (i < this.size && j < rhs.size) {
+			final char lhsKey = this.keys[i];
+			final char rhsKey = rhs.keys[j];
+			if (lhsKey < rhsKey) {
+				result.appendContainer(lhsKey, this.containers[i++].copy());
+			} else if (lhsKey > rhsKey) {
+				result.appendContainer(rhsKey, rhs.containers[j++].copy());
+			} else {
+				result.appendContainer(lhsKey, this.containers[i++].or(rhs.containers[j++]));
+			}
+		}
+
+		for (; i < this.size; ++i) {
+			result.appendContainer(this.keys[i], this.containers[i].copy());
+		}
+
+		for (; j < rhs.size; ++j) {
+			result.appendContainer(rhs.keys[j], rhs.containers[j].copy());
+		}
+
+		return result;
 	}
 
 	/**
@@ -147,7 +285,22 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * (context object) and the given bitmap.
 	 */
 	public SparseBitmap and(final SparseBitmap rhs) {
-		return new SparseBitmap(this.bitmap.and(rhs.bitmap));
+		final SparseBitmap result = new SparseBitmap(Math.max(INITIAL_CAPACITY, Math.min(this.size, rhs.size)));
+		int i = 0;
+		int j = 0;
+		while (i < this.size && j < rhs.size) {
+			final char lhsKey = this.keys[i];
+			final char rhsKey = rhs.keys[j];
+			if (lhsKey < rhsKey) {
+				++i;
+			} else if (lhsKey > rhsKey) {
+				++j;
+			} else {
+				result.appendContainer(lhsKey, this.containers[i++].and(rhs.containers[j++]));
+			}
+		}
+
+		return result;
 	}
 
 	/**
@@ -159,7 +312,20 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * (context object) and the given bitmap.
 	 */
 	public SparseBitmap andNot(final SparseBitmap rhs) {
-		return new SparseBitmap(this.bitmap.andNot(rhs.bitmap));
+		final SparseBitmap result = new SparseBitmap(Math.max(INITIAL_CAPACITY, this.size));
+		int j = 0;
+		for (int i = 0; i < this.size; ++i) {
+			final char key = this.keys[i];
+			while (j < rhs.size && rhs.keys[j] < key) {
+				++j;
+			}
+
+			result.appendContainer(key, j < rhs.size && key == rhs.keys[j]
+					? this.containers[i].andNot(rhs.containers[j])
+					: this.containers[i].copy());
+		}
+
+		return result;
 	}
 
 	//endregion
@@ -172,18 +338,33 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return The highest bit.
 	 */
 	public int getHighestBit() {
-		return this.bitmap.cardinality() > 0 ? this.bitmap.toArray()[this.bitmap.cardinality() - 1] : 0;
+		return 0 != this.size ? this.keys[this.size - 1] << 16 | this.containers[this.size - 1].last() : 0;
 	}
 
 	/**
 	 * Size of the intersection of <code>this</code> bitmap and
-	 * the given bitmap.
+	 * the given bitmap. The intersection is not materialized.
 	 *
 	 * @param rhs given sparse bitmap to compute the size of the intersection of
 	 * @return size of the intersection of <code>this</code> bitmap and the given bitmap.
 	 */
 	public int andCardinality(final SparseBitmap rhs) {
-		return this.bitmap.andCardinality(rhs.bitmap);
+		int cardinality = 0;
+		int i = 0;
+		int j = 0;
+		while (i < this.size && j < rhs.size) {
+			final char lhsKey = this.keys[i];
+			final char rhsKey = rhs.keys[j];
+			if (lhsKey < rhsKey) {
+				++i;
+			} else if (lhsKey > rhsKey) {
+				++j;
+			} else {
+				cardinality += this.containers[i++].andCardinality(rhs.containers[j++]);
+			}
+		}
+
+		return cardinality;
 	}
 
 	/**
@@ -192,7 +373,12 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return The number of bits that are set.
 	 */
 	public int cardinality() {
-		return this.bitmap.cardinality();
+		int cardinality = 0;
+		for (int i = 0; i < this.size; ++i) {
+			cardinality += this.containers[i].cardinality();
+		}
+
+		return cardinality;
 	}
 
 	//endregion
@@ -205,12 +391,60 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 	 * @return List representation of this sparse bitmap.
 	 */
 	public List<Integer> toList() {
-		return this.bitmap.toList();
+		final List<Integer> list = new ArrayList<>(this.cardinality());
+		this.forEachBit(list::add);
+		return list;
+	}
+
+	/**
+	 * Calls the consumer for each set bit in ascending order (without boxing).
+	 *
+	 * @param consumer The consumer.
+	 */
+	public void forEachBit(final IntConsumer consumer) {
+		for (int i = 0; i < this.size; ++i) {
+			this.containers[i].forEach(this.keys[i] << 16, consumer);
+		}
 	}
 
 	@Override
 	public Iterator<Integer> iterator() {
-		return this.bitmap.iterator();
+		return this.intIterator();
+	}
+
+	/**
+	 * Creates an iterator over all set bits in ascending order that supports iteration without boxing.
+	 *
+	 * @return The iterator.
+	 */
+	public PrimitiveIterator.OfInt intIterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int index;
+			private PrimitiveIterator.OfInt containerIterator;
+
+			@Override
+			public boolean hasNext() {
+				while (null == this.containerIterator || !this.containerIterator.hasNext()) {
+					if (this.index == SparseBitmap.this.size) {
+						return false;
+					}
+
+					this.containerIterator = SparseBitmap.this.containers[this.index].iterator(SparseBitmap.this.keys[this.index] << 16);
+					++this.index;
+				}
+
+				return true;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				return this.containerIterator.nextInt();
+			}
+		};
 	}
 
 	//endregion
@@ -219,7 +453,12 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 
 	@Override
 	public int hashCode() {
-		return this.bitmap.hashCode();
+		int hashCode = 1;
+		for (int i = 0; i < this.size; ++i) {
+			hashCode = 31 * (31 * hashCode + this.keys[i]) + this.containers[i].hashCode();
+		}
+
+		return hashCode;
 	}
 
 	@Override
@@ -229,12 +468,31 @@ public class SparseBitmap implements java.lang.Iterable<Integer> {
 		}
 
 		final SparseBitmap rhs = (SparseBitmap)obj;
-		return this.bitmap.equals(rhs.bitmap);
+		if (this.size != rhs.size) {
+			return false;
+		}
+
+		for (int i = 0; i < this.size; ++i) {
+			if (this.keys[i] != rhs.keys[i] || !this.containers[i].equals(rhs.containers[i])) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	@Override
 	public String toString() {
-		return this.bitmap.toString();
+		final StringBuilder builder = new StringBuilder("{");
+		this.forEachBit(bit -> {
+			if (1 != builder.length()) {
+				builder.append(",");
+			}
+
+			builder.append(bit);
+		});
+
+		return builder.append("}").toString();
 	}
 
 	//endregion
@@ -0,0 +1,425 @@
+package org.nem.core.math;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Represents an immutable undirected graph stored as compressed sparse row (CSR) adjacency lists.
+ * <br>
+ * The graph provides the primitives needed by (SCAN-style) graph clustering: common neighbor counts and
+ * structural similarities of adjacent vertices, connected components and k-cores. When a fork-join pool is supplied,
+ * all of them are computed in parallel over vertex ranges.
+ */
+public class SparseGraph {
+	private static final int MIN_VERTICES_PER_TASK = 1024;
+
+	private final int[] offsets;
+	private final int[] neighbors;
+	private final ForkJoinPool pool;
+
+	private SparseGraph(final int[] offsets, final int[] neighbors, final ForkJoinPool pool) {
+		this.offsets = offsets;
+		this.neighbors = neighbors;
+		this.pool = pool;
+	}
+
+	//region factories
+
+	/**
+	 * Creates a graph from an adjacency matrix.
+	 *
+	 * @param matrix The (square) adjacency matrix.
+	 * @return The graph.
+	 */
+	public static SparseGraph create(final Matrix matrix) {
+		return create(matrix, null);
+	}
+
+	/**
+	 * Creates a graph from an adjacency matrix.
+	 * Every non-zero element (row, col) is an (undirected) edge between row and col, so the matrix does not need to be symmetric.
+	 * Self loops are ignored.
+	 *
+	 * @param matrix The (square) adjacency matrix.
+	 * @param pool The pool to use for all graph algorithms (or null to run them sequentially).
+	 * @return The graph.
+	 */
+	public static SparseGraph create(final Matrix matrix, final ForkJoinPool pool) {
+		if (matrix.getRowCount() != matrix.getColumnCount()) {
+			throw new IllegalArgumentException("matrix must be square");
+		}
+
+		final int numVertices = matrix.getRowCount();
+		final int[] offsets = new int[numVertices + 1];
+		matrix.forEach((r, c, v) -> {
+			if (r != c && 0.0 != v) {
+				++offsets[r + 1];
+				++offsets[c + 1];
+			}
+		});
+
+		for (int i = 0; i < numVertices; ++i) {
+			offsets[i + 1] += offsets[i];
+		}
+
+		final int[] neighbors = new int[offsets[numVertices]];
+		final int[] nextIndices = Arrays.copyOf(offsets, numVertices);
+		matrix.forEach((r, c, v) -> {
+			if (r != c && 0.0 != v) {
+				neighbors[nextIndices[r]++] = c;
+				neighbors[nextIndices[c]++] = r;
+			}
+		});
+
+		// sort the neighbors of each vertex and remove duplicates (edges that are present in both directions)
+		final int[] uniqueOffsets = new int[numVertices + 1];
+		forEachRange(pool, numVertices, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				Arrays.sort(neighbors, offsets[i], offsets[i + 1]);
+				int numUnique = 0;
+				for (int j = offsets[i]; j < offsets[i + 1]; ++j) {
+					if (j == offsets[i] || neighbors[j] != neighbors[j - 1]) {
+						neighbors[offsets[i] + numUnique++] = neighbors[j];
+					}
+				}
+
+				uniqueOffsets[i + 1] = numUnique;
+			}
+		});
+
+		for (int i = 0; i < numVertices; ++i) {
+			uniqueOffsets[i + 1] += uniqueOffsets[i];
+		}
+
+		final int[] uniqueNeighbors = new int[uniqueOffsets[numVertices]];
+		forEachRange(pool, numVertices, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				System.arraycopy(neighbors, offsets[i], uniqueNeighbors, uniqueOffsets[i], uniqueOffsets[i + 1] - uniqueOffsets[i]);
+			}
+		});
+
+		return new SparseGraph(uniqueOffsets, uniqueNeighbors, pool);
+	}
+
+	//endregion
+
+	//region getters
+
+	/**
+	 * Gets the number of vertices.
+	 *
+	 * @return The number of vertices.
+	 */
+	public int getVertexCount() {
+		return this.offsets.length - 1;
+	}
+
+	/**
+	 * Gets the number of (undirected) edges.
+	 *
+	 * @return The number of edges.
+	 */
+	public int getEdgeCount() {
+		return this.neighbors.length / 2;
+	}
+
+	/**
+	 * Gets the number of neighbors of a vertex.
+	 *
+	 * @param vertex The vertex.
+	 * @return The number of neighbors.
+	 */
+	public int getDegree(final int vertex) {
+		return this.offsets[vertex + 1] - this.offsets[vertex];
+	}
+
+	/**
+	 * Gets the neighbors of a vertex in ascending order.
+	 *
+	 * @param vertex The vertex.
+	 * @return The neighbors.
+	 */
+	public int[] getNeighbors(final int vertex) {
+		return Arrays.copyOfRange(this.neighbors, this.offsets[vertex], this.offsets[vertex + 1]);
+	}
+
+	//endregion
+
+	//region common neighbors / structural similarity
+
+	/**
+	 * Gets the number of common neighbors of all adjacent vertices.
+	 * The resulting matrix has an element for every edge (u, v) containing the size of the intersection of the
+	 * (open) neighborhoods of u and v (edges without common neighbors are not present in the matrix).
+	 *
+	 * @return The common neighbor counts.
+	 */
+	public CompressedSparseRowMatrix getCommonNeighborCounts() {
+		return this.createEdgeMatrix((u, v, numCommonNeighbors) -> numCommonNeighbors);
+	}
+
+	/**
+	 * Gets the structural similarities of all adjacent vertices.
+	 * The structural similarity of an edge (u, v) is |N[u] ∩ N[v]| / sqrt(|N[u]| * |N[v]|),
+	 * where N[x] is the closed neighborhood of x (x and all of its neighbors).
+	 *
+	 * @return The structural similarities (with an element for every edge).
+	 */
+	public CompressedSparseRowMatrix getStructuralSimilarities() {
+		// the closed neighborhoods of adjacent vertices always contain both vertices
+		return this.createEdgeMatrix((u, v, numCommonNeighbors) ->
+				(numCommonNeighbors + 2) / Math.sqrt((this.getDegree(u) + 1.0) * (this.getDegree(v) + 1.0)));
+	}
+
+	@FunctionalInterface
+	private interface EdgeValueFunction {
+		double apply(final int u, final int v, final int numCommonNeighbors);
+	}
+
+	private CompressedSparseRowMatrix createEdgeMatrix(final EdgeValueFunction func) {
+		final double[] values = new double[this.neighbors.length];
+		forEachRange(this.pool, this.getVertexCount(), (start, end) -> {
+			for (int u = start; u < end; ++u) {
+				for (int i = this.offsets[u]; i < this.offsets[u + 1]; ++i) {
+					final int v = this.neighbors[i];
+					values[i] = func.apply(u, v, this.countCommonNeighbors(u, v));
+				}
+			}
+		});
+
+		// remove zero values so that only non-zero values are stored
+		final int[] rowOffsets = new int[this.offsets.length];
+		for (int u = 0; u < this.getVertexCount(); ++u) {
+			int numNonZeros = 0;
+			for (int i = this.offsets[u]; i < this.offsets[u + 1]; ++i) {
+				numNonZeros += 0.0 != values[i] ? 1 : 0;
+			}
+
+			rowOffsets[u + 1] = rowOffsets[u] + numNonZeros;
+		}
+
+		final int numNonZeros = rowOffsets[this.getVertexCount()];
+		final int[] cols = numNonZeros == values.length ? this.neighbors : new int[numNonZeros];
+		final double[] nonZeroValues = numNonZeros == values.length ? values : new double[numNonZeros];
+		if (numNonZeros != values.length) {
+			int index = 0;
+			for (int i = 0; i < values.length; ++i) {
+				if (0.0 != values[i]) {
+					cols[index] = this.neighbors[i];
+					nonZeroValues[index++] = values[i];
+				}
+			}
+		}
+
+		return CompressedSparseRowMatrix.create(
+				this.getVertexCount(),
+				this.getVertexCount(),
+				rowOffsets,
+				cols,
+				nonZeroValues,
+				this.pool,
+				false);
+	}
+
+	private int countCommonNeighbors(final int u, final int v) {
+		int i = this.offsets[u];
+		int j = this.offsets[v];
+		int count = 0;
+		while (i < this.offsets[u + 1] && j < this.offsets[v + 1]) {
+			final int uNeighbor = this.neighbors[i];
+			final int vNeighbor = this.neighbors[j];
+			if (uNeighbor < vNeighbor) {
+				++i;
+			} else if (uNeighbor > vNeighbor) {
+				++j;
+			} else {
+				++count;
+				++i;
+				++j;
+			}
+		}
+
+		return count;
+	}
+
+	//endregion
+
+	//region connected components
+
+	/**
+	 * Gets the connected components of this graph.
+	 * Each vertex is labeled with the smallest vertex in its component, so the labels do not depend on the parallelism.
+	 *
+	 * @return The component label of each vertex.
+	 */
+	public int[] getConnectedComponents() {
+		// union-find where the larger root is always linked to the smaller root, so each root is the smallest vertex of its set;
+		// the parent of a vertex only ever decreases, so concurrent unions and path halving can use compare-and-set
+		final AtomicIntegerArray parents = new AtomicIntegerArray(this.getVertexCount());
+		for (int i = 0; i < this.getVertexCount(); ++i) {
+			parents.set(i, i);
+		}
+
+		forEachRange(this.pool, this.getVertexCount(), (start, end) -> {
+			for (int u = start; u < end; ++u) {
+				for (int i = this.offsets[u]; i < this.offsets[u + 1]; ++i) {
+					final int v = this.neighbors[i];
+					if (u < v) {
+						union(parents, u, v);
+					}
+				}
+			}
+		});
+
+		final int[] labels = new int[this.getVertexCount()];
+		forEachRange(this.pool, this.getVertexCount(), (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				labels[i] = find(parents, i);
+			}
+		});
+
+		return labels;
+	}
+
+	private static int find(final AtomicIntegerArray parents, final int vertex) {
+		int current = vertex;
+		while (true) {
+			final int parent = parents.get(current);
+			if (parent == current) {
+				return current;
+			}
+
+			// path halving
+			final int grandParent = parents.get(parent);
+			if (parent != grandParent) {
+				parents.compareAndSet(current, parent, grandParent);
+			}
+
+			current = grandParent;
+		}
+	}
+
+	private static void union(final AtomicIntegerArray parents, final int u, final int v) {
+		while (true) {
+			final int uRoot = find(parents, u);
+			final int vRoot = find(parents, v);
+			if (uRoot == vRoot) {
+				return;
+			}
+
+			final int largerRoot = Math.max(uRoot, vRoot);
+			if (parents.compareAndSet(largerRoot, largerRoot, Math.min(uRoot, vRoot))) {
+				return;
+			}
+		}
+	}
+
+	//endregion
+
+	//region k-core
+
+	/**
+	 * Gets the k-core of this graph, which is the largest subgraph in which all vertices have at least k neighbors.
+	 * Vertices with less than k neighbors are repeatedly pruned until no such vertices are left.
+	 *
+	 * @param k The minimum number of neighbors.
+	 * @return The vertices in the k-core.
+	 */
+	public SparseBitmap getKCore(final int k) {
+		final int numVertices = this.getVertexCount();
+		final AtomicIntegerArray degrees = new AtomicIntegerArray(numVertices);
+		final boolean[] isPruned = new boolean[numVertices];
+
+		// every vertex drops below k at most once, so it is added to at most one frontier
+		final int[][] frontiers = new int[][] { new int[numVertices], new int[numVertices] };
+		final AtomicInteger frontierSize = new AtomicInteger();
+		forEachRange(this.pool, numVertices, (start, end) -> {
+			for (int i = start; i < end; ++i) {
+				degrees.set(i, this.getDegree(i));
+				if (this.getDegree(i) < k) {
+					frontiers[0][frontierSize.getAndIncrement()] = i;
+				}
+			}
+		});
+
+		int numFrontierVertices = frontierSize.get();
+		while (0 != numFrontierVertices) {
+			final int[] frontier = frontiers[0];
+			final int[] nextFrontier = frontiers[1];
+			for (int i = 0; i < numFrontierVertices; ++i) {
+				isPruned[frontier[i]] = true;
+			}
+
+			frontierSize.set(0);
+			forEachRange(this.pool, numFrontierVertices, (start, end) -> {
+				for (int i = start; i < end; ++i) {
+					final int u = frontier[i];
+					for (int j = this.offsets[u]; j < this.offsets[u + 1]; ++j) {
+						final int v = this.neighbors[j];
+						if (!isPruned[v] && k - 1 == degrees.decrementAndGet(v)) {
+							nextFrontier[frontierSize.getAndIncrement()] = v;
+						}
+					}
+				}
+			});
+
+			frontiers[0] = nextFrontier;
+			frontiers[1] = frontier;
+			numFrontierVertices = frontierSize.get();
+		}
+
+		final SparseBitmap core = SparseBitmap.createEmpty();
+		for (int i = 0; i < numVertices; ++i) {
+			if (!isPruned[i]) {
+				core.set(i);
+			}
+		}
+
+		return core;
+	}
+
+	//endregion
+
+	//region parallel ranges
+
+	@FunctionalInterface
+	private interface RangeConsumer {
+		void accept(final int start, final int end);
+	}
+
+	private static void forEachRange(final ForkJoinPool pool, final int size, final RangeConsumer consumer) {
+		if (null == pool || size < 2 * MIN_VERTICES_PER_TASK) {
+			consumer.accept(0, size);
+		} else {
+			pool.invoke(new RangeAction(consumer, 0, size));
+		}
+	}
+
+	private static class RangeAction extends RecursiveAction {
+		private final RangeConsumer consumer;
+		private final int start;
+		private final int end;
+
+		public RangeAction(final RangeConsumer consumer, final int start, final int end) {
+			this.consumer = consumer;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.end - this.start < 2 * MIN_VERTICES_PER_TASK) {
+				this.consumer.accept(this.start, this.end);
+				return;
+			}
+
+			final int middle = (this.start + this.end) >>> 1;
+			invokeAll(
+					new RangeAction(this.consumer, this.start, middle),
+					new RangeAction(this.consumer, middle, this.end));
+		}
+	}
+
+	//endregion
+}
@@ -4,6 +4,7 @@ import org.nem.core.utils.FormatUtils;
 
 import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.function.DoubleConsumer;
 
 /**
  * Represents a sparse matrix.
@@ -43,6 +44,26 @@ public class SparseMatrix extends Matrix {
 		}
 	}
 
+	/**
+	 * Creates a new matrix around compact row arrays (used by SparseMatrixBuilder).
+	 *
+	 * @param numCols The number of columns.
+	 * @param values The (non-zero) values of each row.
+	 * @param cols The (ascending) columns of each row.
+	 * @param initialCapacityPerRow The initial capacity of a row in derived matrices.
+	 */
+	SparseMatrix(final int numCols, final double[][] values, final int[][] cols, final int initialCapacityPerRow) {
+		super(values.length, numCols);
+		this.numRows = values.length;
+		this.initialCapacityPerRow = initialCapacityPerRow;
+		this.values = values;
+		this.cols = cols;
+		this.maxIndices = new int[this.numRows];
+		for (int i = 0; i < this.numRows; ++i) {
+			this.maxIndices[i] = cols[i].length;
+		}
+	}
+
 	//region Matrix abstract functions
 
 	@Override
@@ -59,47 +80,20 @@ public class SparseMatrix extends Matrix {
 	@Override
 	protected final void setAtUnchecked(final int row, final int col, final double val) {
 		// keep the columns sorted in ascending order (needed for SparseBitmap in NodeNeighborhoodMap ctor)
-
-		if (val == 0.0) {
-			for (int i = 0; i < this.maxIndices[row]; ++i) {
-				if (this.cols[row][i] == col) {
-					this.remove(row, i);
-					return;
-				}
-			}
-			return;
-		}
-
-		if (this.maxIndices[row] == 0) {
-			this.cols[row][0] = col;
-			this.values[row][0] = val;
-			this.maxIndices[row] += 1;
-			return;
-		}
-
-		int i = 0;
-		final int maxIndex = this.maxIndices[row];
-		while (i < maxIndex && this.cols[row][i] < col) {
-			i++;
-		}
-
-		if (i == maxIndex) {
-			if (maxIndex == this.cols[row].length) {
-				this.reallocate(row);
+		final int i = Arrays.binarySearch(this.cols[row], 0, this.maxIndices[row], col);
+		if (i >= 0) {
+			if (0.0 == val) {
+				this.remove(row, i);
+			} else {
+				this.values[row][i] = val;
 			}
 
-			this.cols[row][i] = col;
-			this.values[row][i] = val;
-			this.maxIndices[row] += 1;
 			return;
 		}
 
-		if (this.cols[row][i] == col) {
-			this.values[row][i] = val;
-			return;
+		if (0.0 != val) {
+			this.insertColumn(row, col, val, -i - 1);
 		}
-
-		this.insertColumn(row, col, val, i);
 	}
 
 	private void insertColumn(final int row, final int col, final double val, final int i) {
@@ -116,28 +110,12 @@ public class SparseMatrix extends Matrix {
 
 	@Override
 	protected final void forEach(final ElementVisitorFunction func) {
-		final boolean[] copied = new boolean[1];
+		// a single cursor doubles as the setter, so no lambda is allocated per element
+		final RowCursor cursor = new RowCursor();
 		for (int i = 0; i < this.numRows; ++i) {
-			final int iCopy = i;
-			final double[] rowValues = this.values[i];
-			final int[] rowCols = this.cols[i];
-			int size = this.maxIndices[i];
-			for (int j = 0; j < size; ++j) {
-				final int jCopy = j;
-				copied[0] = false;
-				func.visit(i, rowCols[j], rowValues[j], v -> {
-					if (0.0 == v) {
-						copied[0] = this.remove(iCopy, jCopy);
-					} else {
-						rowValues[jCopy] = v;
-					}
-				});
-
-				if (copied[0]) {
-					// Same index again since the array shrank.
-					size = this.maxIndices[i];
-					--j;
-				}
+			cursor.reset(i);
+			while (cursor.advance()) {
+				func.visit(i, cursor.col(), cursor.value(), cursor);
 			}
 		}
 	}
@@ -200,21 +178,124 @@ public class SparseMatrix extends Matrix {
 		return this.cols[row].length;
 	}
 
+	//region row cursor
+
+	/**
+	 * Gets a cursor over the non-zero elements of a given row.
+	 * In contrast to getNonZeroElementRowIterator, no MatrixElement is allocated per element.
+	 *
+	 * @param row The row index.
+	 * @return The cursor.
+	 */
+	public MatrixRowCursor getRowCursor(final int row) {
+		final RowCursor cursor = new RowCursor();
+		cursor.reset(row);
+		return cursor;
+	}
+
+	/**
+	 * Calls the specified function for every non-zero element of a given row (in ascending column order).
+	 *
+	 * @param row The row index.
+	 * @param func The function.
+	 */
+	public void forEachNonZero(final int row, final IntDoubleConsumer func) {
+		final double[] rowValues = this.values[row];
+		final int[] rowCols = this.cols[row];
+		final int size = this.maxIndices[row];
+		for (int j = 0; j < size; ++j) {
+			func.accept(rowCols[j], rowValues[j]);
+		}
+	}
+
+	/**
+	 * Functional interface that visits the non-zero elements of a matrix row.
+	 */
+	@FunctionalInterface
+	public interface IntDoubleConsumer {
+
+		/**
+		 * Visits the specified element.
+		 *
+		 * @param col The column.
+		 * @param value The value.
+		 */
+		void accept(final int col, final double value);
+	}
+
+	private final class RowCursor implements MatrixRowCursor, DoubleConsumer {
+		private int row;
+		private int[] rowCols;
+		private double[] rowValues;
+		private int index;
+		private boolean isRemoved;
+
+		private void reset(final int row) {
+			this.row = row;
+			this.rowCols = SparseMatrix.this.cols[row];
+			this.rowValues = SparseMatrix.this.values[row];
+			this.index = -1;
+			this.isRemoved = false;
+		}
+
+		@Override
+		public boolean advance() {
+			final int size = SparseMatrix.this.maxIndices[this.row];
+			if (this.index < size) {
+				++this.index;
+			}
+
+			this.isRemoved = false;
+			return this.index < size;
+		}
+
+		@Override
+		public int col() {
+			return this.rowCols[this.index];
+		}
+
+		@Override
+		public double value() {
+			return this.rowValues[this.index];
+		}
+
+		@Override
+		public void setValue(final double value) {
+			if (this.isRemoved) {
+				throw new IllegalStateException("current element has already been removed");
+			}
+
+			if (0.0 == value) {
+				// the following elements shift left, so the next advance must revisit the same index
+				SparseMatrix.this.remove(this.row, this.index);
+				--this.index;
+				this.isRemoved = true;
+			} else {
+				this.rowValues[this.index] = value;
+			}
+		}
+
+		@Override
+		public void accept(final double value) {
+			this.setValue(value);
+		}
+	}
+
+	//endregion
+
 	/**
 	 * Remove an entries at a specific position
 	 *
 	 * @param row The row.
 	 * @param colIndex The column index.
 	 */
-	private boolean remove(final int row, final int colIndex) {
+	private void remove(final int row, final int colIndex) {
 		// Shrink arrays
-		boolean copied = false;
 		final int lastIndex = this.maxIndices[row] - 1;
 		if (lastIndex > 0 && lastIndex != colIndex) {
 			// We have to copy since the values within one row are ordered.
 			System.arraycopy(this.cols[row], colIndex + 1, this.cols[row], colIndex, lastIndex - colIndex);
 			System.arraycopy(this.values[row], colIndex + 1, this.values[row], colIndex, lastIndex - colIndex);
-			copied = true;
 		}
 
 		if (lastIndex >= 0) {
@@ -224,7 +305,6 @@ public class SparseMatrix extends Matrix {
 		}
 
 		--this.maxIndices[row];
-		return copied;
 	}
 
 	/**
@@ -235,7 +315,7 @@ public class SparseMatrix extends Matrix {
 	private void reallocate(final int row) {
 		// Hopefully doesn't happen too often
 		final int size = this.cols[row].length;
-		final int newSize = (int)Math.ceil(REALLOC_MULTIPLIER * size);
+		final int newSize = Math.max(1, (int)Math.ceil(REALLOC_MULTIPLIER * size));
 		final int[] newCols = new int[newSize];
 		final double[] newValues = new double[newSize];
 		System.arraycopy(this.cols[row], 0, newCols, 0, size);
@@ -0,0 +1,162 @@
+package org.nem.core.math;
+
+import java.util.Arrays;
+
+/**
+ * A builder for creating sparse matrices from (row, column, value) triples that are added in arbitrary order.
+ * <br>
+ * Triples are accumulated in primitive arrays and are only sorted (using a stable two-pass radix sort by column and row)
+ * when the matrix is built, so building a matrix is linear in the number of triples instead of requiring
+ * a sorted insert into a row for each triple.
+ * Duplicate triples are merged by summing their values and entries with a (merged) value of zero are dropped.
+ */
+public class SparseMatrixBuilder {
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private final int numRows;
+	private final int numCols;
+	private int[] rows;
+	private int[] cols;
+	private double[] values;
+	private int size;
+
+	/**
+	 * Creates a new builder.
+	 *
+	 * @param numRows The desired number of rows.
+	 * @param numCols The desired number of columns.
+	 */
+	public SparseMatrixBuilder(final int numRows, final int numCols) {
+		this(numRows, numCols, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new builder.
+	 *
+	 * @param numRows The desired number of rows.
+	 * @param numCols The desired number of columns.
+	 * @param initialCapacity The initial number of triples that can be added without reallocation.
+	 */
+	public SparseMatrixBuilder(final int numRows, final int numCols, final int initialCapacity) {
+		if (numRows <= 0 || numCols <= 0) {
+			throw new IllegalArgumentException("matrix must have at least one row and one column");
+		}
+
+		this.numRows = numRows;
+		this.numCols = numCols;
+		this.rows = new int[initialCapacity];
+		this.cols = new int[initialCapacity];
+		this.values = new double[initialCapacity];
+	}
+
+	/**
+	 * Gets the number of triples that have been added.
+	 *
+	 * @return The number of triples.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Adds a value at the specified row and column.
+	 * If a value has already been added at the same position, the values are summed.
+	 *
+	 * @param row The row.
+	 * @param col The column.
+	 * @param val The value.
+	 * @return This builder.
+	 */
+	public SparseMatrixBuilder add(final int row, final int col, final double val) {
+		if (row < 0 || row >= this.numRows) {
+			throw new IndexOutOfBoundsException("Row index out of bounds");
+		}
+
+		if (col < 0 || col >= this.numCols) {
+			throw new IndexOutOfBoundsException("Column index out of bounds");
+		}
+
+		if (this.size == this.rows.length) {
+			final int newCapacity = Math.max(1, this.rows.length * 2);
+			this.rows = Arrays.copyOf(this.rows, newCapacity);
+			this.cols = Arrays.copyOf(this.cols, newCapacity);
+			this.values = Arrays.copyOf(this.values, newCapacity);
+		}
+
+		this.rows[this.size] = row;
+		this.cols[this.size] = col;
+		this.values[this.size] = val;
+		++this.size;
+		return this;
+	}
+
+	/**
+	 * Builds a sparse matrix containing all added values.
+	 * Each row is allocated with exactly the capacity needed for its non-zero values.
+	 *
+	 * @return The sparse matrix.
+	 */
+	public SparseMatrix build() {
+		// sorting by column and then (stably) by row orders the triples by row and then by column
+		final int[] order = sortStable(this.rows, this.numRows, sortStable(this.cols, this.numCols, null));
+
+		final double[][] matrixValues = new double[this.numRows][];
+		final int[][] matrixCols = new int[this.numRows][];
+		final int[] rowCols = new int[this.numCols];
+		final double[] rowValues = new double[this.numCols];
+		int numEntries = 0;
+		int index = 0;
+		for (int row = 0; row < this.numRows; ++row) {
+			int rowSize = 0;
+			for (; index < this.size && this.rows[order[index]] == row; ++index) {
+				final int i = order[index];
+				if (0 != rowSize && rowCols[rowSize - 1] == this.cols[i]) {
+					rowValues[rowSize - 1] += this.values[i];
+				} else {
+					rowCols[rowSize] = this.cols[i];
+					rowValues[rowSize++] = this.values[i];
+				}
+			}
+
+			rowSize = removeZeros(rowCols, rowValues, rowSize);
+			matrixCols[row] = Arrays.copyOf(rowCols, rowSize);
+			matrixValues[row] = Arrays.copyOf(rowValues, rowSize);
+			numEntries += rowSize;
+		}
+
+		final int averageRowSize = (numEntries + this.numRows - 1) / this.numRows;
+		return new SparseMatrix(this.numCols, matrixValues, matrixCols, Math.max(1, averageRowSize));
+	}
+
+	private static int removeZeros(final int[] rowCols, final double[] rowValues, final int rowSize) {
+		int newSize = 0;
+		for (int i = 0; i < rowSize; ++i) {
+			if (0.0 != rowValues[i]) {
+				rowCols[newSize] = rowCols[i];
+				rowValues[newSize++] = rowValues[i];
+			}
+		}
+
+		return newSize;
+	}
+
+	private int[] sortStable(final int[] keys, final int numKeys, final int[] order) {
+		// counting sort of the triple indexes (in the specified order) by key
+		final int[] offsets = new int[numKeys + 1];
+		for (int i = 0; i < this.size; ++i) {
+			++offsets[keys[i] + 1];
+		}
+
+		for (int i = 0; i < numKeys; ++i) {
+			offsets[i + 1] += offsets[i];
+		}
+
+		final int[] sortedOrder = new int[this.size];
+		for (int i = 0; i < this.size; ++i) {
+			final int index = null == order ? i : order[i];
+			sortedOrder[offsets[keys[index]]++] = index;
+		}
+
+		return sortedOrder;
+	}
+}
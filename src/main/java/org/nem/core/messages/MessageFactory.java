@@ -17,7 +17,7 @@ public class MessageFactory {
 	 * @return The deserialized message.
 	 */
 	public static Message deserialize(final Deserializer deserializer, final Account sender, final Account recipient) {
-		final int type = deserializer.readInt("type");
+		final int type = deserializer.readIntPrimitive("type");
 
 		switch (type) {
 			case MessageTypes.PLAIN:
@@ -129,8 +129,15 @@ public class Account {
 			final Deserializer deserializer,
 			final String label,
 			final AddressEncoding encoding) {
-		final Address address = Address.readFrom(deserializer, label, encoding);
-		return null == address.getPublicKey() ? deserializer.getContext().findAccountByAddress(address) : new Account(address);
+		final DeserializationContext context = deserializer.getContext();
+		switch (encoding) {
+			case PUBLIC_KEY:
+				return context.findAccountByPublicKey(new PublicKey(deserializer.readBytes(label)));
+
+			case COMPRESSED:
+			default:
+				return context.findAccountByAddress(Address.readFrom(deserializer, label, encoding));
+		}
 	}
 
 	//endregion
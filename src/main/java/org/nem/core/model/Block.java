@@ -20,6 +20,8 @@ public class Block extends VerifiableEntity {
 	private Hash prevBlockHash;
 
 	private final List<Transaction> transactions;
+	private final List<Transaction> transactionsView = new TransactionList();
+	private final Runnable transactionChangeListener = this::invalidate;
 
 	// these are helper fields and shouldn't be serialized
 	private Account lessor;
@@ -27,6 +29,13 @@ public class Block extends VerifiableEntity {
 
 	private Hash generationHash;
 
+	// the (immutable) summary is lazily calculated, replaced when transactions are added
+	// and discarded when the transaction list is modified directly or a contained transaction changes
+	private BlockSummary summary;
+
+	// the touched account index is lazily calculated and discarded whenever the summary is discarded or replaced
+	private TouchedAccountIndex touchedAccountIndex;
+
 	/**
 	 * Creates a new block.
 	 *
@@ -77,6 +86,7 @@ public class Block extends VerifiableEntity {
 		this.height = BlockHeight.readFrom(deserializer, "height");
 
 		this.transactions = deserializer.readObjectArray("transactions", TransactionFactory.VERIFIABLE);
+		this.transactions.forEach(transaction -> transaction.setChangeListener(this.transactionChangeListener));
 
 		this.difficulty = BlockDifficulty.INITIAL_DIFFICULTY;
 	}
@@ -98,11 +108,24 @@ public class Block extends VerifiableEntity {
 	 * @return The total amount of fees of all transactions stored in this block.
 	 */
 	public Amount getTotalFee() {
-		final long rawTotalFee = this.transactions.stream()
-				.flatMap(TransactionExtensions::streamDefault)
-				.map(tx -> tx.getFee().getNumMicroNem())
-				.reduce(0L, Long::sum);
-		return Amount.fromMicroNem(rawTotalFee);
+		return this.getSummary().getTotalFee();
+	}
+
+	/**
+	 * Gets a summary of the transactions stored in this block.
+	 * The summary is calculated on first use and is replaced incrementally when transactions are added to this block.
+	 * It is recalculated after a fee or a multisig signature of a contained transaction changes.
+	 *
+	 * @return The summary.
+	 */
+	public BlockSummary getSummary() {
+		BlockSummary summary = this.summary;
+		if (null == summary) {
+			summary = BlockSummary.create(this.transactions);
+			this.summary = summary;
+		}
+
+		return summary;
 	}
 
 	/**
@@ -120,7 +143,23 @@ public class Block extends VerifiableEntity {
 	 * @return The transactions associated with this block.
 	 */
 	public List<Transaction> getTransactions() {
-		return this.transactions;
+		return this.transactionsView;
+	}
+
+	/**
+	 * Gets a deduplicated index of all accounts touched by the transactions (and child transactions) in this block.
+	 * The index is calculated on first use and reused until the transactions (or their child transactions) change.
+	 *
+	 * @return The touched account index.
+	 */
+	public TouchedAccountIndex getTouchedAccountIndex() {
+		TouchedAccountIndex touchedAccountIndex = this.touchedAccountIndex;
+		if (null == touchedAccountIndex) {
+			touchedAccountIndex = TouchedAccountIndex.create(this.transactions);
+			this.touchedAccountIndex = touchedAccountIndex;
+		}
+
+		return touchedAccountIndex;
 	}
 
 	/**
@@ -213,6 +252,12 @@ public class Block extends VerifiableEntity {
 	 */
 	public void addTransaction(final Transaction transaction) {
 		this.transactions.add(transaction);
+		transaction.setChangeListener(this.transactionChangeListener);
+		this.touchedAccountIndex = null;
+		final BlockSummary summary = this.summary;
+		if (null != summary) {
+			this.summary = summary.add(transaction);
+		}
 	}
 
 	/**
@@ -253,4 +298,51 @@ public class Block extends VerifiableEntity {
 	public String toString() {
 		return String.format("height: %d, #tx: %d", this.height.getRaw(), this.transactions.size());
 	}
+
+	private void invalidate() {
+		this.summary = null;
+		this.touchedAccountIndex = null;
+	}
+
+	/**
+	 * Live view of the block transactions that discards all derived data when it is modified.
+	 */
+	private class TransactionList extends AbstractList<Transaction> implements RandomAccess {
+
+		@Override
+		public Transaction get(final int index) {
+			return Block.this.transactions.get(index);
+		}
+
+		@Override
+		public int size() {
+			return Block.this.transactions.size();
+		}
+
+		@Override
+		public Transaction set(final int index, final Transaction transaction) {
+			Block.this.invalidate();
+			transaction.setChangeListener(Block.this.transactionChangeListener);
+			final Transaction previousTransaction = Block.this.transactions.set(index, transaction);
+			return previousTransaction == transaction ? transaction : detach(previousTransaction);
+		}
+
+		@Override
+		public void add(final int index, final Transaction transaction) {
+			Block.this.invalidate();
+			transaction.setChangeListener(Block.this.transactionChangeListener);
+			Block.this.transactions.add(index, transaction);
+		}
+
+		@Override
+		public Transaction remove(final int index) {
+			Block.this.invalidate();
+			return detach(Block.this.transactions.remove(index));
+		}
+
+		private Transaction detach(final Transaction transaction) {
+			transaction.setChangeListener(null);
+			return transaction;
+		}
+	}
 }
@@ -1,5 +1,6 @@
 package org.nem.core.model;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -48,4 +49,50 @@ public class BlockExtensions {
 	public static Stream<Transaction> streamAllTransactions(final Block block) {
 		return block.getTransactions().stream().flatMap(TransactionExtensions::streamSelfAndAllTransactions);
 	}
+
+	/**
+	 * Visits transactions the default way (this is equivalent to visitDirectAndFirstChildTransactions).
+	 *
+	 * @param block The block.
+	 * @param visitor The visitor.
+	 */
+	public static void visitDefault(final Block block, final Consumer<Transaction> visitor) {
+		visitDirectAndFirstChildTransactions(block, visitor);
+	}
+
+	/**
+	 * Visits all direct block transactions.
+	 *
+	 * @param block The block.
+	 * @param visitor The visitor.
+	 */
+	public static void visitDirectTransactions(final Block block, final Consumer<Transaction> visitor) {
+		for (final Transaction transaction : block.getTransactions()) {
+			visitor.accept(transaction);
+		}
+	}
+
+	/**
+	 * Visits all direct block transactions and first level child transactions.
+	 *
+	 * @param block The block.
+	 * @param visitor The visitor.
+	 */
+	public static void visitDirectAndFirstChildTransactions(final Block block, final Consumer<Transaction> visitor) {
+		for (final Transaction transaction : block.getTransactions()) {
+			TransactionExtensions.visitSelfAndFirstChildTransactions(transaction, visitor);
+		}
+	}
+
+	/**
+	 * Visits all direct block transactions, first level child transactions, and nth level child transactions.
+	 *
+	 * @param block The block.
+	 * @param visitor The visitor.
+	 */
+	public static void visitAllTransactions(final Block block, final Consumer<Transaction> visitor) {
+		for (final Transaction transaction : block.getTransactions()) {
+			TransactionExtensions.visitSelfAndAllTransactions(transaction, visitor);
+		}
+	}
 }
@@ -0,0 +1,154 @@
+package org.nem.core.model;
+
+import org.nem.core.model.primitive.Amount;
+
+import java.util.*;
+
+/**
+ * Immutable aggregated statistics about the transactions in a block.
+ * <br>
+ * All statistics are calculated over the block transactions and their first level child transactions
+ * (the default traversal), so the inner transaction and the signatures of a multisig transaction are included.
+ */
+public class BlockSummary {
+	private final Map<Integer, Integer> typeToCountMap;
+	private final int numTransactions;
+	private final long totalFee;
+	private final long totalTransferredAmount;
+	private final long totalMessageBytes;
+
+	private BlockSummary(
+			final Map<Integer, Integer> typeToCountMap,
+			final int numTransactions,
+			final long totalFee,
+			final long totalTransferredAmount,
+			final long totalMessageBytes) {
+		this.typeToCountMap = typeToCountMap;
+		this.numTransactions = numTransactions;
+		this.totalFee = totalFee;
+		this.totalTransferredAmount = totalTransferredAmount;
+		this.totalMessageBytes = totalMessageBytes;
+	}
+
+	/**
+	 * Creates a summary of the specified transactions.
+	 *
+	 * @param transactions The transactions.
+	 * @return The summary.
+	 */
+	public static BlockSummary create(final Collection<Transaction> transactions) {
+		final Accumulator accumulator = new Accumulator(new HashMap<>(), 0, 0, 0, 0);
+		transactions.forEach(accumulator::add);
+		return accumulator.toSummary();
+	}
+
+	/**
+	 * Creates a new summary that additionally includes a block transaction (and its first level child transactions).
+	 * This summary is not changed.
+	 *
+	 * @param transaction The transaction.
+	 * @return The new summary.
+	 */
+	BlockSummary add(final Transaction transaction) {
+		final Accumulator accumulator = new Accumulator(
+				new HashMap<>(this.typeToCountMap),
+				this.numTransactions,
+				this.totalFee,
+				this.totalTransferredAmount,
+				this.totalMessageBytes);
+		accumulator.add(transaction);
+		return accumulator.toSummary();
+	}
+
+	/**
+	 * Gets the number of (direct) block transactions.
+	 *
+	 * @return The number of transactions.
+	 */
+	public int getNumTransactions() {
+		return this.numTransactions;
+	}
+
+	/**
+	 * Gets the number of transactions with the specified type.
+	 *
+	 * @param type The transaction type.
+	 * @return The number of transactions.
+	 */
+	public int getNumTransactions(final int type) {
+		return this.typeToCountMap.getOrDefault(type, 0);
+	}
+
+	/**
+	 * Gets the total amount of fees of all transactions.
+	 *
+	 * @return The total fee.
+	 */
+	public Amount getTotalFee() {
+		return Amount.fromMicroNem(this.totalFee);
+	}
+
+	/**
+	 * Gets the total amount transferred by all transfer transactions.
+	 *
+	 * @return The total transferred amount.
+	 */
+	public Amount getTotalTransferredAmount() {
+		return Amount.fromMicroNem(this.totalTransferredAmount);
+	}
+
+	/**
+	 * Gets the total number of (encoded) message bytes in all transfer transactions.
+	 *
+	 * @return The total number of message bytes.
+	 */
+	public long getTotalMessageBytes() {
+		return this.totalMessageBytes;
+	}
+
+	private static class Accumulator {
+		private final Map<Integer, Integer> typeToCountMap;
+		private int numTransactions;
+		private long totalFee;
+		private long totalTransferredAmount;
+		private long totalMessageBytes;
+
+		public Accumulator(
+				final Map<Integer, Integer> typeToCountMap,
+				final int numTransactions,
+				final long totalFee,
+				final long totalTransferredAmount,
+				final long totalMessageBytes) {
+			this.typeToCountMap = typeToCountMap;
+			this.numTransactions = numTransactions;
+			this.totalFee = totalFee;
+			this.totalTransferredAmount = totalTransferredAmount;
+			this.totalMessageBytes = totalMessageBytes;
+		}
+
+		public void add(final Transaction transaction) {
+			++this.numTransactions;
+			TransactionExtensions.visitDefault(transaction, this::addSingle);
+		}
+
+		private void addSingle(final Transaction transaction) {
+			this.typeToCountMap.merge(transaction.getType(), 1, Integer::sum);
+			this.totalFee += transaction.getFee().getNumMicroNem();
+
+			if (TransactionTypes.TRANSFER == transaction.getType()) {
+				final TransferTransaction transfer = (TransferTransaction)transaction;
+				this.totalTransferredAmount += transfer.getAmount().getNumMicroNem();
+				this.totalMessageBytes += transfer.getMessageLength();
+			}
+		}
+
+		public BlockSummary toSummary() {
+			return new BlockSummary(
+					Collections.unmodifiableMap(this.typeToCountMap),
+					this.numTransactions,
+					this.totalFee,
+					this.totalTransferredAmount,
+					this.totalMessageBytes);
+		}
+	}
+}
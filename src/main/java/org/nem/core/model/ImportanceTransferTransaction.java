@@ -45,7 +45,7 @@ public class ImportanceTransferTransaction extends Transaction {
 	 */
 	public ImportanceTransferTransaction(final DeserializationOptions options, final Deserializer deserializer) {
 		super(TransactionTypes.IMPORTANCE_TRANSFER, options, deserializer);
-		this.mode = ImportanceTransferMode.fromValueOrDefault(deserializer.readInt("mode"));
+		this.mode = ImportanceTransferMode.fromValueOrDefault(deserializer.readIntPrimitive("mode"));
 		this.remoteAccount = Account.readFrom(deserializer, "remoteAccount", AddressEncoding.PUBLIC_KEY);
 
 		if (!this.mode.isValid()) {
@@ -28,7 +28,7 @@ public class MultisigCosignatoryModification implements SerializableEntity, Comp
 	 * @param deserializer The deserializer.
 	 */
 	public MultisigCosignatoryModification(final Deserializer deserializer) {
-		this.modificationType = MultisigModificationType.fromValueOrDefault(deserializer.readInt("modificationType"));
+		this.modificationType = MultisigModificationType.fromValueOrDefault(deserializer.readIntPrimitive("modificationType"));
 		this.cosignatoryAccount = Account.readFrom(deserializer, "cosignatoryAccount", AddressEncoding.PUBLIC_KEY);
 
 		this.validate();
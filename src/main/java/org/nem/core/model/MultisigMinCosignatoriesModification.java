@@ -23,7 +23,7 @@ public class MultisigMinCosignatoriesModification implements SerializableEntity
 	 * @param deserializer The deserializer.
 	 */
 	public MultisigMinCosignatoriesModification(final Deserializer deserializer) {
-		this.relativeChange = deserializer.readInt("relativeChange");
+		this.relativeChange = deserializer.readIntPrimitive("relativeChange");
 	}
 
 	/**
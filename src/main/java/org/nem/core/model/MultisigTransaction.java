@@ -15,6 +15,9 @@ public class MultisigTransaction extends Transaction implements SerializableEnti
 	private final Transaction otherTransaction;
 	private final Hash otherTransactionHash;
 	private final SortedSet<MultisigSignatureTransaction> signatureTransactions = new TreeSet<>(new MultisigSignatureTransactionComparator());
+	private final Map<Address, MultisigSignatureTransaction> signerToSignatureMap = new HashMap<>();
+	private List<Transaction> childTransactions;
+	private List<Account> signers;
 
 	/**
 	 * Creates a multisig transaction.
@@ -29,7 +32,8 @@ public class MultisigTransaction extends Transaction implements SerializableEnti
 			final Transaction otherTransaction) {
 		super(TransactionTypes.MULTISIG, 1, timeStamp, sender);
 		this.otherTransaction = otherTransaction;
-		this.otherTransactionHash = HashUtils.calculateHash(otherTransaction.asNonVerifiable());
+		this.otherTransactionHash = HashUtils.calculateHash(otherTransaction);
+		this.otherTransaction.setChangeListener(this::notifyChanged);
 	}
 
 	/**
@@ -41,7 +45,8 @@ public class MultisigTransaction extends Transaction implements SerializableEnti
 	public MultisigTransaction(final DeserializationOptions options, final Deserializer deserializer) {
 		super(TransactionTypes.MULTISIG, options, deserializer);
 		this.otherTransaction = deserializer.readObject("otherTrans", TransactionFactory.NON_VERIFIABLE);
-		this.otherTransactionHash = HashUtils.calculateHash(this.otherTransaction.asNonVerifiable());
+		this.otherTransactionHash = HashUtils.calculateHash(this.otherTransaction);
+		this.otherTransaction.setChangeListener(this::notifyChanged);
 
 		final Collection<Transaction> signatures = DeserializationOptions.VERIFIABLE == options
 				? deserializer.readObjectArray("signatures", TransactionFactory.VERIFIABLE)
@@ -89,7 +94,27 @@ public class MultisigTransaction extends Transaction implements SerializableEnti
 			return;
 		}
 
+		// all signatures share the same other transaction hash, so the signer uniquely identifies a signature
+		if (null != this.signerToSignatureMap.putIfAbsent(transaction.getSigner().getAddress(), transaction)) {
+			return;
+		}
+
 		this.signatureTransactions.add(transaction);
+		this.childTransactions = null;
+		this.signers = null;
+		transaction.setChangeListener(this::notifyChanged);
+		this.notifyChanged();
+	}
+
+	/**
+	 * Gets a value indicating whether or not a cosigner signature from the specified account has been added.
+	 * The signer of this transaction is not considered a cosigner.
+	 *
+	 * @param account The account.
+	 * @return true if the account has added a cosigner signature.
+	 */
+	public boolean hasCosignerSignature(final Account account) {
+		return this.signerToSignatureMap.containsKey(account.getAddress());
 	}
 
 	/**
@@ -107,7 +132,14 @@ public class MultisigTransaction extends Transaction implements SerializableEnti
 	 * @return All signers.
 	 */
 	public List<Account> getSigners() {
-		return Collections.unmodifiableList(this.signatureTransactions.stream().map(VerifiableEntity::getSigner).collect(Collectors.toList()));
+		// the signer list is cached and only rebuilt after a signature is added
+		List<Account> signers = this.signers;
+		if (null == signers) {
+			signers = Collections.unmodifiableList(this.signatureTransactions.stream().map(VerifiableEntity::getSigner).collect(Collectors.toList()));
+			this.signers = signers;
+		}
+
+		return signers;
 	}
 
 	@Override
@@ -125,17 +157,30 @@ public class MultisigTransaction extends Transaction implements SerializableEnti
 
 	@Override
 	protected Collection<Account> getOtherAccounts() {
-		return this.getChildTransactions().stream()
-				.flatMap(t -> t.getAccounts().stream())
-				.collect(Collectors.toList());
+		// duplicates are removed by getAccounts, so there is no need to build a set for each child
+		final List<Account> accounts = new ArrayList<>();
+		for (final Transaction transaction : this.getChildTransactions()) {
+			accounts.add(transaction.getSigner());
+			accounts.addAll(transaction.getOtherAccounts());
+		}
+
+		return accounts;
 	}
 
 	@Override
 	public Collection<Transaction> getChildTransactions() {
-		// we want validators to run on both inner transaction and all signatures
-		final List<Transaction> result = new ArrayList<>(this.getCosignerSignatures());
-		result.add(this.otherTransaction);
-		return result;
+		// the child list is cached and only rebuilt after a signature is added
+		List<Transaction> childTransactions = this.childTransactions;
+		if (null == childTransactions) {
+			// we want validators to run on both inner transaction and all signatures
+			final List<Transaction> result = new ArrayList<>(this.signatureTransactions.size() + 1);
+			result.addAll(this.signatureTransactions);
+			result.add(this.otherTransaction);
+			childTransactions = Collections.unmodifiableList(result);
+			this.childTransactions = childTransactions;
+		}
+
+		return childTransactions;
 	}
 
 	@Override
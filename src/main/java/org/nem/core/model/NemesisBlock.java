@@ -54,7 +54,7 @@ public class NemesisBlock {
 	}
 
 	private static Block deserialize(final NemesisBlockInfo nemesisBlockInfo, final Deserializer deserializer) {
-		if (BlockTypes.NEMESIS != deserializer.readInt("type")) {
+		if (BlockTypes.NEMESIS != deserializer.readIntPrimitive("type")) {
 			throw new IllegalArgumentException("deserializer does not have correct type set");
 		}
 
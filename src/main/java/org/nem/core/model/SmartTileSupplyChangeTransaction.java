@@ -48,7 +48,7 @@ public class SmartTileSupplyChangeTransaction extends Transaction {
 	public SmartTileSupplyChangeTransaction(final DeserializationOptions options, final Deserializer deserializer) {
 		super(TransactionTypes.SMART_TILE_SUPPLY_CHANGE, options, deserializer);
 		this.mosaicId = deserializer.readObject("mosaicId", MosaicId::new);
-		this.supplyType = SmartTileSupplyType.fromValueOrDefault(deserializer.readInt("supplyType"));
+		this.supplyType = SmartTileSupplyType.fromValueOrDefault(deserializer.readIntPrimitive("supplyType"));
 		this.quantity = Quantity.readFrom(deserializer, "quantity");
 		this.validate();
 	}
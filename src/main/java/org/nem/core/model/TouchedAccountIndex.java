@@ -0,0 +1,94 @@
+package org.nem.core.model;
+
+import java.util.*;
+
+/**
+ * A compact, deduplicated and immutable index of all accounts touched by a set of transactions (including all child transactions).
+ * The touched accounts of a transaction are its signer, its debtor and its other accounts.
+ * <br>
+ * Accounts are sorted by address, so the position of an account in the index can be used as a dense id
+ * (e.g. for partitioning work or prefetching account states). When the same address is referenced by
+ * multiple account instances, the first one encountered is kept.
+ */
+public class TouchedAccountIndex {
+	private static final Comparator<Account> ADDRESS_COMPARATOR = Comparator.comparing(Account::getAddress);
+
+	private final Account[] accounts;
+
+	private TouchedAccountIndex(final Account[] accounts) {
+		this.accounts = accounts;
+	}
+
+	/**
+	 * Creates an index of all accounts touched by the specified transactions and all of their child transactions.
+	 *
+	 * @param transactions The transactions.
+	 * @return The index.
+	 */
+	public static TouchedAccountIndex create(final Collection<Transaction> transactions) {
+		final Map<Address, Account> addressToAccountMap = new HashMap<>();
+		for (final Transaction transaction : transactions) {
+			TransactionExtensions.visitSelfAndAllTransactions(transaction, t -> {
+				// use getOtherAccounts instead of getAccounts to avoid creating a set for each transaction
+				addressToAccountMap.putIfAbsent(t.getSigner().getAddress(), t.getSigner());
+				addressToAccountMap.putIfAbsent(t.getDebtor().getAddress(), t.getDebtor());
+				for (final Account account : t.getOtherAccounts()) {
+					addressToAccountMap.putIfAbsent(account.getAddress(), account);
+				}
+			});
+		}
+
+		final Account[] accounts = addressToAccountMap.values().toArray(new Account[addressToAccountMap.size()]);
+		Arrays.sort(accounts, ADDRESS_COMPARATOR);
+		return new TouchedAccountIndex(accounts);
+	}
+
+	/**
+	 * Gets the number of accounts in the index.
+	 *
+	 * @return The number of accounts.
+	 */
+	public int size() {
+		return this.accounts.length;
+	}
+
+	/**
+	 * Gets the account with the specified id.
+	 *
+	 * @param id The account id.
+	 * @return The account.
+	 */
+	public Account get(final int id) {
+		return this.accounts[id];
+	}
+
+	/**
+	 * Gets the id of the specified account.
+	 *
+	 * @param account The account.
+	 * @return The account id or -1 if the account is not in the index.
+	 */
+	public int indexOf(final Account account) {
+		final int index = Arrays.binarySearch(this.accounts, account, ADDRESS_COMPARATOR);
+		return index < 0 ? -1 : index;
+	}
+
+	/**
+	 * Gets a value indicating whether or not the specified account is contained in the index.
+	 *
+	 * @param account The account.
+	 * @return true if the account is contained in the index.
+	 */
+	public boolean contains(final Account account) {
+		return -1 != this.indexOf(account);
+	}
+
+	/**
+	 * Gets a read-only list view of all accounts in the index (sorted by address).
+	 *
+	 * @return The accounts.
+	 */
+	public List<Account> asList() {
+		return Collections.unmodifiableList(Arrays.asList(this.accounts));
+	}
+}
@@ -13,6 +13,10 @@ import java.util.*;
 public abstract class Transaction extends VerifiableEntity implements Comparable<Transaction> {
 	private Optional<Amount> fee = Optional.empty();
 	private TimeInstant deadline = TimeInstant.ZERO;
+	private TransactionSortKey sortKey;
+
+	// the block or aggregate transaction containing this transaction is notified when this transaction changes
+	private Runnable changeListener;
 
 	/**
 	 * Creates a new transaction.
@@ -60,6 +64,8 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 	 */
 	public void setFee(final Amount fee) {
 		this.fee = null == fee ? Optional.empty() : Optional.of(fee);
+		this.sortKey = null;
+		this.notifyChanged();
 	}
 
 	/**
@@ -92,23 +98,28 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 		return accounts;
 	}
 
+	/**
+	 * Gets the key that determines the ordering of this transaction.
+	 * The key is captured once and only recalculated after the fee is changed.
+	 *
+	 * @return The sort key.
+	 */
+	public TransactionSortKey getSortKey() {
+		TransactionSortKey key = this.sortKey;
+		if (null == key) {
+			key = new TransactionSortKey(this.getFee(), this.getTimeStamp());
+			this.sortKey = key;
+		}
+
+		return key;
+	}
+
 	//endregion
 
 	@Override
 	public int compareTo(final Transaction rhs) {
 		// first sort by fees (lowest first) and then timestamps (newest first)
-		final int[] comparisonResults = new int[] {
-				this.getFee().compareTo(rhs.getFee()),
-				-1 * this.getTimeStamp().compareTo(rhs.getTimeStamp()),
-		};
-
-		for (final int result : comparisonResults) {
-			if (result != 0) {
-				return result;
-			}
-		}
-
-		return 0;
+		return this.getSortKey().compareTo(rhs.getSortKey());
 	}
 
 	@Override
@@ -117,6 +128,12 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 		TimeInstant.writeTo(serializer, "deadline", this.getDeadline());
 	}
 
+	@Override
+	byte[] getNonVerifiableBytes() {
+		// the most frequent transaction types are encoded without going through the generic serializer
+		return TransactionCodecs.encodeNonVerifiable(this);
+	}
+
 	/**
 	 * Executes the transaction using the specified observer.
 	 *
@@ -161,6 +178,26 @@ public abstract class Transaction extends VerifiableEntity implements Comparable
 	 */
 	protected abstract Collection<Account> getOtherAccounts();
 
+	/**
+	 * Sets the listener that is notified when the fee or the child transactions of this transaction change.
+	 * The block or aggregate transaction containing this transaction uses it to discard derived data.
+	 *
+	 * @param changeListener The change listener or null.
+	 */
+	void setChangeListener(final Runnable changeListener) {
+		this.changeListener = changeListener;
+	}
+
+	/**
+	 * Notifies the change listener (if any) that this transaction has changed.
+	 */
+	void notifyChanged() {
+		final Runnable changeListener = this.changeListener;
+		if (null != changeListener) {
+			changeListener.run();
+		}
+	}
+
 	/**
 	 * Gets the debtor that is responsible for paying the fee.
 	 *
@@ -0,0 +1,234 @@
+package org.nem.core.model;
+
+import org.nem.core.serialization.*;
+import org.nem.core.utils.StringEncoder;
+
+import java.util.*;
+
+/**
+ * Registry of hand-specialized binary encoders for the most frequent transaction types.
+ * <br>
+ * The codecs produce exactly the same bytes as the generic (BinarySerializer) path
+ * but write fields directly without labels or virtual serializer calls.
+ * Transaction types without a codec (and entities that cannot be represented by a codec) transparently
+ * fall back to the generic path.
+ */
+public class TransactionCodecs {
+	private static final int EXPECTED_ENTITY_VERSION = 1;
+
+	private static final Map<Integer, TransactionCodec> typeToCodecMap = new HashMap<Integer, TransactionCodec>() {
+		{
+			this.put(TransactionTypes.TRANSFER, new TransferTransactionCodec());
+			this.put(TransactionTypes.IMPORTANCE_TRANSFER, new ImportanceTransferTransactionCodec());
+			this.put(TransactionTypes.MULTISIG, new MultisigTransactionCodec());
+			this.put(TransactionTypes.MULTISIG_SIGNATURE, new MultisigSignatureTransactionCodec());
+		}
+	};
+
+	/**
+	 * Gets the number of transaction types with a specialized codec.
+	 *
+	 * @return The number of transaction types with a specialized codec.
+	 */
+	public static int size() {
+		return typeToCodecMap.size();
+	}
+
+	/**
+	 * Gets a value indicating whether or not the specific transaction type has a specialized codec.
+	 *
+	 * @param type The type.
+	 * @return true if the transaction type has a specialized codec.
+	 */
+	public static boolean isSupported(final int type) {
+		return typeToCodecMap.containsKey(type);
+	}
+
+	/**
+	 * Encodes a (signed) transaction.
+	 *
+	 * @param transaction The transaction.
+	 * @return The encoded bytes.
+	 */
+	public static byte[] encode(final Transaction transaction) {
+		if (null == transaction.getSignature()) {
+			throw new SerializationException("cannot serialize a entity without a signature");
+		}
+
+		return encode(transaction, true);
+	}
+
+	/**
+	 * Encodes the non-verifiable (unsigned) representation of a transaction.
+	 *
+	 * @param transaction The transaction.
+	 * @return The encoded bytes.
+	 */
+	public static byte[] encodeNonVerifiable(final Transaction transaction) {
+		return encode(transaction, false);
+	}
+
+	private static byte[] encode(final Transaction transaction, final boolean includeNonVerifiableData) {
+		final TransactionCodec codec = typeToCodecMap.get(transaction.getType());
+		if (null == codec || !canEncode(transaction)) {
+			return BinarySerializer.serializeToBytes(includeNonVerifiableData ? transaction : transaction.asNonVerifiable());
+		}
+
+		final ByteWriter writer = new ByteWriter();
+		writeHeader(writer, transaction, includeNonVerifiableData);
+		codec.encode(writer, transaction, includeNonVerifiableData);
+		return writer.toByteArray();
+	}
+
+	//region header
+
+	private static boolean canEncode(final Transaction transaction) {
+		// transactions created for a different network can only be represented by the generic path
+		return getExpectedVersion() == transaction.getVersion();
+	}
+
+	private static int getExpectedVersion() {
+		return EXPECTED_ENTITY_VERSION | NetworkInfos.getDefault().getVersion() << 24;
+	}
+
+	private static void writeHeader(final ByteWriter writer, final Transaction transaction, final boolean includeNonVerifiableData) {
+		writer.writeInt(transaction.getType());
+		writer.writeInt(transaction.getVersion());
+		writer.writeInt(transaction.getTimeStamp().getRawTime());
+		writer.writeBytes(transaction.getSigner().getAddress().getPublicKey().getRaw());
+
+		if (includeNonVerifiableData) {
+			writer.writeBytes(transaction.getSignature().getBytes());
+		}
+
+		writer.writeLong(transaction.getFee().getNumMicroNem());
+		writer.writeInt(transaction.getDeadline().getRawTime());
+	}
+
+	//endregion
+
+	//region codecs
+
+	/**
+	 * A hand-specialized codec for the type-specific part of a transaction.
+	 */
+	private interface TransactionCodec {
+
+		/**
+		 * Encodes all type-specific fields of a transaction.
+		 *
+		 * @param writer The writer.
+		 * @param transaction The transaction.
+		 * @param includeNonVerifiableData true if non-verifiable data should be included.
+		 */
+		void encode(final ByteWriter writer, final Transaction transaction, final boolean includeNonVerifiableData);
+	}
+
+	private static class TransferTransactionCodec implements TransactionCodec {
+
+		@Override
+		public void encode(final ByteWriter writer, final Transaction transaction, final boolean includeNonVerifiableData) {
+			final TransferTransaction transfer = (TransferTransaction)transaction;
+			writer.writeString(transfer.getRecipient().getAddress().getEncoded());
+			writer.writeLong(transfer.getAmount().getNumMicroNem());
+
+			// messages are comparatively rare and have several representations, so they use the generic path
+			final Message message = transfer.getMessage();
+			writer.writeBytes(null == message ? new byte[0] : BinarySerializer.serializeToBytes(message));
+		}
+	}
+
+	private static class ImportanceTransferTransactionCodec implements TransactionCodec {
+
+		@Override
+		public void encode(final ByteWriter writer, final Transaction transaction, final boolean includeNonVerifiableData) {
+			final ImportanceTransferTransaction importanceTransfer = (ImportanceTransferTransaction)transaction;
+			writer.writeInt(importanceTransfer.getMode().value());
+			writer.writeBytes(importanceTransfer.getRemote().getAddress().getPublicKey().getRaw());
+		}
+	}
+
+	private static class MultisigTransactionCodec implements TransactionCodec {
+
+		@Override
+		public void encode(final ByteWriter writer, final Transaction transaction, final boolean includeNonVerifiableData) {
+			final MultisigTransaction multisig = (MultisigTransaction)transaction;
+			writer.writeBytes(TransactionCodecs.encodeNonVerifiable(multisig.getOtherTransaction()));
+
+			if (!includeNonVerifiableData) {
+				return;
+			}
+
+			final Set<MultisigSignatureTransaction> signatures = multisig.getCosignerSignatures();
+			writer.writeInt(signatures.size());
+			for (final MultisigSignatureTransaction signature : signatures) {
+				writer.writeBytes(TransactionCodecs.encode(signature));
+			}
+		}
+	}
+
+	private static class MultisigSignatureTransactionCodec implements TransactionCodec {
+
+		@Override
+		public void encode(final ByteWriter writer, final Transaction transaction, final boolean includeNonVerifiableData) {
+			final MultisigSignatureTransaction signature = (MultisigSignatureTransaction)transaction;
+
+			// the hash is serialized as a nested object containing a single byte array
+			final byte[] hashBytes = signature.getOtherTransactionHash().getRaw();
+			writer.writeInt(4 + hashBytes.length);
+			writer.writeBytes(hashBytes);
+
+			writer.writeString(signature.getDebtor().getAddress().getEncoded());
+		}
+	}
+
+	//endregion
+
+	//region ByteWriter
+
+	/**
+	 * A growable little-endian byte writer.
+	 */
+	private static class ByteWriter {
+		private byte[] buffer = new byte[256];
+		private int size;
+
+		public void writeInt(final int i) {
+			this.ensureCapacity(4);
+			this.buffer[this.size++] = (byte)i;
+			this.buffer[this.size++] = (byte)(i >> 8);
+			this.buffer[this.size++] = (byte)(i >> 16);
+			this.buffer[this.size++] = (byte)(i >> 24);
+		}
+
+		public void writeLong(final long l) {
+			this.writeInt((int)l);
+			this.writeInt((int)(l >> 32));
+		}
+
+		public void writeBytes(final byte[] bytes) {
+			this.writeInt(bytes.length);
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+			this.size += bytes.length;
+		}
+
+		public void writeString(final String s) {
+			this.writeBytes(StringEncoder.getBytes(s));
+		}
+
+		public byte[] toByteArray() {
+			return this.size == this.buffer.length ? this.buffer : Arrays.copyOf(this.buffer, this.size);
+		}
+
+		private void ensureCapacity(final int numBytes) {
+			if (this.size + numBytes <= this.buffer.length) {
+				return;
+			}
+
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + numBytes));
+		}
+	}
+
+	//endregion
+}
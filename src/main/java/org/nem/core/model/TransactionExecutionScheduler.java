@@ -0,0 +1,159 @@
+package org.nem.core.model;
+
+import org.nem.core.model.observers.TransactionObserver;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+/**
+ * Executes the transactions of a block by splitting them into conflict-free partitions.
+ * <br>
+ * Two transactions conflict when they touch a common account (signer, debtor or other account of the transaction
+ * or any of its child transactions). Conflicting transactions (directly or transitively) are placed in the same partition.
+ * Each partition executes its transactions in block order against its own observer and different partitions
+ * execute concurrently, so the order of notifications raised for any single account is the same as in a sequential execution.
+ */
+public class TransactionExecutionScheduler {
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a scheduler that executes all partitions sequentially.
+	 */
+	public TransactionExecutionScheduler() {
+		this(null);
+	}
+
+	/**
+	 * Creates a scheduler that executes partitions concurrently.
+	 *
+	 * @param pool The pool to use for executing partitions (or null to execute all partitions sequentially).
+	 */
+	public TransactionExecutionScheduler(final ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Splits the transactions of a block into conflict-free partitions.
+	 * Partitions are ordered by their first transaction and the transactions within each partition retain their block order.
+	 *
+	 * @param block The block.
+	 * @return The partitions.
+	 */
+	public static List<List<Transaction>> partition(final Block block) {
+		final List<Transaction> transactions = block.getTransactions();
+		final TouchedAccountIndex accountIndex = block.getTouchedAccountIndex();
+
+		// map each account to the first transaction touching it and join all transactions that touch the same account
+		final int[] parents = new int[transactions.size()];
+		final int[] accountOwners = new int[accountIndex.size()];
+		Arrays.fill(accountOwners, -1);
+		for (int i = 0; i < transactions.size(); ++i) {
+			parents[i] = i;
+
+			final int transactionIndex = i;
+			TransactionExtensions.visitSelfAndAllTransactions(transactions.get(i), t -> {
+				join(parents, accountOwners, accountIndex.indexOf(t.getSigner()), transactionIndex);
+				join(parents, accountOwners, accountIndex.indexOf(t.getDebtor()), transactionIndex);
+				for (final Account account : t.getOtherAccounts()) {
+					join(parents, accountOwners, accountIndex.indexOf(account), transactionIndex);
+				}
+			});
+		}
+
+		final Map<Integer, List<Transaction>> rootToPartitionMap = new LinkedHashMap<>();
+		for (int i = 0; i < transactions.size(); ++i) {
+			rootToPartitionMap.computeIfAbsent(find(parents, i), key -> new ArrayList<>()).add(transactions.get(i));
+		}
+
+		return new ArrayList<>(rootToPartitionMap.values());
+	}
+
+	/**
+	 * Executes all transactions in a block.
+	 *
+	 * @param block The block.
+	 * @param observerFactory A factory that returns the observer for a partition given its index.
+	 * Each observer is only used by a single thread but different observers can be used concurrently.
+	 * @return The number of partitions.
+	 */
+	public int execute(final Block block, final IntFunction<TransactionObserver> observerFactory) {
+		final List<List<Transaction>> partitions = partition(block);
+		final TransactionObserver[] observers = new TransactionObserver[partitions.size()];
+		for (int i = 0; i < observers.length; ++i) {
+			observers[i] = observerFactory.apply(i);
+		}
+
+		if (null == this.pool || partitions.size() < 2) {
+			for (int i = 0; i < observers.length; ++i) {
+				executePartition(partitions.get(i), observers[i]);
+			}
+		} else {
+			this.pool.invoke(new PartitionExecutionAction(partitions, observers, 0, observers.length));
+		}
+
+		return partitions.size();
+	}
+
+	private static void executePartition(final List<Transaction> partition, final TransactionObserver observer) {
+		for (final Transaction transaction : partition) {
+			transaction.execute(observer);
+		}
+	}
+
+	private static void join(final int[] parents, final int[] accountOwners, final int accountId, final int transactionIndex) {
+		final int owner = accountOwners[accountId];
+		if (-1 == owner) {
+			accountOwners[accountId] = transactionIndex;
+			return;
+		}
+
+		final int ownerRoot = find(parents, owner);
+		final int transactionRoot = find(parents, transactionIndex);
+		if (ownerRoot != transactionRoot) {
+			// always keep the smaller (earlier) index as the root
+			parents[Math.max(ownerRoot, transactionRoot)] = Math.min(ownerRoot, transactionRoot);
+		}
+	}
+
+	private static int find(final int[] parents, final int index) {
+		int root = index;
+		while (parents[root] != root) {
+			parents[root] = parents[parents[root]];
+			root = parents[root];
+		}
+
+		return root;
+	}
+
+	private static class PartitionExecutionAction extends RecursiveAction {
+		private final List<List<Transaction>> partitions;
+		private final TransactionObserver[] observers;
+		private final int startIndex;
+		private final int endIndex;
+
+		public PartitionExecutionAction(
+				final List<List<Transaction>> partitions,
+				final TransactionObserver[] observers,
+				final int startIndex,
+				final int endIndex) {
+			this.partitions = partitions;
+			this.observers = observers;
+			this.startIndex = startIndex;
+			this.endIndex = endIndex;
+		}
+
+		@Override
+		protected void compute() {
+			if (1 == this.endIndex - this.startIndex) {
+				executePartition(this.partitions.get(this.startIndex), this.observers[this.startIndex]);
+				return;
+			}
+
+			final int middleIndex = (this.startIndex + this.endIndex) >>> 1;
+			invokeAll(
+					new PartitionExecutionAction(this.partitions, this.observers, this.startIndex, middleIndex),
+					new PartitionExecutionAction(this.partitions, this.observers, middleIndex, this.endIndex));
+		}
+	}
+}
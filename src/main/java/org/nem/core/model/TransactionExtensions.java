@@ -1,7 +1,8 @@
 package org.nem.core.model;
 
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
+import java.util.stream.*;
 
 /**
  * Static helper class for dealing with transactions.
@@ -41,6 +42,7 @@ public class TransactionExtensions {
 
 	/**
 	 * Streams the transaction, first level child transactions, and nth level child transactions.
+	 * The transaction tree is walked in place without copying it into an intermediate collection.
 	 * <br>
 	 * This function is not needed currently.
 	 *
@@ -48,17 +50,130 @@ public class TransactionExtensions {
 	 * @return The transactions.
 	 */
 	public static Stream<Transaction> streamSelfAndAllTransactions(final Transaction transaction) {
-		final List<Transaction> allTransactions = new ArrayList<>();
-		allTransactions.add(transaction);
-		addTransactionsRecursive(allTransactions, transaction.getChildTransactions());
-		return allTransactions.stream();
+		return StreamSupport.stream(new SelfAndAllTransactionsSpliterator(transaction), false);
 	}
 
-	private static void addTransactionsRecursive(final List<Transaction> transactions, final Collection<Transaction> source) {
-		transactions.addAll(source);
+	/**
+	 * Visits transactions the default way (this is equivalent to visitSelfAndFirstChildTransactions).
+	 *
+	 * @param transaction The transaction.
+	 * @param visitor The visitor.
+	 */
+	public static void visitDefault(final Transaction transaction, final Consumer<Transaction> visitor) {
+		visitSelfAndFirstChildTransactions(transaction, visitor);
+	}
+
+	/**
+	 * Visits the transaction and all first level child transactions.
+	 *
+	 * @param transaction The transaction.
+	 * @param visitor The visitor.
+	 */
+	public static void visitSelfAndFirstChildTransactions(final Transaction transaction, final Consumer<Transaction> visitor) {
+		visitor.accept(transaction);
+		for (final Transaction child : transaction.getChildTransactions()) {
+			visitor.accept(child);
+		}
+	}
+
+	/**
+	 * Visits the transaction, first level child transactions, and nth level child transactions
+	 * (in the same order as streamSelfAndAllTransactions).
+	 *
+	 * @param transaction The transaction.
+	 * @param visitor The visitor.
+	 */
+	public static void visitSelfAndAllTransactions(final Transaction transaction, final Consumer<Transaction> visitor) {
+		visitor.accept(transaction);
+		visitTransactionsRecursive(transaction.getChildTransactions(), visitor);
+	}
+
+	private static void visitTransactionsRecursive(final Collection<Transaction> source, final Consumer<Transaction> visitor) {
+		if (source.isEmpty()) {
+			return;
+		}
 
 		for (final Transaction t : source) {
-			addTransactionsRecursive(transactions, t.getChildTransactions());
+			visitor.accept(t);
+		}
+
+		for (final Transaction t : source) {
+			visitTransactionsRecursive(t.getChildTransactions(), visitor);
+		}
+	}
+
+	/**
+	 * A spliterator that walks a transaction tree in the same order as visitSelfAndAllTransactions:
+	 * all transactions at one level are returned before the children of each of them are walked in turn.
+	 */
+	private static class SelfAndAllTransactionsSpliterator extends Spliterators.AbstractSpliterator<Transaction> {
+		private final Deque<Level> levels = new ArrayDeque<>();
+		private Transaction root;
+
+		public SelfAndAllTransactionsSpliterator(final Transaction root) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.root = root;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super Transaction> action) {
+			if (null != this.root) {
+				final Transaction transaction = this.root;
+				this.root = null;
+				this.pushLevel(transaction.getChildTransactions());
+				action.accept(transaction);
+				return true;
+			}
+
+			while (!this.levels.isEmpty()) {
+				final Level level = this.levels.peek();
+				if (level.visitIterator.hasNext()) {
+					action.accept(level.visitIterator.next());
+					return true;
+				}
+
+				if (null == level.descendIterator) {
+					level.descendIterator = level.transactions.iterator();
+				}
+
+				if (level.descendIterator.hasNext()) {
+					this.pushLevel(level.descendIterator.next().getChildTransactions());
+				} else {
+					this.levels.pop();
+				}
+			}
+
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(final Consumer<? super Transaction> action) {
+			if (null == this.root) {
+				super.forEachRemaining(action);
+				return;
+			}
+
+			// nothing has been consumed yet, so the tree can be visited recursively
+			final Transaction transaction = this.root;
+			this.root = null;
+			visitSelfAndAllTransactions(transaction, action::accept);
+		}
+
+		private void pushLevel(final Collection<Transaction> transactions) {
+			if (!transactions.isEmpty()) {
+				this.levels.push(new Level(transactions));
+			}
+		}
+
+		private static class Level {
+			private final Collection<Transaction> transactions;
+			private final Iterator<Transaction> visitIterator;
+			private Iterator<Transaction> descendIterator;
+
+			public Level(final Collection<Transaction> transactions) {
+				this.transactions = transactions;
+				this.visitIterator = transactions.iterator();
+			}
 		}
 	}
 }
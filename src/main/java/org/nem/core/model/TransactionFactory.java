@@ -63,7 +63,7 @@ public class TransactionFactory {
 	 * @return The deserialized transaction.
 	 */
 	private static Transaction deserialize(final VerifiableEntity.DeserializationOptions options, final Deserializer deserializer) {
-		final int type = deserializer.readInt("type");
+		final int type = deserializer.readIntPrimitive("type");
 
 		final BiFunction<VerifiableEntity.DeserializationOptions, Deserializer, Transaction> constructor = typeToConstructorMap.getOrDefault(type, null);
 		if (null == constructor) {
@@ -2,13 +2,19 @@ package org.nem.core.model;
 
 import org.nem.core.model.primitive.*;
 
+import java.util.*;
+
 /**
  * Helper class for calculating and validating transaction fees.
  */
 public class TransactionFeeCalculator {
-	private static final Amount FEE_UNIT = Amount.fromNem(2);
-	private static final long FEE_UNIT_NUM_NEM = FEE_UNIT.getNumNem();
+	private static final long MICRONEMS_IN_NEM = Amount.MICRONEMS_IN_NEM;
+	private static final long FEE_UNIT_NUM_NEM = 2;
+	private static final long FEE_UNIT = FEE_UNIT_NUM_NEM * MICRONEMS_IN_NEM;
 	private static final int FEE_MULTIPLIER = 3;
+	private static final long FORK_HEIGHT = 92000;
+	private static final long MAX_CACHE_FEE = 1000 * MICRONEMS_IN_NEM; // 1000 xem is the maximum fee that helps push a transaction into the cache
+	private static final long[] LARGE_TRANSFER_FEE_THRESHOLDS = createLargeTransferFeeThresholds();
 
 	/**
 	 * Calculates the minimum fee for the specified transaction at the specified block height.
@@ -18,6 +24,10 @@ public class TransactionFeeCalculator {
 	 * @return The minimum fee.
 	 */
 	public static Amount calculateMinimumFee(final Transaction transaction, final BlockHeight blockHeight) {
+		return Amount.fromMicroNem(calculateMinimumFeeRaw(transaction));
+	}
+
+	private static long calculateMinimumFeeRaw(final Transaction transaction) {
 		switch (transaction.getType()) {
 			case TransactionTypes.TRANSFER:
 				return calculateMinimumFee((TransferTransaction)transaction);
@@ -25,31 +35,86 @@ public class TransactionFeeCalculator {
 			case TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION:
 				return calculateMinimumFee((MultisigAggregateModificationTransaction)transaction);
 			case TransactionTypes.PROVISION_NAMESPACE:
-				return FEE_UNIT.multiply(FEE_MULTIPLIER).multiply(18);
+				return FEE_UNIT * FEE_MULTIPLIER * 18;
 			case TransactionTypes.SMART_TILE_SUPPLY_CHANGE:
 				// TODO 20150710 BR -> all: how much fees should a supply transaction have?
 				// > should a mosaic creation transaction really only have 6 xem fee?
-				return FEE_UNIT.multiply(FEE_MULTIPLIER).multiply(18);
+				return FEE_UNIT * FEE_MULTIPLIER * 18;
 		}
 
-		return FEE_UNIT.multiply(FEE_MULTIPLIER);
+		return FEE_UNIT * FEE_MULTIPLIER;
 	}
 
-	private static Amount calculateMinimumFee(final TransferTransaction transaction) {
+	private static long calculateMinimumFee(final TransferTransaction transaction) {
 		final long numNem = transaction.getAmount().getNumNem();
 		final long messageFee = null == transaction.getMessage() ? 0 : Math.max(1, transaction.getMessageLength() / 16) * FEE_UNIT_NUM_NEM;
-		final long smallTransferPenalty = FEE_UNIT.multiply(5).getNumNem() - numNem;
-		final long largeTransferFee = (long)(Math.atan(numNem / 150000.) * FEE_MULTIPLIER * 33);
+		final long smallTransferPenalty = FEE_UNIT_NUM_NEM * 5 - numNem;
+		final long largeTransferFee = calculateLargeTransferFee(numNem);
 		final long transferFee = Math.max(smallTransferPenalty, Math.max(FEE_UNIT_NUM_NEM, largeTransferFee));
-		return Amount.fromNem(messageFee + transferFee);
+		return (messageFee + transferFee) * MICRONEMS_IN_NEM;
 	}
 
-	private static Amount calculateMinimumFee(final MultisigAggregateModificationTransaction transaction) {
+	private static long calculateMinimumFee(final MultisigAggregateModificationTransaction transaction) {
 		final int numModifications = transaction.getCosignatoryModifications().size();
 		final int minCosignatoriesFee = null == transaction.getMinCosignatoriesModification() ? 0 : FEE_MULTIPLIER;
-		return FEE_UNIT.multiply(5 + FEE_MULTIPLIER * numModifications + minCosignatoriesFee);
+		return FEE_UNIT * (5 + FEE_MULTIPLIER * numModifications + minCosignatoriesFee);
+	}
+
+	//region large transfer fee
+
+	private static long calculateLargeTransferFeeExact(final long numNem) {
+		return (long)(Math.atan(numNem / 150000.) * FEE_MULTIPLIER * 33);
 	}
 
+	/**
+	 * Calculates the large transfer fee (in nem) for the specified amount (in nem).
+	 * The result is identical to floor(atan(numNem / 150000) * 99), but it is looked up in a precomputed table.
+	 *
+	 * @param numNem The transfer amount in nem.
+	 * @return The large transfer fee in nem.
+	 */
+	static long calculateLargeTransferFee(final long numNem) {
+		// the fee is the number of thresholds that are less than or equal to numNem
+		int low = 0;
+		int high = LARGE_TRANSFER_FEE_THRESHOLDS.length;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (LARGE_TRANSFER_FEE_THRESHOLDS[middle] <= numNem) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	private static long[] createLargeTransferFeeThresholds() {
+		// the fee curve is a non-decreasing step function, so it is fully described by
+		// the smallest amount at which each fee value is reached
+		final long maxNumNem = Long.MAX_VALUE / MICRONEMS_IN_NEM;
+		final int maxFee = (int)calculateLargeTransferFeeExact(maxNumNem);
+		final long[] thresholds = new long[maxFee];
+		for (int fee = 1; fee <= maxFee; ++fee) {
+			long low = 0 == fee - 1 ? 0 : thresholds[fee - 2];
+			long high = maxNumNem;
+			while (low < high) {
+				final long middle = (low + high) >>> 1;
+				if (calculateLargeTransferFeeExact(middle) >= fee) {
+					high = middle;
+				} else {
+					low = middle + 1;
+				}
+			}
+
+			thresholds[fee - 1] = low;
+		}
+
+		return thresholds;
+	}
+
+	//endregion
+
 	/**
 	 * Determines whether the fee for the transaction at the specified block height is valid.
 	 *
@@ -58,22 +123,47 @@ public class TransactionFeeCalculator {
 	 * @return true if the transaction fee is valid; false otherwise.
 	 */
 	public static boolean isFeeValid(final Transaction transaction, final BlockHeight blockHeight) {
-		final Amount minimumFee = calculateMinimumFee(transaction, blockHeight);
-		final long FORK_HEIGHT = 92000;
-		final Amount maxCacheFee = Amount.fromNem(1000); // 1000 xem is the maximum fee that helps push a transaction into the cache
+		return isFeeValid(transaction, transaction.getFee().getNumMicroNem(), blockHeight.getRaw());
+	}
+
+	/**
+	 * Validates the fees of all transactions at the specified block height.
+	 *
+	 * @param transactions The transactions.
+	 * @param blockHeight The block height.
+	 * @return A bit set with a set bit for the index of each transaction with an invalid fee.
+	 */
+	public static BitSet findInvalidFees(final List<? extends Transaction> transactions, final BlockHeight blockHeight) {
+		final long height = blockHeight.getRaw();
+		final BitSet invalidFees = new BitSet(transactions.size());
+		int index = 0;
+		for (final Transaction transaction : transactions) {
+			// the sort key caches the (resolved) transaction fee as a primitive
+			if (!isFeeValid(transaction, transaction.getSortKey().getFee(), height)) {
+				invalidFees.set(index);
+			}
+
+			++index;
+		}
+
+		return invalidFees;
+	}
+
+	private static boolean isFeeValid(final Transaction transaction, final long fee, final long height) {
+		final long minimumFee = calculateMinimumFeeRaw(transaction);
 		switch (transaction.getType()) {
 			case TransactionTypes.MULTISIG_SIGNATURE:
-				if (FORK_HEIGHT > blockHeight.getRaw()) {
+				if (FORK_HEIGHT > height) {
 					// multisig signatures must have a constant fee
-					return 0 == transaction.getFee().compareTo(minimumFee);
+					return fee == minimumFee;
 				}
 
 				// minimumFee <= multisig signatures fee <= 1000
 				// reason: during spam attack cosignatories must be able to get their signature into the cache.
 				//         it is limited in order for the last cosignatory not to be able to drain the multisig account
-				return 0 <= transaction.getFee().compareTo(minimumFee) && 0 >= transaction.getFee().compareTo(maxCacheFee);
+				return minimumFee <= fee && fee <= MAX_CACHE_FEE;
 		}
 
-		return transaction.getFee().compareTo(minimumFee) >= 0;
+		return fee >= minimumFee;
 	}
 }
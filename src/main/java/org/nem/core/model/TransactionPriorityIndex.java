@@ -0,0 +1,176 @@
+package org.nem.core.model;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.Stream;
+
+/**
+ * A concurrent index of transactions ordered by priority (highest fee first, then oldest first).
+ * Each transaction's sort key is captured once when it is added to the index.
+ * Transactions with equal sort keys are drained in insertion order.
+ */
+public class TransactionPriorityIndex {
+	private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+	private final ConcurrentHashMap<Transaction, Entry> transactionToEntryMap = new ConcurrentHashMap<>();
+	private final AtomicLong nextSequence = new AtomicLong();
+
+	// the size is incremented before an entry becomes visible and only decremented after it has been claimed,
+	// so it can temporarily overestimate but never underestimate the number of transactions
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * Gets the number of transactions in the index.
+	 *
+	 * @return The number of transactions.
+	 */
+	public int size() {
+		return this.size.get();
+	}
+
+	/**
+	 * Gets a value indicating whether or not the index is empty.
+	 *
+	 * @return true if the index is empty.
+	 */
+	public boolean isEmpty() {
+		return 0 == this.size();
+	}
+
+	/**
+	 * Adds a transaction to the index.
+	 *
+	 * @param transaction The transaction.
+	 * @return true if the transaction was added, false if it was already present.
+	 */
+	public boolean add(final Transaction transaction) {
+		final Entry entry = new Entry(transaction, this.nextSequence.getAndIncrement());
+		this.size.incrementAndGet();
+		if (null != this.transactionToEntryMap.putIfAbsent(transaction, entry)) {
+			this.size.decrementAndGet();
+			return false;
+		}
+
+		this.entries.add(entry);
+		return true;
+	}
+
+	/**
+	 * Removes a transaction from the index.
+	 *
+	 * @param transaction The transaction.
+	 * @return true if the transaction was removed, false if it was not present.
+	 */
+	public boolean remove(final Transaction transaction) {
+		final Entry entry = this.transactionToEntryMap.remove(transaction);
+		return null != entry && this.removeEntry(entry);
+	}
+
+	/**
+	 * Gets a value indicating whether or not the index contains a transaction.
+	 *
+	 * @param transaction The transaction.
+	 * @return true if the transaction is contained in the index.
+	 */
+	public boolean contains(final Transaction transaction) {
+		return this.transactionToEntryMap.containsKey(transaction);
+	}
+
+	/**
+	 * Gets (but does not remove) the transaction with the highest priority.
+	 *
+	 * @return The transaction or null if the index is empty.
+	 */
+	public Transaction peek() {
+		return this.stream().findFirst().orElse(null);
+	}
+
+	/**
+	 * Removes and returns the transaction with the highest priority.
+	 *
+	 * @return The transaction or null if the index is empty.
+	 */
+	public Transaction poll() {
+		while (true) {
+			final Entry entry = this.entries.pollFirst();
+			if (null == entry) {
+				return null;
+			}
+
+			this.transactionToEntryMap.remove(entry.transaction, entry);
+			if (entry.claim()) {
+				this.size.decrementAndGet();
+				return entry.transaction;
+			}
+		}
+	}
+
+	/**
+	 * Removes and returns (at most) the specified number of transactions in priority order.
+	 *
+	 * @param maxTransactions The maximum number of transactions to drain.
+	 * @return The drained transactions.
+	 */
+	public List<Transaction> drain(final int maxTransactions) {
+		final List<Transaction> transactions = new ArrayList<>(Math.min(maxTransactions, this.size()));
+		while (transactions.size() < maxTransactions) {
+			final Transaction transaction = this.poll();
+			if (null == transaction) {
+				break;
+			}
+
+			transactions.add(transaction);
+		}
+
+		return transactions;
+	}
+
+	/**
+	 * Streams all transactions in priority order without removing them.
+	 *
+	 * @return The transactions.
+	 */
+	public Stream<Transaction> stream() {
+		return this.entries.stream()
+				.filter(entry -> !entry.isClaimed())
+				.map(entry -> entry.transaction);
+	}
+
+	private boolean removeEntry(final Entry entry) {
+		if (!entry.claim()) {
+			return false;
+		}
+
+		this.entries.remove(entry);
+		this.size.decrementAndGet();
+		return true;
+	}
+
+	private static class Entry implements Comparable<Entry> {
+		private final Transaction transaction;
+		private final TransactionSortKey key;
+		private final long sequence;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		public Entry(final Transaction transaction, final long sequence) {
+			this.transaction = transaction;
+			this.key = transaction.getSortKey();
+			this.sequence = sequence;
+		}
+
+		public boolean claim() {
+			return this.claimed.compareAndSet(false, true);
+		}
+
+		public boolean isClaimed() {
+			return this.claimed.get();
+		}
+
+		@Override
+		public int compareTo(final Entry rhs) {
+			// highest priority first, then insertion order
+			final int result = rhs.key.compareTo(this.key);
+			return 0 != result ? result : Long.compare(this.sequence, rhs.sequence);
+		}
+	}
+}
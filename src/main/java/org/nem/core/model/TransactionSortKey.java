@@ -0,0 +1,72 @@
+package org.nem.core.model;
+
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.time.TimeInstant;
+
+/**
+ * An immutable snapshot of the values that determine the ordering of transactions.
+ * Transactions are sorted by fee (lowest first) and then by timestamp (newest first).
+ */
+public class TransactionSortKey implements Comparable<TransactionSortKey> {
+	private final long fee;
+	private final int timeStamp;
+
+	/**
+	 * Creates a new sort key.
+	 *
+	 * @param fee The transaction fee.
+	 * @param timeStamp The transaction timestamp.
+	 */
+	public TransactionSortKey(final Amount fee, final TimeInstant timeStamp) {
+		this(fee.getNumMicroNem(), timeStamp.getRawTime());
+	}
+
+	private TransactionSortKey(final long fee, final int timeStamp) {
+		this.fee = fee;
+		this.timeStamp = timeStamp;
+	}
+
+	/**
+	 * Gets the fee in micro nem.
+	 *
+	 * @return The fee.
+	 */
+	public long getFee() {
+		return this.fee;
+	}
+
+	/**
+	 * Gets the raw timestamp.
+	 *
+	 * @return The timestamp.
+	 */
+	public int getTimeStamp() {
+		return this.timeStamp;
+	}
+
+	@Override
+	public int compareTo(final TransactionSortKey rhs) {
+		final int feeResult = Long.compare(this.fee, rhs.fee);
+		return 0 != feeResult ? feeResult : Integer.compare(rhs.timeStamp, this.timeStamp);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.fee) ^ this.timeStamp;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (!(obj instanceof TransactionSortKey)) {
+			return false;
+		}
+
+		final TransactionSortKey rhs = (TransactionSortKey)obj;
+		return this.fee == rhs.fee && this.timeStamp == rhs.timeStamp;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("fee: %d, timeStamp: %d", this.fee, this.timeStamp);
+	}
+}
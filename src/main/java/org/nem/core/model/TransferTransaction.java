@@ -109,7 +109,7 @@ public class TransferTransaction extends Transaction {
 
 	@Override
 	protected void transfer(final TransactionObserver observer) {
-		final TransferObserver transferObserver = new TransactionObserverToTransferObserverAdapter(observer);
+		final TransferObserver transferObserver = TransactionObserverToTransferObserverAdapter.create(observer);
 		transferObserver.notifyTransfer(this.getSigner(), this.recipient, this.amount);
 		transferObserver.notifyDebit(this.getSigner(), this.getFee());
 	}
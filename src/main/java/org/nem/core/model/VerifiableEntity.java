@@ -65,7 +65,7 @@ public abstract class VerifiableEntity implements SerializableEntity {
 	 */
 	public VerifiableEntity(final int type, final DeserializationOptions options, final Deserializer deserializer) {
 		this.type = type;
-		this.version = deserializer.readInt("version");
+		this.version = deserializer.readIntPrimitive("version");
 		this.timeStamp = TimeInstant.readFrom(deserializer, "timeStamp");
 		this.signer = Account.readFrom(deserializer, "signer", AddressEncoding.PUBLIC_KEY);
 
@@ -201,7 +201,7 @@ public abstract class VerifiableEntity implements SerializableEntity {
 		}
 
 		// (1) serialize the entire transaction to a buffer
-		final byte[] transactionBytes = this.getBytes();
+		final byte[] transactionBytes = this.getNonVerifiableBytes();
 
 		// (2) sign the buffer
 		final Signer signer = account.createSigner();
@@ -219,10 +219,15 @@ public abstract class VerifiableEntity implements SerializableEntity {
 		}
 
 		final Signer signer = this.signer.createSigner();
-		return signer.verify(this.getBytes(), this.signature);
+		return signer.verify(this.getNonVerifiableBytes(), this.signature);
 	}
 
-	private byte[] getBytes() {
+	/**
+	 * Gets the binary representation of this entity excluding its signature (the data that is signed and hashed).
+	 *
+	 * @return The non-verifiable bytes.
+	 */
+	byte[] getNonVerifiableBytes() {
 		return BinarySerializer.serializeToBytes(this.asNonVerifiable());
 	}
 
@@ -0,0 +1,372 @@
+package org.nem.core.model.observers;
+
+import org.nem.core.model.Account;
+import org.nem.core.model.primitive.Amount;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of notifications that is stored as a struct-of-arrays.
+ * <br>
+ * Balance and account notifications are decomposed into type, account and amount columns so that
+ * transfers can be recorded without allocating notification objects. All other notifications are stored as is.
+ * The buffer is intended to collect the notifications of a whole block, which can then be dispatched
+ * to an observer in a single TransactionObserver.notifyAll call.
+ * <br>
+ * A recorded buffer also serves as an undo log: reverse returns a view that presents the notifications in
+ * reverse order with all balance notifications inverted, without copying the buffer.
+ */
+public class NotificationBuffer implements TransactionObserver, TransferObserver {
+	private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+	private NotificationType[] types;
+	private Account[] primaryAccounts;
+	private Account[] secondaryAccounts;
+	private Amount[] amounts;
+	private Notification[] notifications;
+	private int size;
+
+	/**
+	 * Creates a new notification buffer.
+	 */
+	public NotificationBuffer() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a new notification buffer with the specified initial capacity.
+	 *
+	 * @param initialCapacity The initial capacity.
+	 */
+	public NotificationBuffer(final int initialCapacity) {
+		final int capacity = Math.max(0, initialCapacity);
+		this.types = new NotificationType[capacity];
+		this.primaryAccounts = new Account[capacity];
+		this.secondaryAccounts = new Account[capacity];
+		this.amounts = new Amount[capacity];
+		this.notifications = new Notification[capacity];
+	}
+
+	//region TransactionObserver / TransferObserver
+
+	@Override
+	public void notify(final Notification notification) {
+		switch (notification.getType()) {
+			case BalanceTransfer: {
+				final BalanceTransferNotification transferNotification = (BalanceTransferNotification)notification;
+				this.add(
+						NotificationType.BalanceTransfer,
+						transferNotification.getSender(),
+						transferNotification.getRecipient(),
+						transferNotification.getAmount(),
+						notification);
+				break;
+			}
+
+			case BalanceCredit:
+			case BalanceDebit: {
+				final BalanceAdjustmentNotification adjustmentNotification = (BalanceAdjustmentNotification)notification;
+				this.add(notification.getType(), adjustmentNotification.getAccount(), null, adjustmentNotification.getAmount(), notification);
+				break;
+			}
+
+			case Account:
+				this.add(NotificationType.Account, ((AccountNotification)notification).getAccount(), null, null, notification);
+				break;
+
+			default:
+				this.add(notification.getType(), null, null, null, notification);
+				break;
+		}
+	}
+
+	@Override
+	public void notifyTransfer(final Account sender, final Account recipient, final Amount amount) {
+		// mirror the notifications raised by TransactionObserverToTransferObserverAdapter
+		this.add(NotificationType.Account, recipient, null, null, null);
+		this.add(NotificationType.BalanceTransfer, sender, recipient, amount, null);
+	}
+
+	@Override
+	public void notifyCredit(final Account account, final Amount amount) {
+		this.add(NotificationType.Account, account, null, null, null);
+		this.add(NotificationType.BalanceCredit, account, null, amount, null);
+	}
+
+	@Override
+	public void notifyDebit(final Account account, final Amount amount) {
+		this.add(NotificationType.BalanceDebit, account, null, amount, null);
+	}
+
+	//endregion
+
+	//region accessors
+
+	/**
+	 * Gets the number of buffered notifications.
+	 *
+	 * @return The number of notifications.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets a value indicating whether or not the buffer is empty.
+	 *
+	 * @return true if the buffer is empty.
+	 */
+	public boolean isEmpty() {
+		return 0 == this.size();
+	}
+
+	/**
+	 * Gets the type of the notification at the specified index.
+	 *
+	 * @param index The index.
+	 * @return The notification type.
+	 */
+	public NotificationType getType(final int index) {
+		return this.types[this.checkIndex(index)];
+	}
+
+	/**
+	 * Gets the primary account of the notification at the specified index.
+	 * This is the sender of a balance transfer or the account of a balance adjustment or account notification.
+	 *
+	 * @param index The index.
+	 * @return The primary account or null if the notification does not have one.
+	 */
+	public Account getPrimaryAccount(final int index) {
+		return this.primaryAccounts[this.checkIndex(index)];
+	}
+
+	/**
+	 * Gets the secondary account of the notification at the specified index.
+	 * This is the recipient of a balance transfer.
+	 *
+	 * @param index The index.
+	 * @return The secondary account or null if the notification does not have one.
+	 */
+	public Account getSecondaryAccount(final int index) {
+		return this.secondaryAccounts[this.checkIndex(index)];
+	}
+
+	/**
+	 * Gets the amount of the notification at the specified index.
+	 *
+	 * @param index The index.
+	 * @return The amount or null if the notification does not have one.
+	 */
+	public Amount getAmount(final int index) {
+		return this.amounts[this.checkIndex(index)];
+	}
+
+	/**
+	 * Gets the notification at the specified index.
+	 * Notifications that were recorded via the TransferObserver interface are materialized on demand.
+	 *
+	 * @param index The index.
+	 * @return The notification.
+	 */
+	public Notification getNotification(final int index) {
+		final Notification notification = this.notifications[this.checkIndex(index)];
+		if (null != notification) {
+			return notification;
+		}
+
+		return materialize(this.types[index], this.primaryAccounts[index], this.secondaryAccounts[index], this.amounts[index]);
+	}
+
+	//endregion
+
+	/**
+	 * Gets a read-only view of this buffer that presents all notifications in reverse order and with all balance
+	 * notifications inverted (balance transfer accounts are swapped and balance credits and debits are exchanged).
+	 * Replaying the view undoes the recorded notifications.
+	 * The view does not copy any notifications and reflects subsequent changes to this buffer.
+	 *
+	 * @return The reversed view.
+	 */
+	public NotificationBuffer reverse() {
+		return new ReversedNotificationBuffer(this);
+	}
+
+	/**
+	 * Removes all notifications from the buffer (the capacity is retained).
+	 */
+	public void clear() {
+		Arrays.fill(this.types, 0, this.size, null);
+		Arrays.fill(this.primaryAccounts, 0, this.size, null);
+		Arrays.fill(this.secondaryAccounts, 0, this.size, null);
+		Arrays.fill(this.amounts, 0, this.size, null);
+		Arrays.fill(this.notifications, 0, this.size, null);
+		this.size = 0;
+	}
+
+	private int checkIndex(final int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException(String.format("index %d is out of range [0, %d)", index, this.size));
+		}
+
+		return index;
+	}
+
+	private void add(
+			final NotificationType type,
+			final Account primaryAccount,
+			final Account secondaryAccount,
+			final Amount amount,
+			final Notification notification) {
+		if (this.size == this.types.length) {
+			this.grow();
+		}
+
+		this.types[this.size] = type;
+		this.primaryAccounts[this.size] = primaryAccount;
+		this.secondaryAccounts[this.size] = secondaryAccount;
+		this.amounts[this.size] = amount;
+		this.notifications[this.size] = notification;
+		++this.size;
+	}
+
+	private void grow() {
+		final int capacity = Math.max(1, this.types.length * 2);
+		this.types = Arrays.copyOf(this.types, capacity);
+		this.primaryAccounts = Arrays.copyOf(this.primaryAccounts, capacity);
+		this.secondaryAccounts = Arrays.copyOf(this.secondaryAccounts, capacity);
+		this.amounts = Arrays.copyOf(this.amounts, capacity);
+		this.notifications = Arrays.copyOf(this.notifications, capacity);
+	}
+
+	private static Notification materialize(
+			final NotificationType type,
+			final Account primaryAccount,
+			final Account secondaryAccount,
+			final Amount amount) {
+		switch (type) {
+			case BalanceTransfer:
+				return new BalanceTransferNotification(primaryAccount, secondaryAccount, amount);
+
+			case BalanceCredit:
+			case BalanceDebit:
+				return new BalanceAdjustmentNotification(type, primaryAccount, amount);
+
+			default:
+				// only account notifications are recorded without a notification object
+				return new AccountNotification(primaryAccount);
+		}
+	}
+
+	private static boolean isBalanceNotification(final NotificationType type) {
+		switch (type) {
+			case BalanceTransfer:
+			case BalanceCredit:
+			case BalanceDebit:
+				return true;
+
+			default:
+				return false;
+		}
+	}
+
+	private static class ReversedNotificationBuffer extends NotificationBuffer {
+		private final NotificationBuffer buffer;
+
+		public ReversedNotificationBuffer(final NotificationBuffer buffer) {
+			super(0);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void notify(final Notification notification) {
+			throw new UnsupportedOperationException("a reversed notification buffer is read-only");
+		}
+
+		@Override
+		public void notifyTransfer(final Account sender, final Account recipient, final Amount amount) {
+			throw new UnsupportedOperationException("a reversed notification buffer is read-only");
+		}
+
+		@Override
+		public void notifyCredit(final Account account, final Amount amount) {
+			throw new UnsupportedOperationException("a reversed notification buffer is read-only");
+		}
+
+		@Override
+		public void notifyDebit(final Account account, final Amount amount) {
+			throw new UnsupportedOperationException("a reversed notification buffer is read-only");
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("a reversed notification buffer is read-only");
+		}
+
+		@Override
+		public int size() {
+			return this.buffer.size();
+		}
+
+		@Override
+		public NotificationType getType(final int index) {
+			final NotificationType type = this.buffer.getType(this.mapIndex(index));
+			switch (type) {
+				case BalanceCredit:
+					return NotificationType.BalanceDebit;
+
+				case BalanceDebit:
+					return NotificationType.BalanceCredit;
+
+				default:
+					return type;
+			}
+		}
+
+		@Override
+		public Account getPrimaryAccount(final int index) {
+			final int sourceIndex = this.mapIndex(index);
+			return NotificationType.BalanceTransfer == this.buffer.getType(sourceIndex)
+					? this.buffer.getSecondaryAccount(sourceIndex)
+					: this.buffer.getPrimaryAccount(sourceIndex);
+		}
+
+		@Override
+		public Account getSecondaryAccount(final int index) {
+			final int sourceIndex = this.mapIndex(index);
+			return NotificationType.BalanceTransfer == this.buffer.getType(sourceIndex)
+					? this.buffer.getPrimaryAccount(sourceIndex)
+					: this.buffer.getSecondaryAccount(sourceIndex);
+		}
+
+		@Override
+		public Amount getAmount(final int index) {
+			return this.buffer.getAmount(this.mapIndex(index));
+		}
+
+		@Override
+		public Notification getNotification(final int index) {
+			final int sourceIndex = this.mapIndex(index);
+			if (!isBalanceNotification(this.buffer.getType(sourceIndex))) {
+				return this.buffer.getNotification(sourceIndex);
+			}
+
+			// inverted balance notifications are only materialized for observers that consume notification objects
+			return materialize(this.getType(index), this.getPrimaryAccount(index), this.getSecondaryAccount(index), this.getAmount(index));
+		}
+
+		@Override
+		public NotificationBuffer reverse() {
+			return this.buffer;
+		}
+
+		private int mapIndex(final int index) {
+			final int size = this.buffer.size();
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(String.format("index %d is out of range [0, %d)", index, size));
+			}
+
+			return size - 1 - index;
+		}
+	}
+}
@@ -1,14 +1,21 @@
 package org.nem.core.model.observers;
 
-import java.util.*;
+import org.nem.core.model.Account;
+import org.nem.core.model.primitive.Amount;
 
 /**
  * A TransactionObserver implementation that gathers all notifications and applies them in reverse order.
  * In addition, balance transfer notifications are automatically reversed.
+ * <br>
+ * Notifications are recorded in a NotificationBuffer and are inverted lazily during commit,
+ * so no mirrored notifications are created while gathering.
  */
-public class ReverseTransactionObserver implements TransactionObserver {
+public class ReverseTransactionObserver implements TransactionObserver, TransferObserver {
+	// most transactions raise only a handful of notifications
+	private static final int INITIAL_CAPACITY = 8;
+
 	private final TransactionObserver observer;
-	private final List<Notification> pendingNotifications = new ArrayList<>();
+	private final NotificationBuffer pendingNotifications = new NotificationBuffer(INITIAL_CAPACITY);
 
 	/**
 	 * Creates a new adapter.
@@ -21,40 +28,32 @@ public class ReverseTransactionObserver implements TransactionObserver {
 
 	@Override
 	public void notify(final Notification notification) {
-		this.pendingNotifications.add(reverse(notification));
+		this.pendingNotifications.notify(notification);
 	}
 
-	/**
-	 * Commits all notifications by replaying them in reverse order.
-	 */
-	public void commit() {
-		// apply the transfers in reverse order because order might be important for some observers
-		for (int i = this.pendingNotifications.size() - 1; i >= 0; --i) {
-			this.observer.notify(this.pendingNotifications.get(i));
-		}
+	@Override
+	public void notifyTransfer(final Account sender, final Account recipient, final Amount amount) {
+		this.pendingNotifications.notifyTransfer(sender, recipient, amount);
 	}
 
-	private static Notification reverse(final Notification notification) {
-		switch (notification.getType()) {
-			case BalanceTransfer:
-				return swapAccounts((BalanceTransferNotification)notification);
-
-			case BalanceCredit:
-				return changeType((BalanceAdjustmentNotification)notification, NotificationType.BalanceDebit);
-
-			case BalanceDebit:
-				return changeType((BalanceAdjustmentNotification)notification, NotificationType.BalanceCredit);
-
-			default:
-				return notification;
-		}
+	@Override
+	public void notifyCredit(final Account account, final Amount amount) {
+		this.pendingNotifications.notifyCredit(account, amount);
 	}
 
-	private static Notification swapAccounts(final BalanceTransferNotification notification) {
-		return new BalanceTransferNotification(notification.getRecipient(), notification.getSender(), notification.getAmount());
+	@Override
+	public void notifyDebit(final Account account, final Amount amount) {
+		this.pendingNotifications.notifyDebit(account, amount);
 	}
 
-	private static Notification changeType(final BalanceAdjustmentNotification notification, final NotificationType type) {
-		return new BalanceAdjustmentNotification(type, notification.getAccount(), notification.getAmount());
+	/**
+	 * Commits all notifications by replaying them in reverse order.
+	 */
+	public void commit() {
+		// apply the transfers in reverse order because order might be important for some observers
+		final NotificationBuffer reversedNotifications = this.pendingNotifications.reverse();
+		for (int i = 0; i < reversedNotifications.size(); ++i) {
+			this.observer.notify(reversedNotifications.getNotification(i));
+		}
 	}
 }
@@ -11,4 +11,16 @@ public interface TransactionObserver extends NamedObserver {
 	 * @param notification The notification event arguments.
 	 */
 	void notify(final Notification notification);
+
+	/**
+	 * A batch of notification events has been raised.
+	 * The default implementation forwards each notification to notify in order.
+	 *
+	 * @param notifications The buffered notification event arguments.
+	 */
+	default void notifyAll(final NotificationBuffer notifications) {
+		for (int i = 0; i < notifications.size(); ++i) {
+			this.notify(notifications.getNotification(i));
+		}
+	}
 }
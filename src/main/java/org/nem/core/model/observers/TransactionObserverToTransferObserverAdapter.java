@@ -20,6 +20,20 @@ public class TransactionObserverToTransferObserverAdapter implements TransferObs
 		this.observer = observer;
 	}
 
+	/**
+	 * Creates a transfer observer that forwards all transfer notifications to the specified transaction observer.
+	 * When the transaction observer is also a TransferObserver (e.g. a NotificationBuffer), it is returned directly
+	 * so that transfers are recorded without allocating intermediate notification objects.
+	 *
+	 * @param observer The transaction observer.
+	 * @return The transfer observer.
+	 */
+	public static TransferObserver create(final TransactionObserver observer) {
+		return observer instanceof TransferObserver
+				? (TransferObserver)observer
+				: new TransactionObserverToTransferObserverAdapter(observer);
+	}
+
 	@Override
 	public void notifyTransfer(final Account sender, final Account recipient, final Amount amount) {
 		this.observer.notify(new AccountNotification(recipient));
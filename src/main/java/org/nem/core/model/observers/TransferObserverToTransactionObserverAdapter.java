@@ -38,6 +38,29 @@ public class TransferObserverToTransactionObserverAdapter implements Transaction
 		}
 	}
 
+	@Override
+	public final void notifyAll(final NotificationBuffer notifications) {
+		// read the columns directly so that no notification objects need to be materialized
+		for (int i = 0; i < notifications.size(); ++i) {
+			switch (notifications.getType(i)) {
+				case BalanceTransfer:
+					this.observer.notifyTransfer(
+							notifications.getPrimaryAccount(i),
+							notifications.getSecondaryAccount(i),
+							notifications.getAmount(i));
+					break;
+
+				case BalanceCredit:
+					this.observer.notifyCredit(notifications.getPrimaryAccount(i), notifications.getAmount(i));
+					break;
+
+				case BalanceDebit:
+					this.observer.notifyDebit(notifications.getPrimaryAccount(i), notifications.getAmount(i));
+					break;
+			}
+		}
+	}
+
 	private void notifyTransfer(final BalanceTransferNotification notification) {
 		this.observer.notifyTransfer(notification.getSender(), notification.getRecipient(), notification.getAmount());
 	}
@@ -0,0 +1,73 @@
+package org.nem.core.model.primitive;
+
+/**
+ * Abstract base class for strongly typed primitives that are backed by an unboxed long value.
+ *
+ * @param <TDerived> The derived class type.
+ */
+public abstract class AbstractLongPrimitive<TDerived extends AbstractLongPrimitive<TDerived>> implements Comparable<TDerived> {
+	private final long value;
+
+	/**
+	 * Creates a new primitive.
+	 *
+	 * @param value The primitive value.
+	 */
+	protected AbstractLongPrimitive(final long value) {
+		this.value = value;
+	}
+
+	/**
+	 * Compares this primitive to another TDerived instance.
+	 *
+	 * @param rhs The TDerived to compare against.
+	 * @return -1, 0 or 1 as this TDerived is numerically less than, equal to, or greater than rhs.
+	 */
+	@Override
+	public int compareTo(final TDerived rhs) {
+		return Long.compare(this.value, rhs.getValue());
+	}
+
+	/**
+	 * Returns the underlying value.
+	 *
+	 * @return The underlying value.
+	 */
+	protected long getValue() {
+		return this.value;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)(this.value ^ (this.value >> 32));
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (!(obj instanceof AbstractLongPrimitive)) {
+			return false;
+		}
+
+		// like AbstractPrimitive, any instance of the derived class (including subclasses) can be equal
+		if (this.getClass() != obj.getClass() && !getDerivedClass(this.getClass()).isInstance(obj)) {
+			return false;
+		}
+
+		return this.value == ((AbstractLongPrimitive<?>)obj).value;
+	}
+
+	private static Class<?> getDerivedClass(final Class<?> type) {
+		// the derived class is the class that directly extends AbstractLongPrimitive
+		Class<?> derivedClass = type;
+		while (AbstractLongPrimitive.class != derivedClass.getSuperclass()) {
+			derivedClass = derivedClass.getSuperclass();
+		}
+
+		return derivedClass;
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(this.value);
+	}
+}
@@ -5,7 +5,7 @@ import org.nem.core.serialization.*;
 /**
  * Represents an amount of NEM.
  */
-public class Amount extends AbstractPrimitive<Amount, Long> {
+public class Amount extends AbstractLongPrimitive<Amount> {
 
 	public static final int MICRONEMS_IN_NEM = 1000000;
 
@@ -14,14 +14,19 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 */
 	public static final Amount ZERO = new Amount(0);
 
+	private static final Amount[] SMALL_NEM_AMOUNTS = createSmallNemAmounts(1024);
+
 	/**
 	 * Creates a new amount given a quantity of NEM.
+	 * Small amounts are shared instances.
 	 *
 	 * @param amount The amount of NEM.
 	 * @return The new amount.
 	 */
 	public static Amount fromNem(final long amount) {
-		return new Amount(amount * MICRONEMS_IN_NEM);
+		return amount >= 0 && amount < SMALL_NEM_AMOUNTS.length
+				? SMALL_NEM_AMOUNTS[(int)amount]
+				: new Amount(amount * MICRONEMS_IN_NEM);
 	}
 
 	/**
@@ -31,7 +36,17 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 * @return The new amount.
 	 */
 	public static Amount fromMicroNem(final long amount) {
-		return new Amount(amount);
+		return 0 == amount ? ZERO : new Amount(amount);
+	}
+
+	private static Amount[] createSmallNemAmounts(final int count) {
+		final Amount[] amounts = new Amount[count];
+		amounts[0] = ZERO;
+		for (int i = 1; i < count; ++i) {
+			amounts[i] = new Amount(i * (long)MICRONEMS_IN_NEM);
+		}
+
+		return amounts;
 	}
 
 	/**
@@ -40,7 +55,7 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 * @param amount The number of micro NEM.
 	 */
 	public Amount(final long amount) {
-		super(amount, Amount.class);
+		super(amount);
 
 		if (amount < 0) {
 			throw new NegativeBalanceException(amount);
@@ -54,7 +69,11 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 * @return The new amount.
 	 */
 	public Amount add(final Amount amount) {
-		return new Amount(this.getNumMicroNem() + amount.getNumMicroNem());
+		if (0 == amount.getNumMicroNem()) {
+			return this;
+		}
+
+		return 0 == this.getNumMicroNem() ? amount : new Amount(this.getNumMicroNem() + amount.getNumMicroNem());
 	}
 
 	/**
@@ -64,7 +83,7 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 * @return The new amount.
 	 */
 	public Amount subtract(final Amount amount) {
-		return new Amount(this.getNumMicroNem() - amount.getNumMicroNem());
+		return 0 == amount.getNumMicroNem() ? this : fromMicroNem(this.getNumMicroNem() - amount.getNumMicroNem());
 	}
 
 	/**
@@ -74,7 +93,7 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 * @return The new amount.
 	 */
 	public Amount multiply(final int scalar) {
-		return new Amount(this.getNumMicroNem() * scalar);
+		return 1 == scalar ? this : fromMicroNem(this.getNumMicroNem() * scalar);
 	}
 
 	/**
@@ -116,7 +135,7 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 * @return The read object.
 	 */
 	public static Amount readFrom(final Deserializer deserializer, final String label) {
-		return new Amount(deserializer.readLong(label));
+		return fromMicroNem(deserializer.readLongPrimitive(label));
 	}
 
 	/**
@@ -128,7 +147,7 @@ public class Amount extends AbstractPrimitive<Amount, Long> {
 	 */
 	public static Amount readFromOptional(final Deserializer deserializer, final String label) {
 		final Long value = deserializer.readOptionalLong(label);
-		return null == value ? null : new Amount(value);
+		return null == value ? null : fromMicroNem(value);
 	}
 
 	//endregion
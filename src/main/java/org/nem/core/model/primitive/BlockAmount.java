@@ -5,7 +5,7 @@ import org.nem.core.serialization.*;
 /**
  * Represents a non-negative amount of blocks.
  */
-public class BlockAmount extends AbstractPrimitive<BlockAmount, Long> {
+public class BlockAmount extends AbstractLongPrimitive<BlockAmount> {
 
 	/**
 	 * Value representing initial height.
@@ -18,7 +18,7 @@ public class BlockAmount extends AbstractPrimitive<BlockAmount, Long> {
 	 * @param amount The block height.
 	 */
 	public BlockAmount(final long amount) {
-		super(amount, BlockAmount.class);
+		super(amount);
 
 		if (this.getRaw() < 0) {
 			throw new IllegalArgumentException("amount must be non-negative");
@@ -71,6 +71,6 @@ public class BlockAmount extends AbstractPrimitive<BlockAmount, Long> {
 	 * @return The read object.
 	 */
 	public static BlockAmount readFrom(final Deserializer deserializer, final String label) {
-		return new BlockAmount(deserializer.readLong(label));
+		return new BlockAmount(deserializer.readLongPrimitive(label));
 	}
 }
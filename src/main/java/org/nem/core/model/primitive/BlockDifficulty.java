@@ -7,7 +7,7 @@ import java.math.BigInteger;
 /**
  * Represents a NEM block difficulty.
  */
-public class BlockDifficulty extends AbstractPrimitive<BlockDifficulty, Long> {
+public class BlockDifficulty extends AbstractLongPrimitive<BlockDifficulty> {
 
 	/**
 	 * The initial block difficulty.
@@ -38,7 +38,7 @@ public class BlockDifficulty extends AbstractPrimitive<BlockDifficulty, Long> {
 	}
 
 	private BlockDifficulty(final long difficulty, final boolean clamp) {
-		super(clamp ? Clamp(difficulty) : difficulty, BlockDifficulty.class);
+		super(clamp ? Clamp(difficulty) : difficulty);
 	}
 
 	/**
@@ -84,7 +84,7 @@ public class BlockDifficulty extends AbstractPrimitive<BlockDifficulty, Long> {
 	 * @return The read object.
 	 */
 	public static BlockDifficulty readFrom(final Deserializer deserializer, final String label) {
-		return new BlockDifficulty(deserializer.readLong(label));
+		return new BlockDifficulty(deserializer.readLongPrimitive(label));
 	}
 
 	//endregion
@@ -5,7 +5,7 @@ import org.nem.core.serialization.*;
 /**
  * Represents a NEM block height.
  */
-public class BlockHeight extends AbstractPrimitive<BlockHeight, Long> implements SerializableEntity {
+public class BlockHeight extends AbstractLongPrimitive<BlockHeight> implements SerializableEntity {
 
 	/**
 	 * Value representing initial height.
@@ -17,13 +17,35 @@ public class BlockHeight extends AbstractPrimitive<BlockHeight, Long> implements
 	 */
 	public static final BlockHeight MAX = new BlockHeight(Long.MAX_VALUE);
 
+	// direct-mapped cache of recently used heights (the cached objects are immutable, so races are benign)
+	private static final int RECENT_HEIGHTS_CACHE_SIZE = 1024;
+	private static final BlockHeight[] RECENT_HEIGHTS = new BlockHeight[RECENT_HEIGHTS_CACHE_SIZE];
+
+	/**
+	 * Gets a block height, reusing a recently used instance if possible.
+	 *
+	 * @param height The block height.
+	 * @return The block height.
+	 */
+	public static BlockHeight fromValue(final long height) {
+		final int index = (int)(height & (RECENT_HEIGHTS_CACHE_SIZE - 1));
+		final BlockHeight cachedHeight = RECENT_HEIGHTS[index];
+		if (null != cachedHeight && cachedHeight.getRaw() == height) {
+			return cachedHeight;
+		}
+
+		final BlockHeight blockHeight = new BlockHeight(height);
+		RECENT_HEIGHTS[index] = blockHeight;
+		return blockHeight;
+	}
+
 	/**
 	 * Creates a block height.
 	 *
 	 * @param height The block height.
 	 */
 	public BlockHeight(final long height) {
-		super(height, BlockHeight.class);
+		super(height);
 
 		if (this.getRaw() <= 0) {
 			throw new IllegalArgumentException("height must be positive");
@@ -36,7 +58,7 @@ public class BlockHeight extends AbstractPrimitive<BlockHeight, Long> implements
 	 * @param deserializer The deserializer.
 	 */
 	public BlockHeight(final Deserializer deserializer) {
-		this(deserializer.readLong("height"));
+		this(deserializer.readLongPrimitive("height"));
 	}
 
 	/**
@@ -45,7 +67,7 @@ public class BlockHeight extends AbstractPrimitive<BlockHeight, Long> implements
 	 * @return The new height.
 	 */
 	public BlockHeight prev() {
-		return new BlockHeight(this.getRaw() - 1);
+		return fromValue(this.getRaw() - 1);
 	}
 
 	/**
@@ -54,7 +76,7 @@ public class BlockHeight extends AbstractPrimitive<BlockHeight, Long> implements
 	 * @return The new height.
 	 */
 	public BlockHeight next() {
-		return new BlockHeight(this.getRaw() + 1);
+		return fromValue(this.getRaw() + 1);
 	}
 
 	/**
@@ -102,7 +124,7 @@ public class BlockHeight extends AbstractPrimitive<BlockHeight, Long> implements
 	 * @return The read object.
 	 */
 	public static BlockHeight readFrom(final Deserializer deserializer, final String label) {
-		return new BlockHeight(deserializer.readLong(label));
+		return fromValue(deserializer.readLongPrimitive(label));
 	}
 
 	//endregion
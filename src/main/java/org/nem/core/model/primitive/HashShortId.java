@@ -5,7 +5,7 @@ import org.nem.core.serialization.*;
 /**
  * Represents a hash's short id.
  */
-public class HashShortId extends AbstractPrimitive<HashShortId, Long> implements SerializableEntity {
+public class HashShortId extends AbstractLongPrimitive<HashShortId> implements SerializableEntity {
 
 	/**
 	 * Creates a hash short id.
@@ -13,7 +13,7 @@ public class HashShortId extends AbstractPrimitive<HashShortId, Long> implements
 	 * @param hashShortId The hash's short id.
 	 */
 	public HashShortId(final long hashShortId) {
-		super(hashShortId, HashShortId.class);
+		super(hashShortId);
 	}
 
 	/**
@@ -22,7 +22,7 @@ public class HashShortId extends AbstractPrimitive<HashShortId, Long> implements
 	 * @param deserializer The deserializer.
 	 */
 	public HashShortId(final Deserializer deserializer) {
-		this(deserializer.readLong("hashShortId"));
+		this(deserializer.readLongPrimitive("hashShortId"));
 	}
 
 	/**
@@ -3,7 +3,7 @@ package org.nem.core.model.primitive;
 /**
  * Represents the age of a node with respect to time synchronization.
  */
-public class NodeAge extends AbstractPrimitive<NodeAge, Long> {
+public class NodeAge extends AbstractLongPrimitive<NodeAge> {
 
 	/**
 	 * Creates a node age.
@@ -11,7 +11,7 @@ public class NodeAge extends AbstractPrimitive<NodeAge, Long> {
 	 * @param age The node's age.
 	 */
 	public NodeAge(final long age) {
-		super(age, NodeAge.class);
+		super(age);
 
 		if (this.getRaw() < 0) {
 			throw new IllegalArgumentException("node age cannot be negative");
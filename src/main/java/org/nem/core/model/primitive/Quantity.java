@@ -5,20 +5,33 @@ import org.nem.core.serialization.*;
 /**
  * Represents a quantity that can be used by any class which needs to handle non-negative quantities.
  */
-public class Quantity extends AbstractPrimitive<Quantity, Long> {
+public class Quantity extends AbstractLongPrimitive<Quantity> {
 	/**
 	 * Quantity representing 0.
 	 */
 	public static final Quantity ZERO = new Quantity(0);
 
+	private static final Quantity[] SMALL_QUANTITIES = createSmallQuantities(1024);
+
 	/**
 	 * Creates a new quantity given a value.
+	 * Small quantities are shared instances.
 	 *
 	 * @param value The value.
 	 * @return The new quantity.
 	 */
 	public static Quantity fromValue(final long value) {
-		return new Quantity(value);
+		return value >= 0 && value < SMALL_QUANTITIES.length ? SMALL_QUANTITIES[(int)value] : new Quantity(value);
+	}
+
+	private static Quantity[] createSmallQuantities(final int count) {
+		final Quantity[] quantities = new Quantity[count];
+		quantities[0] = ZERO;
+		for (int i = 1; i < count; ++i) {
+			quantities[i] = new Quantity(i);
+		}
+
+		return quantities;
 	}
 
 	/**
@@ -27,7 +40,7 @@ public class Quantity extends AbstractPrimitive<Quantity, Long> {
 	 * @param quantity The quantity.
 	 */
 	public Quantity(final long quantity) {
-		super(quantity, Quantity.class);
+		super(quantity);
 
 		if (quantity < 0) {
 			throw new NegativeQuantityException(quantity);
@@ -41,7 +54,7 @@ public class Quantity extends AbstractPrimitive<Quantity, Long> {
 	 * @return The new quantity.
 	 */
 	public Quantity add(final Quantity quantity) {
-		return new Quantity(this.getRaw() + quantity.getRaw());
+		return 0 == quantity.getRaw() ? this : fromValue(this.getRaw() + quantity.getRaw());
 	}
 
 	/**
@@ -51,7 +64,7 @@ public class Quantity extends AbstractPrimitive<Quantity, Long> {
 	 * @return The new quantity.
 	 */
 	public Quantity subtract(final Quantity quantity) {
-		return new Quantity(this.getRaw() - quantity.getRaw());
+		return 0 == quantity.getRaw() ? this : fromValue(this.getRaw() - quantity.getRaw());
 	}
 
 	/**
@@ -84,7 +97,7 @@ public class Quantity extends AbstractPrimitive<Quantity, Long> {
 	 * @return The read object.
 	 */
 	public static Quantity readFrom(final Deserializer deserializer, final String label) {
-		return new Quantity(deserializer.readLong(label));
+		return fromValue(deserializer.readLongPrimitive(label));
 	}
 
 	//endregion
@@ -5,7 +5,7 @@ package org.nem.core.model.primitive;
  * <br>
  * This class is immutable.
  */
-public class ReferenceCount extends AbstractPrimitive<ReferenceCount, Long> {
+public class ReferenceCount extends AbstractLongPrimitive<ReferenceCount> {
 
 	/**
 	 * Value representing initial referenceCount.
@@ -18,7 +18,7 @@ public class ReferenceCount extends AbstractPrimitive<ReferenceCount, Long> {
 	 * @param refCount The original reference count.
 	 */
 	public ReferenceCount(final long refCount) {
-		super(refCount, ReferenceCount.class);
+		super(refCount);
 
 		if (this.getRaw() < 0) {
 			throw new IllegalArgumentException("reference counter can't be negative");
@@ -5,7 +5,7 @@ import org.nem.core.serialization.*;
 /**
  * Represents a time offset in ms.
  */
-public class TimeOffset extends AbstractPrimitive<TimeOffset, Long> {
+public class TimeOffset extends AbstractLongPrimitive<TimeOffset> {
 
 	/**
 	 * Creates a time offset.
@@ -13,7 +13,7 @@ public class TimeOffset extends AbstractPrimitive<TimeOffset, Long> {
 	 * @param offset The time offset.
 	 */
 	public TimeOffset(final long offset) {
-		super(offset, TimeOffset.class);
+		super(offset);
 	}
 
 	/**
@@ -21,7 +21,7 @@ public class TimeOffset extends AbstractPrimitive<TimeOffset, Long> {
 	 *
 	 * @return The underlying time offset.
 	 */
-	public Long getRaw() {
+	public long getRaw() {
 		return this.getValue();
 	}
 
@@ -64,6 +64,6 @@ public class TimeOffset extends AbstractPrimitive<TimeOffset, Long> {
 	 * @return The read object.
 	 */
 	public static TimeOffset readFrom(final Deserializer deserializer, final String label) {
-		return new TimeOffset(deserializer.readLong(label));
+		return new TimeOffset(deserializer.readLongPrimitive(label));
 	}
 }
@@ -2,17 +2,29 @@ package org.nem.core.serialization;
 
 import org.nem.core.utils.StringEncoder;
 
-import java.io.*;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Supplier;
 
 /**
  * A binary deserializer that supports forward-only deserialization.
+ * <br>
+ * Optionally, large object arrays can be deserialized in parallel. Because all array elements are
+ * length-prefixed, the element boundaries are found in a single cheap pass and the elements are then
+ * deserialized concurrently (preserving their order). In this mode, the deserialization context (and
+ * the activators) must be thread-safe.
  */
 public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 
-	private final ByteArrayInputStream stream;
+	/**
+	 * The minimum number of array elements required for parallel array deserialization.
+	 */
+	public static final int MIN_PARALLEL_ARRAY_SIZE = 16;
+
+	private final byte[] buffer;
+	private final ForkJoinPool pool;
+	private int position;
 
 	/**
 	 * Creates a new binary deserializer.
@@ -21,34 +33,54 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	 * @param context The deserialization context.
 	 */
 	public BinaryDeserializer(final byte[] bytes, final DeserializationContext context) {
+		this(bytes, context, null);
+	}
+
+	/**
+	 * Creates a new binary deserializer that deserializes large object arrays in parallel.
+	 *
+	 * @param bytes The byte array from which to read.
+	 * @param context The (thread-safe) deserialization context.
+	 * @param pool The pool used for parallel array deserialization or null if arrays should be deserialized sequentially.
+	 */
+	public BinaryDeserializer(final byte[] bytes, final DeserializationContext context, final ForkJoinPool pool) {
 		super(context);
-		this.stream = new ByteArrayInputStream(bytes);
+		this.buffer = bytes;
+		this.pool = pool;
+		this.position = 0;
 	}
 
 	@Override
 	public Integer readOptionalInt(final String label) {
-		return this.readIfNotEmpty(() -> {
-			final byte[] bytes = this.readBytes(4);
-			return bytes[0] & 0x000000FF
-					| (bytes[1] << 8) & 0x0000FF00
-					| (bytes[2] << 16) & 0x00FF0000
-					| (bytes[3] << 24) & 0xFF000000;
-		});
+		return this.hasMoreData() ? this.readIntUnchecked() : null;
+	}
+
+	@Override
+	public int readIntPrimitive(final String label) {
+		this.requireMoreData(label);
+		return this.readIntUnchecked();
 	}
 
 	@Override
 	public Long readOptionalLong(final String label) {
-		return this.readIfNotEmpty(() -> {
-			final long lowPart = this.readInt(label);
-			final long highPart = this.readInt(label);
-			return lowPart & 0x00000000FFFFFFFFL
-					| (highPart << 32) & 0xFFFFFFFF00000000L;
-		});
+		return this.hasMoreData() ? this.readLongUnchecked() : null;
+	}
+
+	@Override
+	public long readLongPrimitive(final String label) {
+		this.requireMoreData(label);
+		return this.readLongUnchecked();
 	}
 
 	@Override
 	public Double readOptionalDouble(final String label) {
-		return this.readIfNotEmpty(() -> Double.longBitsToDouble(this.readLong(label)));
+		return this.hasMoreData() ? Double.longBitsToDouble(this.readLongUnchecked()) : null;
+	}
+
+	@Override
+	public double readDoublePrimitive(final String label) {
+		this.requireMoreData(label);
+		return Double.longBitsToDouble(this.readLongUnchecked());
 	}
 
 	@Override
@@ -66,7 +98,7 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 
 	private byte[] readOptionalBytesUnchecked(final String label) {
 		return this.readIfNotEmpty(() -> {
-			final int numBytes = this.readInt(label);
+			final int numBytes = this.readIntUnchecked();
 			return BinarySerializer.NULL_BYTES_SENTINEL_VALUE == numBytes ? null : this.readBytes(numBytes);
 		});
 	}
@@ -87,11 +119,15 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	@Override
 	public <T> List<T> readOptionalObjectArray(final String label, final ObjectDeserializer<T> activator) {
 		return this.readIfNotEmpty(() -> {
-			final int numObjects = this.readInt(label);
+			final int numObjects = this.readIntUnchecked();
 			if (BinarySerializer.NULL_BYTES_SENTINEL_VALUE == numObjects) {
 				return null;
 			}
 
+			if (null != this.pool && numObjects >= MIN_PARALLEL_ARRAY_SIZE) {
+				return this.deserializeObjectsInParallel(numObjects, activator);
+			}
+
 			final List<T> objects = new ArrayList<>();
 			for (int i = 0; i < numObjects; ++i) {
 				objects.add(this.deserializeObject(label, activator));
@@ -103,17 +139,25 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 
 	@Override
 	public void close() throws Exception {
-		this.stream.close();
+		// the deserializer does not own any resources
 	}
 
 	private <T> T deserializeObject(final String label, final ObjectDeserializer<T> activator) {
-		try {
-			final byte[] bytes = this.readOptionalBytesUnchecked(label);
-			if (0 == bytes.length) {
-				return null;
-			}
+		final byte[] bytes = this.readOptionalBytesUnchecked(label);
+		if (null == bytes) {
+			throw new SerializationException("unexpected null object");
+		}
 
-			try (BinaryDeserializer deserializer = new BinaryDeserializer(bytes, this.getContext())) {
+		return this.deserializeObject(bytes, activator);
+	}
+
+	private <T> T deserializeObject(final byte[] bytes, final ObjectDeserializer<T> activator) {
+		if (0 == bytes.length) {
+			return null;
+		}
+
+		try {
+			try (BinaryDeserializer deserializer = new BinaryDeserializer(bytes, this.getContext(), this.pool)) {
 				return activator.deserialize(deserializer);
 			}
 		} catch (final Exception ex) {
@@ -121,13 +165,75 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 		}
 	}
 
+	private <T> List<T> deserializeObjectsInParallel(final int numObjects, final ObjectDeserializer<T> activator) {
+		// find the boundaries of all elements in a single pass
+		final int[] offsets = new int[numObjects];
+		final int[] sizes = new int[numObjects];
+		for (int i = 0; i < numObjects; ++i) {
+			sizes[i] = this.readIntUnchecked();
+			if (sizes[i] < 0) {
+				throw new SerializationException("unexpected null object");
+			}
+
+			this.requireAvailableBytes(sizes[i]);
+			offsets[i] = this.position;
+			this.position += sizes[i];
+		}
+
+		final Object[] objects = new Object[numObjects];
+		this.pool.invoke(new ParallelDeserializationAction<>(offsets, sizes, objects, 0, numObjects, activator));
+
+		@SuppressWarnings("unchecked")
+		final List<T> result = (List<T>)Arrays.asList(objects);
+		return new ArrayList<>(result);
+	}
+
+	private class ParallelDeserializationAction<T> extends RecursiveAction {
+		private final int[] offsets;
+		private final int[] sizes;
+		private final Object[] objects;
+		private final int startIndex;
+		private final int endIndex;
+		private final ObjectDeserializer<T> activator;
+
+		public ParallelDeserializationAction(
+				final int[] offsets,
+				final int[] sizes,
+				final Object[] objects,
+				final int startIndex,
+				final int endIndex,
+				final ObjectDeserializer<T> activator) {
+			this.offsets = offsets;
+			this.sizes = sizes;
+			this.objects = objects;
+			this.startIndex = startIndex;
+			this.endIndex = endIndex;
+			this.activator = activator;
+		}
+
+		@Override
+		protected void compute() {
+			if (1 == this.endIndex - this.startIndex) {
+				final int offset = this.offsets[this.startIndex];
+				final byte[] bytes = Arrays.copyOfRange(BinaryDeserializer.this.buffer, offset, offset + this.sizes[this.startIndex]);
+				this.objects[this.startIndex] = BinaryDeserializer.this.deserializeObject(bytes, this.activator);
+				return;
+			}
+
+			final int middleIndex = (this.startIndex + this.endIndex) >>> 1;
+			invokeAll(
+					new ParallelDeserializationAction<>(this.offsets, this.sizes, this.objects, this.startIndex, middleIndex, this.activator),
+					new ParallelDeserializationAction<>(this.offsets, this.sizes, this.objects, middleIndex, this.endIndex, this.activator));
+		}
+	}
+
 	/**
 	 * Determines if there is more data left to read.
 	 *
 	 * @return true if there is more data left to read.
 	 */
 	public boolean hasMoreData() {
-		return 0 != this.stream.available();
+		return 0 != this.availableBytes();
 	}
 
 	/**
@@ -136,32 +242,52 @@ public class BinaryDeserializer extends Deserializer implements AutoCloseable {
 	 * @return The number of unread bytes.
 	 */
 	public int availableBytes() {
-		return this.stream.available();
+		return this.buffer.length - this.position;
 	}
 
 	private <T> T readIfNotEmpty(final Supplier<T> supplier) {
 		return this.hasMoreData() ? supplier.get() : null;
 	}
 
-	private byte[] readBytes(final int numBytes) {
-		if (this.stream.available() < numBytes) {
-			throw new SerializationException("unexpected end of stream reached");
+	private void requireMoreData(final String label) {
+		if (!this.hasMoreData()) {
+			throw new MissingRequiredPropertyException(label);
 		}
+	}
 
-		if (0 == numBytes) {
-			return new byte[0];
+	private void requireAvailableBytes(final int numBytes) {
+		if (this.availableBytes() < numBytes) {
+			throw new SerializationException("unexpected end of stream reached");
 		}
+	}
 
-		try {
-			final byte[] bytes = new byte[numBytes];
-			final int numBytesRead = this.stream.read(bytes);
-			if (numBytesRead != numBytes) {
-				throw new SerializationException("unexpected end of stream reached");
-			}
+	private int readIntUnchecked() {
+		this.requireAvailableBytes(4);
+		final byte[] bytes = this.buffer;
+		final int offset = this.position;
+		this.position += 4;
+		return bytes[offset] & 0x000000FF
+				| (bytes[offset + 1] << 8) & 0x0000FF00
+				| (bytes[offset + 2] << 16) & 0x00FF0000
+				| (bytes[offset + 3] << 24) & 0xFF000000;
+	}
+
+	private long readLongUnchecked() {
+		this.requireAvailableBytes(8);
+		final long lowPart = this.readIntUnchecked();
+		final long highPart = this.readIntUnchecked();
+		return lowPart & 0x00000000FFFFFFFFL
+				| (highPart << 32) & 0xFFFFFFFF00000000L;
+	}
 
-			return bytes;
-		} catch (final IOException e) {
-			throw new SerializationException(e);
+	private byte[] readBytes(final int numBytes) {
+		if (numBytes < 0) {
+			throw new SerializationException("unexpected end of stream reached");
 		}
+
+		this.requireAvailableBytes(numBytes);
+		final byte[] bytes = Arrays.copyOfRange(this.buffer, this.position, this.position + numBytes);
+		this.position += numBytes;
+		return bytes;
 	}
 }
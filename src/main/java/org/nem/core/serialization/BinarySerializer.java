@@ -2,9 +2,8 @@ package org.nem.core.serialization;
 
 import org.nem.core.utils.StringEncoder;
 
-import java.io.*;
 import java.math.BigInteger;
-import java.util.Collection;
+import java.util.*;
 
 /**
  * A binary serializer that supports forward-only serialization.
@@ -16,7 +15,10 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 */
 	public static final int NULL_BYTES_SENTINEL_VALUE = 0xFFFFFFFF;
 
-	private final ByteArrayOutputStream stream;
+	private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+	private byte[] buffer;
+	private int position;
 
 	/**
 	 * Creates a new binary serializer.
@@ -32,18 +34,15 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 */
 	public BinarySerializer(final SerializationContext context) {
 		super(context);
-		this.stream = new ByteArrayOutputStream();
+		this.buffer = new byte[DEFAULT_INITIAL_CAPACITY];
+		this.position = 0;
 	}
 
 	@Override
 	public void writeInt(final String label, final int i) {
-		final byte[] bytes = {
-				(byte)(i & 0xFF),
-				(byte)((i >> 8) & 0xFF),
-				(byte)((i >> 16) & 0xFF),
-				(byte)((i >> 24) & 0xFF),
-		};
-		this.writeBytesInternal(bytes);
+		this.ensureCapacity(4);
+		this.writeIntUnchecked(this.position, i);
+		this.position += 4;
 	}
 
 	@Override
@@ -64,10 +63,6 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 
 	@Override
 	protected void writeBytesImpl(final String label, final byte[] bytes) {
-		this.writeBytesUnchecked(label, bytes);
-	}
-
-	private void writeBytesUnchecked(final String label, final byte[] bytes) {
 		if (null == bytes) {
 			this.writeInt(label, NULL_BYTES_SENTINEL_VALUE);
 		} else {
@@ -83,7 +78,7 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 
 	@Override
 	public void writeObject(final String label, final SerializableEntity object) {
-		this.writeBytesUnchecked(label, this.serializeObject(object));
+		this.writeObjectUnchecked(label, object);
 	}
 
 	@Override
@@ -95,28 +90,30 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 
 		this.writeInt(label, objects.size());
 		for (final SerializableEntity object : objects) {
-			this.writeBytesUnchecked(label, this.serializeObject(object));
+			this.writeObjectUnchecked(label, object);
 		}
 	}
 
 	@Override
-	public void close() throws IOException {
-		this.stream.close();
+	public void close() {
+		// the serializer does not own any resources
 	}
 
-	private byte[] serializeObject(final SerializableEntity object) {
+	private void writeObjectUnchecked(final String label, final SerializableEntity object) {
+		// the object is serialized in place and its size prefix is patched afterwards
+		final int sizePosition = this.position;
+		this.writeInt(label, 0);
 		if (null == object) {
-			return new byte[0];
+			return;
 		}
 
 		try {
-			try (BinarySerializer serializer = new BinarySerializer(this.getContext())) {
-				object.serialize(serializer);
-				return serializer.getBytes();
-			}
+			object.serialize(this);
 		} catch (final Exception ex) {
 			throw new SerializationException(ex);
 		}
+
+		this.writeIntUnchecked(sizePosition, this.position - sizePosition - 4);
 	}
 
 	/**
@@ -125,11 +122,34 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 * @return The underlying byte buffer.
 	 */
 	public byte[] getBytes() {
-		return this.stream.toByteArray();
+		return Arrays.copyOf(this.buffer, this.position);
+	}
+
+	private byte[] detachBytes() {
+		return this.buffer.length == this.position ? this.buffer : this.getBytes();
 	}
 
 	private void writeBytesInternal(final byte[] bytes) {
-		this.stream.write(bytes, 0, bytes.length);
+		this.ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+		this.position += bytes.length;
+	}
+
+	private void writeIntUnchecked(final int offset, final int i) {
+		final byte[] bytes = this.buffer;
+		bytes[offset] = (byte)i;
+		bytes[offset + 1] = (byte)(i >> 8);
+		bytes[offset + 2] = (byte)(i >> 16);
+		bytes[offset + 3] = (byte)(i >> 24);
+	}
+
+	private void ensureCapacity(final int numBytes) {
+		final int requiredCapacity = this.position + numBytes;
+		if (requiredCapacity <= this.buffer.length) {
+			return;
+		}
+
+		this.buffer = Arrays.copyOf(this.buffer, Math.max(requiredCapacity, this.buffer.length * 2));
 	}
 
 	/**
@@ -139,11 +159,9 @@ public class BinarySerializer extends Serializer implements AutoCloseable {
 	 * @return The resulting byte array.
 	 */
 	public static byte[] serializeToBytes(final SerializableEntity entity) {
-		try {
-			try (BinarySerializer binarySerializer = new BinarySerializer()) {
-				entity.serialize(binarySerializer);
-				return binarySerializer.getBytes();
-			}
+		try (BinarySerializer binarySerializer = new BinarySerializer()) {
+			entity.serialize(binarySerializer);
+			return binarySerializer.detachBytes();
 		} catch (final Exception e) {
 			throw new SerializationException(e);
 		}
@@ -1,5 +1,6 @@
 package org.nem.core.serialization;
 
+import org.nem.core.crypto.PublicKey;
 import org.nem.core.model.*;
 
 /**
@@ -26,4 +27,14 @@ public class DeserializationContext extends SerializationContext {
 	public Account findAccountByAddress(final Address id) {
 		return this.accountLookup.findByAddress(id);
 	}
+
+	/**
+	 * Gets an account with the specified public key.
+	 *
+	 * @param publicKey The public key.
+	 * @return The account with the specified public key.
+	 */
+	public Account findAccountByPublicKey(final PublicKey publicKey) {
+		return new Account(Address.fromPublicKey(publicKey));
+	}
 }
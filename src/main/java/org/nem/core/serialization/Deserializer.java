@@ -44,6 +44,17 @@ public abstract class Deserializer {
 	 */
 	public abstract Integer readOptionalInt(final String label);
 
+	/**
+	 * Reads a 32-bit integer value without boxing it.
+	 * By default, the boxed value is read and unboxed; derived classes can avoid the boxing.
+	 *
+	 * @param label The optional name of the value.
+	 * @return The read value.
+	 */
+	public int readIntPrimitive(final String label) {
+		return this.readInt(label);
+	}
+
 	//endregion
 
 	//region read[Optional]Long
@@ -66,6 +77,17 @@ public abstract class Deserializer {
 	 */
 	public abstract Long readOptionalLong(final String label);
 
+	/**
+	 * Reads a 64-bit long value without boxing it.
+	 * By default, the boxed value is read and unboxed; derived classes can avoid the boxing.
+	 *
+	 * @param label The optional name of the value.
+	 * @return The read value.
+	 */
+	public long readLongPrimitive(final String label) {
+		return this.readLong(label);
+	}
+
 	//endregion
 
 	//region read[Optional]Double
@@ -88,6 +110,17 @@ public abstract class Deserializer {
 	 */
 	public abstract Double readOptionalDouble(final String label);
 
+	/**
+	 * Reads a 64-bit double value without boxing it.
+	 * By default, the boxed value is read and unboxed; derived classes can avoid the boxing.
+	 *
+	 * @param label The optional name of the value.
+	 * @return The read value.
+	 */
+	public double readDoublePrimitive(final String label) {
+		return this.readDouble(label);
+	}
+
 	//endregion
 
 	//region read[Optional]BigInteger
@@ -0,0 +1,94 @@
+package org.nem.core.serialization;
+
+import org.nem.core.crypto.PublicKey;
+import org.nem.core.model.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A deserialization context that canonicalizes accounts (and their addresses and public keys) across
+ * all entities deserialized with it.
+ * <br>
+ * This is intended for bulk deserialization (e.g. of chain segments) where the same accounts appear many times.
+ * Repeated occurrences of an account share the same Account, Address and PublicKey instances and
+ * public key occurrences skip the (expensive) address derivation.
+ * <br>
+ * The pool is bounded; once it is full, unknown accounts are still resolved but are no longer pooled.
+ */
+public class InterningDeserializationContext extends DeserializationContext {
+	private final int maxSize;
+	private final ConcurrentHashMap<PublicKey, Account> publicKeyToAccountMap = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Address, Account> addressToAccountMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new interning context.
+	 *
+	 * @param accountLookup The account lookup policy.
+	 * @param maxSize The maximum number of pooled accounts.
+	 */
+	public InterningDeserializationContext(final SimpleAccountLookup accountLookup, final int maxSize) {
+		super(accountLookup);
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Gets the number of pooled accounts.
+	 *
+	 * @return The number of pooled accounts.
+	 */
+	public int size() {
+		return this.addressToAccountMap.size();
+	}
+
+	@Override
+	public Account findAccountByAddress(final Address id) {
+		final Account pooledAccount = this.addressToAccountMap.get(id);
+		if (null != pooledAccount) {
+			return pooledAccount;
+		}
+
+		final Account account = super.findAccountByAddress(id);
+		return null == account ? null : this.intern(account);
+	}
+
+	@Override
+	public Account findAccountByPublicKey(final PublicKey publicKey) {
+		final Account pooledAccount = this.publicKeyToAccountMap.get(publicKey);
+		if (null != pooledAccount) {
+			return pooledAccount;
+		}
+
+		final Account account = this.intern(super.findAccountByPublicKey(publicKey));
+		if (this.hasCapacity(this.publicKeyToAccountMap.size())) {
+			final Account previousAccount = this.publicKeyToAccountMap.putIfAbsent(publicKey, account);
+			return null == previousAccount ? account : previousAccount;
+		}
+
+		return account;
+	}
+
+	private Account intern(final Account account) {
+		final Address address = account.getAddress();
+		final Account pooledAccount = this.addressToAccountMap.get(address);
+		if (null != pooledAccount) {
+			// prefer an account with a public key over an account that is only known by its address
+			if (pooledAccount.hasPublicKey() || !account.hasPublicKey()) {
+				return pooledAccount;
+			}
+
+			this.addressToAccountMap.replace(address, pooledAccount, account);
+			return this.addressToAccountMap.getOrDefault(address, account);
+		}
+
+		if (!this.hasCapacity(this.addressToAccountMap.size())) {
+			return account;
+		}
+
+		final Account previousAccount = this.addressToAccountMap.putIfAbsent(address, account);
+		return null == previousAccount ? account : previousAccount;
+	}
+
+	private boolean hasCapacity(final int size) {
+		return size < this.maxSize;
+	}
+}
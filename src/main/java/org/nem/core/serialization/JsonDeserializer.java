@@ -30,13 +30,52 @@ public class JsonDeserializer extends Deserializer {
 
 	@Override
 	public Integer readOptionalInt(final String label) {
+		final Object object = this.readOptionalValue(label);
+		return null == object ? null : toInt(label, object);
+	}
+
+	@Override
+	public int readIntPrimitive(final String label) {
+		return toInt(label, this.readRequiredValue(label));
+	}
+
+	@Override
+	public Long readOptionalLong(final String label) {
+		final Object object = this.readOptionalValue(label);
+		return null == object ? null : toLong(label, object);
+	}
+
+	@Override
+	public long readLongPrimitive(final String label) {
+		return toLong(label, this.readRequiredValue(label));
+	}
+
+	@Override
+	public Double readOptionalDouble(final String label) {
+		final Object object = this.readOptionalValue(label);
+		return null == object ? null : toDouble(label, object);
+	}
+
+	@Override
+	public double readDoublePrimitive(final String label) {
+		return toDouble(label, this.readRequiredValue(label));
+	}
+
+	private Object readOptionalValue(final String label) {
 		this.checkLabel(label);
+		return this.object.get(label);
+	}
 
-		final Object object = this.object.get(label);
+	private Object readRequiredValue(final String label) {
+		final Object object = this.readOptionalValue(label);
 		if (null == object) {
-			return null;
+			throw new MissingRequiredPropertyException(label);
 		}
 
+		return object;
+	}
+
+	private static int toInt(final String label, final Object object) {
 		if (object instanceof Integer) {
 			return (Integer)object;
 		}
@@ -48,15 +87,7 @@ public class JsonDeserializer extends Deserializer {
 		throw new TypeMismatchException(label);
 	}
 
-	@Override
-	public Long readOptionalLong(final String label) {
-		this.checkLabel(label);
-
-		final Object object = this.object.get(label);
-		if (null == object) {
-			return null;
-		}
-
+	private static long toLong(final String label, final Object object) {
 		if (object instanceof Integer) {
 			return ((Integer)object).longValue();
 		}
@@ -68,15 +99,7 @@ public class JsonDeserializer extends Deserializer {
 		throw new TypeMismatchException(label);
 	}
 
-	@Override
-	public Double readOptionalDouble(final String label) {
-		this.checkLabel(label);
-
-		final Object object = this.object.get(label);
-		if (null == object) {
-			return null;
-		}
-
+	private static double toDouble(final String label, final Object object) {
 		if (object instanceof BigDecimal) {
 			return ((BigDecimal)object).doubleValue();
 		}
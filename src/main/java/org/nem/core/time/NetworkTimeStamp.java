@@ -1,12 +1,12 @@
 package org.nem.core.time;
 
-import org.nem.core.model.primitive.AbstractPrimitive;
+import org.nem.core.model.primitive.AbstractLongPrimitive;
 import org.nem.core.serialization.*;
 
 /**
  * Represents an time stamp in the NEM network in ms.
  */
-public class NetworkTimeStamp extends AbstractPrimitive<NetworkTimeStamp, Long> {
+public class NetworkTimeStamp extends AbstractLongPrimitive<NetworkTimeStamp> {
 
 	/**
 	 * Creates a network time stamp.
@@ -14,7 +14,7 @@ public class NetworkTimeStamp extends AbstractPrimitive<NetworkTimeStamp, Long>
 	 * @param timeStamp The network time stamp.
 	 */
 	public NetworkTimeStamp(final long timeStamp) {
-		super(timeStamp, NetworkTimeStamp.class);
+		super(timeStamp);
 	}
 
 	/**
@@ -22,7 +22,7 @@ public class NetworkTimeStamp extends AbstractPrimitive<NetworkTimeStamp, Long>
 	 *
 	 * @return The underlying time stamp.
 	 */
-	public Long getRaw() {
+	public long getRaw() {
 		return this.getValue();
 	}
 
@@ -32,7 +32,7 @@ public class NetworkTimeStamp extends AbstractPrimitive<NetworkTimeStamp, Long>
 	 * @param other The other network time stamp.
 	 * @return The difference in time stamps.
 	 */
-	public Long subtract(final NetworkTimeStamp other) {
+	public long subtract(final NetworkTimeStamp other) {
 		return this.getRaw() - other.getRaw();
 	}
 
@@ -57,7 +57,7 @@ public class NetworkTimeStamp extends AbstractPrimitive<NetworkTimeStamp, Long>
 	 * @return The read object.
 	 */
 	public static NetworkTimeStamp readFrom(final Deserializer deserializer, final String label) {
-		return new NetworkTimeStamp(deserializer.readLong(label));
+		return new NetworkTimeStamp(deserializer.readLongPrimitive(label));
 	}
 
 	//endregion
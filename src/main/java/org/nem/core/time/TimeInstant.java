@@ -138,7 +138,7 @@ public class TimeInstant implements Comparable<TimeInstant> {
 	 * @return The read object.
 	 */
 	public static TimeInstant readFrom(final Deserializer deserializer, final String label) {
-		return new TimeInstant(deserializer.readInt(label));
+		return new TimeInstant(deserializer.readIntPrimitive(label));
 	}
 
 	//endregion
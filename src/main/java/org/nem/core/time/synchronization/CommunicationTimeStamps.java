@@ -57,7 +57,7 @@ public class CommunicationTimeStamps implements SerializableEntity {
 
 	@Override
 	public int hashCode() {
-		return this.sendTimeStamp.getRaw().hashCode() ^ this.receiveTimeStamp.getRaw().hashCode();
+		return Long.hashCode(this.sendTimeStamp.getRaw()) ^ Long.hashCode(this.receiveTimeStamp.getRaw());
 	}
 
 	@Override
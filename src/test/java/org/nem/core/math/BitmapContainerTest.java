@@ -0,0 +1,175 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+
+import java.util.*;
+
+public class BitmapContainerTest {
+	private static final int MAX_ARRAY_SIZE = BitmapContainer.MAX_ARRAY_SIZE;
+
+	//region create / add
+
+	@Test
+	public void canCreateContainerWithSingleValue() {
+		// Act:
+		final BitmapContainer container = BitmapContainer.create(17);
+
+		// Assert:
+		Assert.assertThat(container.cardinality(), IsEqual.equalTo(1));
+		Assert.assertThat(container.contains(17), IsEqual.equalTo(true));
+		Assert.assertThat(container.contains(16), IsEqual.equalTo(false));
+		Assert.assertThat(container.last(), IsEqual.equalTo(17));
+	}
+
+	@Test
+	public void addingExistingValueDoesNotChangeContainer() {
+		// Arrange:
+		final BitmapContainer container = createContainer(0, 10);
+
+		// Act:
+		final BitmapContainer result = container.add(6);
+
+		// Assert:
+		Assert.assertThat(result, IsSame.sameInstance(container));
+		Assert.assertThat(result.cardinality(), IsEqual.equalTo(10));
+	}
+
+	@Test
+	public void addingValuesInAnyOrderKeepsValuesSorted() {
+		// Act:
+		final BitmapContainer container = BitmapContainer.create(65535).add(3).add(1000).add(0);
+
+		// Assert:
+		Assert.assertThat(toList(container), IsEqual.equalTo(Arrays.asList(0, 3, 1000, 65535)));
+		Assert.assertThat(container.last(), IsEqual.equalTo(65535));
+	}
+
+	@Test
+	public void sparseContainerIsConvertedToDenseContainerWhenFull() {
+		// Arrange:
+		final BitmapContainer container = createContainer(0, MAX_ARRAY_SIZE);
+
+		// Act:
+		final BitmapContainer result = container.add(65535);
+
+		// Assert:
+		Assert.assertThat(result, IsNot.not(IsSame.sameInstance(container)));
+		Assert.assertThat(result.cardinality(), IsEqual.equalTo(MAX_ARRAY_SIZE + 1));
+		Assert.assertThat(result.contains(65535), IsEqual.equalTo(true));
+		Assert.assertThat(result.last(), IsEqual.equalTo(65535));
+		Assert.assertThat(result.iterator(0).nextInt(), IsEqual.equalTo(0));
+	}
+
+	//endregion
+
+	//region createFromWords
+
+	@Test
+	public void createFromWordsCreatesEqualContainerForSparseAndDenseValues() {
+		// Arrange:
+		for (final int numValues : Arrays.asList(1, MAX_ARRAY_SIZE, MAX_ARRAY_SIZE + 1, 20000)) {
+			final BitmapContainer container = createContainer(100, numValues);
+			final long[] words = new long[BitmapContainer.NUM_WORDS];
+			container.orInto(words);
+
+			// Act:
+			final BitmapContainer result = BitmapContainer.createFromWords(words);
+			words[0] = -1;
+
+			// Assert:
+			Assert.assertThat(result, IsEqual.equalTo(container));
+			Assert.assertThat(result.hashCode(), IsEqual.equalTo(container.hashCode()));
+			Assert.assertThat(result.contains(0), IsEqual.equalTo(false));
+		}
+	}
+
+	//endregion
+
+	//region logical operations
+
+	@Test
+	public void logicalOperationsReturnCorrectResultsForAllContainerCombinations() {
+		// Arrange: sparse and dense containers with overlapping values
+		final List<BitmapContainer> lhsContainers = Arrays.asList(createContainer(0, 100), createContainer(0, 10000));
+		final List<BitmapContainer> rhsContainers = Arrays.asList(createContainer(50, 100), createContainer(5000, 10000));
+		for (final BitmapContainer lhs : lhsContainers) {
+			for (final BitmapContainer rhs : rhsContainers) {
+				final Set<Integer> lhsSet = new HashSet<>(toList(lhs));
+				final Set<Integer> rhsSet = new HashSet<>(toList(rhs));
+
+				// Act:
+				final BitmapContainer orResult = lhs.or(rhs);
+				final BitmapContainer andResult = lhs.and(rhs);
+				final BitmapContainer andNotResult = lhs.andNot(rhs);
+				final int andCardinality = lhs.andCardinality(rhs);
+
+				// Assert:
+				final Set<Integer> orSet = new TreeSet<>(lhsSet);
+				orSet.addAll(rhsSet);
+				final Set<Integer> andSet = new TreeSet<>(lhsSet);
+				andSet.retainAll(rhsSet);
+				final Set<Integer> andNotSet = new TreeSet<>(lhsSet);
+				andNotSet.removeAll(rhsSet);
+
+				assertContainer(orResult, orSet);
+				assertContainer(andResult, andSet);
+				assertContainer(andNotResult, andNotSet);
+				Assert.assertThat(andCardinality, IsEqual.equalTo(andSet.size()));
+			}
+		}
+	}
+
+	@Test
+	public void logicalOperationsDoNotModifyOperands() {
+		// Arrange:
+		final BitmapContainer lhs = createContainer(0, 10000);
+		final BitmapContainer rhs = createContainer(5000, 100);
+
+		// Act:
+		lhs.or(rhs).add(60000);
+		lhs.and(rhs).add(60001);
+		lhs.andNot(rhs).add(60002);
+
+		// Assert:
+		Assert.assertThat(lhs, IsEqual.equalTo(createContainer(0, 10000)));
+		Assert.assertThat(rhs, IsEqual.equalTo(createContainer(5000, 100)));
+	}
+
+	//endregion
+
+	private static void assertContainer(final BitmapContainer container, final Set<Integer> expectedValues) {
+		Assert.assertThat(toList(container), IsEqual.equalTo(new ArrayList<>(expectedValues)));
+		Assert.assertThat(container.cardinality(), IsEqual.equalTo(expectedValues.size()));
+
+		// normalized containers are equal to containers created by adding values
+		if (!expectedValues.isEmpty()) {
+			Assert.assertThat(container, IsEqual.equalTo(createContainer(expectedValues)));
+		}
+	}
+
+	private static BitmapContainer createContainer(final int start, final int numValues) {
+		final List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < numValues; ++i) {
+			values.add(start + i * 3);
+		}
+
+		return createContainer(values);
+	}
+
+	private static BitmapContainer createContainer(final Collection<Integer> values) {
+		final Iterator<Integer> iterator = values.iterator();
+		BitmapContainer container = BitmapContainer.create(iterator.next());
+		while (iterator.hasNext()) {
+			container = container.add(iterator.next());
+		}
+
+		return container;
+	}
+
+	private static List<Integer> toList(final BitmapContainer container) {
+		final List<Integer> values = new ArrayList<>();
+		container.forEach(0, values::add);
+		return values;
+	}
+}
@@ -282,6 +282,42 @@ public class ColumnVectorTest {
 		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(10, 4, 9)));
 	}
 
+	@Test
+	public void scalarCanBeAddedToVectorInPlace() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(2, -4, 1);
+
+		// Act:
+		a.addInPlace(8);
+
+		// Assert:
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(10, 4, 9)));
+	}
+
+	@Test
+	public void scalarCanBeAddedToVectorIntoResultVector() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(2, -4, 1);
+		final ColumnVector result = new ColumnVector(7, 7, 7);
+
+		// Act:
+		a.addInto(8, result);
+
+		// Assert:
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(2, -4, 1)));
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(10, 4, 9)));
+	}
+
+	@Test
+	public void scalarCannotBeAddedToVectorIntoResultVectorWithDifferentSize() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(2, -4, 1);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> a.addInto(8, new ColumnVector(2)), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> a.addInto(8, new ColumnVector(4)), IllegalArgumentException.class);
+	}
+
 	//endregion
 
 	//region addElementWise
@@ -312,6 +348,62 @@ public class ColumnVectorTest {
 		ExceptionAssert.assertThrows(v -> smallerVector.addElementWise(largerVector), IllegalArgumentException.class);
 	}
 
+	@Test
+	public void twoVectorsOfSameSizeCanBeAddedTogetherElementWiseInPlace() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(7, 5, 11);
+		final ColumnVector b = new ColumnVector(2, -4, 1);
+
+		// Act:
+		a.addElementWiseInPlace(b);
+
+		// Assert:
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(9, 1, 12)));
+		Assert.assertThat(b, IsEqual.equalTo(new ColumnVector(2, -4, 1)));
+	}
+
+	@Test
+	public void twoVectorsOfSameSizeCanBeAddedTogetherElementWiseIntoResultVector() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(7, 5, 11);
+		final ColumnVector b = new ColumnVector(2, -4, 1);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		a.addElementWiseInto(b, result);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(9, 1, 12)));
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(7, 5, 11)));
+		Assert.assertThat(b, IsEqual.equalTo(new ColumnVector(2, -4, 1)));
+	}
+
+	@Test
+	public void vectorCanBeAddedToItselfElementWiseInPlace() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(7, 5, 11);
+
+		// Act:
+		a.addElementWiseInPlace(a);
+
+		// Assert:
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(14, 10, 22)));
+	}
+
+	@Test
+	public void differentSizedVectorsCannotBeAddedTogetherInPlaceOrIntoResultVector() {
+		// Arrange:
+		final ColumnVector largerVector = new ColumnVector(8);
+		final ColumnVector smallerVector = new ColumnVector(7);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> largerVector.addElementWiseInPlace(smallerVector), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> smallerVector.addElementWiseInPlace(largerVector), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(
+				v -> smallerVector.addElementWiseInto(smallerVector, largerVector),
+				IllegalArgumentException.class);
+	}
+
 	//endregion
 
 	//region distance / getMagnitude
@@ -443,6 +535,32 @@ public class ColumnVectorTest {
 		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(16, -32, 8)));
 	}
 
+	@Test
+	public void vectorCanBeMultipliedByScalarInPlace() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(2, -4, 1);
+
+		// Act:
+		a.multiplyInPlace(8);
+
+		// Assert:
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(16, -32, 8)));
+	}
+
+	@Test
+	public void vectorCanBeMultipliedByScalarIntoResultVector() {
+		// Arrange:
+		final ColumnVector a = new ColumnVector(2, -4, 1);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		a.multiplyInto(8, result);
+
+		// Assert:
+		Assert.assertThat(a, IsEqual.equalTo(new ColumnVector(2, -4, 1)));
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(16, -32, 8)));
+	}
+
 	//endregion
 
 	//region multiplyElementWise
@@ -482,6 +600,45 @@ public class ColumnVectorTest {
 		v1.multiplyElementWise(v2);
 	}
 
+	@Test
+	public void vectorCanBeMultipliedByVectorElementWiseInPlace() {
+		// Arrange:
+		final ColumnVector v1 = new ColumnVector(3, 7, 2);
+		final ColumnVector v2 = new ColumnVector(1, 5, 3);
+
+		// Act:
+		v1.multiplyElementWiseInPlace(v2);
+
+		// Assert:
+		Assert.assertThat(v1, IsEqual.equalTo(new ColumnVector(3, 35, 6)));
+		Assert.assertThat(v2, IsEqual.equalTo(new ColumnVector(1, 5, 3)));
+	}
+
+	@Test
+	public void vectorCanBeMultipliedByVectorElementWiseIntoResultVector() {
+		// Arrange:
+		final ColumnVector v1 = new ColumnVector(3, 7, 2);
+		final ColumnVector v2 = new ColumnVector(1, 5, 3);
+
+		// Act: the second vector can be used as the result
+		v1.multiplyElementWiseInto(v2, v2);
+
+		// Assert:
+		Assert.assertThat(v1, IsEqual.equalTo(new ColumnVector(3, 7, 2)));
+		Assert.assertThat(v2, IsEqual.equalTo(new ColumnVector(3, 35, 6)));
+	}
+
+	@Test
+	public void vectorCannotBeMultipliedByVectorElementWiseInPlaceWithDifferentSize() {
+		// Arrange:
+		final ColumnVector v1 = new ColumnVector(3);
+		final ColumnVector v2 = new ColumnVector(2);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> v1.multiplyElementWiseInPlace(v2), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> v2.multiplyElementWiseInPlace(v1), IllegalArgumentException.class);
+	}
+
 	//endregion
 
 	//region roundTo / abs / sqrt
@@ -525,6 +682,96 @@ public class ColumnVectorTest {
 		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(25.0, 6.0, 11.0)));
 	}
 
+	@Test
+	public void vectorCanBeRoundedInPlace() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(0.00024452, -0.123, 0.577);
+
+		// Act:
+		vector.roundToInPlace(2);
+
+		// Assert:
+		Assert.assertThat(vector, IsEqual.equalTo(new ColumnVector(0.00, -0.12, 0.58)));
+	}
+
+	@Test
+	public void vectorCanBeRoundedIntoResultVector() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(0.00024452, -0.123, 0.577);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		vector.roundToInto(2, result);
+
+		// Assert:
+		Assert.assertThat(vector, IsEqual.equalTo(new ColumnVector(0.00024452, -0.123, 0.577)));
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(0.00, -0.12, 0.58)));
+	}
+
+	@Test
+	public void vectorAbsoluteValueCanBeTakenInPlace() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(12.4, -2.1, 7);
+
+		// Act:
+		vector.absInPlace();
+
+		// Assert:
+		Assert.assertThat(vector, IsEqual.equalTo(new ColumnVector(12.4, 2.1, 7)));
+	}
+
+	@Test
+	public void vectorAbsoluteValueCanBeTakenIntoResultVector() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(12.4, -2.1, 7);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		vector.absInto(result);
+
+		// Assert:
+		Assert.assertThat(vector, IsEqual.equalTo(new ColumnVector(12.4, -2.1, 7)));
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(12.4, 2.1, 7)));
+	}
+
+	@Test
+	public void vectorCanBeSquareRootedInPlace() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(625, 36, 121);
+
+		// Act:
+		vector.sqrtInPlace();
+
+		// Assert:
+		Assert.assertThat(vector, IsEqual.equalTo(new ColumnVector(25.0, 6.0, 11.0)));
+	}
+
+	@Test
+	public void vectorCanBeSquareRootedIntoResultVector() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(625, 36, 121);
+		final ColumnVector result = new ColumnVector(3);
+
+		// Act:
+		vector.sqrtInto(result);
+
+		// Assert:
+		Assert.assertThat(vector, IsEqual.equalTo(new ColumnVector(625, 36, 121)));
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(25.0, 6.0, 11.0)));
+	}
+
+	@Test
+	public void transformCannotWriteIntoResultVectorWithDifferentSize() {
+		// Arrange:
+		final ColumnVector vector = new ColumnVector(625, 36, 121);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> vector.roundToInto(2, new ColumnVector(2)), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> vector.absInto(new ColumnVector(2)), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> vector.sqrtInto(new ColumnVector(4)), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> vector.multiplyInto(2, new ColumnVector(4)), IllegalArgumentException.class);
+	}
+
 	//endregion
 
 	//region isZeroVector
@@ -0,0 +1,333 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.test.ExceptionAssert;
+
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class CompressedSparseRowMatrixTest {
+
+	//region create
+
+	@Test
+	public void canCreateMatrixFromSparseMatrix() {
+		// Arrange:
+		final SparseMatrix source = createSparseMatrix(3, 4, new double[] { 2, 0, 0, 7, 0, 0, 0, 0, -5, 8, 1, 0 });
+
+		// Act:
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.create(source);
+
+		// Assert:
+		Assert.assertThat(matrix.getRowCount(), IsEqual.equalTo(3));
+		Assert.assertThat(matrix.getColumnCount(), IsEqual.equalTo(4));
+		Assert.assertThat(matrix.getNonZeroCount(), IsEqual.equalTo(5));
+		Assert.assertThat(matrix.getNonZeroColumnCount(0), IsEqual.equalTo(2));
+		Assert.assertThat(matrix.getNonZeroColumnCount(1), IsEqual.equalTo(0));
+		Assert.assertThat(matrix.getNonZeroColumnCount(2), IsEqual.equalTo(3));
+		Assert.assertThat(matrix, IsEqual.equalTo(source));
+	}
+
+	@Test
+	public void canCreateMatrixFromSparseMatrixWithValuesAddedOutOfOrder() {
+		// Arrange:
+		final SparseMatrix source = new SparseMatrix(2, 3, 1);
+		source.setAt(1, 2, 4);
+		source.setAt(1, 0, 3);
+		source.setAt(0, 2, 2);
+		source.setAt(0, 1, 1);
+
+		// Act:
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.create(source);
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createSparseMatrix(2, 3, new double[] { 0, 1, 2, 3, 0, 4 })));
+	}
+
+	@Test
+	public void canCreateTransposedMatrixFromSparseMatrix() {
+		// Arrange:
+		final SparseMatrix source = createSparseMatrix(3, 4, new double[] { 2, 0, 0, 7, 0, 0, 0, 0, -5, 8, 1, 0 });
+
+		// Act:
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.createTransposed(source);
+
+		// Assert:
+		Assert.assertThat(matrix.getRowCount(), IsEqual.equalTo(4));
+		Assert.assertThat(matrix.getColumnCount(), IsEqual.equalTo(3));
+		Assert.assertThat(matrix.getNonZeroCount(), IsEqual.equalTo(5));
+		Assert.assertThat(matrix.getNonZeroColumnCount(0), IsEqual.equalTo(2));
+		Assert.assertThat(matrix.getNonZeroColumnCount(1), IsEqual.equalTo(1));
+		Assert.assertThat(matrix.getNonZeroColumnCount(2), IsEqual.equalTo(1));
+		Assert.assertThat(matrix.getNonZeroColumnCount(3), IsEqual.equalTo(1));
+		Assert.assertThat(matrix, IsEqual.equalTo(source.transpose()));
+	}
+
+	@Test
+	public void canCreateMatrixFromEmptySparseMatrix() {
+		// Act:
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.create(new SparseMatrix(3, 2, 1));
+
+		// Assert:
+		Assert.assertThat(matrix.getNonZeroCount(), IsEqual.equalTo(0));
+		Assert.assertThat(matrix.isZeroMatrix(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void matrixIsStoredOnHeapByDefault() {
+		// Act:
+		final CompressedSparseRowMatrix matrix = createMatrix(2, 3, new double[] { 0, 1, 0, 3, 0, 4 });
+
+		// Assert:
+		Assert.assertThat(matrix.isOffHeap(), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void canCreateOffHeapMatrixFromSparseMatrix() {
+		// Arrange:
+		final SparseMatrix source = createSparseMatrix(3, 4, new double[] { 2, 0, 0, 7, 0, 0, 0, 0, -5, 8, 1, 0 });
+
+		// Act:
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.createOffHeap(source, null);
+
+		// Assert:
+		Assert.assertThat(matrix.isOffHeap(), IsEqual.equalTo(true));
+		Assert.assertThat(matrix.getNonZeroCount(), IsEqual.equalTo(5));
+		Assert.assertThat(matrix.getAt(0, 3), IsEqual.equalTo(7.0));
+		Assert.assertThat(matrix.getAt(1, 3), IsEqual.equalTo(0.0));
+		Assert.assertThat(matrix.absSum(), IsEqual.equalTo(23.0));
+		Assert.assertThat(matrix.getColumnSumVector(), IsEqual.equalTo(new ColumnVector(-3, 8, 1, 7)));
+		Assert.assertThat(matrix, IsEqual.equalTo(source));
+	}
+
+	@Test
+	public void canCreateOffHeapTransposedMatrixFromSparseMatrix() {
+		// Arrange:
+		final SparseMatrix source = createSparseMatrix(3, 4, new double[] { 2, 0, 0, 7, 0, 0, 0, 0, -5, 8, 1, 0 });
+
+		// Act:
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.createTransposedOffHeap(source, null);
+
+		// Assert:
+		Assert.assertThat(matrix.isOffHeap(), IsEqual.equalTo(true));
+		Assert.assertThat(matrix, IsEqual.equalTo(source.transpose()));
+	}
+
+	//endregion
+
+	//region getAt / setAt
+
+	@Test
+	public void getAtReturnsZeroForMissingValues() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(2, 3, new double[] { 0, 1, 0, 3, 0, 4 });
+
+		// Assert:
+		Assert.assertThat(matrix.getAt(0, 0), IsEqual.equalTo(0.0));
+		Assert.assertThat(matrix.getAt(0, 1), IsEqual.equalTo(1.0));
+		Assert.assertThat(matrix.getAt(0, 2), IsEqual.equalTo(0.0));
+		Assert.assertThat(matrix.getAt(1, 0), IsEqual.equalTo(3.0));
+		Assert.assertThat(matrix.getAt(1, 1), IsEqual.equalTo(0.0));
+		Assert.assertThat(matrix.getAt(1, 2), IsEqual.equalTo(4.0));
+	}
+
+	@Test
+	public void matrixCannotBeModified() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(2, 3, new double[] { 0, 1, 0, 3, 0, 4 });
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> matrix.setAt(0, 1, 7), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> matrix.setAt(0, 0, 7), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> matrix.scale(2), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> matrix.normalizeColumns(), UnsupportedOperationException.class);
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createSparseMatrix(2, 3, new double[] { 0, 1, 0, 3, 0, 4 })));
+	}
+
+	@Test
+	public void derivedMatricesCanBeModified() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(2, 3, new double[] { 0, 1, 0, 3, 0, 4 });
+
+		// Act:
+		final Matrix result = matrix.multiply(2);
+		result.setAt(0, 0, 5);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(createSparseMatrix(2, 3, new double[] { 5, 2, 0, 6, 0, 8 })));
+	}
+
+	//endregion
+
+	//region forEach / getNonZeroElementRowIterator
+
+	@Test
+	public void forEachVisitsAllNonZeroElementsInRowMajorOrder() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(3, 2, new double[] { 2, 0, 0, 1, -5, 8 });
+
+		// Act:
+		final List<MatrixElement> elements = new ArrayList<>();
+		matrix.forEach((row, col, value) -> elements.add(new MatrixElement(row, col, value)));
+
+		// Assert:
+		Assert.assertThat(
+				elements,
+				IsEqual.equalTo(Arrays.asList(
+						new MatrixElement(0, 0, 2.0),
+						new MatrixElement(1, 1, 1.0),
+						new MatrixElement(2, 0, -5.0),
+						new MatrixElement(2, 1, 8.0))));
+	}
+
+	@Test
+	public void rowIteratorReturnsAllNonZeroElementsInRow() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(2, 4, new double[] { 2, 0, 3, 7, 0, 0, 0, 0 });
+
+		// Act:
+		final MatrixNonZeroElementRowIterator iterator = matrix.getNonZeroElementRowIterator(0);
+		final List<MatrixElement> elements = new ArrayList<>();
+		while (iterator.hasNext()) {
+			elements.add(iterator.next());
+		}
+
+		// Assert:
+		Assert.assertThat(
+				elements,
+				IsEqual.equalTo(Arrays.asList(
+						new MatrixElement(0, 0, 2.0),
+						new MatrixElement(0, 2, 3.0),
+						new MatrixElement(0, 3, 7.0))));
+		Assert.assertThat(matrix.getNonZeroElementRowIterator(1).hasNext(), IsEqual.equalTo(false));
+		ExceptionAssert.assertThrows(v -> iterator.next(), IndexOutOfBoundsException.class);
+	}
+
+	//endregion
+
+	//region multiply
+
+	@Test
+	public void multiplyReturnsCorrectResult() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(3, 2, new double[] { 2, 0, 0, 1, -5, 8 });
+
+		// Act:
+		final ColumnVector result = matrix.multiply(new ColumnVector(3, 7));
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(6, 7, 41)));
+	}
+
+	@Test
+	public void transposedMultiplyReturnsCorrectResult() {
+		// Arrange:
+		final SparseMatrix source = createSparseMatrix(3, 2, new double[] { 2, 0, 0, 1, -5, 8 });
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.createTransposed(source);
+
+		// Act:
+		final ColumnVector result = matrix.multiply(new ColumnVector(3, 7, 1));
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(1, 15)));
+	}
+
+	@Test
+	public void cannotMultiplyByVectorWithIncompatibleSize() {
+		// Arrange:
+		final CompressedSparseRowMatrix matrix = createMatrix(3, 2, new double[] { 2, 0, 0, 1, -5, 8 });
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> matrix.multiply(new ColumnVector(3)), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void parallelMultiplyReturnsSameResultAsSparseMatrixMultiply() {
+		// Arrange: use enough rows with skewed row lengths to force the work to be split
+		final int numRows = 5000;
+		final SparseMatrix source = createRandomSparseMatrix(numRows);
+		final ColumnVector vector = createRandomVector(numRows);
+		final CompressedSparseRowMatrix matrix = CompressedSparseRowMatrix.create(source, new ForkJoinPool(4));
+
+		// Act:
+		final ColumnVector result = matrix.multiply(vector);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(source.multiply(vector)));
+	}
+
+	@Test
+	public void parallelMultiplyReturnsSameResultAsSequentialMultiply() {
+		// Arrange:
+		final int numRows = 5000;
+		final SparseMatrix source = createRandomSparseMatrix(numRows);
+		final ColumnVector vector = createRandomVector(numRows);
+
+		// Act:
+		final ColumnVector sequentialResult = CompressedSparseRowMatrix.create(source).multiply(vector);
+		final ColumnVector parallelResult = CompressedSparseRowMatrix.create(source, new ForkJoinPool(4)).multiply(vector);
+
+		// Assert:
+		Assert.assertThat(parallelResult, IsEqual.equalTo(sequentialResult));
+	}
+
+	@Test
+	public void parallelOffHeapMultiplyReturnsSameResultAsSequentialMultiply() {
+		// Arrange:
+		final int numRows = 5000;
+		final SparseMatrix source = createRandomSparseMatrix(numRows);
+		final ColumnVector vector = createRandomVector(numRows);
+
+		// Act:
+		final ColumnVector sequentialResult = CompressedSparseRowMatrix.create(source).multiply(vector);
+		final ColumnVector parallelResult = CompressedSparseRowMatrix.createOffHeap(source, new ForkJoinPool(4)).multiply(vector);
+
+		// Assert:
+		Assert.assertThat(parallelResult, IsEqual.equalTo(sequentialResult));
+	}
+
+	//endregion
+
+	private static SparseMatrix createRandomSparseMatrix(final int numRows) {
+		final SecureRandom random = new SecureRandom();
+		final SparseMatrix matrix = new SparseMatrix(numRows, numRows, 4);
+		for (int i = 0; i < numRows; ++i) {
+			// every 100th row is dense
+			final int numEntries = 0 == i % 100 ? 1000 : 1 + random.nextInt(16);
+			for (int j = 0; j < numEntries; ++j) {
+				matrix.setAt(i, random.nextInt(numRows), random.nextDouble());
+			}
+		}
+
+		return matrix;
+	}
+
+	private static ColumnVector createRandomVector(final int size) {
+		final SecureRandom random = new SecureRandom();
+		final ColumnVector vector = new ColumnVector(size);
+		for (int i = 0; i < size; ++i) {
+			vector.setAt(i, random.nextDouble());
+		}
+
+		return vector;
+	}
+
+	private static SparseMatrix createSparseMatrix(final int rows, final int cols, final double[] values) {
+		final SparseMatrix matrix = new SparseMatrix(rows, cols, 1);
+		for (int i = 0; i < rows; ++i) {
+			for (int j = 0; j < cols; ++j) {
+				matrix.setAt(i, j, values[i * cols + j]);
+			}
+		}
+
+		return matrix;
+	}
+
+	private static CompressedSparseRowMatrix createMatrix(final int rows, final int cols, final double[] values) {
+		return CompressedSparseRowMatrix.create(createSparseMatrix(rows, cols, values));
+	}
+}
@@ -0,0 +1,398 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.test.IsEquivalent;
+
+import java.security.SecureRandom;
+import java.util.*;
+
+public class DeltaSparseMatrixTest extends MatrixTest<DeltaSparseMatrix> {
+
+	//region constructor
+
+	@Test
+	public void matrixWithoutChangesIsEqualToBaseMatrix() {
+		// Arrange:
+		final SparseMatrix base = createSparseMatrix(2, 3, new double[] { 2, 0, 5, 0, 7, 0 });
+
+		// Act:
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(base);
+
+		// Assert:
+		Assert.assertThat(matrix.getRowCount(), IsEqual.equalTo(2));
+		Assert.assertThat(matrix.getColumnCount(), IsEqual.equalTo(3));
+		Assert.assertThat(matrix.getDeltaCount(), IsEqual.equalTo(0));
+		Assert.assertThat(matrix, IsEqual.equalTo(base));
+	}
+
+	//endregion
+
+	//region setAt
+
+	@Test
+	public void canAddUpdateAndRemoveEntriesWithoutChangingBaseMatrix() {
+		// Arrange:
+		final SparseMatrix base = createSparseMatrix(2, 3, new double[] { 2, 0, 5, 0, 7, 0 });
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(base);
+
+		// Act:
+		matrix.setAt(0, 1, 3);
+		matrix.setAt(0, 2, 4);
+		matrix.setAt(1, 1, 0);
+
+		// Assert:
+		Assert.assertThat(matrix.getDeltaCount(), IsEqual.equalTo(3));
+		Assert.assertThat(matrix, IsEqual.equalTo(createSparseMatrix(2, 3, new double[] { 2, 3, 4, 0, 0, 0 })));
+		Assert.assertThat(base, IsEqual.equalTo(createSparseMatrix(2, 3, new double[] { 2, 0, 5, 0, 7, 0 })));
+	}
+
+	@Test
+	public void settingBaseValueDoesNotAddChange() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(createSparseMatrix(2, 3, new double[] { 2, 0, 5, 0, 7, 0 }));
+
+		// Act:
+		matrix.setAt(0, 0, 2);
+		matrix.setAt(0, 1, 0);
+
+		// Assert:
+		Assert.assertThat(matrix.getDeltaCount(), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void changingEntryMultipleTimesAddsSingleChange() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(createSparseMatrix(2, 3, new double[] { 2, 0, 5, 0, 7, 0 }));
+
+		// Act:
+		matrix.setAt(0, 0, 3);
+		matrix.setAt(0, 0, 0);
+		matrix.setAt(0, 0, 4);
+
+		// Assert:
+		Assert.assertThat(matrix.getDeltaCount(), IsEqual.equalTo(1));
+		Assert.assertThat(matrix.getAt(0, 0), IsEqual.equalTo(4.0));
+	}
+
+	//endregion
+
+	//region forEach / getNonZeroElementRowIterator
+
+	@Test
+	public void forEachVisitsBaseAndChangedEntriesButNotRemovedEntries() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createChangedMatrix();
+
+		// Act:
+		final List<MatrixElement> elements = new ArrayList<>();
+		matrix.forEach((r, c, v) -> elements.add(new MatrixElement(r, c, v)));
+
+		// Assert:
+		Assert.assertThat(elements, IsEqual.equalTo(Arrays.asList(
+				new MatrixElement(0, 0, 2),
+				new MatrixElement(0, 1, 3),
+				new MatrixElement(0, 2, 4),
+				new MatrixElement(1, 3, 8),
+				new MatrixElement(2, 0, 1),
+				new MatrixElement(2, 3, 9))));
+	}
+
+	@Test
+	public void forEachCanChangeBaseAndChangedEntries() {
+		// Arrange:
+		final SparseMatrix base = createSparseMatrix(3, 4, new double[] { 2, 0, 5, 0, 0, 7, 0, 8, 0, 0, 0, 9 });
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(base);
+		matrix.setAt(0, 1, -3);
+		matrix.setAt(1, 1, 0);
+
+		// Act:
+		matrix.removeLessThan(4);
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createSparseMatrix(3, 4, new double[] { 0, 0, 5, 0, 0, 0, 0, 8, 0, 0, 0, 9 })));
+		Assert.assertThat(matrix.getDeltaCount(), IsEqual.equalTo(3));
+		Assert.assertThat(base, IsEqual.equalTo(createSparseMatrix(3, 4, new double[] { 2, 0, 5, 0, 0, 7, 0, 8, 0, 0, 0, 9 })));
+	}
+
+	@Test
+	public void rowIteratorReturnsBaseAndChangedEntriesButNotRemovedEntries() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createChangedMatrix();
+
+		// Act:
+		final List<MatrixElement> elements = new ArrayList<>();
+		for (int i = 0; i < matrix.getRowCount(); ++i) {
+			final MatrixNonZeroElementRowIterator iterator = matrix.getNonZeroElementRowIterator(i);
+			while (iterator.hasNext()) {
+				elements.add(iterator.next());
+			}
+		}
+
+		// Assert:
+		Assert.assertThat(elements, IsEqual.equalTo(Arrays.asList(
+				new MatrixElement(0, 0, 2),
+				new MatrixElement(0, 1, 3),
+				new MatrixElement(0, 2, 4),
+				new MatrixElement(1, 3, 8),
+				new MatrixElement(2, 0, 1),
+				new MatrixElement(2, 3, 9))));
+	}
+
+	//endregion
+
+	//region toSparseMatrix
+
+	@Test
+	public void canCopyChangedMatrixToSparseMatrix() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createChangedMatrix();
+
+		// Act:
+		final SparseMatrix sparseMatrix = matrix.toSparseMatrix();
+
+		// Assert:
+		Assert.assertThat(sparseMatrix, IsEqual.equalTo(createSparseMatrix(3, 4, new double[] { 2, 3, 4, 0, 0, 0, 0, 8, 1, 0, 0, 9 })));
+		Assert.assertThat(sparseMatrix.getNonZeroColumnCount(1), IsEqual.equalTo(1));
+	}
+
+	//endregion
+
+	//region normalizeColumns
+
+	@Test
+	public void normalizeColumnsNormalizesChangedMatrixWithoutChangingBaseMatrix() {
+		// Arrange:
+		final SparseMatrix base = createSparseMatrix(3, 4, new double[] { 2, 0, 5, 0, 0, 7, 0, 8, 0, 0, 0, 9 });
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(base);
+		matrix.setAt(0, 1, 3);
+		matrix.setAt(0, 2, 0);
+		matrix.setAt(2, 0, 6);
+
+		// Act:
+		final Collection<Integer> zeroColumns = matrix.normalizeColumns();
+
+		// Assert:
+		Assert.assertThat(zeroColumns, IsEquivalent.equivalentTo(2));
+		Assert.assertThat(matrix, IsEqual.equalTo(createSparseMatrix(3, 4, new double[] {
+				0.25, 0.3, 0, 0,
+				0, 0.7, 0, 8.0 / 17,
+				0.75, 0, 0, 9.0 / 17
+		})));
+		Assert.assertThat(base, IsEqual.equalTo(createSparseMatrix(3, 4, new double[] { 2, 0, 5, 0, 0, 7, 0, 8, 0, 0, 0, 9 })));
+	}
+
+	@Test
+	public void normalizeColumnsDetectsColumnsWithAllEntriesRemoved() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(createSparseMatrix(3, 2, new double[] { 0.1, 1, 0.2, 1, 0, 1 }));
+		matrix.setAt(0, 0, 0);
+		matrix.setAt(1, 0, 0);
+
+		// Act:
+		final Collection<Integer> zeroColumns = matrix.normalizeColumns();
+
+		// Assert:
+		Assert.assertThat(zeroColumns, IsEquivalent.equivalentTo(0));
+		Assert.assertThat(matrix.absSum(), IsEqual.equalTo(1.0));
+	}
+
+	@Test
+	public void canChangeEntriesOfNormalizedMatrix() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(createSparseMatrix(2, 2, new double[] { 1, 0, 3, 5 }));
+		matrix.normalizeColumns();
+
+		// Act:
+		matrix.setAt(0, 1, 0.5);
+		matrix.setAt(1, 0, 0.5);
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createSparseMatrix(2, 2, new double[] { 0.25, 0.5, 0.5, 1 })));
+	}
+
+	@Test
+	public void normalizeColumnsOfRandomChangedMatrixIsEquivalentToNormalizeColumnsOfCopy() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createRandomChangedMatrix(500);
+		final SparseMatrix copy = matrix.toSparseMatrix();
+
+		// Act:
+		final Collection<Integer> zeroColumns = matrix.normalizeColumns();
+		final Collection<Integer> expectedZeroColumns = copy.normalizeColumns();
+
+		// Assert:
+		Assert.assertThat(zeroColumns, IsEquivalent.equivalentTo(expectedZeroColumns));
+		Assert.assertThat(matrix.toSparseMatrix().roundTo(10), IsEqual.equalTo(copy.roundTo(10)));
+	}
+
+	//endregion
+
+	//region multiply
+
+	@Test
+	public void multiplyReturnsSameResultAsMultiplyOfCopy() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createChangedMatrix();
+		final ColumnVector vector = new ColumnVector(2, 3, 5, 7);
+
+		// Act:
+		final ColumnVector result = matrix.multiply(vector);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(33, 56, 65)));
+	}
+
+	@Test
+	public void multiplyOfRandomChangedMatrixReturnsSameResultAsMultiplyOfCopy() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createRandomChangedMatrix(500);
+		final ColumnVector vector = createRandomVector(500);
+
+		// Act:
+		final ColumnVector result = matrix.multiply(vector);
+
+		// Assert:
+		Assert.assertThat(result.roundTo(10), IsEqual.equalTo(matrix.toSparseMatrix().multiply(vector).roundTo(10)));
+	}
+
+	@Test
+	public void multiplyOfNormalizedRandomChangedMatrixReturnsSameResultAsMultiplyOfNormalizedCopy() {
+		// Arrange:
+		final DeltaSparseMatrix matrix = createRandomChangedMatrix(500);
+		final SparseMatrix copy = matrix.toSparseMatrix();
+		matrix.normalizeColumns();
+		copy.normalizeColumns();
+		final ColumnVector vector = createRandomVector(500);
+
+		// Act:
+		final ColumnVector result = matrix.multiply(vector);
+
+		// Assert:
+		Assert.assertThat(result.roundTo(10), IsEqual.equalTo(copy.multiply(vector).roundTo(10)));
+	}
+
+	@Test
+	public void repeatedMultiplyOfNormalizedMatrixReturnsSameResultsAsMultiplyOfNormalizedCopy() {
+		// Arrange: the scaled vector is reused across multiplications
+		final DeltaSparseMatrix matrix = createRandomChangedMatrix(500);
+		final SparseMatrix copy = matrix.toSparseMatrix();
+		matrix.normalizeColumns();
+		copy.normalizeColumns();
+
+		for (int i = 0; i < 3; ++i) {
+			final ColumnVector vector = createRandomVector(500);
+			final double[] rawResult = new double[500];
+
+			// Act:
+			matrix.multiply(vector.getRaw(), rawResult);
+
+			// Assert:
+			final ColumnVector result = new ColumnVector(rawResult);
+			Assert.assertThat(result.roundTo(10), IsEqual.equalTo(copy.multiply(vector).roundTo(10)));
+			Assert.assertThat(matrix.multiply(vector).roundTo(10), IsEqual.equalTo(result.roundTo(10)));
+		}
+	}
+
+	//endregion
+
+	//region power iteration
+
+	@Test
+	public void warmStartedPowerIterationConvergesFasterAfterSmallChange() {
+		// Arrange:
+		final SparseMatrix base = createRandomSparseMatrix(500);
+		base.normalizeColumns();
+		final ColumnVector teleportVector = new ColumnVector(500);
+		teleportVector.setAll(1);
+		final PowerIterator baseIterator = new PowerIterator(CompressedSparseRowMatrix.create(base), teleportVector, 0.85);
+		baseIterator.run(1000, 1e-10);
+
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(CompressedSparseRowMatrix.create(base));
+		matrix.setAt(3, 7, 0.5);
+		matrix.setAt(11, 13, 0.5);
+		matrix.normalizeColumns();
+
+		// Act:
+		final PowerIterator coldIterator = new PowerIterator(matrix, teleportVector, 0.85);
+		final PowerIterator warmIterator = new PowerIterator(matrix, teleportVector, 0.85, baseIterator.getResult());
+		coldIterator.run(1000, 1e-10);
+		warmIterator.run(1000, 1e-10);
+
+		// Assert:
+		Assert.assertThat(warmIterator.hasConverged(), IsEqual.equalTo(true));
+		Assert.assertThat(warmIterator.getNumIterations() < coldIterator.getNumIterations(), IsEqual.equalTo(true));
+		Assert.assertThat(warmIterator.getResult().l1Distance(coldIterator.getResult()) < 1e-8, IsEqual.equalTo(true));
+	}
+
+	//endregion
+
+	private static DeltaSparseMatrix createChangedMatrix() {
+		// base:        changed:
+		// 2 0 5 0      2 3 4 0
+		// 0 7 0 8  =>  0 0 0 8
+		// 0 0 0 9      1 0 0 9
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(
+				createSparseMatrix(3, 4, new double[] { 2, 0, 5, 0, 0, 7, 0, 8, 0, 0, 0, 9 }));
+		matrix.setAt(0, 1, 3);
+		matrix.setAt(0, 2, 4);
+		matrix.setAt(1, 1, 0);
+		matrix.setAt(2, 0, 1);
+		return matrix;
+	}
+
+	private static DeltaSparseMatrix createRandomChangedMatrix(final int size) {
+		final SecureRandom random = new SecureRandom();
+		final DeltaSparseMatrix matrix = new DeltaSparseMatrix(CompressedSparseRowMatrix.create(createRandomSparseMatrix(size)));
+		for (int i = 0; i < size; ++i) {
+			// remove, update or add entries
+			final int row = random.nextInt(size);
+			final MatrixNonZeroElementRowIterator iterator = matrix.getNonZeroElementRowIterator(row);
+			if (iterator.hasNext()) {
+				matrix.setAt(row, iterator.next().getColumn(), 0 == i % 2 ? 0 : random.nextDouble());
+			}
+
+			matrix.setAt(random.nextInt(size), random.nextInt(size), random.nextDouble());
+		}
+
+		return matrix;
+	}
+
+	private static SparseMatrix createRandomSparseMatrix(final int size) {
+		final SecureRandom random = new SecureRandom();
+		final SparseMatrix matrix = new SparseMatrix(size, size, 4);
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < 1 + random.nextInt(8); ++j) {
+				matrix.setAt(i, random.nextInt(size), random.nextDouble());
+			}
+		}
+
+		return matrix;
+	}
+
+	private static ColumnVector createRandomVector(final int size) {
+		final SecureRandom random = new SecureRandom();
+		final ColumnVector vector = new ColumnVector(size);
+		for (int i = 0; i < size; ++i) {
+			vector.setAt(i, random.nextDouble());
+		}
+
+		return vector;
+	}
+
+	private static SparseMatrix createSparseMatrix(final int rows, final int cols, final double[] values) {
+		final SparseMatrix matrix = new SparseMatrix(rows, cols, 1);
+		for (int i = 0; i < rows; ++i) {
+			for (int j = 0; j < cols; ++j) {
+				matrix.setAt(i, j, values[i * cols + j]);
+			}
+		}
+
+		return matrix;
+	}
+
+	@Override
+	protected DeltaSparseMatrix createMatrix(final int rows, final int cols) {
+		return new DeltaSparseMatrix(new SparseMatrix(rows, cols, 1));
+	}
+}
@@ -0,0 +1,128 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+
+import java.security.SecureRandom;
+
+public class DoubleReductionsTest {
+
+	//region small arrays
+
+	@Test
+	public void sumReturnsSumOfAllValues() {
+		// Act:
+		final double sum = DoubleReductions.sum(new double[] { 2, -3, 5, -11 });
+
+		// Assert:
+		Assert.assertThat(sum, IsEqual.equalTo(-7.0));
+	}
+
+	@Test
+	public void absSumReturnsSumOfAllAbsoluteValues() {
+		// Act:
+		final double sum = DoubleReductions.absSum(new double[] { 2, -3, 5, -11 });
+
+		// Assert:
+		Assert.assertThat(sum, IsEqual.equalTo(21.0));
+	}
+
+	@Test
+	public void absDifferenceSumReturnsSumOfAbsoluteDifferences() {
+		// Act:
+		final double sum = DoubleReductions.absDifferenceSum(new double[] { 2, -3, 5 }, new double[] { 1, 4, 5 });
+
+		// Assert:
+		Assert.assertThat(sum, IsEqual.equalTo(8.0));
+	}
+
+	@Test
+	public void squaredDifferenceSumReturnsSumOfSquaredDifferences() {
+		// Act:
+		final double sum = DoubleReductions.squaredDifferenceSum(new double[] { 2, -3, 5 }, new double[] { 1, 4, 5 });
+
+		// Assert:
+		Assert.assertThat(sum, IsEqual.equalTo(50.0));
+	}
+
+	@Test
+	public void deviationProductSumReturnsSumOfDeviationProducts() {
+		// Act: (2 - 1) * (1 - 2) + (-3 - 1) * (4 - 2) + (5 - 1) * (5 - 2)
+		final double sum = DoubleReductions.deviationProductSum(new double[] { 2, -3, 5 }, 1, new double[] { 1, 4, 5 }, 2);
+
+		// Assert:
+		Assert.assertThat(sum, IsEqual.equalTo(3.0));
+	}
+
+	@Test
+	public void reductionsOfEmptyArraysReturnZero() {
+		// Assert:
+		Assert.assertThat(DoubleReductions.sum(new double[0]), IsEqual.equalTo(0.0));
+		Assert.assertThat(DoubleReductions.absSum(new double[0]), IsEqual.equalTo(0.0));
+	}
+
+	//endregion
+
+	//region large arrays
+
+	@Test
+	public void sumOfLargeArrayIsMoreAccurateThanSequentialSum() {
+		// Arrange:
+		final double[] values = new double[1024 * 1024];
+		double sequentialSum = 0.0;
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = 0.1;
+			sequentialSum += values[i];
+		}
+
+		// Act:
+		final double sum = DoubleReductions.sum(values);
+
+		// Assert:
+		final double expectedSum = 0.1 * values.length;
+		Assert.assertThat(Math.abs(sum - expectedSum) < Math.abs(sequentialSum - expectedSum), IsEqual.equalTo(true));
+		Assert.assertThat(Math.abs(sum - expectedSum) < 1e-8, IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void reductionsOfLargeArraysAreDeterministic() {
+		// Arrange: use a size that is not a multiple of the block size
+		final SecureRandom random = new SecureRandom();
+		final double[] lhs = new double[1024 * 1024 + 17];
+		final double[] rhs = new double[lhs.length];
+		for (int i = 0; i < lhs.length; ++i) {
+			lhs[i] = random.nextDouble() - 0.5;
+			rhs[i] = random.nextDouble() * 1e6;
+		}
+
+		// Act:
+		final double sum = DoubleReductions.sum(lhs);
+		final double distance = DoubleReductions.absDifferenceSum(lhs, rhs);
+
+		// Assert:
+		for (int i = 0; i < 10; ++i) {
+			Assert.assertThat(DoubleReductions.sum(lhs), IsEqual.equalTo(sum));
+			Assert.assertThat(DoubleReductions.absDifferenceSum(lhs, rhs), IsEqual.equalTo(distance));
+		}
+	}
+
+	@Test
+	public void reductionsOfLargeArraysAreAccurate() {
+		// Arrange:
+		final double[] lhs = new double[300 * 1000];
+		final double[] rhs = new double[lhs.length];
+		for (int i = 0; i < lhs.length; ++i) {
+			lhs[i] = i % 2 == 0 ? 2 : -1;
+			rhs[i] = 1;
+		}
+
+		// Assert:
+		Assert.assertThat(DoubleReductions.sum(lhs), IsEqual.equalTo(150000.0));
+		Assert.assertThat(DoubleReductions.absSum(lhs), IsEqual.equalTo(450000.0));
+		Assert.assertThat(DoubleReductions.absDifferenceSum(lhs, rhs), IsEqual.equalTo(450000.0));
+		Assert.assertThat(DoubleReductions.squaredDifferenceSum(lhs, rhs), IsEqual.equalTo(750000.0));
+		Assert.assertThat(DoubleReductions.deviationProductSum(lhs, 0.5, rhs, 0), IsEqual.equalTo(0.0));
+	}
+
+	//endregion
+}
@@ -556,6 +556,19 @@ public abstract class MatrixTest<TMatrix extends Matrix> {
 		Assert.assertThat(result.getAt(2), IsEqual.equalTo(-10.0));
 	}
 
+	@Test
+	public void matrixCanBeMultipliedByRawVectorIntoPreallocatedRawVector() {
+		// Arrange: result contains stale values
+		final Matrix matrix = this.createMatrix(3, 2, new double[] { 2, 0, 0, -1, -5, 0 });
+		final double[] result = new double[] { 7, 7, 7 };
+
+		// Act:
+		matrix.multiply(new double[] { 2, 3 }, result);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(new double[] { 4, -3, -10 }));
+	}
+
 	//endregion
 
 	//region abs / sqrt
@@ -0,0 +1,145 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.test.IsEquivalent;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class OffHeapDenseMatrixTest extends MatrixTest<OffHeapDenseMatrix> {
+
+	//region create / toDenseMatrix
+
+	@Test
+	public void canCreateMatrixFromDenseMatrix() {
+		// Arrange:
+		final DenseMatrix denseMatrix = new DenseMatrix(2, 3, new double[] { 1, 4, 5, 7, 2, 3 });
+
+		// Act:
+		final OffHeapDenseMatrix matrix = OffHeapDenseMatrix.create(denseMatrix);
+
+		// Assert:
+		Assert.assertThat(matrix.getRowCount(), IsEqual.equalTo(2));
+		Assert.assertThat(matrix.getColumnCount(), IsEqual.equalTo(3));
+		Assert.assertThat(matrix, IsEqual.equalTo(denseMatrix));
+	}
+
+	@Test
+	public void createdMatrixIsIndependentOfDenseMatrix() {
+		// Arrange:
+		final DenseMatrix denseMatrix = new DenseMatrix(2, 3, new double[] { 1, 4, 5, 7, 2, 3 });
+		final OffHeapDenseMatrix matrix = OffHeapDenseMatrix.create(denseMatrix);
+
+		// Act:
+		denseMatrix.setAt(0, 0, 9);
+		matrix.setAt(1, 1, 8);
+
+		// Assert:
+		Assert.assertThat(matrix.getAt(0, 0), IsEqual.equalTo(1.0));
+		Assert.assertThat(denseMatrix.getAt(1, 1), IsEqual.equalTo(2.0));
+	}
+
+	@Test
+	public void canCopyMatrixToDenseMatrix() {
+		// Arrange:
+		final OffHeapDenseMatrix matrix = this.createMatrix(2, 3, new double[] { 1, 4, 5, 7, 2, 3 });
+
+		// Act:
+		final DenseMatrix denseMatrix = matrix.toDenseMatrix();
+
+		// Assert:
+		Assert.assertThat(denseMatrix.getRaw(), IsEqual.equalTo(new double[] { 1, 4, 5, 7, 2, 3 }));
+		Assert.assertThat(denseMatrix, IsEqual.equalTo(matrix));
+	}
+
+	@Test
+	public void canCopyMatrixToDenseMatrixConcurrently() throws Exception {
+		// Arrange:
+		final int numThreads = 4;
+		final DenseMatrix originalMatrix = new DenseMatrix(500, 500);
+		originalMatrix.forEach((r, c, v, setter) -> setter.accept(r * 500 + c + 1));
+		final OffHeapDenseMatrix matrix = OffHeapDenseMatrix.create(originalMatrix);
+		final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+
+		// Act: all threads copy the (shared) values at the same time
+		final List<Future<List<DenseMatrix>>> futures = new ArrayList<>();
+		for (int i = 0; i < numThreads; ++i) {
+			futures.add(executor.submit(() -> {
+				final List<DenseMatrix> copies = new ArrayList<>();
+				for (int j = 0; j < 10; ++j) {
+					barrier.await();
+					copies.add(matrix.toDenseMatrix());
+				}
+
+				return copies;
+			}));
+		}
+
+		// Assert:
+		for (final Future<List<DenseMatrix>> future : futures) {
+			for (final DenseMatrix copy : future.get()) {
+				Assert.assertThat(copy, IsEqual.equalTo(originalMatrix));
+			}
+		}
+
+		executor.shutdown();
+	}
+
+	@Test
+	public void derivedMatricesAreStoredOffHeap() {
+		// Arrange:
+		final OffHeapDenseMatrix matrix = this.createMatrix(2, 3, new double[] { 1, 4, 5, 7, 2, 3 });
+
+		// Act:
+		final Matrix result = matrix.multiply(2);
+
+		// Assert:
+		Assert.assertThat(result, IsInstanceOf.instanceOf(OffHeapDenseMatrix.class));
+		Assert.assertThat(result, IsEqual.equalTo(this.createMatrix(2, 3, new double[] { 2, 8, 10, 14, 4, 6 })));
+	}
+
+	//endregion
+
+	//region forEach
+
+	@Test
+	public void forEachReturnsAllElements() {
+		// Arrange:
+		final Matrix matrix = this.createMatrix(3, 2, new double[] { 2, 0, 0, 1, -5, 8 });
+
+		// Act:
+		final List<Double> values = new ArrayList<>();
+		matrix.forEach((row, col, value) -> values.add(value));
+
+		// Assert:
+		Assert.assertThat(values, IsEquivalent.equivalentTo(2.0, 0.0, 0.0, 1.0, -5.0, 8.0));
+	}
+
+	//endregion
+
+	//region toString
+
+	@Test
+	public void offHeapDenseMatrixStringRepresentationIsCorrect() {
+		// Arrange:
+		final Matrix matrix = this.createMatrix(3, 2, new double[] {
+				2.1234, 11.1234, 3.2345, 1, 5012.0126, 8
+		});
+
+		// Assert:
+		final String expectedResult =
+				"2.123 11.123" + System.lineSeparator() +
+						"3.235 1.000" + System.lineSeparator() +
+						"5012.013 8.000";
+		Assert.assertThat(matrix.toString(), IsEqual.equalTo(expectedResult));
+	}
+
+	//endregion
+
+	@Override
+	protected OffHeapDenseMatrix createMatrix(final int rows, final int cols) {
+		return new OffHeapDenseMatrix(rows, cols);
+	}
+}
@@ -0,0 +1,196 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.test.ExceptionAssert;
+
+public class PowerIteratorTest {
+	private static final double DAMPING_FACTOR = 0.85;
+
+	//region constructor
+
+	@Test
+	public void cannotCreateIteratorAroundNonSquareMatrix() {
+		// Act:
+		ExceptionAssert.assertThrows(
+				v -> new PowerIterator(new DenseMatrix(3, 2), new ColumnVector(3), DAMPING_FACTOR),
+				IllegalArgumentException.class);
+	}
+
+	@Test
+	public void cannotCreateIteratorWithVectorsOfDifferentSize() {
+		// Arrange:
+		final Matrix matrix = new DenseMatrix(3, 3);
+
+		// Act:
+		ExceptionAssert.assertThrows(
+				v -> new PowerIterator(matrix, new ColumnVector(2), DAMPING_FACTOR),
+				IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(
+				v -> new PowerIterator(matrix, new ColumnVector(3), DAMPING_FACTOR, new ColumnVector(4)),
+				IllegalArgumentException.class);
+	}
+
+	@Test
+	public void cannotCreateIteratorWithInvalidDampingFactor() {
+		// Arrange:
+		final Matrix matrix = new DenseMatrix(3, 3);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> new PowerIterator(matrix, new ColumnVector(3), -0.1), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> new PowerIterator(matrix, new ColumnVector(3), 1.1), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void iteratorIsInitializedWithNormalizedStartVector() {
+		// Arrange:
+		final ColumnVector startVector = new ColumnVector(1, 3, 4);
+
+		// Act:
+		final PowerIterator iterator = new PowerIterator(new DenseMatrix(3, 3), new ColumnVector(3), DAMPING_FACTOR, startVector);
+
+		// Assert: the start vector is copied
+		Assert.assertThat(iterator.getResult(), IsEqual.equalTo(new ColumnVector(0.125, 0.375, 0.5)));
+		Assert.assertThat(iterator.getNumIterations(), IsEqual.equalTo(0));
+		Assert.assertThat(iterator.getResidual(), IsEqual.equalTo(Double.POSITIVE_INFINITY));
+		Assert.assertThat(iterator.hasConverged(), IsEqual.equalTo(false));
+		Assert.assertThat(startVector, IsEqual.equalTo(new ColumnVector(1, 3, 4)));
+	}
+
+	@Test
+	public void iteratorIsInitializedWithNormalizedTeleportVectorByDefault() {
+		// Act:
+		final PowerIterator iterator = new PowerIterator(new DenseMatrix(2, 2), new ColumnVector(1, 3), DAMPING_FACTOR);
+
+		// Assert:
+		Assert.assertThat(iterator.getResult(), IsEqual.equalTo(new ColumnVector(0.25, 0.75)));
+	}
+
+	//endregion
+
+	//region step
+
+	@Test
+	public void stepIsEquivalentToUnfusedVectorOperations() {
+		// Arrange:
+		final Matrix matrix = createTestMatrix();
+		final ColumnVector teleportVector = new ColumnVector(0.5, 0.25, 0.25);
+		final PowerIterator iterator = new PowerIterator(matrix, teleportVector, DAMPING_FACTOR);
+
+		ColumnVector expectedVector = new ColumnVector(0.5, 0.25, 0.25);
+		for (int i = 0; i < 5; ++i) {
+			// Act:
+			final double residual = iterator.step();
+
+			// Assert:
+			final ColumnVector previousVector = expectedVector;
+			expectedVector = matrix.multiply(expectedVector).multiply(DAMPING_FACTOR)
+					.addElementWise(teleportVector.multiply(1 - DAMPING_FACTOR));
+			expectedVector.normalize();
+
+			Assert.assertThat(iterator.getResult().roundTo(12), IsEqual.equalTo(expectedVector.roundTo(12)));
+			Assert.assertThat(Math.abs(residual - expectedVector.l1Distance(previousVector)) < 1e-12, IsEqual.equalTo(true));
+			Assert.assertThat(iterator.getResidual(), IsEqual.equalTo(residual));
+			Assert.assertThat(iterator.getNumIterations(), IsEqual.equalTo(i + 1));
+		}
+	}
+
+	@Test
+	public void stepWithZeroDampingFactorReturnsNormalizedTeleportVector() {
+		// Arrange:
+		final PowerIterator iterator = new PowerIterator(
+				createTestMatrix(),
+				new ColumnVector(2, 1, 1),
+				0.0,
+				new ColumnVector(1, 1, 2));
+
+		// Act:
+		final double residual = iterator.step();
+
+		// Assert:
+		Assert.assertThat(iterator.getResult(), IsEqual.equalTo(new ColumnVector(0.5, 0.25, 0.25)));
+		Assert.assertThat(residual, IsEqual.equalTo(0.5));
+	}
+
+	@Test
+	public void stepDoesNotModifyResultsReturnedEarlier() {
+		// Arrange:
+		final PowerIterator iterator = new PowerIterator(createTestMatrix(), new ColumnVector(1, 0, 0), DAMPING_FACTOR);
+		final ColumnVector result = iterator.getResult();
+
+		// Act:
+		iterator.step();
+		iterator.step();
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(new ColumnVector(1, 0, 0)));
+	}
+
+	//endregion
+
+	//region run
+
+	@Test
+	public void runConvergesToStationaryVector() {
+		// Arrange: the matrix is symmetric and column stochastic, so the uniform vector is stationary
+		final Matrix matrix = new DenseMatrix(2, 2, new double[] { 0, 1, 1, 0 });
+		final PowerIterator iterator = new PowerIterator(matrix, new ColumnVector(1, 1), DAMPING_FACTOR, new ColumnVector(1, 0));
+
+		// Act:
+		final boolean hasConverged = iterator.run(1000, 1e-10);
+
+		// Assert:
+		Assert.assertThat(hasConverged, IsEqual.equalTo(true));
+		Assert.assertThat(iterator.hasConverged(), IsEqual.equalTo(true));
+		Assert.assertThat(iterator.getResidual() < 1e-10, IsEqual.equalTo(true));
+		Assert.assertThat(iterator.getNumIterations() < 1000, IsEqual.equalTo(true));
+		Assert.assertThat(iterator.getResult().roundTo(8), IsEqual.equalTo(new ColumnVector(0.5, 0.5)));
+	}
+
+	@Test
+	public void runStopsAfterMaxIterationsWhenNotConverged() {
+		// Arrange:
+		final Matrix matrix = new DenseMatrix(2, 2, new double[] { 0, 1, 1, 0 });
+		final PowerIterator iterator = new PowerIterator(matrix, new ColumnVector(1, 1), DAMPING_FACTOR, new ColumnVector(1, 0));
+
+		// Act:
+		final boolean hasConverged = iterator.run(3, 1e-10);
+
+		// Assert:
+		Assert.assertThat(hasConverged, IsEqual.equalTo(false));
+		Assert.assertThat(iterator.hasConverged(), IsEqual.equalTo(false));
+		Assert.assertThat(iterator.getNumIterations(), IsEqual.equalTo(3));
+	}
+
+	@Test
+	public void runReturnsSameResultForSparseAndCompressedSparseRowMatrices() {
+		// Arrange:
+		final SparseMatrix sparseMatrix = new SparseMatrix(3, 3, 2);
+		createTestMatrix().forEach((r, c, v) -> sparseMatrix.setAt(r, c, v));
+		final ColumnVector teleportVector = new ColumnVector(1, 1, 1);
+		final PowerIterator sparseIterator = new PowerIterator(sparseMatrix, teleportVector, DAMPING_FACTOR);
+		final PowerIterator csrIterator = new PowerIterator(
+				CompressedSparseRowMatrix.create(sparseMatrix),
+				teleportVector,
+				DAMPING_FACTOR);
+
+		// Act:
+		sparseIterator.run(100, 1e-12);
+		csrIterator.run(100, 1e-12);
+
+		// Assert:
+		Assert.assertThat(csrIterator.getNumIterations(), IsEqual.equalTo(sparseIterator.getNumIterations()));
+		Assert.assertThat(csrIterator.getResult(), IsEqual.equalTo(sparseIterator.getResult()));
+	}
+
+	//endregion
+
+	private static Matrix createTestMatrix() {
+		// column stochastic
+		return new DenseMatrix(3, 3, new double[] {
+				0, 0.5, 1,
+				0.5, 0, 0,
+				0.5, 0.5, 0
+		});
+	}
+}
@@ -4,11 +4,12 @@ import org.hamcrest.core.*;
 import org.junit.*;
 import org.nem.core.test.ExceptionAssert;
 
+import java.security.SecureRandom;
 import java.util.*;
 import java.util.stream.*;
 
 /**
- * Test for SparseBitmap, our wrapper for EWAHCompressedBitmap.
+ * Test for SparseBitmap, our container-based compressed bitmap.
  */
 public class SparseBitmapTest {
 
@@ -80,6 +81,19 @@ public class SparseBitmapTest {
 		Assert.assertThat(sb.get(4), IsEqual.equalTo(false));
 	}
 
+	@Test
+	public void createFromUnsortedDataDoesNotModifyData() {
+		// Arrange:
+		final int[] bitsToSet = new int[] { 7, 3, 5 };
+
+		// Act:
+		final SparseBitmap sb = SparseBitmap.createFromUnsortedData(bitsToSet);
+
+		// Assert:
+		Assert.assertThat(sb.toList(), IsEqual.equalTo(Arrays.asList(3, 5, 7)));
+		Assert.assertThat(bitsToSet, IsEqual.equalTo(new int[] { 7, 3, 5 }));
+	}
+
 	//endregion
 
 	//region createFromSortedData
@@ -197,6 +211,36 @@ public class SparseBitmapTest {
 		Assert.assertThat(sb.get(2000000), IsEqual.equalTo(true));
 	}
 
+	@Test
+	public void negativeBitsCannotBeSet() {
+		// Act:
+		final SparseBitmap sb = SparseBitmap.createEmpty();
+
+		// Assert:
+		ExceptionAssert.assertThrows(v -> sb.set(-1), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> sb.setWithoutAscendingCheck(-1), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void bitsCanBeSetInDenseAndSparseContainers() {
+		// Act: 0-65535 is dense and 65536-131071 is sparse
+		final SparseBitmap sb = SparseBitmap.createEmpty();
+		for (int i = 0; i < 10000; ++i) {
+			sb.setWithoutAscendingCheck(2 * (10000 - i));
+		}
+
+		sb.set(70000);
+
+		// Assert:
+		Assert.assertThat(sb.cardinality(), IsEqual.equalTo(10001));
+		Assert.assertThat(sb.get(2), IsEqual.equalTo(true));
+		Assert.assertThat(sb.get(3), IsEqual.equalTo(false));
+		Assert.assertThat(sb.get(20000), IsEqual.equalTo(true));
+		Assert.assertThat(sb.get(20002), IsEqual.equalTo(false));
+		Assert.assertThat(sb.get(70000), IsEqual.equalTo(true));
+		Assert.assertThat(sb.getHighestBit(), IsEqual.equalTo(70000));
+	}
+
 	//endregion
 
 	//region clear
@@ -297,6 +341,44 @@ public class SparseBitmapTest {
 		Assert.assertThat(sb.get(7), IsEqual.equalTo(true));
 	}
 
+	@Test
+	public void batchOrCreatesSameBitmapAsPairwiseOr() {
+		// Arrange:
+		final SparseBitmap[] bitmaps = new SparseBitmap[10];
+		for (int i = 0; i < bitmaps.length; ++i) {
+			bitmaps[i] = createRandomBitmap(1000 * i, 200000);
+		}
+
+		SparseBitmap expectedResult = SparseBitmap.createEmpty();
+		for (final SparseBitmap bitmap : bitmaps) {
+			expectedResult = expectedResult.or(bitmap);
+		}
+
+		// Act:
+		final SparseBitmap result = SparseBitmap.batchOr(bitmaps);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(expectedResult));
+		Assert.assertThat(result.toList(), IsEqual.equalTo(toList(Arrays.stream(bitmaps).map(SparseBitmap::toList))));
+	}
+
+	@Test
+	public void batchOrDoesNotShareStorageWithBitmaps() {
+		// Arrange:
+		final SparseBitmap sb1 = SparseBitmap.createFromSortedData(1, 3);
+		final SparseBitmap sb2 = SparseBitmap.createFromSortedData(70000);
+
+		// Act:
+		final SparseBitmap result = SparseBitmap.batchOr(sb1, sb2);
+		result.set(70001);
+		result.setWithoutAscendingCheck(2);
+
+		// Assert:
+		Assert.assertThat(result.toList(), IsEqual.equalTo(Arrays.asList(1, 2, 3, 70000, 70001)));
+		Assert.assertThat(sb1.toList(), IsEqual.equalTo(Arrays.asList(1, 3)));
+		Assert.assertThat(sb2.toList(), IsEqual.equalTo(Arrays.asList(70000)));
+	}
+
 	//endregion
 
 	//region toList / iterator
@@ -321,6 +403,37 @@ public class SparseBitmapTest {
 				IsEqual.equalTo(Arrays.asList(100, 200, 300)));
 	}
 
+	@Test
+	public void forEachBitReturnsSetBits() {
+		// Arrange:
+		final SparseBitmap sb = SparseBitmap.createFromSortedData(100, 200, 300, 70000);
+
+		// Act:
+		final List<Integer> bits = new ArrayList<>();
+		sb.forEachBit(bits::add);
+
+		// Assert:
+		Assert.assertThat(bits, IsEqual.equalTo(Arrays.asList(100, 200, 300, 70000)));
+	}
+
+	@Test
+	public void intIteratorReturnsSetBitsOfDenseAndSparseContainers() {
+		// Arrange:
+		final SparseBitmap sb = createRandomBitmap(0, 300000);
+
+		// Act:
+		final List<Integer> bits = new ArrayList<>();
+		final PrimitiveIterator.OfInt iterator = sb.intIterator();
+		while (iterator.hasNext()) {
+			bits.add(iterator.nextInt());
+		}
+
+		// Assert:
+		Assert.assertThat(bits, IsEqual.equalTo(sb.toList()));
+		Assert.assertThat(bits.size(), IsEqual.equalTo(sb.cardinality()));
+		ExceptionAssert.assertThrows(v -> iterator.nextInt(), NoSuchElementException.class);
+	}
+
 	//endregion
 
 	//region or / and / andNot
@@ -375,6 +488,57 @@ public class SparseBitmapTest {
 		Assert.assertThat(result.get(8), IsEqual.equalTo(true));
 	}
 
+	@Test
+	public void logicalOperationsReturnSameResultsAsSetOperations() {
+		// Arrange:
+		final SparseBitmap sb1 = createRandomBitmap(0, 300000);
+		final SparseBitmap sb2 = createRandomBitmap(50000, 300000);
+		final Set<Integer> set1 = new HashSet<>(sb1.toList());
+		final Set<Integer> set2 = new HashSet<>(sb2.toList());
+
+		// Act:
+		final SparseBitmap orResult = sb1.or(sb2);
+		final SparseBitmap andResult = sb1.and(sb2);
+		final SparseBitmap andNotResult = sb1.andNot(sb2);
+		final int andCardinality = sb1.andCardinality(sb2);
+
+		// Assert:
+		final Set<Integer> orSet = new HashSet<>(set1);
+		orSet.addAll(set2);
+		final Set<Integer> andSet = new HashSet<>(set1);
+		andSet.retainAll(set2);
+		final Set<Integer> andNotSet = new HashSet<>(set1);
+		andNotSet.removeAll(set2);
+
+		Assert.assertThat(orResult.toList(), IsEqual.equalTo(toList(Stream.of(orSet))));
+		Assert.assertThat(andResult.toList(), IsEqual.equalTo(toList(Stream.of(andSet))));
+		Assert.assertThat(andNotResult.toList(), IsEqual.equalTo(toList(Stream.of(andNotSet))));
+		Assert.assertThat(andCardinality, IsEqual.equalTo(andSet.size()));
+	}
+
+	@Test
+	public void logicalOperationsReturnNormalizedBitmaps() {
+		// Arrange: the first container of sb1 is dense
+		final SparseBitmap sb1 = SparseBitmap.createEmpty();
+		for (int i = 0; i < 5000; ++i) {
+			sb1.set(i);
+		}
+
+		final SparseBitmap sb2 = SparseBitmap.createEmpty();
+		for (int i = 10; i < 5000; ++i) {
+			sb2.set(i);
+		}
+
+		// Act:
+		final SparseBitmap andNotResult = sb1.andNot(sb2);
+		final SparseBitmap andResult = sb1.and(SparseBitmap.createFromSortedData(1, 2, 70000));
+
+		// Assert:
+		Assert.assertThat(andNotResult, IsEqual.equalTo(SparseBitmap.createFromSortedData(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+		Assert.assertThat(andNotResult.hashCode(), IsEqual.equalTo(SparseBitmap.createFromSortedData(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).hashCode()));
+		Assert.assertThat(andResult, IsEqual.equalTo(SparseBitmap.createFromSortedData(1, 2)));
+	}
+
 	//endregion
 
 	//region cardinality / andCardinality
@@ -464,4 +628,21 @@ public class SparseBitmapTest {
 	}
 
 	// endregion
+
+	private static SparseBitmap createRandomBitmap(final int start, final int end) {
+		// the density varies between the containers, so that both sparse and dense containers are created
+		final SecureRandom random = new SecureRandom();
+		final SparseBitmap sb = SparseBitmap.createEmpty();
+		for (int i = start; i < end; ++i) {
+			if (random.nextInt(1 + (i >>> 16) * 16) < 2) {
+				sb.set(i);
+			}
+		}
+
+		return sb;
+	}
+
+	private static List<Integer> toList(final Stream<? extends Collection<Integer>> collections) {
+		return collections.flatMap(Collection::stream).distinct().sorted().collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,227 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.test.ExceptionAssert;
+
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+public class SparseGraphTest {
+
+	//region create
+
+	@Test
+	public void cannotCreateGraphAroundNonSquareMatrix() {
+		// Act:
+		ExceptionAssert.assertThrows(v -> SparseGraph.create(new SparseMatrix(3, 2, 1)), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void canCreateGraphFromAdjacencyMatrix() {
+		// Act:
+		final SparseGraph graph = createTestGraph(null);
+
+		// Assert:
+		Assert.assertThat(graph.getVertexCount(), IsEqual.equalTo(7));
+		Assert.assertThat(graph.getEdgeCount(), IsEqual.equalTo(5));
+		Assert.assertThat(getDegrees(graph), IsEqual.equalTo(new int[] { 2, 2, 3, 1, 1, 1, 0 }));
+		Assert.assertThat(graph.getNeighbors(0), IsEqual.equalTo(new int[] { 1, 2 }));
+		Assert.assertThat(graph.getNeighbors(2), IsEqual.equalTo(new int[] { 0, 1, 3 }));
+		Assert.assertThat(graph.getNeighbors(3), IsEqual.equalTo(new int[] { 2 }));
+		Assert.assertThat(graph.getNeighbors(6), IsEqual.equalTo(new int[] {}));
+	}
+
+	@Test
+	public void canCreateGraphFromDenseAdjacencyMatrix() {
+		// Arrange:
+		final DenseMatrix matrix = new DenseMatrix(3, 3, new double[] { 0, 1, 0, 0, 1, 0, 2, 0, 0 });
+
+		// Act:
+		final SparseGraph graph = SparseGraph.create(matrix);
+
+		// Assert: zeros and self loops are ignored
+		Assert.assertThat(graph.getEdgeCount(), IsEqual.equalTo(2));
+		Assert.assertThat(graph.getNeighbors(0), IsEqual.equalTo(new int[] { 1, 2 }));
+		Assert.assertThat(graph.getNeighbors(1), IsEqual.equalTo(new int[] { 0 }));
+	}
+
+	//endregion
+
+	//region common neighbors / structural similarity
+
+	@Test
+	public void getCommonNeighborCountsReturnsNonZeroCountsOfAllEdges() {
+		// Arrange:
+		final SparseGraph graph = createTestGraph(null);
+
+		// Act:
+		final CompressedSparseRowMatrix counts = graph.getCommonNeighborCounts();
+
+		// Assert: (2, 3) and (4, 5) don't have common neighbors
+		final SparseMatrix expectedCounts = new SparseMatrix(7, 7, 2);
+		for (final int[] edge : new int[][] { { 0, 1 }, { 0, 2 }, { 1, 2 } }) {
+			expectedCounts.setAt(edge[0], edge[1], 1);
+			expectedCounts.setAt(edge[1], edge[0], 1);
+		}
+
+		Assert.assertThat(counts, IsEqual.equalTo(expectedCounts));
+		Assert.assertThat(counts.getNonZeroCount(), IsEqual.equalTo(6));
+	}
+
+	@Test
+	public void getStructuralSimilaritiesReturnsSimilaritiesOfAllEdges() {
+		// Arrange:
+		final SparseGraph graph = createTestGraph(null);
+
+		// Act:
+		final CompressedSparseRowMatrix similarities = graph.getStructuralSimilarities();
+
+		// Assert:
+		Assert.assertThat(similarities.getNonZeroCount(), IsEqual.equalTo(10));
+		Assert.assertThat(similarities.getAt(0, 1), IsEqual.equalTo(1.0));
+		Assert.assertThat(similarities.getAt(2, 0), IsEqual.equalTo(3 / Math.sqrt(12)));
+		Assert.assertThat(similarities.getAt(2, 3), IsEqual.equalTo(2 / Math.sqrt(8)));
+		Assert.assertThat(similarities.getAt(4, 5), IsEqual.equalTo(1.0));
+		Assert.assertThat(similarities.getAt(0, 3), IsEqual.equalTo(0.0));
+	}
+
+	@Test
+	public void parallelCommonNeighborCountsAreEqualToSequentialCommonNeighborCounts() {
+		// Arrange:
+		final SparseMatrix matrix = createRandomAdjacencyMatrix(20000);
+
+		// Act:
+		final Matrix counts = SparseGraph.create(matrix).getCommonNeighborCounts();
+		final Matrix parallelCounts = SparseGraph.create(matrix, new ForkJoinPool(4)).getCommonNeighborCounts();
+
+		// Assert:
+		Assert.assertThat(parallelCounts, IsEqual.equalTo(counts));
+	}
+
+	//endregion
+
+	//region connected components
+
+	@Test
+	public void getConnectedComponentsLabelsVerticesWithSmallestVertexOfComponent() {
+		// Arrange:
+		final SparseGraph graph = createTestGraph(null);
+
+		// Act:
+		final int[] labels = graph.getConnectedComponents();
+
+		// Assert:
+		Assert.assertThat(labels, IsEqual.equalTo(new int[] { 0, 0, 0, 0, 4, 4, 6 }));
+	}
+
+	@Test
+	public void parallelConnectedComponentsAreEqualToBreadthFirstSearchComponents() {
+		// Arrange:
+		final SparseGraph graph = SparseGraph.create(createRandomAdjacencyMatrix(20000), new ForkJoinPool(4));
+
+		// Act:
+		final int[] labels = graph.getConnectedComponents();
+
+		// Assert:
+		Assert.assertThat(labels, IsEqual.equalTo(getComponentsWithBreadthFirstSearch(graph)));
+	}
+
+	private static int[] getComponentsWithBreadthFirstSearch(final SparseGraph graph) {
+		final int[] labels = new int[graph.getVertexCount()];
+		Arrays.fill(labels, -1);
+		for (int i = 0; i < graph.getVertexCount(); ++i) {
+			if (-1 != labels[i]) {
+				continue;
+			}
+
+			final Deque<Integer> queue = new ArrayDeque<>();
+			queue.add(i);
+			labels[i] = i;
+			while (!queue.isEmpty()) {
+				for (final int neighbor : graph.getNeighbors(queue.poll())) {
+					if (-1 == labels[neighbor]) {
+						labels[neighbor] = i;
+						queue.add(neighbor);
+					}
+				}
+			}
+		}
+
+		return labels;
+	}
+
+	//endregion
+
+	//region k-core
+
+	@Test
+	public void getKCoreReturnsVerticesWithAtLeastKNeighborsInCore() {
+		// Arrange:
+		final SparseGraph graph = createTestGraph(null);
+
+		// Assert:
+		Assert.assertThat(graph.getKCore(0), IsEqual.equalTo(SparseBitmap.createFromSortedData(0, 1, 2, 3, 4, 5, 6)));
+		Assert.assertThat(graph.getKCore(1), IsEqual.equalTo(SparseBitmap.createFromSortedData(0, 1, 2, 3, 4, 5)));
+		Assert.assertThat(graph.getKCore(2), IsEqual.equalTo(SparseBitmap.createFromSortedData(0, 1, 2)));
+		Assert.assertThat(graph.getKCore(3), IsEqual.equalTo(SparseBitmap.createEmpty()));
+	}
+
+	@Test
+	public void parallelKCoreIsEqualToSequentialKCore() {
+		// Arrange:
+		final SparseMatrix matrix = createRandomAdjacencyMatrix(20000);
+		final SparseGraph graph = SparseGraph.create(matrix);
+		final SparseGraph parallelGraph = SparseGraph.create(matrix, new ForkJoinPool(4));
+
+		for (int k = 2; k <= 5; ++k) {
+			// Act:
+			final SparseBitmap core = graph.getKCore(k);
+			final SparseBitmap parallelCore = parallelGraph.getKCore(k);
+
+			// Assert:
+			Assert.assertThat(parallelCore, IsEqual.equalTo(core));
+			for (final int vertex : core.toList()) {
+				final int numCoreNeighbors = SparseBitmap.createFromSortedData(graph.getNeighbors(vertex)).andCardinality(core);
+				Assert.assertThat(numCoreNeighbors >= k, IsEqual.equalTo(true));
+			}
+		}
+	}
+
+	//endregion
+
+	private static SparseGraph createTestGraph(final ForkJoinPool pool) {
+		// triangle 0-1-2 with tail 2-3, edge 4-5 and isolated vertex 6
+		final SparseMatrix matrix = new SparseMatrix(7, 7, 2);
+		matrix.setAt(0, 1, 1);
+		matrix.setAt(1, 0, 1);
+		matrix.setAt(0, 2, 0.5);
+		matrix.setAt(2, 1, 2);
+		matrix.setAt(3, 2, 1);
+		matrix.setAt(3, 3, 1);
+		matrix.setAt(4, 5, 1);
+		return SparseGraph.create(matrix, pool);
+	}
+
+	private static int[] getDegrees(final SparseGraph graph) {
+		final int[] degrees = new int[graph.getVertexCount()];
+		for (int i = 0; i < degrees.length; ++i) {
+			degrees[i] = graph.getDegree(i);
+		}
+
+		return degrees;
+	}
+
+	private static SparseMatrix createRandomAdjacencyMatrix(final int numVertices) {
+		final SecureRandom random = new SecureRandom();
+		final SparseMatrix matrix = new SparseMatrix(numVertices, numVertices, 4);
+		for (int i = 0; i < numVertices; ++i) {
+			for (int j = 0; j < random.nextInt(4); ++j) {
+				matrix.setAt(i, random.nextInt(numVertices), 1);
+			}
+		}
+
+		return matrix;
+	}
+}
@@ -0,0 +1,191 @@
+package org.nem.core.math;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.test.ExceptionAssert;
+
+import java.security.SecureRandom;
+import java.util.*;
+
+public class SparseMatrixBuilderTest {
+
+	//region constructor / add
+
+	@Test
+	public void cannotCreateBuilderWithoutRowsOrColumns() {
+		// Act:
+		ExceptionAssert.assertThrows(v -> new SparseMatrixBuilder(0, 3), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> new SparseMatrixBuilder(3, 0), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void cannotAddValueOutsideOfMatrix() {
+		// Arrange:
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(3, 2);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> builder.add(-1, 0, 1), IndexOutOfBoundsException.class);
+		ExceptionAssert.assertThrows(v -> builder.add(3, 0, 1), IndexOutOfBoundsException.class);
+		ExceptionAssert.assertThrows(v -> builder.add(0, -1, 1), IndexOutOfBoundsException.class);
+		ExceptionAssert.assertThrows(v -> builder.add(0, 2, 1), IndexOutOfBoundsException.class);
+
+		// Assert:
+		Assert.assertThat(builder.size(), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void addBeyondInitialCapacityGrowsBuilder() {
+		// Arrange:
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(3, 2, 0);
+
+		// Act:
+		for (int i = 0; i < 6; ++i) {
+			builder.add(i / 2, i % 2, i + 1);
+		}
+
+		// Assert:
+		Assert.assertThat(builder.size(), IsEqual.equalTo(6));
+		Assert.assertThat(builder.build(), IsEqual.equalTo(createMatrix(3, 2, new double[] { 1, 2, 3, 4, 5, 6 })));
+	}
+
+	//endregion
+
+	//region build
+
+	@Test
+	public void canBuildMatrixFromValuesAddedOutOfOrder() {
+		// Arrange:
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(3, 4)
+				.add(2, 3, 6)
+				.add(0, 2, 2)
+				.add(2, 0, 4)
+				.add(0, 0, 1)
+				.add(2, 1, 5)
+				.add(1, 3, 3);
+
+		// Act:
+		final SparseMatrix matrix = builder.build();
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createMatrix(3, 4, new double[] { 1, 0, 2, 0, 0, 0, 0, 3, 4, 5, 0, 6 })));
+		Assert.assertThat(getRowColumns(matrix, 2), IsEqual.equalTo(Arrays.asList(0, 1, 3)));
+	}
+
+	@Test
+	public void buildSumsDuplicateValues() {
+		// Arrange:
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(2, 2)
+				.add(1, 0, 2)
+				.add(0, 1, 3)
+				.add(1, 0, 5)
+				.add(1, 0, -1);
+
+		// Act:
+		final SparseMatrix matrix = builder.build();
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createMatrix(2, 2, new double[] { 0, 3, 6, 0 })));
+		Assert.assertThat(matrix.getNumEntries(), IsEqual.equalTo(2));
+	}
+
+	@Test
+	public void buildDropsZeroValues() {
+		// Arrange:
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(2, 2)
+				.add(0, 0, 0)
+				.add(0, 1, 3)
+				.add(1, 1, 5)
+				.add(1, 1, -5);
+
+		// Act:
+		final SparseMatrix matrix = builder.build();
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createMatrix(2, 2, new double[] { 0, 3, 0, 0 })));
+		Assert.assertThat(matrix.getNumEntries(), IsEqual.equalTo(1));
+		Assert.assertThat(matrix.getNonZeroColumnCount(0), IsEqual.equalTo(1));
+		Assert.assertThat(matrix.getNonZeroColumnCount(1), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void buildAllocatesCompactRows() {
+		// Arrange:
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(3, 4)
+				.add(0, 1, 1)
+				.add(0, 3, 1)
+				.add(0, 1, 1)
+				.add(2, 2, 1);
+
+		// Act:
+		final SparseMatrix matrix = builder.build();
+
+		// Assert:
+		Assert.assertThat(matrix.getRowCapacity(0), IsEqual.equalTo(2));
+		Assert.assertThat(matrix.getRowCapacity(1), IsEqual.equalTo(0));
+		Assert.assertThat(matrix.getRowCapacity(2), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void builtMatrixCanBeModified() {
+		// Arrange:
+		final SparseMatrix matrix = new SparseMatrixBuilder(2, 3).add(0, 1, 2).build();
+
+		// Act:
+		matrix.setAt(0, 0, 1);
+		matrix.setAt(0, 2, 3);
+		matrix.setAt(1, 1, 4);
+		matrix.setAt(0, 1, 0);
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(createMatrix(2, 3, new double[] { 1, 0, 3, 0, 4, 0 })));
+		Assert.assertThat(getRowColumns(matrix, 0), IsEqual.equalTo(Arrays.asList(0, 2)));
+	}
+
+	@Test
+	public void buildReturnsSameMatrixAsRandomSetAt() {
+		// Arrange:
+		final SecureRandom random = new SecureRandom();
+		final SparseMatrixBuilder builder = new SparseMatrixBuilder(100, 50);
+		final SparseMatrix expectedMatrix = new SparseMatrix(100, 50, 1);
+		for (int i = 0; i < 2000; ++i) {
+			final int row = random.nextInt(100);
+			final int col = random.nextInt(50);
+			final double value = random.nextInt(10);
+			builder.add(row, col, value);
+			expectedMatrix.setAt(row, col, expectedMatrix.getAt(row, col) + value);
+		}
+
+		// Act:
+		final SparseMatrix matrix = builder.build();
+
+		// Assert:
+		Assert.assertThat(matrix, IsEqual.equalTo(expectedMatrix));
+		Assert.assertThat(matrix.getNumEntries(), IsEqual.equalTo(expectedMatrix.getNumEntries()));
+		for (int i = 0; i < 100; ++i) {
+			Assert.assertThat(getRowColumns(matrix, i), IsEqual.equalTo(getRowColumns(expectedMatrix, i)));
+		}
+	}
+
+	//endregion
+
+	private static List<Integer> getRowColumns(final Matrix matrix, final int row) {
+		final List<Integer> cols = new ArrayList<>();
+		final MatrixNonZeroElementRowIterator iterator = matrix.getNonZeroElementRowIterator(row);
+		while (iterator.hasNext()) {
+			cols.add(iterator.next().getColumn());
+		}
+
+		return cols;
+	}
+
+	private static SparseMatrix createMatrix(final int rows, final int cols, final double[] values) {
+		final SparseMatrix matrix = new SparseMatrix(rows, cols, 1);
+		for (int i = 0; i < rows; ++i) {
+			for (int j = 0; j < cols; ++j) {
+				matrix.setAt(i, j, values[i * cols + j]);
+			}
+		}
+
+		return matrix;
+	}
+}
@@ -2,7 +2,7 @@ package org.nem.core.math;
 
 import org.hamcrest.core.IsEqual;
 import org.junit.*;
-import org.nem.core.test.IsEquivalent;
+import org.nem.core.test.*;
 
 import java.util.*;
 
@@ -25,6 +25,122 @@ public class SparseMatrixTest extends MatrixTest<SparseMatrix> {
 
 	//endregion
 
+	//region getRowCursor / forEachNonZero
+
+	@Test
+	public void rowCursorVisitsAllNonZeroElementsOfRowInAscendingColumnOrder() {
+		// Arrange:
+		final SparseMatrix matrix = createUnsortedMatrix();
+
+		// Act:
+		final MatrixRowCursor cursor = matrix.getRowCursor(1);
+		final List<Integer> cols = new ArrayList<>();
+		final List<Double> values = new ArrayList<>();
+		while (cursor.advance()) {
+			cols.add(cursor.col());
+			values.add(cursor.value());
+		}
+
+		// Assert:
+		Assert.assertThat(cols, IsEqual.equalTo(Arrays.asList(0, 2, 4, 5)));
+		Assert.assertThat(values, IsEqual.equalTo(Arrays.asList(3.0, 7.0, -1.0, 2.0)));
+		Assert.assertThat(cursor.advance(), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void rowCursorOfEmptyRowIsExhausted() {
+		// Arrange:
+		final SparseMatrix matrix = createUnsortedMatrix();
+
+		// Act:
+		final MatrixRowCursor cursor = matrix.getRowCursor(2);
+
+		// Assert:
+		Assert.assertThat(cursor.advance(), IsEqual.equalTo(false));
+		Assert.assertThat(cursor.advance(), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void rowCursorCanUpdateValues() {
+		// Arrange:
+		final SparseMatrix matrix = createUnsortedMatrix();
+
+		// Act:
+		final MatrixRowCursor cursor = matrix.getRowCursor(1);
+		while (cursor.advance()) {
+			cursor.setValue(cursor.value() * 2);
+		}
+
+		// Assert:
+		Assert.assertThat(matrix.getNonZeroColumnCount(1), IsEqual.equalTo(4));
+		Assert.assertThat(matrix.getAt(1, 2), IsEqual.equalTo(14.0));
+		Assert.assertThat(matrix.getAt(1, 4), IsEqual.equalTo(-2.0));
+		Assert.assertThat(matrix.getAt(0, 1), IsEqual.equalTo(5.0));
+	}
+
+	@Test
+	public void rowCursorCanRemoveElementsWhileIterating() {
+		// Arrange:
+		final SparseMatrix matrix = createUnsortedMatrix();
+
+		// Act: remove the first, a middle and the last element
+		final MatrixRowCursor cursor = matrix.getRowCursor(1);
+		final List<Integer> visitedCols = new ArrayList<>();
+		while (cursor.advance()) {
+			visitedCols.add(cursor.col());
+			if (4 != cursor.col()) {
+				cursor.setValue(0.0);
+			}
+		}
+
+		// Assert:
+		Assert.assertThat(visitedCols, IsEqual.equalTo(Arrays.asList(0, 2, 4, 5)));
+		Assert.assertThat(matrix.getNonZeroColumnCount(1), IsEqual.equalTo(1));
+		Assert.assertThat(matrix.getAt(1, 4), IsEqual.equalTo(-1.0));
+	}
+
+	@Test
+	public void rowCursorCannotSetValueOfRemovedElement() {
+		// Arrange:
+		final SparseMatrix matrix = createUnsortedMatrix();
+		final MatrixRowCursor cursor = matrix.getRowCursor(1);
+		cursor.advance();
+		cursor.setValue(0.0);
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> cursor.setValue(4.0), IllegalStateException.class);
+	}
+
+	@Test
+	public void forEachNonZeroVisitsAllNonZeroElementsOfRowInAscendingColumnOrder() {
+		// Arrange:
+		final SparseMatrix matrix = createUnsortedMatrix();
+
+		// Act:
+		final List<Integer> cols = new ArrayList<>();
+		final List<Double> values = new ArrayList<>();
+		matrix.forEachNonZero(1, (col, value) -> {
+			cols.add(col);
+			values.add(value);
+		});
+
+		// Assert:
+		Assert.assertThat(cols, IsEqual.equalTo(Arrays.asList(0, 2, 4, 5)));
+		Assert.assertThat(values, IsEqual.equalTo(Arrays.asList(3.0, 7.0, -1.0, 2.0)));
+	}
+
+	private static SparseMatrix createUnsortedMatrix() {
+		final SparseMatrix matrix = new SparseMatrix(3, 6, 2);
+		matrix.setAt(0, 1, 5.0);
+		matrix.setAt(1, 5, 2.0);
+		matrix.setAt(1, 2, 7.0);
+		matrix.setAt(1, 0, 3.0);
+		matrix.setAt(1, 4, -1.0);
+		return matrix;
+	}
+
+	//endregion
+
 	//region toString
 
 	@Test
@@ -161,6 +277,19 @@ public class SparseMatrixTest extends MatrixTest<SparseMatrix> {
 		Assert.assertThat(sparseMatrix.getAt(0, 0), IsEqual.equalTo(3.0));
 	}
 
+	@Test
+	public void rowWithZeroCapacityCanBeReallocated() {
+		// Arrange:
+		final SparseMatrix sparseMatrix = new SparseMatrix(3, 2, 0);
+
+		// Act:
+		sparseMatrix.setAt(0, 1, 5.0);
+
+		// Assert:
+		Assert.assertThat(sparseMatrix.getRowCapacity(0), IsEqual.equalTo(1));
+		Assert.assertThat(sparseMatrix.getAt(0, 1), IsEqual.equalTo(5.0));
+	}
+
 	//endregion
 
 	//region getNumEntries
@@ -200,6 +329,33 @@ public class SparseMatrixTest extends MatrixTest<SparseMatrix> {
 		assertSorted(sparseMatrix.getNonZeroElementRowIterator(0));
 	}
 
+	@Test
+	public void setAtUncheckedUpdatesExistingColumn() {
+		// Arrange:
+		final SparseMatrix sparseMatrix = this.createMatrix(1, 6, new double[] { 2, 0, 5, 0, 1, 0 });
+
+		// Act:
+		sparseMatrix.setAt(0, 2, 7.0);
+
+		// Assert:
+		Assert.assertThat(sparseMatrix.getNonZeroColumnCount(0), IsEqual.equalTo(3));
+		Assert.assertThat(sparseMatrix, IsEqual.equalTo(this.createMatrix(1, 6, new double[] { 2, 0, 7, 0, 1, 0 })));
+	}
+
+	@Test
+	public void setAtUncheckedWithZeroValueDoesNotChangeMissingColumn() {
+		// Arrange:
+		final SparseMatrix sparseMatrix = this.createMatrix(1, 6, new double[] { 2, 0, 5, 0, 1, 0 });
+
+		// Act:
+		sparseMatrix.setAt(0, 3, 0.0);
+		sparseMatrix.setAt(0, 5, 0.0);
+
+		// Assert:
+		Assert.assertThat(sparseMatrix.getNonZeroColumnCount(0), IsEqual.equalTo(3));
+		Assert.assertThat(sparseMatrix, IsEqual.equalTo(this.createMatrix(1, 6, new double[] { 2, 0, 5, 0, 1, 0 })));
+	}
+
 	@Test
 	public void removeKeepsColumnsSorted() {
 		// Arrange:
@@ -1,12 +1,14 @@
 package org.nem.core.model;
 
+import org.hamcrest.core.IsEqual;
 import org.junit.*;
 import org.nem.core.crypto.Hash;
 import org.nem.core.model.primitive.BlockHeight;
 import org.nem.core.test.*;
 import org.nem.core.time.TimeInstant;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.*;
 import java.util.stream.Stream;
 
 public class BlockExtensionsTest {
@@ -70,6 +72,70 @@ public class BlockExtensionsTest {
 						150, 160, 161, 162, 170, 180, 181, 182));
 	}
 
+	@Test
+	public void canVisitDirectTransactions() {
+		// Arrange:
+		final Block block = createTestBlock();
+
+		// Act:
+		final List<Integer> customFields = visitCustomFields(block, BlockExtensions::visitDirectTransactions);
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(50, 100, 150)));
+	}
+
+	@Test
+	public void canVisitDirectAndFirstChildTransactions() {
+		// Arrange:
+		final Block block = createTestBlock();
+
+		// Act:
+		final List<Integer> customFields = visitCustomFields(block, BlockExtensions::visitDirectAndFirstChildTransactions);
+
+		// Assert:
+		Assert.assertThat(
+				customFields,
+				IsEqual.equalTo(Arrays.asList(50, 60, 70, 80, 100, 110, 120, 130, 150, 160, 170, 180)));
+	}
+
+	@Test
+	public void canVisitDefaultTransactions() {
+		// Arrange:
+		final Block block = createTestBlock();
+
+		// Act:
+		final List<Integer> customFields = visitCustomFields(block, BlockExtensions::visitDefault);
+
+		// Assert:
+		Assert.assertThat(
+				customFields,
+				IsEqual.equalTo(Arrays.asList(50, 60, 70, 80, 100, 110, 120, 130, 150, 160, 170, 180)));
+	}
+
+	@Test
+	public void canVisitAllTransactions() {
+		// Arrange:
+		final Block block = createTestBlock();
+
+		// Act:
+		final List<Integer> customFields = visitCustomFields(block, BlockExtensions::visitAllTransactions);
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(getCustomFields(BlockExtensions.streamAllTransactions(block))));
+		Assert.assertThat(
+				customFields,
+				IsEquivalent.equivalentTo(
+						50, 60, 61, 62, 70, 80, 81, 82,
+						100, 110, 111, 112, 120, 130, 131, 132,
+						150, 160, 161, 162, 170, 180, 181, 182));
+	}
+
+	private static List<Integer> visitCustomFields(final Block block, final BiConsumer<Block, Consumer<Transaction>> visit) {
+		final List<Integer> customFields = new ArrayList<>();
+		visit.accept(block, t -> customFields.add(((MockTransaction)t).getCustomField()));
+		return customFields;
+	}
+
 	private static List<Integer> getCustomFields(final Stream<Transaction> stream) {
 		return MockTransactionUtils.getCustomFields(stream);
 	}
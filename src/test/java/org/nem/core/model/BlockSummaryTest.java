@@ -0,0 +1,122 @@
+package org.nem.core.model;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
+import org.nem.core.messages.PlainMessage;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.test.*;
+import org.nem.core.time.TimeInstant;
+
+import java.util.*;
+
+public class BlockSummaryTest {
+
+	@Test
+	public void summaryOfNoTransactionsIsEmpty() {
+		// Act:
+		final BlockSummary summary = BlockSummary.create(Collections.emptyList());
+
+		// Assert:
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(0));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(0));
+		Assert.assertThat(summary.getTotalFee(), IsEqual.equalTo(Amount.ZERO));
+		Assert.assertThat(summary.getTotalTransferredAmount(), IsEqual.equalTo(Amount.ZERO));
+		Assert.assertThat(summary.getTotalMessageBytes(), IsEqual.equalTo(0L));
+	}
+
+	@Test
+	public void summaryAggregatesTransferTransactions() {
+		// Arrange:
+		final List<Transaction> transactions = Arrays.asList(
+				createTransfer(100, 7, new byte[] { 1, 2, 3 }),
+				createTransfer(20, 5, null),
+				createTransfer(3, 2, new byte[11]));
+
+		// Act:
+		final BlockSummary summary = BlockSummary.create(transactions);
+
+		// Assert:
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(3));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(3));
+		Assert.assertThat(summary.getTotalFee(), IsEqual.equalTo(Amount.fromNem(14)));
+		Assert.assertThat(summary.getTotalTransferredAmount(), IsEqual.equalTo(Amount.fromNem(123)));
+		Assert.assertThat(summary.getTotalMessageBytes(), IsEqual.equalTo(14L));
+	}
+
+	@Test
+	public void summaryCountsTransactionsByType() {
+		// Arrange:
+		final List<Transaction> transactions = Arrays.asList(
+				createTransfer(100, 7, null),
+				new MockTransaction(7, 1, TimeInstant.ZERO),
+				new MockTransaction(7, 2, TimeInstant.ZERO),
+				new MockTransaction(9, 3, TimeInstant.ZERO));
+
+		// Act:
+		final BlockSummary summary = BlockSummary.create(transactions);
+
+		// Assert:
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(4));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(7), IsEqual.equalTo(2));
+		Assert.assertThat(summary.getNumTransactions(9), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.MULTISIG), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void summaryIncludesFirstLevelChildTransactions() {
+		// Arrange:
+		final Transaction innerTransaction = createTransfer(100, 1, new byte[] { 1, 2 });
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigSignatureTransaction signature = context.createSignature();
+		signature.setFee(Amount.fromNem(3));
+		final MultisigTransaction transaction = context.createMultisig();
+		transaction.addSignature(signature);
+		transaction.setFee(Amount.fromNem(130));
+
+		// Act:
+		final BlockSummary summary = BlockSummary.create(Collections.singletonList(transaction));
+
+		// Assert:
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.MULTISIG), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.MULTISIG_SIGNATURE), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getTotalFee(), IsEqual.equalTo(Amount.fromNem(1 + 3 + 130)));
+		Assert.assertThat(summary.getTotalTransferredAmount(), IsEqual.equalTo(Amount.fromNem(100)));
+		Assert.assertThat(summary.getTotalMessageBytes(), IsEqual.equalTo(2L));
+	}
+
+	@Test
+	public void addReturnsNewSummaryWithoutChangingOriginalSummary() {
+		// Arrange:
+		final BlockSummary summary = BlockSummary.create(Collections.singletonList(createTransfer(100, 7, new byte[] { 1, 2 })));
+
+		// Act:
+		final BlockSummary newSummary = summary.add(createTransfer(20, 5, new byte[] { 3 }));
+
+		// Assert:
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getTotalFee(), IsEqual.equalTo(Amount.fromNem(7)));
+		Assert.assertThat(summary.getTotalTransferredAmount(), IsEqual.equalTo(Amount.fromNem(100)));
+		Assert.assertThat(summary.getTotalMessageBytes(), IsEqual.equalTo(2L));
+
+		Assert.assertThat(newSummary.getNumTransactions(), IsEqual.equalTo(2));
+		Assert.assertThat(newSummary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(2));
+		Assert.assertThat(newSummary.getTotalFee(), IsEqual.equalTo(Amount.fromNem(12)));
+		Assert.assertThat(newSummary.getTotalTransferredAmount(), IsEqual.equalTo(Amount.fromNem(120)));
+		Assert.assertThat(newSummary.getTotalMessageBytes(), IsEqual.equalTo(3L));
+	}
+
+	private static Transaction createTransfer(final int amount, final int fee, final byte[] message) {
+		final Transaction transaction = new TransferTransaction(
+				TimeInstant.ZERO,
+				Utils.generateRandomAccount(),
+				Utils.generateRandomAccount(),
+				Amount.fromNem(amount),
+				null == message ? null : new PlainMessage(message));
+		transaction.setFee(Amount.fromNem(fee));
+		return transaction;
+	}
+}
@@ -10,6 +10,8 @@ import org.nem.core.time.TimeInstant;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 public class BlockTest {
 
@@ -281,6 +283,31 @@ public class BlockTest {
 		Assert.assertThat(transaction2.verify(), IsEqual.equalTo(true));
 	}
 
+	@Test
+	public void blockWithManyTransactionsCanBeRoundTrippedWithParallelDeserializer() {
+		// Arrange:
+		final Block originalBlock = BlockUtils.createBlock(Utils.generateRandomAccount());
+		for (int i = 0; i < BinaryDeserializer.MIN_PARALLEL_ARRAY_SIZE * 4; ++i) {
+			originalBlock.addTransaction(this.createSignedTransactionWithAmount(i + 1));
+		}
+
+		originalBlock.sign();
+		final byte[] bytes = BinarySerializer.serializeToBytes(originalBlock);
+		final DeserializationContext context = new DeserializationContext(
+				new MockAccountLookup(MockAccountLookup.UnknownAccountBehavior.REAL_ACCOUNT));
+
+		// Act:
+		final Block block = BlockFactory.VERIFIABLE.deserialize(new BinaryDeserializer(bytes, context, ForkJoinPool.commonPool()));
+
+		// Assert:
+		Assert.assertThat(block.verify(), IsEqual.equalTo(true));
+		Assert.assertThat(
+				block.getTransactions().stream().map(HashUtils::calculateHash).collect(Collectors.toList()),
+				IsEqual.equalTo(originalBlock.getTransactions().stream().map(HashUtils::calculateHash).collect(Collectors.toList())));
+		Assert.assertThat(block.getTransactions().stream().allMatch(Transaction::verify), IsEqual.equalTo(true));
+		Assert.assertThat(BinarySerializer.serializeToBytes(block), IsEqual.equalTo(bytes));
+	}
+
 	private Block createBlockForRoundTripTests(final boolean verifiable, final Account signer) {
 		// Arrange:
 		final Block originalBlock = BlockUtils.createBlock(null == signer ? Utils.generateRandomAccount() : signer);
@@ -357,6 +384,95 @@ public class BlockTest {
 
 	//endregion
 
+	//region Touched Accounts
+
+	@Test
+	public void touchedAccountIndexContainsAccountsOfAllTransactions() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final MockTransaction transaction1 = new MockTransaction(Utils.generateRandomAccount());
+		final MockTransaction transaction2 = new MockTransaction(Utils.generateRandomAccount());
+		final Account other = Utils.generateRandomAccount();
+		transaction2.setOtherAccounts(Arrays.asList(other, transaction1.getSigner()));
+		block.addTransactions(Arrays.asList(transaction1, transaction2));
+
+		// Act:
+		final TouchedAccountIndex index = block.getTouchedAccountIndex();
+
+		// Assert:
+		Assert.assertThat(index.asList(), IsEquivalent.equivalentTo(transaction1.getSigner(), transaction2.getSigner(), other));
+	}
+
+	@Test
+	public void touchedAccountIndexIsCached() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(new MockTransaction(Utils.generateRandomAccount()));
+
+		// Act:
+		final TouchedAccountIndex index1 = block.getTouchedAccountIndex();
+		final TouchedAccountIndex index2 = block.getTouchedAccountIndex();
+
+		// Assert:
+		Assert.assertThat(index2, IsSame.sameInstance(index1));
+	}
+
+	@Test
+	public void touchedAccountIndexIsRecalculatedAfterTransactionIsAdded() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(new MockTransaction(Utils.generateRandomAccount()));
+		final TouchedAccountIndex originalIndex = block.getTouchedAccountIndex();
+		final Account signer = Utils.generateRandomAccount();
+
+		// Act:
+		block.addTransaction(new MockTransaction(signer));
+		final TouchedAccountIndex index = block.getTouchedAccountIndex();
+
+		// Assert:
+		Assert.assertThat(originalIndex.size(), IsEqual.equalTo(1));
+		Assert.assertThat(index.size(), IsEqual.equalTo(2));
+		Assert.assertThat(index.contains(signer), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void touchedAccountIndexIsRecalculatedAfterTransactionListIsModifiedDirectly() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final TouchedAccountIndex originalIndex = block.getTouchedAccountIndex();
+		final Account signer = Utils.generateRandomAccount();
+
+		// Act:
+		block.getTransactions().add(new MockTransaction(signer));
+		final TouchedAccountIndex index = block.getTouchedAccountIndex();
+
+		// Assert:
+		Assert.assertThat(originalIndex.size(), IsEqual.equalTo(0));
+		Assert.assertThat(index.asList(), IsEquivalent.equivalentTo(signer));
+	}
+
+	@Test
+	public void touchedAccountIndexIsRecalculatedAfterSignatureIsAdded() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final SimpleMultisigContext context = new SimpleMultisigContext(new MockTransaction(Utils.generateRandomAccount()));
+		final MultisigTransaction transaction = context.createMultisig();
+		block.addTransaction(transaction);
+		final TouchedAccountIndex originalIndex = block.getTouchedAccountIndex();
+		final Account cosigner = Utils.generateRandomAccount();
+
+		// Act:
+		transaction.addSignature(context.createSignature(cosigner));
+		final TouchedAccountIndex index = block.getTouchedAccountIndex();
+
+		// Assert:
+		Assert.assertThat(originalIndex.contains(cosigner), IsEqual.equalTo(false));
+		Assert.assertThat(index.contains(cosigner), IsEqual.equalTo(true));
+		Assert.assertThat(index.size(), IsEqual.equalTo(originalIndex.size() + 1));
+	}
+
+	//endregion
+
 	//region Fee
 
 	@Test
@@ -397,6 +513,162 @@ public class BlockTest {
 		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(Amount.fromNem(1 + 3 + 5 + 130)));
 	}
 
+	@Test
+	public void summaryIsCached() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(BlockUtils.createTransactionWithFee(17));
+
+		// Act:
+		final BlockSummary summary1 = block.getSummary();
+		final BlockSummary summary2 = block.getSummary();
+
+		// Assert:
+		Assert.assertThat(summary2, IsSame.sameInstance(summary1));
+	}
+
+	@Test
+	public void summaryIsReplacedWhenTransactionIsAdded() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(BlockUtils.createTransactionWithFee(17));
+		final BlockSummary originalSummary = block.getSummary();
+
+		// Act:
+		block.addTransaction(BlockUtils.createTransactionWithFee(11));
+		final BlockSummary summary = block.getSummary();
+
+		// Assert: the original summary is not changed
+		Assert.assertThat(summary, IsNot.not(IsSame.sameInstance(originalSummary)));
+		Assert.assertThat(originalSummary.getNumTransactions(), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(2));
+		Assert.assertThat(summary.getNumTransactions(MockTransaction.TYPE), IsEqual.equalTo(2));
+	}
+
+	@Test
+	public void summaryIsRecalculatedAfterTransactionListIsModifiedDirectly() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(BlockUtils.createTransactionWithFee(17));
+		final BlockSummary originalSummary = block.getSummary();
+
+		// Act:
+		block.getTransactions().add(BlockUtils.createTransactionWithFee(11));
+		final BlockSummary summary = block.getSummary();
+
+		// Assert:
+		Assert.assertThat(originalSummary.getNumTransactions(), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(2));
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(new Amount(28L)));
+	}
+
+	@Test
+	public void summaryIsRecalculatedAfterTransactionIsReplacedInTransactionList() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		block.addTransaction(BlockUtils.createTransactionWithFee(17));
+		block.addTransaction(BlockUtils.createTransactionWithFee(11));
+		final BlockSummary originalSummary = block.getSummary();
+		final Transaction transfer = new TransferTransaction(
+				TimeInstant.ZERO,
+				Utils.generateRandomAccount(),
+				Utils.generateRandomAccount(),
+				Amount.fromNem(100),
+				null);
+		transfer.setFee(new Amount(5L));
+
+		// Act:
+		block.getTransactions().set(0, transfer);
+		final BlockSummary summary = block.getSummary();
+
+		// Assert:
+		Assert.assertThat(originalSummary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(0));
+		Assert.assertThat(summary.getNumTransactions(), IsEqual.equalTo(2));
+		Assert.assertThat(summary.getNumTransactions(TransactionTypes.TRANSFER), IsEqual.equalTo(1));
+		Assert.assertThat(summary.getTotalTransferredAmount(), IsEqual.equalTo(Amount.fromNem(100)));
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(new Amount(16L)));
+	}
+
+	@Test
+	public void totalFeeReflectsFeeChangedAfterTransactionIsAdded() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Transaction transaction = BlockUtils.createTransactionWithFee(17);
+		block.addTransaction(transaction);
+		block.addTransaction(BlockUtils.createTransactionWithFee(11));
+		block.getSummary();
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(new Amount(28L)));
+
+		// Act:
+		transaction.setFee(new Amount(30L));
+
+		// Assert:
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(new Amount(41L)));
+	}
+
+	@Test
+	public void totalFeeReflectsSignatureAddedAfterMultisigTransactionIsAdded() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Transaction innerTransaction = BlockUtils.createTransactionWithFee(1_000000);
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigSignatureTransaction signature = context.createSignature();
+		signature.setFee(Amount.fromNem(3));
+		final MultisigTransaction transaction = context.createMultisig();
+		transaction.setFee(Amount.fromNem(130));
+		block.addTransaction(transaction);
+		final BlockSummary summary = block.getSummary();
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(Amount.fromNem(1 + 130)));
+
+		// Act:
+		transaction.addSignature(signature);
+
+		// Assert: the summary is recalculated and includes the new signature
+		Assert.assertThat(block.getSummary(), IsNot.not(IsSame.sameInstance(summary)));
+		Assert.assertThat(block.getSummary().getNumTransactions(TransactionTypes.MULTISIG_SIGNATURE), IsEqual.equalTo(1));
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(Amount.fromNem(1 + 3 + 130)));
+	}
+
+	@Test
+	public void totalFeeReflectsFeesChangedAfterChildTransactionsAreAdded() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Transaction innerTransaction = BlockUtils.createTransactionWithFee(1_000000);
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigSignatureTransaction signature = context.createSignature();
+		signature.setFee(Amount.fromNem(3));
+		final MultisigTransaction transaction = context.createMultisig();
+		transaction.setFee(Amount.fromNem(130));
+		transaction.addSignature(signature);
+		block.addTransaction(transaction);
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(Amount.fromNem(1 + 3 + 130)));
+
+		// Act:
+		innerTransaction.setFee(Amount.fromNem(2));
+		signature.setFee(Amount.fromNem(5));
+
+		// Assert:
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(Amount.fromNem(2 + 5 + 130)));
+	}
+
+	@Test
+	public void summaryIsNotAffectedByFeeChangedAfterTransactionIsRemoved() {
+		// Arrange:
+		final Block block = BlockUtils.createBlock();
+		final Transaction transaction = BlockUtils.createTransactionWithFee(17);
+		block.addTransaction(transaction);
+		block.addTransaction(BlockUtils.createTransactionWithFee(11));
+		block.getTransactions().remove(transaction);
+		final BlockSummary summary = block.getSummary();
+
+		// Act:
+		transaction.setFee(new Amount(30L));
+
+		// Assert:
+		Assert.assertThat(block.getSummary(), IsSame.sameInstance(summary));
+		Assert.assertThat(block.getTotalFee(), IsEqual.equalTo(new Amount(11L)));
+	}
+
 	//endregion
 
 	//region equals / hashCode
@@ -405,6 +405,51 @@ public class MultisigTransactionTest {
 		Assert.assertThat(transactions, IsEquivalent.equivalentTo(expectedTransactions));
 	}
 
+	@Test
+	public void getChildTransactionsReturnsCachedList() {
+		// Arrange:
+		final MultisigTransaction transaction = createDefaultTransaction(new MockTransaction(Utils.generateRandomAccount()));
+
+		// Act:
+		final Collection<Transaction> transactions1 = transaction.getChildTransactions();
+		final Collection<Transaction> transactions2 = transaction.getChildTransactions();
+
+		// Assert:
+		Assert.assertThat(transactions2, IsSame.sameInstance(transactions1));
+	}
+
+	@Test
+	public void getChildTransactionsReturnsReadOnlyList() {
+		// Arrange:
+		final MultisigTransaction transaction = createDefaultTransaction(new MockTransaction(Utils.generateRandomAccount()));
+		final Collection<Transaction> transactions = transaction.getChildTransactions();
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> transactions.clear(), UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void getChildTransactionsIsRefreshedAfterSignatureIsAdded() {
+		// Arrange:
+		final MockTransaction innerTransaction = new MockTransaction(Utils.generateRandomAccount());
+		final MultisigTransaction transaction = createDefaultTransaction(innerTransaction);
+		final Collection<Transaction> originalTransactions = transaction.getChildTransactions();
+
+		final MultisigSignatureTransaction signatureTransaction = new MultisigSignatureTransaction(
+				transaction.getTimeStamp(),
+				Utils.generateRandomAccount(),
+				innerTransaction.getSigner(),
+				innerTransaction);
+
+		// Act:
+		transaction.addSignature(signatureTransaction);
+		final Collection<Transaction> transactions = transaction.getChildTransactions();
+
+		// Assert:
+		Assert.assertThat(originalTransactions, IsEquivalent.equivalentTo(Collections.singletonList(innerTransaction)));
+		Assert.assertThat(transactions, IsEquivalent.equivalentTo(Arrays.asList(innerTransaction, signatureTransaction)));
+	}
+
 	//endregion
 
 	//region addSignature / getSigners / getCosignerSignatures
@@ -542,6 +587,95 @@ public class MultisigTransactionTest {
 				UnsupportedOperationException.class);
 	}
 
+	@Test
+	public void getSignersReturnsCachedList() {
+		// Arrange:
+		final Transaction innerTransaction = new MockTransaction(Utils.generateRandomAccount());
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigTransaction msTransaction = context.createMultisig();
+		msTransaction.addSignature(context.createSignature());
+
+		// Act:
+		final List<Account> signers1 = msTransaction.getSigners();
+		final List<Account> signers2 = msTransaction.getSigners();
+
+		// Assert:
+		Assert.assertThat(signers2, IsSame.sameInstance(signers1));
+	}
+
+	@Test
+	public void getSignersIsRefreshedAfterSignatureIsAdded() {
+		// Arrange:
+		final Transaction innerTransaction = new MockTransaction(Utils.generateRandomAccount());
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigTransaction msTransaction = context.createMultisig();
+		final MultisigSignatureTransaction sigTransaction1 = context.createSignature();
+		final MultisigSignatureTransaction sigTransaction2 = context.createSignature();
+		msTransaction.addSignature(sigTransaction1);
+		final List<Account> originalSigners = msTransaction.getSigners();
+
+		// Act:
+		msTransaction.addSignature(sigTransaction2);
+		final List<Account> signers = msTransaction.getSigners();
+
+		// Assert:
+		Assert.assertThat(originalSigners, IsEquivalent.equivalentTo(sigTransaction1.getSigner()));
+		Assert.assertThat(signers, IsEquivalent.equivalentTo(sigTransaction1.getSigner(), sigTransaction2.getSigner()));
+	}
+
+	@Test
+	public void hasCosignerSignatureReturnsTrueOnlyForAddedCosigners() {
+		// Arrange:
+		final Transaction innerTransaction = new MockTransaction(Utils.generateRandomAccount());
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigTransaction msTransaction = context.createMultisig();
+		final MultisigSignatureTransaction sigTransaction = context.createSignature();
+
+		// Act:
+		final boolean hasSignatureBeforeAdd = msTransaction.hasCosignerSignature(sigTransaction.getSigner());
+		msTransaction.addSignature(sigTransaction);
+
+		// Assert:
+		Assert.assertThat(hasSignatureBeforeAdd, IsEqual.equalTo(false));
+		Assert.assertThat(msTransaction.hasCosignerSignature(sigTransaction.getSigner()), IsEqual.equalTo(true));
+		Assert.assertThat(msTransaction.hasCosignerSignature(Utils.createPublicOnlyKeyAccount(sigTransaction.getSigner())), IsEqual.equalTo(true));
+		Assert.assertThat(msTransaction.hasCosignerSignature(Utils.generateRandomAccount()), IsEqual.equalTo(false));
+		Assert.assertThat(msTransaction.hasCosignerSignature(msTransaction.getSigner()), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void hasCosignerSignatureIsNotAffectedByRejectedSignatures() {
+		// Arrange:
+		final Transaction innerTransaction = new MockTransaction(Utils.generateRandomAccount());
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigTransaction msTransaction = context.createMultisig();
+		final MultisigSignatureTransaction sigTransaction = context.createSignatureWithHash(Utils.generateRandomHash());
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> msTransaction.addSignature(sigTransaction), IllegalArgumentException.class);
+
+		// Assert:
+		Assert.assertThat(msTransaction.hasCosignerSignature(sigTransaction.getSigner()), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void addingSignatureFromExistingCosignerDoesNotChangeSigners() {
+		// Arrange:
+		final Transaction innerTransaction = new MockTransaction(Utils.generateRandomAccount());
+		final SimpleMultisigContext context = new SimpleMultisigContext(innerTransaction);
+		final MultisigTransaction msTransaction = context.createMultisig();
+		final MultisigSignatureTransaction sigTransaction = context.createSignature();
+		msTransaction.addSignature(sigTransaction);
+		final List<Account> originalSigners = msTransaction.getSigners();
+
+		// Act:
+		msTransaction.addSignature(context.createSignature(sigTransaction.getSigner()));
+
+		// Assert:
+		Assert.assertThat(msTransaction.getSigners(), IsSame.sameInstance(originalSigners));
+		Assert.assertThat(msTransaction.getCosignerSignatures().size(), IsEqual.equalTo(1));
+	}
+
 	@Test
 	public void getCosignerSignaturesIsReadOnly() {
 		// Arrange:
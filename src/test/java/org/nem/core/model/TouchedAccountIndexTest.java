@@ -0,0 +1,143 @@
+package org.nem.core.model;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.test.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class TouchedAccountIndexTest {
+
+	@Test
+	public void indexOfNoTransactionsIsEmpty() {
+		// Act:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(Collections.emptyList());
+
+		// Assert:
+		Assert.assertThat(index.size(), IsEqual.equalTo(0));
+		Assert.assertThat(index.asList().isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void indexContainsSignersAndOtherAccountsOfAllTransactions() {
+		// Arrange:
+		final Account signer1 = Utils.generateRandomAccount();
+		final Account signer2 = Utils.generateRandomAccount();
+		final Account other1 = Utils.generateRandomAccount();
+		final Account other2 = Utils.generateRandomAccount();
+		final MockTransaction transaction1 = new MockTransaction(signer1);
+		transaction1.setOtherAccounts(Arrays.asList(other1, other2));
+		final MockTransaction transaction2 = new MockTransaction(signer2);
+
+		// Act:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(Arrays.asList(transaction1, transaction2));
+
+		// Assert:
+		Assert.assertThat(index.asList(), IsEquivalent.equivalentTo(signer1, signer2, other1, other2));
+	}
+
+	@Test
+	public void indexContainsDebtors() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction(Utils.generateRandomAccount());
+		transaction.setUseRandomDebtor(true);
+
+		// Act:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(Collections.singletonList(transaction));
+
+		// Assert:
+		Assert.assertThat(index.asList(), IsEquivalent.equivalentTo(transaction.getSigner(), transaction.getDebtor()));
+	}
+
+	@Test
+	public void indexContainsAccountsOfAllNestedChildTransactions() {
+		// Arrange:
+		final Transaction transaction = MockTransactionUtils.createMockTransactionWithNestedChildren(50);
+		final List<Account> expectedAccounts = TransactionExtensions.streamSelfAndAllTransactions(transaction)
+				.map(Transaction::getSigner)
+				.collect(Collectors.toList());
+
+		// Act:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(Collections.singletonList(transaction));
+
+		// Assert:
+		Assert.assertThat(index.size(), IsEqual.equalTo(8));
+		Assert.assertThat(index.asList(), IsEquivalent.equivalentTo(expectedAccounts));
+	}
+
+	@Test
+	public void indexDeduplicatesAccountsAndKeepsFirstInstance() {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final Account other = Utils.generateRandomAccount();
+		final Account otherCopy = Utils.createPublicOnlyKeyAccount(other);
+		final MockTransaction transaction1 = new MockTransaction(signer);
+		transaction1.setOtherAccounts(Arrays.asList(other, signer));
+		final MockTransaction transaction2 = new MockTransaction(signer);
+		transaction2.setOtherAccounts(Collections.singletonList(otherCopy));
+
+		// Act:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(Arrays.asList(transaction1, transaction2));
+
+		// Assert:
+		Assert.assertThat(index.size(), IsEqual.equalTo(2));
+		Assert.assertThat(index.get(index.indexOf(otherCopy)), IsSame.sameInstance(other));
+	}
+
+	@Test
+	public void accountsAreSortedByAddress() {
+		// Arrange:
+		final List<Transaction> transactions = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			transactions.add(new MockTransaction(Utils.generateRandomAccount()));
+		}
+
+		// Act:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(transactions);
+
+		// Assert:
+		for (int i = 1; i < index.size(); ++i) {
+			Assert.assertThat(index.get(i - 1).getAddress().compareTo(index.get(i).getAddress()) < 0, IsEqual.equalTo(true));
+		}
+	}
+
+	@Test
+	public void indexOfReturnsIdOfContainedAccounts() {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final Account other = Utils.generateRandomAccount();
+		final MockTransaction transaction = new MockTransaction(signer);
+		transaction.setOtherAccounts(Collections.singletonList(other));
+		final TouchedAccountIndex index = TouchedAccountIndex.create(Collections.singletonList(transaction));
+
+		// Act + Assert:
+		for (final Account account : Arrays.asList(signer, other)) {
+			final int id = index.indexOf(account);
+			Assert.assertThat(index.get(id), IsEqual.equalTo(account));
+			Assert.assertThat(index.contains(account), IsEqual.equalTo(true));
+		}
+	}
+
+	@Test
+	public void indexOfReturnsMinusOneForOtherAccounts() {
+		// Arrange:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(
+				Collections.singletonList(new MockTransaction(Utils.generateRandomAccount())));
+		final Account account = Utils.generateRandomAccount();
+
+		// Act + Assert:
+		Assert.assertThat(index.indexOf(account), IsEqual.equalTo(-1));
+		Assert.assertThat(index.contains(account), IsEqual.equalTo(false));
+	}
+
+	@Test
+	public void asListIsReadOnly() {
+		// Arrange:
+		final TouchedAccountIndex index = TouchedAccountIndex.create(
+				Collections.singletonList(new MockTransaction(Utils.generateRandomAccount())));
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> index.asList().clear(), UnsupportedOperationException.class);
+	}
+}
@@ -0,0 +1,326 @@
+package org.nem.core.model;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.crypto.*;
+import org.nem.core.messages.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.serialization.*;
+import org.nem.core.test.*;
+import org.nem.core.time.TimeInstant;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+public class TransactionCodecsTest {
+	private static final int NUM_ITERATIONS = 25;
+	private static final Random RANDOM = new Random();
+
+	//region size / isSupported
+
+	@Test
+	public void specializedTypesAreSupported() {
+		// Assert:
+		Assert.assertThat(TransactionCodecs.size(), IsEqual.equalTo(4));
+		Assert.assertThat(TransactionCodecs.isSupported(TransactionTypes.TRANSFER), IsEqual.equalTo(true));
+		Assert.assertThat(TransactionCodecs.isSupported(TransactionTypes.IMPORTANCE_TRANSFER), IsEqual.equalTo(true));
+		Assert.assertThat(TransactionCodecs.isSupported(TransactionTypes.MULTISIG), IsEqual.equalTo(true));
+		Assert.assertThat(TransactionCodecs.isSupported(TransactionTypes.MULTISIG_SIGNATURE), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void otherTypesAreNotSupported() {
+		// Assert:
+		Assert.assertThat(TransactionCodecs.isSupported(TransactionTypes.MULTISIG_AGGREGATE_MODIFICATION), IsEqual.equalTo(false));
+		Assert.assertThat(TransactionCodecs.isSupported(9999), IsEqual.equalTo(false));
+	}
+
+	//endregion
+
+	//region equivalence with generic path
+
+	@Test
+	public void transferTransactionCodecIsEquivalentToGenericPath() {
+		// Assert:
+		assertEquivalenceWithGenericPath(TransactionCodecsTest::createRandomTransfer);
+	}
+
+	@Test
+	public void importanceTransferTransactionCodecIsEquivalentToGenericPath() {
+		// Assert:
+		assertEquivalenceWithGenericPath(TransactionCodecsTest::createRandomImportanceTransfer);
+	}
+
+	@Test
+	public void multisigSignatureTransactionCodecIsEquivalentToGenericPath() {
+		// Assert:
+		assertEquivalenceWithGenericPath(() -> createRandomSignature(Utils.generateRandomAccount(), Utils.generateRandomHash()));
+	}
+
+	@Test
+	public void multisigTransactionCodecIsEquivalentToGenericPath() {
+		// Assert:
+		assertEquivalenceWithGenericPath(TransactionCodecsTest::createRandomMultisig);
+	}
+
+	@Test
+	public void unsupportedTransactionIsEncodedWithGenericPath() {
+		// Assert:
+		assertEquivalenceWithGenericPath(RandomTransactionFactory::createMultisigModification);
+	}
+
+	private static void assertEquivalenceWithGenericPath(final Supplier<Transaction> supplier) {
+		for (int i = 0; i < NUM_ITERATIONS; ++i) {
+			// Arrange:
+			final Transaction transaction = supplier.get();
+			transaction.sign();
+
+			// Assert:
+			assertEquivalence(transaction);
+		}
+	}
+
+	private static void assertEquivalence(final Transaction transaction) {
+		// Act:
+		final byte[] codecBytes = TransactionCodecs.encode(transaction);
+		final byte[] nonVerifiableCodecBytes = TransactionCodecs.encodeNonVerifiable(transaction);
+
+		// Assert:
+		Assert.assertThat(codecBytes, IsEqual.equalTo(BinarySerializer.serializeToBytes(transaction)));
+		Assert.assertThat(nonVerifiableCodecBytes, IsEqual.equalTo(BinarySerializer.serializeToBytes(transaction.asNonVerifiable())));
+	}
+
+	//endregion
+
+	//region fixed transactions
+
+	@Test
+	public void fixedTransferTransactionsAreEncodedLikeBinarySerializer() {
+		// Arrange:
+		final Account signer = createFixedAccount(1);
+		final Account recipient = createFixedAccount(2);
+		final Message[] messages = new Message[] { null, new PlainMessage(new byte[0]), new PlainMessage(new byte[] { 0x12, 0x34, 0x56 }) };
+		for (final Message message : messages) {
+			final Transaction transaction = new TransferTransaction(new TimeInstant(1234), signer, recipient, Amount.fromMicroNem(98765), message);
+
+			// Assert:
+			assertFixedEquivalence(transaction);
+		}
+	}
+
+	@Test
+	public void fixedImportanceTransferTransactionIsEncodedLikeBinarySerializer() {
+		// Arrange:
+		final Transaction transaction = new ImportanceTransferTransaction(
+				new TimeInstant(1234),
+				createFixedAccount(1),
+				ImportanceTransferMode.Activate,
+				createFixedAccount(2));
+
+		// Assert:
+		assertFixedEquivalence(transaction);
+	}
+
+	@Test
+	public void fixedMultisigSignatureTransactionIsEncodedLikeBinarySerializer() {
+		// Arrange:
+		final Transaction transaction = new MultisigSignatureTransaction(
+				new TimeInstant(1234),
+				createFixedAccount(1),
+				createFixedAccount(2),
+				Hash.fromHexString("c5f54ba980fcbb657dbaaa42700539b207873e134d2375efeab5f1ab52f87844"));
+
+		// Assert:
+		assertFixedEquivalence(transaction);
+	}
+
+	@Test
+	public void fixedMultisigTransactionIsEncodedLikeBinarySerializer() {
+		// Arrange:
+		final Account multisig = createFixedAccount(2);
+		final Transaction otherTransaction = new TransferTransaction(new TimeInstant(1000), multisig, createFixedAccount(3), Amount.fromMicroNem(5), null);
+		final MultisigTransaction transaction = new MultisigTransaction(new TimeInstant(1234), createFixedAccount(1), otherTransaction);
+		final MultisigSignatureTransaction signature = new MultisigSignatureTransaction(
+				new TimeInstant(1235),
+				createFixedAccount(4),
+				multisig,
+				transaction.getOtherTransactionHash());
+		signature.setFee(Amount.fromMicroNem(6));
+		signature.setDeadline(new TimeInstant(1300));
+		signature.sign();
+		transaction.addSignature(signature);
+
+		// Assert:
+		assertFixedEquivalence(transaction);
+	}
+
+	private static void assertFixedEquivalence(final Transaction transaction) {
+		// Arrange:
+		transaction.setFee(Amount.fromMicroNem(3000));
+		transaction.setDeadline(new TimeInstant(5678));
+		transaction.sign();
+
+		// Assert:
+		assertEquivalence(transaction);
+	}
+
+	private static Account createFixedAccount(final int seed) {
+		return new Account(new KeyPair(PrivateKey.fromHexString(String.format("%064x", 0x1000 + seed))));
+	}
+
+	//endregion
+
+	//region production path
+
+	@Test
+	public void transactionHashIsCalculatedFromCodecBytes() {
+		// Arrange:
+		final Transaction transaction = createRandomTransfer();
+
+		// Act:
+		final Hash hash = HashUtils.calculateHash(transaction);
+
+		// Assert:
+		Assert.assertThat(hash, IsEqual.equalTo(new Hash(Hashes.sha3_256(TransactionCodecs.encodeNonVerifiable(transaction)))));
+		Assert.assertThat(hash, IsEqual.equalTo(HashUtils.calculateHash(transaction.asNonVerifiable())));
+	}
+
+	@Test
+	public void transactionSignedWithCodecBytesCanBeVerifiedAfterGenericRoundTrip() {
+		// Arrange:
+		final Transaction transaction = createRandomMultisig();
+		transaction.sign();
+
+		// Act:
+		final Transaction roundTrippedTransaction = deserializeGeneric(BinarySerializer.serializeToBytes(transaction));
+
+		// Assert:
+		Assert.assertThat(roundTrippedTransaction.verify(), IsEqual.equalTo(true));
+		Assert.assertThat(HashUtils.calculateHash(roundTrippedTransaction), IsEqual.equalTo(HashUtils.calculateHash(transaction)));
+	}
+
+	//endregion
+
+	//region fallback / errors
+
+	@Test
+	public void transactionWithForeignNetworkVersionIsEncodedWithGenericPath() {
+		// Arrange:
+		final Transaction transaction = createRandomTransfer();
+		transaction.sign();
+		final byte[] bytes = BinarySerializer.serializeToBytes(transaction);
+		bytes[7] = (byte)(bytes[7] + 1); // change the network byte of the version
+		final Transaction foreignTransaction = deserializeGeneric(bytes);
+
+		// Act:
+		final byte[] encodedBytes = TransactionCodecs.encode(foreignTransaction);
+
+		// Assert:
+		Assert.assertThat(foreignTransaction.getVersion(), IsEqual.equalTo(transaction.getVersion() + 0x01000000));
+		Assert.assertThat(encodedBytes, IsEqual.equalTo(BinarySerializer.serializeToBytes(foreignTransaction)));
+	}
+
+	@Test
+	public void cannotEncodeUnsignedTransaction() {
+		// Arrange:
+		final Transaction transaction = createRandomTransfer();
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> TransactionCodecs.encode(transaction), SerializationException.class);
+	}
+
+	//endregion
+
+	//region random transaction factories
+
+	private static DeserializationContext createContext() {
+		return new DeserializationContext(new MockAccountLookup(MockAccountLookup.UnknownAccountBehavior.REAL_ACCOUNT));
+	}
+
+	private static Transaction deserializeGeneric(final byte[] bytes) {
+		return TransactionFactory.VERIFIABLE.deserialize(new BinaryDeserializer(bytes, createContext()));
+	}
+
+	private static TimeInstant createRandomTimeInstant() {
+		return new TimeInstant(RANDOM.nextInt(Integer.MAX_VALUE));
+	}
+
+	private static <T extends Transaction> T randomizeFeeAndDeadline(final T transaction) {
+		// leave the fee unset occasionally so that the calculated minimum fee is used
+		if (RANDOM.nextBoolean()) {
+			transaction.setFee(Amount.fromMicroNem(Math.abs(RANDOM.nextLong() >> 8)));
+		}
+
+		transaction.setDeadline(createRandomTimeInstant());
+		return transaction;
+	}
+
+	private static Message createRandomMessage(final Account sender, final Account recipient, final boolean allowEmptyMessage) {
+		switch (RANDOM.nextInt(4)) {
+			case 0:
+				return null;
+			case 1:
+				return allowEmptyMessage ? new PlainMessage(new byte[0]) : null;
+			case 2:
+				return new PlainMessage(Utils.generateRandomBytes(1 + RANDOM.nextInt(200)));
+			default:
+				return SecureMessage.fromDecodedPayload(sender, recipient, Utils.generateRandomBytes(1 + RANDOM.nextInt(100)));
+		}
+	}
+
+	private static Transaction createRandomTransfer() {
+		return createRandomTransfer(Utils.generateRandomAccount(), true);
+	}
+
+	private static TransferTransaction createRandomTransfer(final Account signer, final boolean allowEmptyMessage) {
+		final Account recipient = Utils.generateRandomAccount();
+		return randomizeFeeAndDeadline(new TransferTransaction(
+				createRandomTimeInstant(),
+				signer,
+				recipient,
+				Amount.fromMicroNem(Math.abs(RANDOM.nextLong() >> 12)),
+				createRandomMessage(signer, recipient, allowEmptyMessage)));
+	}
+
+	private static Transaction createRandomImportanceTransfer() {
+		return randomizeFeeAndDeadline(new ImportanceTransferTransaction(
+				createRandomTimeInstant(),
+				Utils.generateRandomAccount(),
+				RANDOM.nextBoolean() ? ImportanceTransferMode.Activate : ImportanceTransferMode.Deactivate,
+				Utils.generateRandomAccount()));
+	}
+
+	private static MultisigSignatureTransaction createRandomSignature(final Account multisig, final Hash hash) {
+		return randomizeFeeAndDeadline(new MultisigSignatureTransaction(
+				createRandomTimeInstant(),
+				Utils.generateRandomAccount(),
+				multisig,
+				hash));
+	}
+
+	private static Transaction createRandomMultisig() {
+		final Account multisig = Utils.generateRandomAccount();
+		// an empty inner message would be dropped during deserialization and invalidate the signatures
+		final Transaction otherTransaction = RANDOM.nextBoolean()
+				? createRandomTransfer(multisig, false)
+				: new MultisigAggregateModificationTransaction(
+						createRandomTimeInstant(),
+						multisig,
+						Collections.singletonList(new MultisigCosignatoryModification(MultisigModificationType.AddCosignatory, Utils.generateRandomAccount())));
+		final MultisigTransaction transaction = randomizeFeeAndDeadline(new MultisigTransaction(
+				createRandomTimeInstant(),
+				Utils.generateRandomAccount(),
+				otherTransaction));
+
+		final int numSignatures = RANDOM.nextInt(4);
+		for (int i = 0; i < numSignatures; ++i) {
+			final MultisigSignatureTransaction signature = createRandomSignature(multisig, transaction.getOtherTransactionHash());
+			signature.sign();
+			transaction.addSignature(signature);
+		}
+
+		return transaction;
+	}
+
+	//endregion
+}
@@ -0,0 +1,246 @@
+package org.nem.core.model;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.observers.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.test.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+public class TransactionExecutionSchedulerTest {
+
+	//region partition
+
+	@Test
+	public void partitionOfEmptyBlockIsEmpty() {
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(BlockUtils.createBlock());
+
+		// Assert:
+		Assert.assertThat(partitions.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void transactionsWithDisjointAccountsArePlacedInDifferentPartitions() {
+		// Arrange:
+		final List<MockTransaction> transactions = createTransactions(3);
+		final Block block = createBlock(transactions);
+
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(getCustomFields(partitions), IsEqual.equalTo(Arrays.asList(
+				Collections.singletonList(0),
+				Collections.singletonList(1),
+				Collections.singletonList(2))));
+	}
+
+	@Test
+	public void transactionsWithSameSignerArePlacedInSamePartitionInBlockOrder() {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final List<MockTransaction> transactions = createTransactions(4);
+		transactions.set(0, new MockTransaction(signer, 0));
+		transactions.set(2, new MockTransaction(signer, 2));
+		final Block block = createBlock(transactions);
+
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(getCustomFields(partitions), IsEqual.equalTo(Arrays.asList(
+				Arrays.asList(0, 2),
+				Collections.singletonList(1),
+				Collections.singletonList(3))));
+	}
+
+	@Test
+	public void transactionsWithSharedOtherAccountsArePlacedInSamePartition() {
+		// Arrange:
+		final List<MockTransaction> transactions = createTransactions(3);
+		transactions.get(0).setOtherAccounts(Collections.singletonList(transactions.get(2).getSigner()));
+		final Block block = createBlock(transactions);
+
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(getCustomFields(partitions), IsEqual.equalTo(Arrays.asList(
+				Arrays.asList(0, 2),
+				Collections.singletonList(1))));
+	}
+
+	@Test
+	public void transactionsWithSharedDebtorsArePlacedInSamePartition() {
+		// Arrange:
+		final List<MockTransaction> transactions = createTransactions(3);
+		transactions.get(1).setUseRandomDebtor(true);
+		transactions.get(2).setOtherAccounts(Collections.singletonList(transactions.get(1).getDebtor()));
+		final Block block = createBlock(transactions);
+
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(getCustomFields(partitions), IsEqual.equalTo(Arrays.asList(
+				Collections.singletonList(0),
+				Arrays.asList(1, 2))));
+	}
+
+	@Test
+	public void transactionsWithSharedChildTransactionAccountsArePlacedInSamePartition() {
+		// Arrange:
+		final List<MockTransaction> transactions = createTransactions(3);
+		final MockTransaction child = new MockTransaction(transactions.get(0).getSigner(), 100);
+		transactions.get(2).setChildTransactions(Collections.singletonList(child));
+		final Block block = createBlock(transactions);
+
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(getCustomFields(partitions), IsEqual.equalTo(Arrays.asList(
+				Arrays.asList(0, 2),
+				Collections.singletonList(1))));
+	}
+
+	@Test
+	public void transitivelyConflictingTransactionsArePlacedInSamePartition() {
+		// Arrange: 3 conflicts with 1 and 0; 0 and 1 do not directly conflict
+		final List<MockTransaction> transactions = createTransactions(4);
+		transactions.get(3).setOtherAccounts(Arrays.asList(transactions.get(1).getSigner(), transactions.get(0).getSigner()));
+		final Block block = createBlock(transactions);
+
+		// Act:
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(getCustomFields(partitions), IsEqual.equalTo(Arrays.asList(
+				Arrays.asList(0, 1, 3),
+				Collections.singletonList(2))));
+	}
+
+	@Test
+	public void partitionReflectsSignatureAddedAfterBlockWasPartitioned() {
+		// Arrange:
+		final List<MockTransaction> transactions = createTransactions(2);
+		final SimpleMultisigContext context = new SimpleMultisigContext(new MockTransaction(Utils.generateRandomAccount(), 2));
+		final MultisigTransaction multisigTransaction = context.createMultisig();
+		final Block block = createBlock(transactions);
+		block.addTransaction(multisigTransaction);
+		TransactionExecutionScheduler.partition(block);
+
+		// Act:
+		multisigTransaction.addSignature(context.createSignature(transactions.get(1).getSigner()));
+		final List<List<Transaction>> partitions = TransactionExecutionScheduler.partition(block);
+
+		// Assert:
+		Assert.assertThat(partitions, IsEqual.equalTo(Arrays.asList(
+				Collections.singletonList(transactions.get(0)),
+				Arrays.asList(transactions.get(1), multisigTransaction))));
+	}
+
+	//endregion
+
+	//region execute
+
+	@Test
+	public void executeWithoutPoolExecutesEachPartitionAgainstItsOwnObserver() {
+		// Assert:
+		assertEachPartitionIsExecutedAgainstItsOwnObserver(new TransactionExecutionScheduler());
+	}
+
+	@Test
+	public void executeWithPoolExecutesEachPartitionAgainstItsOwnObserver() {
+		// Assert:
+		assertEachPartitionIsExecutedAgainstItsOwnObserver(new TransactionExecutionScheduler(new ForkJoinPool(4)));
+	}
+
+	@Test
+	public void executeWithPoolPreservesNotificationOrderPerAccount() {
+		// Arrange: 100 transactions spread over 10 signers
+		final List<Account> signers = IntStream.range(0, 10).mapToObj(i -> Utils.generateRandomAccount()).collect(Collectors.toList());
+		final List<MockTransaction> transactions = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			final MockTransaction transaction = new MockTransaction(signers.get(i % 10), i);
+			transaction.setFee(Amount.fromNem(i));
+			transactions.add(transaction);
+		}
+
+		final Block block = createBlock(transactions);
+		final Map<Integer, NotificationBuffer> partitionToBufferMap = new ConcurrentHashMap<>();
+		final TransactionExecutionScheduler scheduler = new TransactionExecutionScheduler(new ForkJoinPool(4));
+
+		// Act:
+		final int numPartitions = scheduler.execute(block, i -> partitionToBufferMap.computeIfAbsent(i, key -> new NotificationBuffer()));
+
+		// Assert:
+		Assert.assertThat(numPartitions, IsEqual.equalTo(10));
+		for (final NotificationBuffer buffer : partitionToBufferMap.values()) {
+			Assert.assertThat(buffer.size(), IsEqual.equalTo(10));
+
+			final Account account = buffer.getPrimaryAccount(0);
+			long lastFee = -1;
+			for (int i = 0; i < buffer.size(); ++i) {
+				Assert.assertThat(buffer.getPrimaryAccount(i), IsEqual.equalTo(account));
+				Assert.assertThat(buffer.getAmount(i).getNumNem() > lastFee, IsEqual.equalTo(true));
+				lastFee = buffer.getAmount(i).getNumNem();
+			}
+		}
+	}
+
+	private static void assertEachPartitionIsExecutedAgainstItsOwnObserver(final TransactionExecutionScheduler scheduler) {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final List<MockTransaction> transactions = createTransactions(4);
+		transactions.set(1, new MockTransaction(signer, 1));
+		transactions.set(3, new MockTransaction(signer, 3));
+		final Block block = createBlock(transactions);
+		final Map<Integer, NotificationBuffer> partitionToBufferMap = new ConcurrentHashMap<>();
+
+		// Act:
+		final int numPartitions = scheduler.execute(block, i -> partitionToBufferMap.computeIfAbsent(i, key -> new NotificationBuffer()));
+
+		// Assert:
+		Assert.assertThat(numPartitions, IsEqual.equalTo(3));
+		Assert.assertThat(partitionToBufferMap.size(), IsEqual.equalTo(3));
+		assertDebits(partitionToBufferMap.get(0), transactions.get(0));
+		assertDebits(partitionToBufferMap.get(1), transactions.get(1), transactions.get(3));
+		assertDebits(partitionToBufferMap.get(2), transactions.get(2));
+
+		for (final MockTransaction transaction : transactions) {
+			Assert.assertThat(transaction.getNumTransferCalls(), IsEqual.equalTo(1));
+		}
+	}
+
+	private static void assertDebits(final NotificationBuffer buffer, final Transaction... transactions) {
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(transactions.length));
+		for (int i = 0; i < transactions.length; ++i) {
+			NotificationUtils.assertBalanceDebitNotification(buffer.getNotification(i), transactions[i].getSigner(), transactions[i].getFee());
+		}
+	}
+
+	//endregion
+
+	private static List<MockTransaction> createTransactions(final int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> new MockTransaction(Utils.generateRandomAccount(), i))
+				.collect(Collectors.toList());
+	}
+
+	private static Block createBlock(final List<MockTransaction> transactions) {
+		final Block block = BlockUtils.createBlock();
+		block.addTransactions(new ArrayList<>(transactions));
+		return block;
+	}
+
+	private static List<List<Integer>> getCustomFields(final List<List<Transaction>> partitions) {
+		return partitions.stream()
+				.map(partition -> partition.stream().map(t -> ((MockTransaction)t).getCustomField()).collect(Collectors.toList()))
+				.collect(Collectors.toList());
+	}
+}
@@ -80,6 +80,110 @@ public class TransactionExtensionsTest {
 				IsEquivalent.equivalentTo(50, 60, 70, 80));
 	}
 
+	@Test
+	public void streamSelfAndAllTransactionsReturnsEachLevelBeforeDescending() {
+		// Arrange:
+		final Transaction transaction = createTestTransaction();
+
+		// Act:
+		final List<Integer> customFields = getCustomFields(TransactionExtensions.streamSelfAndAllTransactions(transaction));
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(50, 60, 70, 80, 61, 62, 81, 82)));
+	}
+
+	@Test
+	public void streamSelfAndAllTransactionsCanBeConsumedIncrementally() {
+		// Arrange:
+		final Transaction transaction = createDeepTestTransaction();
+
+		// Act: consume the stream one transaction at a time
+		final List<Integer> customFields = new ArrayList<>();
+		final Iterator<Transaction> iterator = TransactionExtensions.streamSelfAndAllTransactions(transaction).iterator();
+		while (iterator.hasNext()) {
+			customFields.add(((MockTransaction)iterator.next()).getCustomField());
+		}
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(getVisitedCustomFields(transaction)));
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(1, 2, 5, 3, 4, 6)));
+	}
+
+	@Test
+	public void streamSelfAndAllTransactionsCanBeConsumedAfterPartialAdvance() {
+		// Arrange:
+		final Transaction transaction = createDeepTestTransaction();
+		final Spliterator<Transaction> spliterator = TransactionExtensions.streamSelfAndAllTransactions(transaction).spliterator();
+		final List<Integer> customFields = new ArrayList<>();
+
+		// Act:
+		spliterator.tryAdvance(t -> customFields.add(((MockTransaction)t).getCustomField()));
+		spliterator.tryAdvance(t -> customFields.add(((MockTransaction)t).getCustomField()));
+		spliterator.forEachRemaining(t -> customFields.add(((MockTransaction)t).getCustomField()));
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(1, 2, 5, 3, 4, 6)));
+	}
+
+	@Test
+	public void canVisitSelfAndFirstChildTransactions() {
+		// Arrange:
+		final Transaction transaction = createTestTransaction();
+		final List<Integer> customFields = new ArrayList<>();
+
+		// Act:
+		TransactionExtensions.visitSelfAndFirstChildTransactions(transaction, t -> customFields.add(((MockTransaction)t).getCustomField()));
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(50, 60, 70, 80)));
+	}
+
+	@Test
+	public void canVisitSelfAndAllTransactions() {
+		// Arrange:
+		final Transaction transaction = createTestTransaction();
+
+		// Act:
+		final List<Integer> customFields = getVisitedCustomFields(transaction);
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(50, 60, 70, 80, 61, 62, 81, 82)));
+	}
+
+	@Test
+	public void canVisitDefaultTransactions() {
+		// Arrange:
+		final Transaction transaction = createTestTransaction();
+		final List<Integer> customFields = new ArrayList<>();
+
+		// Act:
+		TransactionExtensions.visitDefault(transaction, t -> customFields.add(((MockTransaction)t).getCustomField()));
+
+		// Assert:
+		Assert.assertThat(customFields, IsEqual.equalTo(Arrays.asList(50, 60, 70, 80)));
+	}
+
+	private static List<Integer> getVisitedCustomFields(final Transaction transaction) {
+		final List<Integer> customFields = new ArrayList<>();
+		TransactionExtensions.visitSelfAndAllTransactions(transaction, t -> customFields.add(((MockTransaction)t).getCustomField()));
+		return customFields;
+	}
+
+	private static Transaction createDeepTestTransaction() {
+		// 1 -> { 2 -> { 3 -> { 4 } }, 5 -> { 6 } }
+		final MockTransaction transaction4 = new MockTransaction(Utils.generateRandomAccount(), 4);
+		final MockTransaction transaction3 = new MockTransaction(Utils.generateRandomAccount(), 3);
+		transaction3.setChildTransactions(Collections.singletonList(transaction4));
+		final MockTransaction transaction2 = new MockTransaction(Utils.generateRandomAccount(), 2);
+		transaction2.setChildTransactions(Collections.singletonList(transaction3));
+		final MockTransaction transaction6 = new MockTransaction(Utils.generateRandomAccount(), 6);
+		final MockTransaction transaction5 = new MockTransaction(Utils.generateRandomAccount(), 5);
+		transaction5.setChildTransactions(Collections.singletonList(transaction6));
+		final MockTransaction transaction1 = new MockTransaction(Utils.generateRandomAccount(), 1);
+		transaction1.setChildTransactions(Arrays.asList(transaction2, transaction5));
+		return transaction1;
+	}
+
 	private static List<Integer> getCustomFields(final Stream<Transaction> stream) {
 		return MockTransactionUtils.getCustomFields(stream);
 	}
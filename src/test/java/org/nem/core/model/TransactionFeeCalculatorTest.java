@@ -459,6 +459,114 @@ public class TransactionFeeCalculatorTest {
 
 	//endregion
 
+	//region findInvalidFees
+
+	public static class BatchFeeValidation {
+
+		@Test
+		public void findInvalidFeesReturnsEmptyBitSetForNoTransactions() {
+			// Act:
+			final BitSet invalidFees = TransactionFeeCalculator.findInvalidFees(Collections.emptyList(), BlockHeight.MAX);
+
+			// Assert:
+			Assert.assertThat(invalidFees.isEmpty(), IsEqual.equalTo(true));
+		}
+
+		@Test
+		public void findInvalidFeesFlagsAllTransactionsWithInvalidFees() {
+			// Arrange:
+			final List<Transaction> transactions = Arrays.asList(
+					createTransfer(100, null),
+					createTransfer(1000000, null),
+					createMultisigAggregateModification(3, 2),
+					createImportanceTransfer(),
+					createMultisigSignature(),
+					createMultisigSignature(),
+					createProvisionNamespaceTransaction());
+			final long[] relativeFees = new long[] { 0, -1, 1, -1, 0, 1, -1 };
+			for (int i = 0; i < transactions.size(); ++i) {
+				final Transaction transaction = transactions.get(i);
+				final Amount minimumFee = TransactionFeeCalculator.calculateMinimumFee(transaction, BlockHeight.MAX);
+				transaction.setFee(Amount.fromMicroNem(minimumFee.getNumMicroNem() + relativeFees[i] * Amount.MICRONEMS_IN_NEM));
+			}
+
+			// Act:
+			final BitSet invalidFees = TransactionFeeCalculator.findInvalidFees(transactions, new BlockHeight(100000));
+			final BitSet invalidFeesBeforeFork = TransactionFeeCalculator.findInvalidFees(transactions, new BlockHeight(1));
+
+			// Assert:
+			Assert.assertThat(invalidFees, IsEqual.equalTo(createBitSet(1, 3, 6)));
+			Assert.assertThat(invalidFeesBeforeFork, IsEqual.equalTo(createBitSet(1, 3, 5, 6)));
+		}
+
+		private static BitSet createBitSet(final int... indexes) {
+			final BitSet bitSet = new BitSet();
+			for (final int index : indexes) {
+				bitSet.set(index);
+			}
+
+			return bitSet;
+		}
+	}
+
+	//endregion
+
+	//region large transfer fee
+
+	public static class LargeTransferFeeCalculation {
+
+		@Test
+		public void lookupMatchesExactCalculationForSmallAmounts() {
+			// Assert:
+			for (long numNem = 0; numNem < 1_000_000; numNem += 7) {
+				assertLookupMatchesExactCalculation(numNem);
+			}
+		}
+
+		@Test
+		public void lookupMatchesExactCalculationAroundThresholds() {
+			// Assert: check the neighborhoods of all values where the exact fee changes
+			long previousFee = 0;
+			for (long numNem = 0; numNem < 20_000_000; numNem += 1000) {
+				final long fee = calculateExactLargeTransferFee(numNem);
+				if (fee != previousFee) {
+					for (long i = Math.max(0, numNem - 1000); i <= numNem; ++i) {
+						assertLookupMatchesExactCalculation(i);
+					}
+				}
+
+				previousFee = fee;
+			}
+		}
+
+		@Test
+		public void lookupMatchesExactCalculationForLargeAmounts() {
+			// Arrange:
+			final Random random = new Random();
+
+			// Assert:
+			assertLookupMatchesExactCalculation(Long.MAX_VALUE / Amount.MICRONEMS_IN_NEM);
+			assertLookupMatchesExactCalculation(8_999_999_999L);
+			for (int i = 0; i < 10_000; ++i) {
+				assertLookupMatchesExactCalculation(Math.abs(random.nextLong() % (Long.MAX_VALUE / Amount.MICRONEMS_IN_NEM)));
+			}
+		}
+
+		private static void assertLookupMatchesExactCalculation(final long numNem) {
+			// Assert:
+			Assert.assertThat(
+					String.format("numNem: %d", numNem),
+					TransactionFeeCalculator.calculateLargeTransferFee(numNem),
+					IsEqual.equalTo(calculateExactLargeTransferFee(numNem)));
+		}
+
+		private static long calculateExactLargeTransferFee(final long numNem) {
+			return (long)(Math.atan(numNem / 150000.) * 3 * 33);
+		}
+	}
+
+	//endregion
+
 	//region factories
 
 	private static Transaction createTransfer(final long amount, final Message message) {
@@ -549,7 +657,9 @@ public class TransactionFeeCalculatorTest {
 		transaction.setFee(minimumFee);
 
 		// Act:
-		return TransactionFeeCalculator.isFeeValid(transaction, BlockHeight.MAX);
+		final boolean isValid = TransactionFeeCalculator.isFeeValid(transaction, BlockHeight.MAX);
+		assertBatchValidationResult(transaction, BlockHeight.MAX, isValid);
+		return isValid;
 	}
 
 	private static void assertFeeValidationResult(
@@ -575,6 +685,15 @@ public class TransactionFeeCalculatorTest {
 				String.format("fee: %d, height: %d", fee, height),
 				isValid,
 				IsEqual.equalTo(expectedResult));
+		assertBatchValidationResult(transaction, new BlockHeight(height), expectedResult);
+	}
+
+	private static void assertBatchValidationResult(final Transaction transaction, final BlockHeight height, final boolean expectedResult) {
+		// Act:
+		final BitSet invalidFees = TransactionFeeCalculator.findInvalidFees(Collections.singletonList(transaction), height);
+
+		// Assert:
+		Assert.assertThat(invalidFees.get(0), IsEqual.equalTo(!expectedResult));
 	}
 
 	//endregion
@@ -0,0 +1,308 @@
+package org.nem.core.model;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.test.MockTransaction;
+import org.nem.core.time.TimeInstant;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+public class TransactionPriorityIndexTest {
+
+	//region add / remove / contains
+
+	@Test
+	public void indexIsInitiallyEmpty() {
+		// Act:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+
+		// Assert:
+		Assert.assertThat(index.size(), IsEqual.equalTo(0));
+		Assert.assertThat(index.isEmpty(), IsEqual.equalTo(true));
+		Assert.assertThat(index.peek(), IsNull.nullValue());
+		Assert.assertThat(index.poll(), IsNull.nullValue());
+	}
+
+	@Test
+	public void canAddTransactions() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final Transaction transaction1 = createTransaction(70, 150);
+		final Transaction transaction2 = createTransaction(90, 150);
+
+		// Act:
+		final boolean result1 = index.add(transaction1);
+		final boolean result2 = index.add(transaction2);
+
+		// Assert:
+		Assert.assertThat(result1, IsEqual.equalTo(true));
+		Assert.assertThat(result2, IsEqual.equalTo(true));
+		Assert.assertThat(index.size(), IsEqual.equalTo(2));
+		Assert.assertThat(index.isEmpty(), IsEqual.equalTo(false));
+		Assert.assertThat(index.contains(transaction1), IsEqual.equalTo(true));
+		Assert.assertThat(index.contains(transaction2), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void cannotAddSameTransactionTwice() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final Transaction transaction = createTransaction(70, 150);
+		index.add(transaction);
+
+		// Act:
+		final boolean result = index.add(transaction);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(false));
+		Assert.assertThat(index.size(), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void canRemoveTransaction() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final Transaction transaction1 = createTransaction(70, 150);
+		final Transaction transaction2 = createTransaction(90, 150);
+		index.add(transaction1);
+		index.add(transaction2);
+
+		// Act:
+		final boolean result = index.remove(transaction2);
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(true));
+		Assert.assertThat(index.size(), IsEqual.equalTo(1));
+		Assert.assertThat(index.contains(transaction1), IsEqual.equalTo(true));
+		Assert.assertThat(index.contains(transaction2), IsEqual.equalTo(false));
+		Assert.assertThat(index.peek(), IsSame.sameInstance(transaction1));
+	}
+
+	@Test
+	public void removeReturnsFalseForUnknownTransaction() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		index.add(createTransaction(70, 150));
+
+		// Act:
+		final boolean result = index.remove(createTransaction(70, 150));
+
+		// Assert:
+		Assert.assertThat(result, IsEqual.equalTo(false));
+		Assert.assertThat(index.size(), IsEqual.equalTo(1));
+	}
+
+	//endregion
+
+	//region ordering
+
+	@Test
+	public void transactionsAreOrderedByHighestFeeThenOldestTimeStamp() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final List<Transaction> transactions = Arrays.asList(
+				createTransaction(70, 150),
+				createTransaction(90, 200),
+				createTransaction(90, 100),
+				createTransaction(10, 50),
+				createTransaction(70, 120));
+		transactions.forEach(index::add);
+
+		// Act:
+		final List<Transaction> orderedTransactions = index.stream().collect(Collectors.toList());
+
+		// Assert:
+		Assert.assertThat(
+				orderedTransactions,
+				IsEqual.equalTo(Arrays.asList(transactions.get(2), transactions.get(1), transactions.get(4), transactions.get(0), transactions.get(3))));
+	}
+
+	@Test
+	public void transactionsWithEqualSortKeysAreOrderedByInsertion() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final List<Transaction> transactions = IntStream.range(0, 5)
+				.mapToObj(i -> createTransaction(70, 150))
+				.collect(Collectors.toList());
+		transactions.forEach(index::add);
+
+		// Act:
+		final List<Transaction> drainedTransactions = index.drain(10);
+
+		// Assert:
+		Assert.assertThat(drainedTransactions, IsEqual.equalTo(transactions));
+	}
+
+	@Test
+	public void sortKeyIsCapturedWhenTransactionIsAdded() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final Transaction transaction1 = createTransaction(70, 150);
+		final Transaction transaction2 = createTransaction(90, 150);
+		index.add(transaction1);
+		index.add(transaction2);
+
+		// Act:
+		transaction1.setFee(new Amount(100));
+
+		// Assert:
+		Assert.assertThat(index.peek(), IsSame.sameInstance(transaction2));
+	}
+
+	//endregion
+
+	//region poll / drain
+
+	@Test
+	public void pollRemovesHighestPriorityTransaction() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final Transaction transaction1 = createTransaction(70, 150);
+		final Transaction transaction2 = createTransaction(90, 150);
+		index.add(transaction1);
+		index.add(transaction2);
+
+		// Act:
+		final Transaction transaction = index.poll();
+
+		// Assert:
+		Assert.assertThat(transaction, IsSame.sameInstance(transaction2));
+		Assert.assertThat(index.size(), IsEqual.equalTo(1));
+		Assert.assertThat(index.contains(transaction2), IsEqual.equalTo(false));
+		Assert.assertThat(index.peek(), IsSame.sameInstance(transaction1));
+	}
+
+	@Test
+	public void drainRemovesAtMostRequestedNumberOfTransactions() {
+		// Arrange:
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final List<Transaction> transactions = IntStream.range(0, 10)
+				.mapToObj(i -> createTransaction(100 - i, 150))
+				.collect(Collectors.toList());
+		transactions.forEach(index::add);
+
+		// Act:
+		final List<Transaction> drainedTransactions = index.drain(4);
+
+		// Assert:
+		Assert.assertThat(drainedTransactions, IsEqual.equalTo(transactions.subList(0, 4)));
+		Assert.assertThat(index.size(), IsEqual.equalTo(6));
+		Assert.assertThat(index.drain(10), IsEqual.equalTo(transactions.subList(4, 10)));
+		Assert.assertThat(index.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	//endregion
+
+	//region concurrency
+
+	@Test
+	public void concurrentAddsAndPollsDrainEveryTransactionExactlyOnce() throws Exception {
+		// Arrange:
+		final int numThreads = 4;
+		final int numTransactionsPerThread = 500;
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final List<Transaction> transactions = IntStream.range(0, numThreads * numTransactionsPerThread)
+				.mapToObj(i -> createTransaction(i % 37, i % 11))
+				.collect(Collectors.toList());
+		final ExecutorService executor = Executors.newFixedThreadPool(numThreads * 2);
+
+		// Act:
+		final List<Future<List<Transaction>>> futures = new ArrayList<>();
+		for (int i = 0; i < numThreads; ++i) {
+			final List<Transaction> threadTransactions = transactions.subList(i * numTransactionsPerThread, (i + 1) * numTransactionsPerThread);
+			executor.submit(() -> threadTransactions.forEach(index::add));
+			futures.add(executor.submit(() -> {
+				final List<Transaction> polledTransactions = new ArrayList<>();
+				for (int j = 0; j < numTransactionsPerThread; ++j) {
+					final Transaction transaction = index.poll();
+					if (null != transaction) {
+						polledTransactions.add(transaction);
+					}
+				}
+
+				return polledTransactions;
+			}));
+		}
+
+		final Set<Transaction> drainedTransactions = Collections.newSetFromMap(new IdentityHashMap<>());
+		int numDrainedTransactions = 0;
+		for (final Future<List<Transaction>> future : futures) {
+			final List<Transaction> polledTransactions = future.get();
+			drainedTransactions.addAll(polledTransactions);
+			numDrainedTransactions += polledTransactions.size();
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		final List<Transaction> remainingTransactions = index.drain(Integer.MAX_VALUE);
+		drainedTransactions.addAll(remainingTransactions);
+		numDrainedTransactions += remainingTransactions.size();
+
+		// Assert:
+		Assert.assertThat(numDrainedTransactions, IsEqual.equalTo(transactions.size()));
+		Assert.assertThat(drainedTransactions.size(), IsEqual.equalTo(transactions.size()));
+		Assert.assertThat(index.size(), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void sizeIsNeverNegativeWhileTransactionsAreConcurrentlyAddedRemovedAndDrained() throws Exception {
+		// Arrange:
+		final int numThreads = 4;
+		final int numTransactionsPerThread = 2000;
+		final TransactionPriorityIndex index = new TransactionPriorityIndex();
+		final List<Transaction> transactions = IntStream.range(0, numTransactionsPerThread)
+				.mapToObj(i -> createTransaction(i % 37, i % 11))
+				.collect(Collectors.toList());
+		final ExecutorService executor = Executors.newFixedThreadPool(numThreads * 2);
+		final AtomicBoolean isDone = new AtomicBoolean();
+		final AtomicInteger minSize = new AtomicInteger();
+
+		// Act: half of the threads add and remove transactions while the other half drains them
+		final List<Future<?>> writerFutures = new ArrayList<>();
+		final List<Future<?>> drainerFutures = new ArrayList<>();
+		for (int i = 0; i < numThreads; ++i) {
+			writerFutures.add(executor.submit(() -> {
+				for (int j = 0; j < numTransactionsPerThread; ++j) {
+					final Transaction transaction = transactions.get(j);
+					index.add(transaction);
+					if (0 == j % 2) {
+						index.remove(transaction);
+					}
+				}
+			}));
+			drainerFutures.add(executor.submit(() -> {
+				while (!isDone.get()) {
+					minSize.accumulateAndGet(index.size(), Math::min);
+					index.drain(3);
+				}
+			}));
+		}
+
+		for (final Future<?> future : writerFutures) {
+			future.get();
+		}
+
+		isDone.set(true);
+		for (final Future<?> future : drainerFutures) {
+			future.get();
+		}
+
+		executor.shutdown();
+		index.drain(Integer.MAX_VALUE);
+
+		// Assert:
+		Assert.assertThat(minSize.get(), IsEqual.equalTo(0));
+		Assert.assertThat(index.size(), IsEqual.equalTo(0));
+		Assert.assertThat(index.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	//endregion
+
+	private static Transaction createTransaction(final long fee, final int timeStamp) {
+		return new MockTransaction(MockTransaction.TYPE, MockTransaction.VERSION, new TimeInstant(timeStamp), fee);
+	}
+}
@@ -0,0 +1,126 @@
+package org.nem.core.model;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.time.TimeInstant;
+
+import java.util.*;
+
+public class TransactionSortKeyTest {
+
+	//region constructor
+
+	@Test
+	public void canCreateSortKey() {
+		// Act:
+		final TransactionSortKey key = new TransactionSortKey(new Amount(70), new TimeInstant(150));
+
+		// Assert:
+		Assert.assertThat(key.getFee(), IsEqual.equalTo(70L));
+		Assert.assertThat(key.getTimeStamp(), IsEqual.equalTo(150));
+	}
+
+	//endregion
+
+	//region compareTo
+
+	@Test
+	public void compareResultIsZeroForEqualKeys() {
+		// Arrange:
+		final TransactionSortKey key1 = createKey(70, 150);
+		final TransactionSortKey key2 = createKey(70, 150);
+
+		// Assert:
+		Assert.assertThat(key1.compareTo(key2), IsEqual.equalTo(0));
+		Assert.assertThat(key2.compareTo(key1), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void compareResultIsFirstlyInfluencedByFee() {
+		// Arrange:
+		final TransactionSortKey key1 = createKey(70, 150);
+		final TransactionSortKey key2 = createKey(90, 200);
+
+		// Assert:
+		Assert.assertThat(key1.compareTo(key2), IsEqual.equalTo(-1));
+		Assert.assertThat(key2.compareTo(key1), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void compareResultIsSecondlyInfluencedByTimeStamp() {
+		// Arrange:
+		final TransactionSortKey key1 = createKey(70, 150);
+		final TransactionSortKey key2 = createKey(70, 200);
+
+		// Assert:
+		Assert.assertThat(key1.compareTo(key2), IsEqual.equalTo(1));
+		Assert.assertThat(key2.compareTo(key1), IsEqual.equalTo(-1));
+	}
+
+	@Test
+	public void compareResultHandlesExtremeValues() {
+		// Arrange:
+		final TransactionSortKey key1 = createKey(Long.MAX_VALUE, 0);
+		final TransactionSortKey key2 = createKey(Long.MAX_VALUE, Integer.MAX_VALUE);
+		final TransactionSortKey key3 = createKey(0, Integer.MAX_VALUE);
+
+		// Assert:
+		Assert.assertThat(key1.compareTo(key2), IsEqual.equalTo(1));
+		Assert.assertThat(key2.compareTo(key3), IsEqual.equalTo(1));
+		Assert.assertThat(key3.compareTo(key1), IsEqual.equalTo(-1));
+	}
+
+	//endregion
+
+	//region equals / hashCode
+
+	@SuppressWarnings("serial")
+	private static final Map<String, TransactionSortKey> DESC_TO_KEY_MAP = new HashMap<String, TransactionSortKey>() {
+		{
+			this.put("default", createKey(70, 150));
+			this.put("diff-fee", createKey(71, 150));
+			this.put("diff-timeStamp", createKey(70, 151));
+		}
+	};
+
+	@Test
+	public void equalsOnlyReturnsTrueForEquivalentObjects() {
+		// Arrange:
+		final TransactionSortKey key = createKey(70, 150);
+
+		// Assert:
+		Assert.assertThat(DESC_TO_KEY_MAP.get("default"), IsEqual.equalTo(key));
+		Assert.assertThat(DESC_TO_KEY_MAP.get("diff-fee"), IsNot.not(IsEqual.equalTo(key)));
+		Assert.assertThat(DESC_TO_KEY_MAP.get("diff-timeStamp"), IsNot.not(IsEqual.equalTo(key)));
+		Assert.assertThat(null, IsNot.not(IsEqual.equalTo(key)));
+		Assert.assertThat(70L, IsNot.not(IsEqual.equalTo((Object)key)));
+	}
+
+	@Test
+	public void hashCodesAreEqualForEquivalentObjects() {
+		// Arrange:
+		final int hashCode = createKey(70, 150).hashCode();
+
+		// Assert:
+		Assert.assertThat(DESC_TO_KEY_MAP.get("default").hashCode(), IsEqual.equalTo(hashCode));
+		Assert.assertThat(DESC_TO_KEY_MAP.get("diff-fee").hashCode(), IsNot.not(IsEqual.equalTo(hashCode)));
+		Assert.assertThat(DESC_TO_KEY_MAP.get("diff-timeStamp").hashCode(), IsNot.not(IsEqual.equalTo(hashCode)));
+	}
+
+	//endregion
+
+	//region toString
+
+	@Test
+	public void toStringReturnsAppropriateRepresentation() {
+		// Assert:
+		Assert.assertThat(createKey(70, 150).toString(), IsEqual.equalTo("fee: 70, timeStamp: 150"));
+	}
+
+	//endregion
+
+	private static TransactionSortKey createKey(final long fee, final int timeStamp) {
+		return new TransactionSortKey(new Amount(fee), new TimeInstant(timeStamp));
+	}
+}
@@ -1,6 +1,6 @@
 package org.nem.core.model;
 
-import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.*;
 import org.junit.*;
 import org.mockito.*;
 import org.nem.core.crypto.KeyPair;
@@ -126,6 +126,49 @@ public class TransactionTest {
 		Assert.assertThat(transaction2.compareTo(transaction1), IsEqual.equalTo(1));
 	}
 
+	@Test
+	public void sortKeyIsCapturedFromFeeAndTimeStamp() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction(11, 14, new TimeInstant(150), 70);
+
+		// Act:
+		final TransactionSortKey key = transaction.getSortKey();
+
+		// Assert:
+		Assert.assertThat(key, IsEqual.equalTo(new TransactionSortKey(new Amount(70), new TimeInstant(150))));
+		Assert.assertThat(transaction.getSortKey(), IsSame.sameInstance(key));
+	}
+
+	@Test
+	public void sortKeyIsRecalculatedWhenFeeChanges() {
+		// Arrange:
+		final MockTransaction transaction = new MockTransaction(11, 14, new TimeInstant(150), 70);
+		final TransactionSortKey originalKey = transaction.getSortKey();
+
+		// Act:
+		transaction.setFee(new Amount(90));
+		final TransactionSortKey key = transaction.getSortKey();
+
+		// Assert:
+		Assert.assertThat(originalKey, IsEqual.equalTo(new TransactionSortKey(new Amount(70), new TimeInstant(150))));
+		Assert.assertThat(key, IsEqual.equalTo(new TransactionSortKey(new Amount(90), new TimeInstant(150))));
+	}
+
+	@Test
+	public void compareResultReflectsFeeChanges() {
+		// Arrange:
+		final MockTransaction transaction1 = new MockTransaction(11, 14, new TimeInstant(150), 70);
+		final MockTransaction transaction2 = new MockTransaction(11, 14, new TimeInstant(200), 90);
+		Assert.assertThat(transaction1.compareTo(transaction2), IsEqual.equalTo(-1));
+
+		// Act:
+		transaction1.setFee(new Amount(100));
+
+		// Assert:
+		Assert.assertThat(transaction1.compareTo(transaction2), IsEqual.equalTo(1));
+		Assert.assertThat(transaction2.compareTo(transaction1), IsEqual.equalTo(-1));
+	}
+
 	//endregion
 
 	//region Fees
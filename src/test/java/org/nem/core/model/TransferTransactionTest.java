@@ -230,6 +230,25 @@ public class TransferTransactionTest {
 		NotificationUtils.assertBalanceDebitNotification(notificationCaptor.getAllValues().get(2), signer, Amount.fromNem(10));
 	}
 
+	@Test
+	public void executeRecordsAppropriateNotificationsInNotificationBuffer() {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final TransferTransaction transaction = this.createTransferTransaction(signer, recipient, 99, null);
+		transaction.setFee(Amount.fromNem(10));
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		transaction.execute(buffer);
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(3));
+		NotificationUtils.assertAccountNotification(buffer.getNotification(0), recipient);
+		NotificationUtils.assertBalanceTransferNotification(buffer.getNotification(1), signer, recipient, Amount.fromNem(99));
+		NotificationUtils.assertBalanceDebitNotification(buffer.getNotification(2), signer, Amount.fromNem(10));
+	}
+
 	//endregion
 
 	//region undo
@@ -254,6 +273,32 @@ public class TransferTransactionTest {
 		NotificationUtils.assertBalanceCreditNotification(notificationCaptor.getAllValues().get(0), signer, Amount.fromNem(10));
 	}
 
+	@Test
+	public void replayingReversedExecuteNotificationsMatchesUndo() {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final TransferTransaction transaction = this.createTransferTransaction(signer, recipient, 99, null);
+		transaction.setFee(Amount.fromNem(10));
+		final NotificationBuffer buffer = new NotificationBuffer();
+		transaction.execute(buffer);
+
+		final TransferObserver undoObserver = Mockito.mock(TransferObserver.class);
+		final TransferObserver replayObserver = Mockito.mock(TransferObserver.class);
+
+		// Act:
+		transaction.undo(new TransferObserverToTransactionObserverAdapter(undoObserver));
+		new TransferObserverToTransactionObserverAdapter(replayObserver).notifyAll(buffer.reverse());
+
+		// Assert:
+		for (final TransferObserver observer : new TransferObserver[] { undoObserver, replayObserver }) {
+			final InOrder inOrder = Mockito.inOrder(observer);
+			inOrder.verify(observer).notifyCredit(signer, Amount.fromNem(10));
+			inOrder.verify(observer).notifyTransfer(recipient, signer, Amount.fromNem(99));
+			Mockito.verifyNoMoreInteractions(observer);
+		}
+	}
+
 	//endregion
 
 	//region Secure Message Consistency
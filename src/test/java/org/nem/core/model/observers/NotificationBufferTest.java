@@ -0,0 +1,423 @@
+package org.nem.core.model.observers;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.mockito.*;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.test.*;
+
+import java.util.*;
+
+public class NotificationBufferTest {
+
+	//region construction
+
+	@Test
+	public void bufferIsInitiallyEmpty() {
+		// Act:
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(0));
+		Assert.assertThat(buffer.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	//endregion
+
+	//region TransferObserver
+
+	@Test
+	public void notifyTransferIsRecordedAsAccountAndBalanceTransferNotifications() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final Amount amount = Amount.fromNem(444);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notifyTransfer(sender, recipient, amount);
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(2));
+		assertColumns(buffer, 0, NotificationType.Account, recipient, null, null);
+		assertColumns(buffer, 1, NotificationType.BalanceTransfer, sender, recipient, amount);
+		NotificationUtils.assertAccountNotification(buffer.getNotification(0), recipient);
+		NotificationUtils.assertBalanceTransferNotification(buffer.getNotification(1), sender, recipient, amount);
+	}
+
+	@Test
+	public void notifyCreditIsRecordedAsAccountAndBalanceCreditNotifications() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final Amount amount = Amount.fromNem(444);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notifyCredit(account, amount);
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(2));
+		assertColumns(buffer, 0, NotificationType.Account, account, null, null);
+		assertColumns(buffer, 1, NotificationType.BalanceCredit, account, null, amount);
+		NotificationUtils.assertAccountNotification(buffer.getNotification(0), account);
+		NotificationUtils.assertBalanceCreditNotification(buffer.getNotification(1), account, amount);
+	}
+
+	@Test
+	public void notifyDebitIsRecordedAsBalanceDebitNotification() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final Amount amount = Amount.fromNem(444);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notifyDebit(account, amount);
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(1));
+		assertColumns(buffer, 0, NotificationType.BalanceDebit, account, null, amount);
+		NotificationUtils.assertBalanceDebitNotification(buffer.getNotification(0), account, amount);
+	}
+
+	@Test
+	public void transferObserverNotificationsMatchAdapterNotifications() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		final TransactionObserver observer = Mockito.mock(TransactionObserver.class);
+		final TransferObserver adapter = new TransactionObserverToTransferObserverAdapter(observer);
+
+		// Act:
+		for (final TransferObserver transferObserver : new TransferObserver[] { buffer, adapter }) {
+			transferObserver.notifyTransfer(sender, recipient, Amount.fromNem(1));
+			transferObserver.notifyCredit(sender, Amount.fromNem(2));
+			transferObserver.notifyDebit(recipient, Amount.fromNem(3));
+		}
+
+		// Assert:
+		final ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+		Mockito.verify(observer, Mockito.times(5)).notify(notificationCaptor.capture());
+		final List<Notification> notifications = notificationCaptor.getAllValues();
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(notifications.size()));
+		for (int i = 0; i < buffer.size(); ++i) {
+			Assert.assertThat(buffer.getType(i), IsEqual.equalTo(notifications.get(i).getType()));
+		}
+	}
+
+	//endregion
+
+	//region TransactionObserver
+
+	@Test
+	public void balanceTransferNotificationIsDecomposedIntoColumns() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final Amount amount = Amount.fromNem(444);
+		final Notification notification = new BalanceTransferNotification(sender, recipient, amount);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notify(notification);
+
+		// Assert:
+		assertColumns(buffer, 0, NotificationType.BalanceTransfer, sender, recipient, amount);
+		Assert.assertThat(buffer.getNotification(0), IsSame.sameInstance(notification));
+	}
+
+	@Test
+	public void balanceAdjustmentNotificationsAreDecomposedIntoColumns() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final Amount amount = Amount.fromNem(444);
+		final Notification credit = new BalanceAdjustmentNotification(NotificationType.BalanceCredit, account, amount);
+		final Notification debit = new BalanceAdjustmentNotification(NotificationType.BalanceDebit, account, amount);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notify(credit);
+		buffer.notify(debit);
+
+		// Assert:
+		assertColumns(buffer, 0, NotificationType.BalanceCredit, account, null, amount);
+		assertColumns(buffer, 1, NotificationType.BalanceDebit, account, null, amount);
+		Assert.assertThat(buffer.getNotification(0), IsSame.sameInstance(credit));
+		Assert.assertThat(buffer.getNotification(1), IsSame.sameInstance(debit));
+	}
+
+	@Test
+	public void accountNotificationIsDecomposedIntoColumns() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final Notification notification = new AccountNotification(account);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notify(notification);
+
+		// Assert:
+		assertColumns(buffer, 0, NotificationType.Account, account, null, null);
+		Assert.assertThat(buffer.getNotification(0), IsSame.sameInstance(notification));
+	}
+
+	@Test
+	public void otherNotificationsAreStoredAsIs() {
+		// Arrange:
+		final Notification notification = new ImportanceTransferNotification(
+				Utils.generateRandomAccount(),
+				Utils.generateRandomAccount(),
+				ImportanceTransferMode.Activate);
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		buffer.notify(notification);
+
+		// Assert:
+		assertColumns(buffer, 0, NotificationType.ImportanceTransfer, null, null, null);
+		Assert.assertThat(buffer.getNotification(0), IsSame.sameInstance(notification));
+	}
+
+	//endregion
+
+	//region capacity / clear
+
+	@Test
+	public void bufferGrowsBeyondInitialCapacity() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer(2);
+
+		// Act:
+		for (int i = 0; i < 100; ++i) {
+			buffer.notifyDebit(account, Amount.fromNem(i));
+		}
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(100));
+		for (int i = 0; i < 100; ++i) {
+			assertColumns(buffer, i, NotificationType.BalanceDebit, account, null, Amount.fromNem(i));
+		}
+	}
+
+	@Test
+	public void clearRemovesAllNotifications() {
+		// Arrange:
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyTransfer(Utils.generateRandomAccount(), Utils.generateRandomAccount(), Amount.fromNem(1));
+
+		// Act:
+		buffer.clear();
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(0));
+		Assert.assertThat(buffer.isEmpty(), IsEqual.equalTo(true));
+	}
+
+	@Test
+	public void bufferCanBeReusedAfterClear() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyTransfer(Utils.generateRandomAccount(), Utils.generateRandomAccount(), Amount.fromNem(1));
+		buffer.clear();
+
+		// Act:
+		buffer.notifyDebit(account, Amount.fromNem(7));
+
+		// Assert:
+		Assert.assertThat(buffer.size(), IsEqual.equalTo(1));
+		assertColumns(buffer, 0, NotificationType.BalanceDebit, account, null, Amount.fromNem(7));
+	}
+
+	@Test
+	public void accessorsRejectOutOfRangeIndexes() {
+		// Arrange:
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyDebit(Utils.generateRandomAccount(), Amount.fromNem(1));
+
+		// Act:
+		for (final int index : new int[] { -1, 1 }) {
+			ExceptionAssert.assertThrows(v -> buffer.getType(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> buffer.getPrimaryAccount(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> buffer.getSecondaryAccount(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> buffer.getAmount(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> buffer.getNotification(index), IndexOutOfBoundsException.class);
+		}
+	}
+
+	//endregion
+
+	//region notifyAll
+
+	@Test
+	public void defaultNotifyAllForwardsAllNotificationsInOrder() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final Notification notification = new AccountNotification(sender);
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyTransfer(sender, recipient, Amount.fromNem(5));
+		buffer.notify(notification);
+
+		final CapturingTransactionObserver observer = new CapturingTransactionObserver();
+
+		// Act:
+		observer.notifyAll(buffer);
+
+		// Assert:
+		final List<Notification> notifications = observer.notifications;
+		Assert.assertThat(notifications.size(), IsEqual.equalTo(3));
+		NotificationUtils.assertAccountNotification(notifications.get(0), recipient);
+		NotificationUtils.assertBalanceTransferNotification(notifications.get(1), sender, recipient, Amount.fromNem(5));
+		Assert.assertThat(notifications.get(2), IsSame.sameInstance(notification));
+	}
+
+	private static class CapturingTransactionObserver implements TransactionObserver {
+		private final List<Notification> notifications = new ArrayList<>();
+
+		@Override
+		public void notify(final Notification notification) {
+			this.notifications.add(notification);
+		}
+	}
+
+	//endregion
+
+	//region reverse
+
+	@Test
+	public void reverseViewPresentsNotificationsInReverseOrderWithBalanceNotificationsInverted() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyTransfer(sender, recipient, Amount.fromNem(1));
+		buffer.notifyCredit(sender, Amount.fromNem(2));
+		buffer.notifyDebit(recipient, Amount.fromNem(3));
+
+		// Act:
+		final NotificationBuffer reversed = buffer.reverse();
+
+		// Assert:
+		Assert.assertThat(reversed.size(), IsEqual.equalTo(5));
+		assertColumns(reversed, 0, NotificationType.BalanceCredit, recipient, null, Amount.fromNem(3));
+		assertColumns(reversed, 1, NotificationType.BalanceDebit, sender, null, Amount.fromNem(2));
+		assertColumns(reversed, 2, NotificationType.Account, sender, null, null);
+		assertColumns(reversed, 3, NotificationType.BalanceTransfer, recipient, sender, Amount.fromNem(1));
+		assertColumns(reversed, 4, NotificationType.Account, recipient, null, null);
+	}
+
+	@Test
+	public void reverseViewMaterializesInvertedBalanceNotifications() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notify(new BalanceTransferNotification(sender, recipient, Amount.fromNem(1)));
+		buffer.notify(new BalanceAdjustmentNotification(NotificationType.BalanceCredit, sender, Amount.fromNem(2)));
+		buffer.notify(new BalanceAdjustmentNotification(NotificationType.BalanceDebit, recipient, Amount.fromNem(3)));
+
+		// Act:
+		final NotificationBuffer reversed = buffer.reverse();
+
+		// Assert:
+		NotificationUtils.assertBalanceCreditNotification(reversed.getNotification(0), recipient, Amount.fromNem(3));
+		NotificationUtils.assertBalanceDebitNotification(reversed.getNotification(1), sender, Amount.fromNem(2));
+		NotificationUtils.assertBalanceTransferNotification(reversed.getNotification(2), recipient, sender, Amount.fromNem(1));
+	}
+
+	@Test
+	public void reverseViewReturnsOriginalNonBalanceNotifications() {
+		// Arrange:
+		final Notification accountNotification = new AccountNotification(Utils.generateRandomAccount());
+		final Notification importanceNotification = new ImportanceTransferNotification(
+				Utils.generateRandomAccount(),
+				Utils.generateRandomAccount(),
+				ImportanceTransferMode.Deactivate);
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notify(accountNotification);
+		buffer.notify(importanceNotification);
+
+		// Act:
+		final NotificationBuffer reversed = buffer.reverse();
+
+		// Assert:
+		Assert.assertThat(reversed.getNotification(0), IsSame.sameInstance(importanceNotification));
+		Assert.assertThat(reversed.getNotification(1), IsSame.sameInstance(accountNotification));
+	}
+
+	@Test
+	public void reverseViewReflectsSubsequentChangesToBuffer() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		final NotificationBuffer reversed = buffer.reverse();
+
+		// Act:
+		buffer.notifyDebit(account, Amount.fromNem(3));
+
+		// Assert:
+		Assert.assertThat(reversed.size(), IsEqual.equalTo(1));
+		assertColumns(reversed, 0, NotificationType.BalanceCredit, account, null, Amount.fromNem(3));
+	}
+
+	@Test
+	public void reverseOfReverseViewIsOriginalBuffer() {
+		// Arrange:
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		final NotificationBuffer reversed = buffer.reverse().reverse();
+
+		// Assert:
+		Assert.assertThat(reversed, IsSame.sameInstance(buffer));
+	}
+
+	@Test
+	public void reverseViewIsReadOnly() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final NotificationBuffer reversed = new NotificationBuffer().reverse();
+
+		// Act:
+		ExceptionAssert.assertThrows(v -> reversed.notify(new AccountNotification(account)), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> reversed.notifyTransfer(account, account, Amount.ZERO), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> reversed.notifyCredit(account, Amount.ZERO), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> reversed.notifyDebit(account, Amount.ZERO), UnsupportedOperationException.class);
+		ExceptionAssert.assertThrows(v -> reversed.clear(), UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void reverseViewAccessorsRejectOutOfRangeIndexes() {
+		// Arrange:
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyDebit(Utils.generateRandomAccount(), Amount.fromNem(1));
+		final NotificationBuffer reversed = buffer.reverse();
+
+		// Act:
+		for (final int index : new int[] { -1, 1 }) {
+			ExceptionAssert.assertThrows(v -> reversed.getType(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> reversed.getPrimaryAccount(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> reversed.getSecondaryAccount(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> reversed.getAmount(index), IndexOutOfBoundsException.class);
+			ExceptionAssert.assertThrows(v -> reversed.getNotification(index), IndexOutOfBoundsException.class);
+		}
+	}
+
+	//endregion
+
+	private static void assertColumns(
+			final NotificationBuffer buffer,
+			final int index,
+			final NotificationType type,
+			final Account primaryAccount,
+			final Account secondaryAccount,
+			final Amount amount) {
+		Assert.assertThat(buffer.getType(index), IsEqual.equalTo(type));
+		Assert.assertThat(buffer.getPrimaryAccount(index), IsEqual.equalTo(primaryAccount));
+		Assert.assertThat(buffer.getSecondaryAccount(index), IsEqual.equalTo(secondaryAccount));
+		Assert.assertThat(buffer.getAmount(index), IsEqual.equalTo(amount));
+	}
+}
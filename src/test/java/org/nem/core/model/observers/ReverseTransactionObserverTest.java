@@ -5,9 +5,9 @@ import org.junit.*;
 import org.mockito.*;
 import org.nem.core.model.Account;
 import org.nem.core.model.primitive.Amount;
-import org.nem.core.test.Utils;
+import org.nem.core.test.*;
 
-import java.util.Arrays;
+import java.util.*;
 import java.util.stream.Collectors;
 
 public class ReverseTransactionObserverTest {
@@ -111,4 +111,43 @@ public class ReverseTransactionObserverTest {
 		Assert.assertThat(notification.getType(), IsEqual.equalTo(NotificationType.Account));
 		Assert.assertThat(notification.getAccount(), IsEqual.equalTo(account));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void transferObserverNotificationsAreCommittedInReverseOrderAndInverted() {
+		// Arrange:
+		final TransactionObserver observer = Mockito.mock(TransactionObserver.class);
+		final ReverseTransactionObserver reverseObserver = new ReverseTransactionObserver(observer);
+
+		// Act:
+		final Account account1 = Utils.generateRandomAccount();
+		final Account account2 = Utils.generateRandomAccount();
+		final Amount amount = Amount.fromNem(12345);
+		reverseObserver.notifyTransfer(account1, account2, amount);
+		reverseObserver.notifyDebit(account1, Amount.fromNem(10));
+		reverseObserver.commit();
+
+		// Assert:
+		final ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+		Mockito.verify(observer, Mockito.times(3)).notify(notificationCaptor.capture());
+
+		final List<Notification> notifications = notificationCaptor.getAllValues();
+		NotificationUtils.assertBalanceCreditNotification(notifications.get(0), account1, Amount.fromNem(10));
+		NotificationUtils.assertBalanceTransferNotification(notifications.get(1), account2, account1, amount);
+		NotificationUtils.assertAccountNotification(notifications.get(2), account2);
+	}
+
+	@Test
+	public void nonBalanceNotificationsAreCommittedWithoutCopying() {
+		// Arrange:
+		final TransactionObserver observer = Mockito.mock(TransactionObserver.class);
+		final ReverseTransactionObserver reverseObserver = new ReverseTransactionObserver(observer);
+		final Notification notification = new AccountNotification(Utils.generateRandomAccount());
+
+		// Act:
+		reverseObserver.notify(notification);
+		reverseObserver.commit();
+
+		// Assert:
+		Mockito.verify(observer, Mockito.only()).notify(Mockito.same(notification));
+	}
+}
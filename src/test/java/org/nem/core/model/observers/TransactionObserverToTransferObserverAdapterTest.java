@@ -1,6 +1,7 @@
 package org.nem.core.model.observers;
 
-import org.junit.Test;
+import org.hamcrest.core.*;
+import org.junit.*;
 import org.mockito.*;
 import org.nem.core.model.Account;
 import org.nem.core.model.primitive.Amount;
@@ -61,4 +62,45 @@ public class TransactionObserverToTransferObserverAdapterTest {
 		Mockito.verify(observer, Mockito.only()).notify(notificationCaptor.capture());
 		NotificationUtils.assertBalanceDebitNotification(notificationCaptor.getValue(), account, amount);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void createReturnsBufferWhenObserverIsNotificationBuffer() {
+		// Arrange:
+		final NotificationBuffer buffer = new NotificationBuffer();
+
+		// Act:
+		final TransferObserver observer = TransactionObserverToTransferObserverAdapter.create(buffer);
+
+		// Assert:
+		Assert.assertThat(observer, IsSame.sameInstance(buffer));
+	}
+
+	@Test
+	public void createReturnsObserverWhenObserverIsTransferObserver() {
+		// Arrange:
+		final ReverseTransactionObserver reverseObserver = new ReverseTransactionObserver(Mockito.mock(TransactionObserver.class));
+
+		// Act:
+		final TransferObserver observer = TransactionObserverToTransferObserverAdapter.create(reverseObserver);
+
+		// Assert:
+		Assert.assertThat(observer, IsSame.sameInstance(reverseObserver));
+	}
+
+	@Test
+	public void createReturnsAdapterWhenObserverIsNotTransferObserver() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final TransactionObserver observer = Mockito.mock(TransactionObserver.class);
+
+		// Act:
+		final TransferObserver adapter = TransactionObserverToTransferObserverAdapter.create(observer);
+		adapter.notifyDebit(account, Amount.fromNem(444));
+
+		// Assert:
+		Assert.assertThat(adapter, IsInstanceOf.instanceOf(TransactionObserverToTransferObserverAdapter.class));
+		final ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+		Mockito.verify(observer, Mockito.only()).notify(notificationCaptor.capture());
+		NotificationUtils.assertBalanceDebitNotification(notificationCaptor.getValue(), account, Amount.fromNem(444));
+	}
+}
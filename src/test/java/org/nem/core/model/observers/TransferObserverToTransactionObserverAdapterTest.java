@@ -2,7 +2,7 @@ package org.nem.core.model.observers;
 
 import org.hamcrest.core.IsEqual;
 import org.junit.*;
-import org.mockito.Mockito;
+import org.mockito.*;
 import org.nem.core.model.Account;
 import org.nem.core.model.primitive.Amount;
 import org.nem.core.test.Utils;
@@ -96,4 +96,53 @@ public class TransferObserverToTransactionObserverAdapterTest {
 		Mockito.verify(observer, Mockito.never()).notifyCredit(Mockito.any(), Mockito.any());
 		Mockito.verify(observer, Mockito.never()).notifyDebit(Mockito.any(), Mockito.any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void notifyAllForwardsBufferedBalanceNotificationsInOrder() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyTransfer(sender, recipient, Amount.fromNem(1));
+		buffer.notifyCredit(sender, Amount.fromNem(2));
+		buffer.notify(new AccountNotification(recipient));
+		buffer.notifyDebit(recipient, Amount.fromNem(3));
+
+		final TransferObserver observer = Mockito.mock(TransferObserver.class);
+		final TransactionObserver adapter = new TransferObserverToTransactionObserverAdapter(observer);
+
+		// Act:
+		adapter.notifyAll(buffer);
+
+		// Assert:
+		final InOrder inOrder = Mockito.inOrder(observer);
+		inOrder.verify(observer).notifyTransfer(sender, recipient, Amount.fromNem(1));
+		inOrder.verify(observer).notifyCredit(sender, Amount.fromNem(2));
+		inOrder.verify(observer).notifyDebit(recipient, Amount.fromNem(3));
+		Mockito.verifyNoMoreInteractions(observer);
+	}
+
+	@Test
+	public void notifyAllForwardsReversedBufferAsInvertedBalanceNotifications() {
+		// Arrange:
+		final Account sender = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final NotificationBuffer buffer = new NotificationBuffer();
+		buffer.notifyTransfer(sender, recipient, Amount.fromNem(1));
+		buffer.notifyCredit(sender, Amount.fromNem(2));
+		buffer.notifyDebit(recipient, Amount.fromNem(3));
+
+		final TransferObserver observer = Mockito.mock(TransferObserver.class);
+		final TransactionObserver adapter = new TransferObserverToTransactionObserverAdapter(observer);
+
+		// Act:
+		adapter.notifyAll(buffer.reverse());
+
+		// Assert:
+		final InOrder inOrder = Mockito.inOrder(observer);
+		inOrder.verify(observer).notifyCredit(recipient, Amount.fromNem(3));
+		inOrder.verify(observer).notifyDebit(sender, Amount.fromNem(2));
+		inOrder.verify(observer).notifyTransfer(recipient, sender, Amount.fromNem(1));
+		Mockito.verifyNoMoreInteractions(observer);
+	}
+}
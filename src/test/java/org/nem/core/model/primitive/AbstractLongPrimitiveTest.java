@@ -0,0 +1,142 @@
+package org.nem.core.model.primitive;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+
+public class AbstractLongPrimitiveTest {
+
+	//region constructor
+
+	@Test
+	public void primitiveCanBeConstructedWithInitialValue() {
+		// Arrange:
+		final FooPrimitive foo = new FooPrimitive(-127);
+
+		// Assert:
+		Assert.assertThat(foo.getValue(), IsEqual.equalTo(-127L));
+	}
+
+	//endregion
+
+	//region compareTo
+
+	@Test
+	public void compareToCanCompareEqualInstances() {
+		// Arrange:
+		final FooPrimitive foo1 = new FooPrimitive(7);
+		final FooPrimitive foo2 = new FooPrimitive(7);
+
+		// Assert:
+		Assert.assertThat(foo1.compareTo(foo2), IsEqual.equalTo(0));
+		Assert.assertThat(foo2.compareTo(foo1), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void compareToCanCompareUnequalInstances() {
+		// Arrange:
+		final FooPrimitive foo1 = new FooPrimitive(7);
+		final FooPrimitive foo2 = new FooPrimitive(8);
+
+		// Assert:
+		Assert.assertThat(foo1.compareTo(foo2), IsEqual.equalTo(-1));
+		Assert.assertThat(foo2.compareTo(foo1), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void compareToCanCompareExtremeInstances() {
+		// Arrange:
+		final FooPrimitive foo1 = new FooPrimitive(Long.MIN_VALUE);
+		final FooPrimitive foo2 = new FooPrimitive(Long.MAX_VALUE);
+
+		// Assert:
+		Assert.assertThat(foo1.compareTo(foo2), IsEqual.equalTo(-1));
+		Assert.assertThat(foo2.compareTo(foo1), IsEqual.equalTo(1));
+	}
+
+	//endregion
+
+	//region equals / hashCode
+
+	@Test
+	public void equalsOnlyReturnsTrueForEquivalentObjects() {
+		// Arrange:
+		final FooPrimitive foo = new FooPrimitive(7);
+
+		// Assert:
+		Assert.assertThat(new FooPrimitive(7), IsEqual.equalTo(foo));
+		Assert.assertThat(new BarPrimitive(7), IsNot.not((Object)IsEqual.equalTo(foo)));
+		Assert.assertThat(new FooPrimitive(6), IsNot.not(IsEqual.equalTo(foo)));
+		Assert.assertThat(new FooPrimitive(8), IsNot.not(IsEqual.equalTo(foo)));
+		Assert.assertThat(null, IsNot.not(IsEqual.equalTo(foo)));
+		Assert.assertThat(7L, IsNot.not(IsEqual.equalTo((Object)foo)));
+	}
+
+	@Test
+	public void equalsReturnsTrueForEquivalentSubclassObjects() {
+		// Arrange:
+		final FooPrimitive foo = new FooPrimitive(7);
+		final FooPrimitive derivedFoo = new DerivedFooPrimitive(7);
+
+		// Assert:
+		Assert.assertThat(derivedFoo, IsEqual.equalTo(foo));
+		Assert.assertThat(foo, IsEqual.equalTo(derivedFoo));
+		Assert.assertThat(new DerivedFooPrimitive(6), IsNot.not(IsEqual.equalTo(foo)));
+		Assert.assertThat(new BarPrimitive(7), IsNot.not((Object)IsEqual.equalTo(derivedFoo)));
+	}
+
+	@Test
+	public void hashCodesAreEqualForEquivalentObjects() {
+		// Arrange:
+		final FooPrimitive foo = new FooPrimitive(7);
+		final int hashCode = foo.hashCode();
+
+		// Assert:
+		Assert.assertThat(new FooPrimitive(7).hashCode(), IsEqual.equalTo(hashCode));
+		Assert.assertThat(new BarPrimitive(7).hashCode(), IsEqual.equalTo(hashCode));
+		Assert.assertThat(new FooPrimitive(6).hashCode(), IsNot.not(IsEqual.equalTo(hashCode)));
+		Assert.assertThat(new FooPrimitive(8).hashCode(), IsNot.not(IsEqual.equalTo(hashCode)));
+	}
+
+	@Test
+	public void hashCodeIsCompatibleWithBoxedPrimitiveHashCode() {
+		// Assert:
+		for (final long value : new long[] { 0, 7, -7, 0x1234567890ABCDEFL, Long.MIN_VALUE, Long.MAX_VALUE }) {
+			Assert.assertThat(
+					new FooPrimitive(value).hashCode(),
+					IsEqual.equalTo(new AbstractPrimitiveLongTest.FooPrimitive(value).hashCode()));
+		}
+	}
+
+	//endregion
+
+	//region toString
+
+	@Test
+	public void toStringReturnsRawPrimitiveValue() {
+		// Arrange:
+		final FooPrimitive foo = new FooPrimitive(22561);
+
+		// Assert:
+		Assert.assertThat(foo.toString(), IsEqual.equalTo("22561"));
+	}
+
+	//endregion
+
+	private static class FooPrimitive extends AbstractLongPrimitive<FooPrimitive> {
+		public FooPrimitive(final long value) {
+			super(value);
+		}
+	}
+
+	private static class DerivedFooPrimitive extends FooPrimitive {
+		public DerivedFooPrimitive(final long value) {
+			super(value);
+		}
+	}
+
+	private static class BarPrimitive extends AbstractLongPrimitive<BarPrimitive> {
+		public BarPrimitive(final long value) {
+			super(value);
+		}
+	}
+}
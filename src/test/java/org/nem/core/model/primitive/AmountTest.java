@@ -4,7 +4,7 @@ import net.minidev.json.JSONObject;
 import org.hamcrest.core.*;
 import org.junit.*;
 import org.nem.core.serialization.*;
-import org.nem.core.test.Utils;
+import org.nem.core.test.*;
 
 import java.util.function.BiFunction;
 
@@ -42,6 +42,28 @@ public class AmountTest {
 		Assert.assertThat(amount.getNumNem(), IsEqual.equalTo(0L));
 	}
 
+	@Test
+	public void smallNemAmountsAreSharedInstances() {
+		// Assert:
+		Assert.assertThat(Amount.fromNem(0), IsSame.sameInstance(Amount.ZERO));
+		Assert.assertThat(Amount.fromNem(11), IsSame.sameInstance(Amount.fromNem(11)));
+		Assert.assertThat(Amount.fromNem(1023), IsSame.sameInstance(Amount.fromNem(1023)));
+		Assert.assertThat(Amount.fromNem(1024), IsNot.not(IsSame.sameInstance(Amount.fromNem(1024))));
+		Assert.assertThat(Amount.fromNem(1024), IsEqual.equalTo(new Amount(1024_000_000L)));
+	}
+
+	@Test
+	public void zeroMicroNemAmountIsSharedInstance() {
+		// Assert:
+		Assert.assertThat(Amount.fromMicroNem(0), IsSame.sameInstance(Amount.ZERO));
+	}
+
+	@Test
+	public void negativeAmountCannotBeCreatedFromNem() {
+		// Assert:
+		ExceptionAssert.assertThrows(v -> Amount.fromNem(-1), NegativeBalanceException.class);
+	}
+
 	//endregion
 
 	//region constructor
@@ -124,6 +146,18 @@ public class AmountTest {
 		amount1.subtract(amount2);
 	}
 
+	@Test
+	public void addingOrSubtractingZeroReturnsSameInstance() {
+		// Arrange:
+		final Amount amount = new Amount(65);
+
+		// Assert:
+		Assert.assertThat(amount.add(Amount.ZERO), IsSame.sameInstance(amount));
+		Assert.assertThat(Amount.ZERO.add(amount), IsSame.sameInstance(amount));
+		Assert.assertThat(amount.subtract(Amount.ZERO), IsSame.sameInstance(amount));
+		Assert.assertThat(amount.subtract(new Amount(65)), IsSame.sameInstance(Amount.ZERO));
+	}
+
 	//endregion
 
 	//region multiply
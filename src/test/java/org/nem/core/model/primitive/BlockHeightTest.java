@@ -4,7 +4,7 @@ import net.minidev.json.JSONObject;
 import org.hamcrest.core.*;
 import org.junit.*;
 import org.nem.core.serialization.*;
-import org.nem.core.test.Utils;
+import org.nem.core.test.*;
 
 public class BlockHeightTest {
 
@@ -74,6 +74,56 @@ public class BlockHeightTest {
 
 	//endregion
 
+	//region fromValue
+
+	@Test
+	public void canCreateHeightFromValue() {
+		// Act:
+		final BlockHeight height = BlockHeight.fromValue(1234567);
+
+		// Assert:
+		Assert.assertThat(height.getRaw(), IsEqual.equalTo(1234567L));
+	}
+
+	@Test
+	public void cannotCreateNonPositiveHeightFromValue() {
+		// Assert:
+		ExceptionAssert.assertThrows(v -> BlockHeight.fromValue(0), IllegalArgumentException.class);
+		ExceptionAssert.assertThrows(v -> BlockHeight.fromValue(-1024), IllegalArgumentException.class);
+	}
+
+	@Test
+	public void recentlyUsedHeightIsReused() {
+		// Act:
+		final BlockHeight height1 = BlockHeight.fromValue(7654321);
+		final BlockHeight height2 = BlockHeight.fromValue(7654321);
+
+		// Assert:
+		Assert.assertThat(height2, IsSame.sameInstance(height1));
+	}
+
+	@Test
+	public void heightsMappingToSameCacheSlotAreDistinguished() {
+		// Act:
+		final BlockHeight height1 = BlockHeight.fromValue(1024 * 5 + 3);
+		final BlockHeight height2 = BlockHeight.fromValue(1024 * 7 + 3);
+
+		// Assert:
+		Assert.assertThat(height1.getRaw(), IsEqual.equalTo(1024L * 5 + 3));
+		Assert.assertThat(height2.getRaw(), IsEqual.equalTo(1024L * 7 + 3));
+	}
+
+	@Test
+	public void nextAndPrevReuseRecentlyUsedHeights() {
+		// Arrange:
+		final BlockHeight height = BlockHeight.fromValue(5555);
+
+		// Assert:
+		Assert.assertThat(height.next().prev(), IsSame.sameInstance(height));
+	}
+
+	//endregion
+
 	//region subtract
 
 	@Test
@@ -1,7 +1,7 @@
 package org.nem.core.model.primitive;
 
 import net.minidev.json.JSONObject;
-import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.*;
 import org.junit.*;
 import org.nem.core.serialization.*;
 import org.nem.core.test.*;
@@ -31,6 +31,21 @@ public class QuantityTest {
 		Assert.assertThat(quantity.getRaw(), IsEqual.equalTo(11L));
 	}
 
+	@Test
+	public void smallQuantitiesAreSharedInstances() {
+		// Assert:
+		Assert.assertThat(Quantity.fromValue(0), IsSame.sameInstance(Quantity.ZERO));
+		Assert.assertThat(Quantity.fromValue(11), IsSame.sameInstance(Quantity.fromValue(11)));
+		Assert.assertThat(Quantity.fromValue(1024), IsNot.not(IsSame.sameInstance(Quantity.fromValue(1024))));
+		Assert.assertThat(Quantity.fromValue(1024), IsEqual.equalTo(new Quantity(1024)));
+	}
+
+	@Test
+	public void cannotCreateNegativeQuantityFromValue() {
+		// Assert:
+		ExceptionAssert.assertThrows(v -> Quantity.fromValue(-1), NegativeQuantityException.class);
+	}
+
 	//endregion
 
 	//region constructor
@@ -8,6 +8,8 @@ import org.nem.core.test.MockSerializableEntity;
 import java.math.BigInteger;
 import java.nio.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.*;
 
 public class BinarySerializerTest extends SerializerTest<BinarySerializer, BinaryDeserializer> {
 
@@ -206,6 +208,43 @@ public class BinarySerializerTest extends SerializerTest<BinarySerializer, Binar
 		}
 	}
 
+	@Test
+	public void serializerGrowsAsNeeded() throws Exception {
+		// Arrange:
+		final byte[] bytes = org.nem.core.test.Utils.generateRandomBytes(1000);
+		try (final BinarySerializer serializer = new BinarySerializer()) {
+			// Act:
+			serializer.writeInt("int", 0x09513510);
+			serializer.writeBytes("bytes", bytes);
+			serializer.writeObject("object", new MockSerializableEntity(17, "foo", 42));
+
+			// Assert:
+			try (BinaryDeserializer deserializer = this.createBinaryDeserializer(serializer.getBytes())) {
+				Assert.assertThat(deserializer.readInt("int"), IsEqual.equalTo(0x09513510));
+				Assert.assertThat(deserializer.readBytes("bytes"), IsEqual.equalTo(bytes));
+				Assert.assertThat(deserializer.readObject("object", MockSerializableEntity::new), IsEqual.equalTo(new MockSerializableEntity(17, "foo", 42)));
+				Assert.assertThat(deserializer.hasMoreData(), IsEqual.equalTo(false));
+			}
+		}
+	}
+
+	@Test
+	public void getBytesReturnsSnapshotOfWrittenBytes() throws Exception {
+		// Arrange:
+		try (final BinarySerializer serializer = new BinarySerializer()) {
+			serializer.writeInt("int", 0x09513510);
+
+			// Act:
+			final byte[] bytes1 = serializer.getBytes();
+			serializer.writeInt("int", 0x01020304);
+			final byte[] bytes2 = serializer.getBytes();
+
+			// Assert:
+			Assert.assertThat(bytes1, IsEqual.equalTo(new byte[] { 0x10, 0x35, 0x51, 0x09 }));
+			Assert.assertThat(bytes2, IsEqual.equalTo(new byte[] { 0x10, 0x35, 0x51, 0x09, 0x04, 0x03, 0x02, 0x01 }));
+		}
+	}
+
 	//endregion
 
 	//region HasMoreData
@@ -275,6 +314,109 @@ public class BinarySerializerTest extends SerializerTest<BinarySerializer, Binar
 
 	//endregion
 
+	//region Parallel Object Array
+
+	@Test
+	public void canReadLargeObjectArrayInParallel() throws Exception {
+		// Assert:
+		assertParallelObjectArrayRoundtrip(BinaryDeserializer.MIN_PARALLEL_ARRAY_SIZE * 10);
+	}
+
+	@Test
+	public void canReadSmallObjectArrayWithParallelDeserializer() throws Exception {
+		// Assert:
+		assertParallelObjectArrayRoundtrip(BinaryDeserializer.MIN_PARALLEL_ARRAY_SIZE - 1);
+	}
+
+	@Test
+	public void canReadEmptyObjectArrayWithParallelDeserializer() throws Exception {
+		// Assert:
+		assertParallelObjectArrayRoundtrip(0);
+	}
+
+	@Test
+	public void parallelObjectArrayReadConsumesEntireArray() throws Exception {
+		// Arrange:
+		final List<MockSerializableEntity> originalObjects = createMockEntities(BinaryDeserializer.MIN_PARALLEL_ARRAY_SIZE * 2);
+		final BinarySerializer serializer = new BinarySerializer();
+		serializer.writeObjectArray("objects", originalObjects);
+		serializer.writeInt("int", 0x09513510);
+
+		try (BinaryDeserializer deserializer = createParallelBinaryDeserializer(serializer.getBytes())) {
+			// Act:
+			final List<MockSerializableEntity> objects = deserializer.readObjectArray("objects", MockSerializableEntity::new);
+			final int value = deserializer.readInt("int");
+
+			// Assert:
+			Assert.assertThat(objects, IsEqual.equalTo(originalObjects));
+			Assert.assertThat(value, IsEqual.equalTo(0x09513510));
+			Assert.assertThat(deserializer.hasMoreData(), IsEqual.equalTo(false));
+		}
+	}
+
+	@Test(expected = SerializationException.class)
+	public void parallelObjectArrayReadFailsIfStreamIsTooSmall() throws Exception {
+		// Arrange:
+		final List<MockSerializableEntity> originalObjects = createMockEntities(BinaryDeserializer.MIN_PARALLEL_ARRAY_SIZE * 2);
+		final byte[] bytes = serializeObjectArray(originalObjects);
+
+		try (BinaryDeserializer deserializer = createParallelBinaryDeserializer(Arrays.copyOf(bytes, bytes.length - 1))) {
+			// Act:
+			deserializer.readObjectArray("objects", MockSerializableEntity::new);
+		}
+	}
+
+	@Test(expected = SerializationException.class)
+	public void parallelObjectArrayReadFailsIfAnyElementCannotBeDeserialized() throws Exception {
+		// Arrange:
+		final List<MockSerializableEntity> originalObjects = createMockEntities(BinaryDeserializer.MIN_PARALLEL_ARRAY_SIZE * 2);
+		final byte[] bytes = serializeObjectArray(originalObjects);
+
+		try (BinaryDeserializer deserializer = createParallelBinaryDeserializer(bytes)) {
+			// Act:
+			deserializer.readObjectArray("objects", d -> {
+				final MockSerializableEntity entity = new MockSerializableEntity(d);
+				if (7 == entity.getIntValue()) {
+					throw new IllegalArgumentException("bad entity");
+				}
+
+				return entity;
+			});
+		}
+	}
+
+	private static void assertParallelObjectArrayRoundtrip(final int numObjects) throws Exception {
+		// Arrange:
+		final List<MockSerializableEntity> originalObjects = createMockEntities(numObjects);
+		final byte[] bytes = serializeObjectArray(originalObjects);
+
+		try (BinaryDeserializer deserializer = createParallelBinaryDeserializer(bytes)) {
+			// Act:
+			final List<MockSerializableEntity> objects = deserializer.readObjectArray("objects", MockSerializableEntity::new);
+
+			// Assert:
+			Assert.assertThat(objects, IsEqual.equalTo(originalObjects));
+		}
+	}
+
+	private static List<MockSerializableEntity> createMockEntities(final int numObjects) {
+		return IntStream.range(0, numObjects)
+				.mapToObj(i -> new MockSerializableEntity(i, "entity" + i, i * 3L))
+				.collect(Collectors.toList());
+	}
+
+	private static byte[] serializeObjectArray(final List<? extends SerializableEntity> objects) {
+		final BinarySerializer serializer = new BinarySerializer();
+		serializer.writeObjectArray("objects", objects);
+		return serializer.getBytes();
+	}
+
+	private static BinaryDeserializer createParallelBinaryDeserializer(final byte[] bytes) {
+		return new BinaryDeserializer(bytes, null, ForkJoinPool.commonPool());
+	}
+
+	//endregion
+
 	//region serializeToBytes
 
 	@Test
@@ -24,6 +24,22 @@ public class DeserializationContextTest {
 		Mockito.verify(lookup, Mockito.only()).findByAddress(account.getAddress());
 	}
 
+	@Test
+	public void findAccountByPublicKeyCreatesAccountWithPublicKey() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccount();
+		final SimpleAccountLookup lookup = Mockito.mock(SimpleAccountLookup.class);
+		final DeserializationContext context = new DeserializationContext(lookup);
+
+		// Act:
+		final Account foundAccount = context.findAccountByPublicKey(account.getAddress().getPublicKey());
+
+		// Assert:
+		Assert.assertThat(foundAccount, IsEqual.equalTo(account));
+		Assert.assertThat(foundAccount.getAddress().getPublicKey(), IsEqual.equalTo(account.getAddress().getPublicKey()));
+		Mockito.verify(lookup, Mockito.never()).findByAddress(Mockito.any());
+	}
+
 	@Test
 	public void contextConstantsAreInitializedCorrectly() {
 		// Arrange:
@@ -0,0 +1,177 @@
+package org.nem.core.serialization;
+
+import org.hamcrest.core.*;
+import org.junit.*;
+import org.mockito.Mockito;
+import org.nem.core.crypto.PublicKey;
+import org.nem.core.model.*;
+import org.nem.core.model.primitive.Amount;
+import org.nem.core.test.*;
+
+public class InterningDeserializationContextTest {
+
+	//region findAccountByPublicKey
+
+	@Test
+	public void findAccountByPublicKeyReturnsSameInstanceForEqualKeys() {
+		// Arrange:
+		final InterningDeserializationContext context = createContext(100);
+		final PublicKey publicKey = Utils.generateRandomPublicKey();
+
+		// Act:
+		final Account account1 = context.findAccountByPublicKey(publicKey);
+		final Account account2 = context.findAccountByPublicKey(new PublicKey(publicKey.getRaw().clone()));
+
+		// Assert:
+		Assert.assertThat(account1.getAddress(), IsEqual.equalTo(Address.fromPublicKey(publicKey)));
+		Assert.assertThat(account2, IsSame.sameInstance(account1));
+		Assert.assertThat(context.size(), IsEqual.equalTo(1));
+	}
+
+	@Test
+	public void findAccountByPublicKeyReturnsDifferentInstancesForDifferentKeys() {
+		// Arrange:
+		final InterningDeserializationContext context = createContext(100);
+
+		// Act:
+		final Account account1 = context.findAccountByPublicKey(Utils.generateRandomPublicKey());
+		final Account account2 = context.findAccountByPublicKey(Utils.generateRandomPublicKey());
+
+		// Assert:
+		Assert.assertThat(account2, IsNot.not(IsEqual.equalTo(account1)));
+		Assert.assertThat(context.size(), IsEqual.equalTo(2));
+	}
+
+	//endregion
+
+	//region findAccountByAddress
+
+	@Test
+	public void findAccountByAddressDelegatesToLookupOnlyOnce() {
+		// Arrange:
+		final Account account = Utils.generateRandomAccountWithoutPrivateKey();
+		final SimpleAccountLookup lookup = Mockito.mock(SimpleAccountLookup.class);
+		Mockito.when(lookup.findByAddress(Mockito.any())).thenReturn(account);
+		final InterningDeserializationContext context = new InterningDeserializationContext(lookup, 100);
+
+		// Act:
+		final Account account1 = context.findAccountByAddress(Address.fromEncoded(account.getAddress().getEncoded()));
+		final Account account2 = context.findAccountByAddress(Address.fromEncoded(account.getAddress().getEncoded()));
+
+		// Assert:
+		Assert.assertThat(account1, IsSame.sameInstance(account));
+		Assert.assertThat(account2, IsSame.sameInstance(account));
+		Mockito.verify(lookup, Mockito.only()).findByAddress(account.getAddress());
+	}
+
+	@Test
+	public void findAccountByAddressDoesNotPoolNullAccounts() {
+		// Arrange:
+		final InterningDeserializationContext context = new InterningDeserializationContext(
+				new MockAccountLookup(MockAccountLookup.UnknownAccountBehavior.NULL),
+				100);
+
+		// Act:
+		final Account account = context.findAccountByAddress(Utils.generateRandomAddress());
+
+		// Assert:
+		Assert.assertThat(account, IsNull.nullValue());
+		Assert.assertThat(context.size(), IsEqual.equalTo(0));
+	}
+
+	@Test
+	public void findAccountByAddressReturnsAccountPreviouslyFoundByPublicKey() {
+		// Arrange:
+		final SimpleAccountLookup lookup = Mockito.mock(SimpleAccountLookup.class);
+		final InterningDeserializationContext context = new InterningDeserializationContext(lookup, 100);
+		final Account account1 = context.findAccountByPublicKey(Utils.generateRandomPublicKey());
+
+		// Act:
+		final Account account2 = context.findAccountByAddress(Address.fromEncoded(account1.getAddress().getEncoded()));
+
+		// Assert:
+		Assert.assertThat(account2, IsSame.sameInstance(account1));
+		Mockito.verify(lookup, Mockito.never()).findByAddress(Mockito.any());
+	}
+
+	@Test
+	public void accountWithPublicKeyReplacesPooledAccountWithoutPublicKey() {
+		// Arrange:
+		final InterningDeserializationContext context = createContext(100);
+		final Account account = Utils.generateRandomAccount();
+		final Account addressOnlyAccount = context.findAccountByAddress(Address.fromEncoded(account.getAddress().getEncoded()));
+
+		// Act:
+		final Account account1 = context.findAccountByPublicKey(account.getAddress().getPublicKey());
+		final Account account2 = context.findAccountByAddress(Address.fromEncoded(account.getAddress().getEncoded()));
+
+		// Assert:
+		Assert.assertThat(addressOnlyAccount.hasPublicKey(), IsEqual.equalTo(false));
+		Assert.assertThat(account1.hasPublicKey(), IsEqual.equalTo(true));
+		Assert.assertThat(account2, IsSame.sameInstance(account1));
+		Assert.assertThat(context.size(), IsEqual.equalTo(1));
+	}
+
+	//endregion
+
+	//region bounds
+
+	@Test
+	public void poolIsBounded() {
+		// Arrange:
+		final InterningDeserializationContext context = createContext(2);
+		final PublicKey publicKey = Utils.generateRandomPublicKey();
+		context.findAccountByPublicKey(Utils.generateRandomPublicKey());
+		context.findAccountByPublicKey(Utils.generateRandomPublicKey());
+
+		// Act:
+		final Account account1 = context.findAccountByPublicKey(publicKey);
+		final Account account2 = context.findAccountByPublicKey(publicKey);
+
+		// Assert:
+		Assert.assertThat(account2, IsEqual.equalTo(account1));
+		Assert.assertThat(account2, IsNot.not(IsSame.sameInstance(account1)));
+		Assert.assertThat(context.size(), IsEqual.equalTo(2));
+	}
+
+	//endregion
+
+	//region deserialization
+
+	@Test
+	public void deserializedEntitiesShareAccountInstances() {
+		// Arrange:
+		final Account signer = Utils.generateRandomAccount();
+		final Account recipient = Utils.generateRandomAccount();
+		final InterningDeserializationContext context = createContext(100);
+		final byte[] bytes1 = serialize(new TransferTransaction(Utils.generateRandomTimeStamp(), signer, recipient, Amount.fromNem(5), null));
+		final byte[] bytes2 = serialize(new TransferTransaction(Utils.generateRandomTimeStamp(), recipient, signer, Amount.fromNem(7), null));
+
+		// Act:
+		final TransferTransaction transaction1 = deserialize(bytes1, context);
+		final TransferTransaction transaction2 = deserialize(bytes2, context);
+		final TransferTransaction transaction3 = deserialize(bytes1, context);
+
+		// Assert:
+		Assert.assertThat(transaction1.getSigner(), IsEqual.equalTo(signer));
+		Assert.assertThat(transaction1.getRecipient(), IsEqual.equalTo(recipient));
+		Assert.assertThat(transaction2.getRecipient(), IsSame.sameInstance(transaction1.getSigner()));
+		Assert.assertThat(transaction3.getSigner(), IsSame.sameInstance(transaction1.getSigner()));
+		Assert.assertThat(transaction3.getRecipient(), IsSame.sameInstance(transaction2.getSigner()));
+	}
+
+	private static byte[] serialize(final Transaction transaction) {
+		transaction.sign();
+		return BinarySerializer.serializeToBytes(transaction);
+	}
+
+	private static TransferTransaction deserialize(final byte[] bytes, final DeserializationContext context) {
+		return (TransferTransaction)TransactionFactory.VERIFIABLE.deserialize(new BinaryDeserializer(bytes, context));
+	}
+
+	//endregion
+
+	private static InterningDeserializationContext createContext(final int maxSize) {
+		return new InterningDeserializationContext(new MockAccountLookup(MockAccountLookup.UnknownAccountBehavior.REAL_ACCOUNT), maxSize);
+	}
+}
@@ -1,12 +1,41 @@
 package org.nem.core.serialization.primitive;
 
+import org.hamcrest.core.IsEqual;
+import org.junit.*;
 import org.nem.core.serialization.*;
+import org.nem.core.test.ExceptionAssert;
 
 public abstract class AbstractLongSerializationTest<TSerializer extends Serializer, TDeserializer extends Deserializer> extends AbstractPrimitiveSerializationTest<TSerializer, TDeserializer, Long> {
 	public AbstractLongSerializationTest(final SerializationPolicy<TSerializer, TDeserializer> policy) {
 		super(policy);
 	}
 
+	@Test
+	public void canRoundtripValueWithPrimitiveRead() {
+		// Arrange:
+		final TSerializer serializer = this.createSerializer();
+		this.writeValue(serializer, "val", this.getValue());
+		final Deserializer deserializer = this.createDeserializer(serializer);
+
+		// Act:
+		final long value = deserializer.readLongPrimitive("val");
+
+		// Assert:
+		Assert.assertThat(value, IsEqual.equalTo(this.getValue()));
+	}
+
+	@Test
+	public void cannotReadRequiredNullValueWithPrimitiveRead() {
+		// Arrange:
+		final TSerializer serializer = this.createSerializer();
+		final Deserializer deserializer = this.createDeserializer(serializer);
+
+		// Assert:
+		ExceptionAssert.assertThrowsMissingPropertyException(
+				() -> deserializer.readLongPrimitive("value"),
+				"value");
+	}
+
 	@Override
 	protected Long getValue() {
 		return 0xF239A033CE951350L;